@@ -0,0 +1,111 @@
+package com.ecommerce.davivienda;
+
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Datos de prueba deterministas para los benchmarks.
+ * Usan una semilla fija para que los resultados sean comparables entre commits.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 20240101L;
+
+    private static final String[] NOUNS = {
+            "teclado", "mouse", "monitor", "portátil", "audífonos", "cámara", "parlante", "tablet",
+            "impresora", "router", "silla", "escritorio", "lámpara", "cargador", "cable", "disco"
+    };
+    private static final String[] ADJECTIVES = {
+            "inalámbrico", "mecánico", "ergonómico", "compacto", "profesional", "gamer", "portátil",
+            "recargable", "ultradelgado", "resistente", "económico", "premium"
+    };
+    private static final String[] BRANDS = {"Nova", "Andes", "Caribe", "Pacífico", "Sierra", "Llano"};
+    private static final BigDecimal[] IVA_RATES = {
+            BigDecimal.ZERO.setScale(2), new BigDecimal("5.00"), new BigDecimal("19.00")
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Crea productos con nombre, descripción, precio, IVA y categoría.
+     *
+     * @param count Cantidad de productos
+     * @return Productos con IDs 1..count
+     */
+    public static List<Product> products(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Category category = Category.builder().categoriaId(1).nombre("Tecnología").build();
+        List<Product> products = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            products.add(Product.builder()
+                    .productoId(id)
+                    .nombre(noun + " " + adjective + " " + brand + " " + id)
+                    .descripcion("Producto " + adjective + " de la marca " + brand + " ideal para oficina y hogar")
+                    .valorUnitario(BigDecimal.valueOf(random.nextLong(1_000, 500_000_00), 2))
+                    .iva(IVA_RATES[random.nextInt(IVA_RATES.length)])
+                    .imagen("https://cdn.example.com/productos/" + id + ".jpg")
+                    .estadoProductoId(1)
+                    .categoria(category)
+                    .creationDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+                    .build());
+        }
+        return products;
+    }
+
+    /**
+     * Crea la representación de catálogo de los productos.
+     *
+     * @param count Cantidad de productos
+     * @return Productos como ProductResponse
+     */
+    public static List<ProductResponse> productResponses(int count) {
+        return products(count).stream()
+                .map(product -> ProductResponse.builder()
+                        .id(product.getProductoId())
+                        .name(product.getNombre())
+                        .description(product.getDescripcion())
+                        .unitValue(product.getValorUnitario())
+                        .iva(product.getIva())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Crea un carrito con un item por producto y cantidades entre 1 y 5.
+     *
+     * @param cartId ID del carrito
+     * @param itemCount Cantidad de items
+     * @return Items del carrito
+     */
+    public static List<CartItem> cartItems(int cartId, int itemCount) {
+        SplittableRandom random = new SplittableRandom(SEED + cartId);
+        Cart cart = Cart.builder().carritoId(cartId).usuarioRolId(cartId).build();
+        List<CartItem> items = new ArrayList<>(itemCount);
+        int itemId = 1;
+        for (Product product : products(itemCount)) {
+            items.add(CartItem.builder()
+                    .productosCarritoId(itemId++)
+                    .cart(cart)
+                    .product(product)
+                    .cantidad(random.nextInt(1, 6))
+                    .build());
+        }
+        return items;
+    }
+}
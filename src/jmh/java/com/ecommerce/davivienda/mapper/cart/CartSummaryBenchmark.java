@@ -0,0 +1,54 @@
+package com.ecommerce.davivienda.mapper.cart;
+
+import com.ecommerce.davivienda.BenchmarkFixtures;
+import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumen del carrito para carritos de 1, 10 y 100 items.
+ *
+ * <p>Mide {@link CartItemMapper#toCartSummaryDto(Cart, List)}: los totales vienen de las columnas
+ * del carrito y solo se mapea el detalle de cada item.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartSummaryBenchmark {
+
+    private static final int CART_ID = 1;
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private CartItemMapper cartItemMapper;
+    private Cart cart;
+    private List<CartItem> items;
+
+    @Setup
+    public void setUp() {
+        cartItemMapper = Mappers.getMapper(CartItemMapper.class);
+        items = BenchmarkFixtures.cartItems(CART_ID, itemCount);
+        cart = items.get(0).getCart();
+    }
+
+    @Benchmark
+    public CartSummaryDto summarize() {
+        return cartItemMapper.toCartSummaryDto(cart, items);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.davivienda.mapper.payment;
+
+import com.ecommerce.davivienda.util.Base64DecryptionService;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificación de los datos de tarjeta en el pago: decodificación del payload recibido
+ * con {@link Base64DecryptionService} y encriptación del número y titular con {@link PaymentMapper}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentEncryptionBenchmark {
+
+    private static final String CARD_NUMBER = "4111 1111 1111 1111";
+    private static final String CARD_HOLDER = "  Ana María Gómez Restrepo ";
+    private static final String CARD_PAYLOAD = "{\"cardNumber\":\"4111111111111111\",\"cardHolderName\":"
+            + "\"Ana María Gómez Restrepo\",\"expirationDate\":\"12/28\",\"cvv\":\"123\",\"installments\":3}";
+
+    private PaymentMapper paymentMapper;
+    private Base64DecryptionService encryptionService;
+    private String encodedPayload;
+
+    @Setup
+    public void setUp() {
+        paymentMapper = Mappers.getMapper(PaymentMapper.class);
+        encryptionService = new Base64DecryptionService();
+        encodedPayload = encryptionService.encrypt(CARD_PAYLOAD);
+    }
+
+    @Benchmark
+    public String decryptCardPayload() {
+        return encryptionService.decrypt(encodedPayload);
+    }
+
+    @Benchmark
+    public String encryptCardNumber() {
+        return paymentMapper.encryptCardNumber(CARD_NUMBER, encryptionService);
+    }
+
+    @Benchmark
+    public String encryptCardHolderName() {
+        return paymentMapper.encryptCardHolderName(CARD_HOLDER, encryptionService);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.davivienda.mapper.product;
+
+import com.ecommerce.davivienda.BenchmarkFixtures;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión de productos a {@link ProductResponse}, que se hace por cada producto del catálogo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ProductMapper productMapper;
+    private Product product;
+    private List<Product> page;
+
+    @Setup
+    public void setUp() {
+        productMapper = Mappers.getMapper(ProductMapper.class);
+        page = BenchmarkFixtures.products(PAGE_SIZE);
+        product = page.get(0);
+    }
+
+    @Benchmark
+    public ProductResponse toResponseDto() {
+        return productMapper.toResponseDto(product);
+    }
+
+    @Benchmark
+    public void toResponseDtoPage(Blackhole blackhole) {
+        for (Product item : page) {
+            blackhole.consume(productMapper.toResponseDto(item));
+        }
+    }
+}
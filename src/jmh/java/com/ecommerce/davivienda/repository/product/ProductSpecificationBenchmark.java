@@ -0,0 +1,96 @@
+package com.ecommerce.davivienda.repository.product;
+
+import com.ecommerce.davivienda.entity.product.Product;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción de los predicados de búsqueda de productos con Criteria API.
+ *
+ * <p>Cada invocación crea su {@code CriteriaQuery} y aplica la especificación, como ocurre en cada
+ * consulta del repositorio. Usa el metamodelo de Hibernate sobre H2; no ejecuta SQL.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSpecificationBenchmark {
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("10000.00");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("2500000.00");
+
+    private EmbeddedDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(database);
+        factoryBean.setPackagesToScan("com.ecommerce.davivienda.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        criteriaBuilder = entityManagerFactory.getCriteriaBuilder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Predicate withAllFilters() {
+        CriteriaQuery<Product> query = criteriaBuilder.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return ProductSpecification.withFilters(3, MIN_PRICE, MAX_PRICE, true, "Teclado Mecánico")
+                .toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate withCategoryOnly() {
+        CriteriaQuery<Product> query = criteriaBuilder.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return ProductSpecification.withFilters(3, null, null, null, null)
+                .toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate filtersWithCursor() {
+        CriteriaQuery<Product> query = criteriaBuilder.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return ProductSpecification.withFilters(3, MIN_PRICE, MAX_PRICE, true, null)
+                .and(ProductSpecification.afterCursor("valorUnitario", false, new BigDecimal("99900.00"), 1500))
+                .toPredicate(root, query, criteriaBuilder);
+    }
+}
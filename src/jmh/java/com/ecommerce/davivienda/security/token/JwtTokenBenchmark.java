@@ -0,0 +1,73 @@
+package com.ecommerce.davivienda.security.token;
+
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y validación de tokens JWT.
+ *
+ * <p>{@code verifyCached} es el camino de {@code JwtValidationFilter} en cada request autenticado
+ * (token ya verificado antes); {@code validateAndParseToken} mide la verificación HMAC y el
+ * parseo completo que se hace la primera vez que llega un token.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("Cliente"));
+
+    private JwtTokenGenerator tokenGenerator;
+    private JwtTokenValidator tokenValidator;
+    private AuthenticatedUserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        tokenGenerator = new JwtTokenGenerator(new JsonUtils(objectMapper));
+        tokenValidator = new JwtTokenValidator(objectMapper);
+        principal = AuthenticatedUserPrincipal.builder()
+                .email("cliente@mail.com")
+                .userId(42)
+                .userRoleId(84)
+                .roles(List.of("Cliente"))
+                .build();
+        token = tokenGenerator.generateToken(principal, AUTHORITIES);
+        tokenValidator.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() throws JsonProcessingException {
+        return tokenGenerator.generateToken(principal, AUTHORITIES);
+    }
+
+    @Benchmark
+    public Claims validateAndParseToken() {
+        return tokenValidator.validateAndParseToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() throws IOException {
+        return tokenValidator.verify(token);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.BenchmarkFixtures;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.repository.product.ProductSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de productos por texto sobre catálogos de distinto tamaño.
+ *
+ * <p>{@code invertedIndex} usa {@link ProductSearchIndex} (motor {@code index}).
+ * {@code likeQueryH2} ejecuta la consulta real del motor {@code like}: el predicado de
+ * {@link ProductSpecification#containsText(String)} traducido por Hibernate a SQL sobre la
+ * tabla {@code productos} sembrada en H2 en memoria. Como el resto de benchmarks con H2, sirve
+ * para comparar entre commits, no como tiempo absoluto de PostgreSQL (no incluye red ni disco).
+ * {@code buildIndex} mide la reconstrucción que ocurre cuando cambia la versión del catálogo.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    @Param({"1000", "10000"})
+    public int catalogSize;
+
+    @Param({"teclado", "audifonos inalam"})
+    public String searchTerm;
+
+    private List<ProductResponse> products;
+    private ProductSearchIndex index;
+    private EmbeddedDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = BenchmarkFixtures.productResponses(catalogSize);
+        index = ProductSearchIndex.build(1L, products);
+
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(database);
+        factoryBean.setPackagesToScan("com.ecommerce.davivienda.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        seedProducts(new JdbcTemplate(database), BenchmarkFixtures.products(catalogSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> invertedIndex() {
+        return index.search(searchTerm);
+    }
+
+    @Benchmark
+    public List<Integer> likeQueryH2() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Integer> query = criteriaBuilder.createQuery(Integer.class);
+            Root<Product> root = query.from(Product.class);
+            query.select(root.get("productoId"))
+                    .where(ProductSpecification.containsText(searchTerm).toPredicate(root, query, criteriaBuilder));
+            return entityManager.createQuery(query).getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public ProductSearchIndex buildIndex() {
+        return ProductSearchIndex.build(1L, products);
+    }
+
+    private static void seedProducts(JdbcTemplate jdbcTemplate, List<Product> catalog) {
+        Product first = catalog.get(0);
+        jdbcTemplate.update("INSERT INTO categorias (categoria_id, nombre) VALUES (?, ?)",
+                first.getCategoria().getCategoriaId(), first.getCategoria().getNombre());
+        jdbcTemplate.batchUpdate("INSERT INTO productos (producto_id, nombre, descripcion, valor_unitario, iva, "
+                        + "imagen, estado_producto_id, categoria_id, creation_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                catalog.stream()
+                        .map(product -> new Object[]{
+                                product.getProductoId(), product.getNombre(), product.getDescripcion(),
+                                product.getValorUnitario(), product.getIva(), product.getImagen(),
+                                product.getEstadoProductoId(), product.getCategoria().getCategoriaId(),
+                                Timestamp.valueOf(product.getCreationDate())})
+                        .toList());
+    }
+}
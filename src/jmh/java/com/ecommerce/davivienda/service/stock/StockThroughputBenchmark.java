@@ -0,0 +1,98 @@
+package com.ecommerce.davivienda.service.stock;
+
+import com.ecommerce.davivienda.service.stock.shard.StockShardServiceImpl;
+import com.ecommerce.davivienda.service.stock.transactional.shard.StockShardTransactionalServiceImpl;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de compras concurrentes de un mismo producto (producto "caliente").
+ *
+ * <p>{@code singleRow} descuenta sobre la fila única de {@code stock}, de modo que todas las
+ * transacciones se serializan en su bloqueo; {@code sharded} reparte el descuento entre
+ * {@value #SHARDS} fragmentos de {@code stock_fragmento}. Usa H2 en memoria, por lo que los
+ * números sirven para comparar entre commits, no como capacidad absoluta de PostgreSQL.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class StockThroughputBenchmark {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int SHARDS = 8;
+    private static final int INITIAL_STOCK = 800_000_000;
+
+    private EmbeddedDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private StockStockTransactionalServiceImpl stockTransactionalService;
+    private StockShardServiceImpl shardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 10000");
+        jdbcTemplate.execute("CREATE TABLE stock (stock_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "producto_id INT NOT NULL UNIQUE, cantidad INT NOT NULL CHECK (cantidad >= 0))");
+        jdbcTemplate.execute("CREATE TABLE stock_fragmento (producto_id INT NOT NULL, fragmento SMALLINT NOT NULL, "
+                + "cantidad INT NOT NULL CHECK (cantidad >= 0), PRIMARY KEY (producto_id, fragmento))");
+        jdbcTemplate.update("INSERT INTO stock (producto_id, cantidad) VALUES (?, ?)", PRODUCT_ID, INITIAL_STOCK);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        ApplicationEventPublisher eventPublisher = event -> { };
+        stockTransactionalService = new StockStockTransactionalServiceImpl(null, eventPublisher, jdbcTemplate);
+        StockShardTransactionalServiceImpl shardTransactionalService =
+                new StockShardTransactionalServiceImpl(jdbcTemplate, eventPublisher);
+        shardService = new StockShardServiceImpl(shardTransactionalService, stockTransactionalService);
+
+        List<Integer> quantities = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            quantities.add(INITIAL_STOCK / SHARDS);
+        }
+        shardTransactionalService.createShards(PRODUCT_ID, quantities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> singleRow() {
+        return transactionTemplate.execute(
+                status -> stockTransactionalService.decreaseStockBatch(Map.of(PRODUCT_ID, 1)));
+    }
+
+    @Benchmark
+    public Boolean sharded() {
+        return transactionTemplate.execute(status -> shardService.decrease(PRODUCT_ID, SHARDS, 1));
+    }
+}
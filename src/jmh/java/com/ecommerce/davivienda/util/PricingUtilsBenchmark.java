@@ -0,0 +1,56 @@
+package com.ecommerce.davivienda.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo del total de un item (subtotal + IVA) en centavos con {@link PricingUtils}
+ * frente al cálculo original en {@link BigDecimal}, con las mismas reglas de redondeo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingUtilsBenchmark {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private BigDecimal unitValue;
+    private BigDecimal iva;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        unitValue = new BigDecimal("129990.50");
+        iva = new BigDecimal("19.00");
+        quantity = 3;
+    }
+
+    @Benchmark
+    public BigDecimal longCents() {
+        long unitCents = PricingUtils.toCents(unitValue);
+        long ivaBasisPoints = PricingUtils.toBasisPoints(iva);
+        return PricingUtils.toAmount(Math.addExact(
+                PricingUtils.subtotalCents(unitCents, quantity),
+                PricingUtils.ivaAmountCents(unitCents, ivaBasisPoints, quantity)));
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal quantityValue = BigDecimal.valueOf(quantity);
+        BigDecimal subtotal = unitValue.multiply(quantityValue).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal ivaPerUnit = unitValue.multiply(iva).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+        return subtotal.add(ivaPerUnit.multiply(quantityValue).setScale(2, RoundingMode.HALF_UP));
+    }
+}
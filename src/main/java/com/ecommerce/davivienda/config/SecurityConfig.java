@@ -1,7 +1,5 @@
 package com.ecommerce.davivienda.config;
 
-import com.ecommerce.davivienda.mapper.user.UserProfileMapper;
-import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.security.SecurityEndpoints;
 import com.ecommerce.davivienda.security.credentials.CredentialsExtractor;
 import com.ecommerce.davivienda.security.filter.JwtAuthenticationFilter;
@@ -75,6 +73,10 @@ public class SecurityConfig {
     private static final List<String> ALLOWED_HEADERS = Arrays.asList(
             "Authorization", "Content-Type", "X-Requested-With"
     );
+
+    private static final List<String> EXPOSED_HEADERS = Arrays.asList(
+            "Authorization", "X-Catalog-Version", "X-Catalog-Built-At"
+    );
     
     private static final String CORS_PATH_PATTERN = "/**";
     private static final String CORS_FILTER_PATTERN = "/*";
@@ -85,8 +87,6 @@ public class SecurityConfig {
     private final JwtTokenExtractor tokenExtractor;
     private final JwtTokenValidator tokenValidator;
     private final AuthenticationResponseBuilder responseBuilder;
-    private final UserRepository userRepository;
-    private final UserProfileMapper userProfileMapper;
 
     /**
      * Bean de AuthenticationManager para procesar autenticaciones.
@@ -121,9 +121,7 @@ public class SecurityConfig {
                 authenticationManager(),
                 credentialsExtractor,
                 tokenGenerator,
-                responseBuilder,
-                userRepository,
-                userProfileMapper
+                responseBuilder
         );
         filter.setFilterProcessesUrl(JwtAuthenticationFilter.LOGIN_ENDPOINT);
         return filter;
@@ -278,6 +276,7 @@ public class SecurityConfig {
         corsConfiguration.setAllowedOrigins(ALLOWED_ORIGINS);
         corsConfiguration.setAllowedMethods(ALLOWED_METHODS);
         corsConfiguration.setAllowedHeaders(ALLOWED_HEADERS);
+        corsConfiguration.setExposedHeaders(EXPOSED_HEADERS);
         corsConfiguration.setAllowCredentials(true);
         return corsConfiguration;
     }
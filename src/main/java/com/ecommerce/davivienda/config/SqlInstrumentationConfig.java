@@ -0,0 +1,87 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.observability.sql.InstrumentedDataSource;
+import com.ecommerce.davivienda.observability.sql.SqlEntityLoadListener;
+import com.ecommerce.davivienda.observability.sql.SqlRequestMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración de la instrumentación SQL por request.
+ *
+ * <p>Envuelve el DataSource con {@link InstrumentedDataSource}, registra el listener de
+ * entidades cargadas en Hibernate y el filtro que exporta las métricas por endpoint.
+ * Está desactivada por defecto: cada llamada JDBC del request (incluidos los getters del
+ * ResultSet) pasa por un proxy dinámico, un costo que solo se justifica al diagnosticar.
+ * Se activa con {@code observability.sql.enabled=true}.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "observability.sql", name = "enabled", havingValue = "true")
+public class SqlInstrumentationConfig {
+
+    /**
+     * Envuelve cada DataSource para medir las sentencias del request en curso.
+     * Es estático para registrarse antes de que se cree el DataSource.
+     *
+     * @return Post-procesador de DataSource
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Registra el listener de entidades cargadas una vez creado el EntityManagerFactory.
+     *
+     * @param entityManagerFactory EntityManagerFactory de la aplicación
+     * @return Registro diferido del listener
+     */
+    @Bean
+    public SmartInitializingSingleton sqlEntityLoadListenerRegistrar(EntityManagerFactory entityManagerFactory) {
+        return () -> entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new SqlEntityLoadListener());
+    }
+
+    /**
+     * Filtro de métricas SQL con máxima prioridad, para incluir las consultas de los filtros de seguridad.
+     *
+     * @param meterRegistry Registro de métricas del actuator
+     * @param queryBudget Máximo de sentencias por request antes de registrar un warning
+     * @return FilterRegistrationBean configurado
+     */
+    @Bean
+    public FilterRegistrationBean<SqlRequestMetricsFilter> sqlRequestMetricsFilterRegistrationBean(
+            MeterRegistry meterRegistry,
+            @Value("${observability.sql.query-budget:20}") int queryBudget) {
+        FilterRegistrationBean<SqlRequestMetricsFilter> filterRegistrationBean =
+                new FilterRegistrationBean<>(new SqlRequestMetricsFilter(meterRegistry, queryBudget));
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return filterRegistrationBean;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.davivienda.config.scheduling;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Tarea periódica de la aplicación (barridos, relay del outbox, despacho de la cola de pagos).
+ * Cada bean de este tipo lo programa {@link PeriodicJobScheduler} con retardo fijo sobre el
+ * {@code TaskScheduler} de Spring; la primera ejecución ocurre un intervalo después del arranque.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class PeriodicJob {
+
+    /**
+     * Descripción de la tarea para los logs.
+     */
+    private final String name;
+
+    /**
+     * Tiempo entre el fin de una ejecución y el inicio de la siguiente.
+     */
+    private final Duration interval;
+
+    private final Runnable task;
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.davivienda.config.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Programa cada {@link PeriodicJob} con retardo fijo sobre el {@code TaskScheduler} de Spring
+ * desde que la aplicación está lista. Con retardo fijo una tarea nunca se solapa consigo misma;
+ * los errores se registran sin detener la programación.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PeriodicJobScheduler {
+
+    private final TaskScheduler taskScheduler;
+    private final List<PeriodicJob> periodicJobs;
+
+    public PeriodicJobScheduler(TaskScheduler taskScheduler, List<PeriodicJob> periodicJobs) {
+        this.taskScheduler = taskScheduler;
+        this.periodicJobs = periodicJobs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Instant now = Instant.now();
+        for (PeriodicJob job : periodicJobs) {
+            taskScheduler.scheduleWithFixedDelay(() -> runSafely(job), now.plus(job.getInterval()), job.getInterval());
+            log.info("Tarea periódica programada cada {}: {}", job.getInterval(), job.getName());
+        }
+    }
+
+    void runSafely(PeriodicJob job) {
+        try {
+            job.getTask().run();
+        } catch (RuntimeException e) {
+            log.error("Error en la tarea periódica: {}", job.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.davivienda.config.scheduling;
+
+import com.ecommerce.davivienda.service.outbox.OutboxService;
+import com.ecommerce.davivienda.service.payment.checkout.PaymentCheckoutWorker;
+import com.ecommerce.davivienda.service.payment.idempotency.PaymentIdempotencyService;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotService;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
+import com.ecommerce.davivienda.service.stock.reservation.StockReservationService;
+import com.ecommerce.davivienda.util.BatchUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+/**
+ * Tareas periódicas de la aplicación. {@link EnableScheduling} habilita el {@code TaskScheduler}
+ * de Spring ({@code spring.task.scheduling.*}) sobre el que {@link PeriodicJobScheduler} las programa.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public PeriodicJob paymentIdempotencySweepJob(
+            PaymentIdempotencyService idempotencyService,
+            @Value("${payment.idempotency.sweep-interval:10m}") Duration sweepInterval) {
+        return new PeriodicJob("Barrido de claves de idempotencia de pago vencidas", sweepInterval,
+                idempotencyService::purgeExpired);
+    }
+
+    @Bean
+    public PeriodicJob stockReservationSweepJob(
+            StockReservationService reservationService,
+            @Value("${stock.reservation.sweep-interval:1m}") Duration sweepInterval) {
+        return new PeriodicJob("Liberación de reservas de stock vencidas", sweepInterval,
+                reservationService::releaseExpired);
+    }
+
+    @Bean
+    public PeriodicJob paymentCheckoutDispatchJob(
+            PaymentCheckoutWorker checkoutWorker,
+            @Value("${payment.checkout.poll-interval:500ms}") Duration pollInterval) {
+        return new PeriodicJob("Despacho de la cola de pagos", pollInterval, checkoutWorker::dispatch);
+    }
+
+    @Bean
+    public PeriodicJob outboxRelayJob(
+            OutboxService outboxService,
+            @Value("${outbox.relay.poll-interval:1s}") Duration pollInterval,
+            @Value("${outbox.relay.batch-size:100}") int batchSize) {
+        return new PeriodicJob("Publicación de eventos del outbox", pollInterval,
+                () -> BatchUtils.drain(batchSize, outboxService::relayBatch));
+    }
+
+    @Bean
+    public PeriodicJob catalogSnapshotPollJob(
+            ProductCatalogSnapshotService catalogSnapshotService,
+            @Value("${catalog.snapshot.poll-interval:5s}") Duration pollInterval) {
+        return new PeriodicJob("Verificación de la versión del catálogo", pollInterval,
+                catalogSnapshotService::refreshIfStale);
+    }
+
+    @Bean
+    public PeriodicJob catalogInventoryRefreshJob(
+            ProductCatalogSnapshotService catalogSnapshotService,
+            @Value("${catalog.snapshot.inventory-refresh-interval:1m}") Duration refreshInterval) {
+        return new PeriodicJob("Actualización del inventario del snapshot del catálogo", refreshInterval,
+                catalogSnapshotService::refreshInventory);
+    }
+
+    @Bean
+    public PeriodicJob referenceDataRefreshJob(
+            ReferenceDataRegistry referenceDataRegistry,
+            @Value("${reference-data.refresh-interval:5m}") Duration refreshInterval) {
+        return new PeriodicJob("Recarga de los datos de referencia", refreshInterval,
+                referenceDataRegistry::refresh);
+    }
+
+    @Bean
+    public PeriodicJob outboxPurgeJob(
+            OutboxService outboxService,
+            @Value("${outbox.purge-interval:1h}") Duration purgeInterval) {
+        return new PeriodicJob("Eliminación de eventos publicados del outbox", purgeInterval,
+                outboxService::purgePublished);
+    }
+}
@@ -75,6 +75,18 @@ public class Constants {
      */
     public static final String SUCCESS_PASSWORD_RECOVERY_EMAIL_SENT = "Se ha enviado un correo con instrucciones para cambiar la contraseña";
 
+    // ==================== USER - PAGINATION ====================
+
+    /**
+     * Tamaño de página por defecto del listado de usuarios.
+     */
+    public static final int USER_PAGE_DEFAULT_SIZE = 20;
+
+    /**
+     * Tamaño de página máximo del listado de usuarios.
+     */
+    public static final int USER_PAGE_MAX_SIZE = 100;
+
     // ==================== USER - ERROR MESSAGES ====================
     
     /**
@@ -330,6 +342,23 @@ public class Constants {
      */
     public static final String SUCCESS_PRODUCTS_SEARCH = "Búsqueda completada";
 
+    // ==================== PRODUCT - CATALOG & PAGINATION ====================
+
+    /**
+     * Header HTTP con la versión del snapshot de catálogo que atendió la petición.
+     */
+    public static final String HEADER_CATALOG_VERSION = "X-Catalog-Version";
+
+    /**
+     * Header HTTP con la fecha de construcción (ISO-8601) del snapshot de catálogo.
+     */
+    public static final String HEADER_CATALOG_BUILT_AT = "X-Catalog-Built-At";
+
+    /**
+     * Valor del parámetro {@code mode} que activa la paginación por cursor (keyset).
+     */
+    public static final String PAGINATION_MODE_CURSOR = "cursor";
+
     // ==================== PRODUCT - ERROR MESSAGES ====================
     
     /**
@@ -372,6 +401,16 @@ public class Constants {
      */
     public static final String ERROR_INVALID_INVENTORY_QUANTITY = "La cantidad de inventario debe ser mayor a 0";
 
+    /**
+     * Mensaje de error cuando el cursor de paginación no es válido o no corresponde al ordenamiento.
+     */
+    public static final String ERROR_INVALID_PAGINATION_CURSOR = "El cursor de paginación es inválido o no corresponde al ordenamiento solicitado";
+
+    /**
+     * Mensaje de error cuando el campo de ordenamiento no admite paginación por cursor.
+     */
+    public static final String ERROR_INVALID_CURSOR_SORT_FIELD = "Campo de ordenamiento no soportado en paginación por cursor. Valores válidos: productoId, nombre, valorUnitario, creationDate";
+
     // ==================== PRODUCT - ERROR CODES ====================
     
     /**
@@ -422,6 +461,18 @@ public class Constants {
      */
     public static final String CODE_INVALID_INVENTORY_QUANTITY = "ED-PRO-08";
 
+    /**
+     * Código de error: Cursor de paginación inválido.
+     * Formato: ED-PRO-09 (Ecommerce Davivienda - Product - 09)
+     */
+    public static final String CODE_INVALID_PAGINATION_CURSOR = "ED-PRO-09";
+
+    /**
+     * Código de error: Campo de ordenamiento no soportado en paginación por cursor.
+     * Formato: ED-PRO-10 (Ecommerce Davivienda - Product - 10)
+     */
+    public static final String CODE_INVALID_CURSOR_SORT_FIELD = "ED-PRO-10";
+
     // ==================== CART - SUCCESS MESSAGES ====================
     
     /**
@@ -641,6 +692,21 @@ public class Constants {
      */
     public static final String SUCCESS_STOCK_AVAILABLE = "Todos los productos tienen stock suficiente";
 
+    /**
+     * Mensaje de éxito al activar el modo de alta concurrencia del stock de un producto.
+     */
+    public static final String SUCCESS_STOCK_HIGH_CONTENTION_ENABLED = "Modo de alta concurrencia activado para el stock del producto";
+
+    /**
+     * Mensaje de éxito al desactivar el modo de alta concurrencia del stock de un producto.
+     */
+    public static final String SUCCESS_STOCK_HIGH_CONTENTION_DISABLED = "Modo de alta concurrencia desactivado para el stock del producto";
+
+    /**
+     * Mensaje de éxito al procesar un lote de ajustes de inventario (cada fila trae su propio resultado).
+     */
+    public static final String SUCCESS_STOCK_ADJUSTMENTS_PROCESSED = "Ajustes de inventario procesados";
+
     // ==================== STOCK - ERROR MESSAGES ====================
     
     /**
@@ -663,6 +729,36 @@ public class Constants {
      */
     public static final String ERROR_USER_CART_NOT_FOUND = "No se encontró carrito para el usuario especificado";
 
+    /**
+     * Mensaje de error cuando el número de fragmentos de stock solicitado está fuera de rango.
+     */
+    public static final String ERROR_INVALID_STOCK_SHARD_COUNT = "El número de fragmentos de stock debe estar entre 2 y 64";
+
+    /**
+     * Mensaje de error cuando una fila de ajuste de inventario no es válida.
+     */
+    public static final String ERROR_INVALID_STOCK_ADJUSTMENT = "El ajuste debe indicar productId y una cantidad entera distinta de 0";
+
+    /**
+     * Mensaje de error cuando el producto de un ajuste de inventario no existe.
+     */
+    public static final String ERROR_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND = "El producto del ajuste no existe";
+
+    /**
+     * Mensaje de error cuando un ajuste dejaría el stock del producto en negativo.
+     */
+    public static final String ERROR_STOCK_ADJUSTMENT_NEGATIVE_RESULT = "El ajuste dejaría el stock del producto en negativo";
+
+    /**
+     * Mensaje de error cuando una solicitud de ajustes supera el máximo de filas permitido.
+     */
+    public static final String ERROR_STOCK_ADJUSTMENT_TOO_MANY_ROWS = "La solicitud supera el máximo de ajustes permitidos; use el endpoint de streaming";
+
+    /**
+     * Mensaje de error cuando la base de datos rechaza un lote de ajustes de inventario.
+     */
+    public static final String ERROR_STOCK_ADJUSTMENT_FAILED = "No se pudo aplicar el ajuste de inventario";
+
     // ==================== STOCK - ERROR CODES ====================
     
     /**
@@ -689,6 +785,42 @@ public class Constants {
      */
     public static final String CODE_USER_CART_NOT_FOUND = "ED-STO-04";
 
+    /**
+     * Código de error: Número de fragmentos de stock inválido.
+     * Formato: ED-STO-05 (Ecommerce Davivienda - Stock - 05)
+     */
+    public static final String CODE_INVALID_STOCK_SHARD_COUNT = "ED-STO-05";
+
+    /**
+     * Código de error: Fila de ajuste de inventario inválida.
+     * Formato: ED-STO-06 (Ecommerce Davivienda - Stock - 06)
+     */
+    public static final String CODE_INVALID_STOCK_ADJUSTMENT = "ED-STO-06";
+
+    /**
+     * Código de error: Producto del ajuste de inventario no encontrado.
+     * Formato: ED-STO-07 (Ecommerce Davivienda - Stock - 07)
+     */
+    public static final String CODE_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND = "ED-STO-07";
+
+    /**
+     * Código de error: Ajuste de inventario con resultado negativo.
+     * Formato: ED-STO-08 (Ecommerce Davivienda - Stock - 08)
+     */
+    public static final String CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT = "ED-STO-08";
+
+    /**
+     * Código de error: Demasiados ajustes de inventario en una solicitud.
+     * Formato: ED-STO-09 (Ecommerce Davivienda - Stock - 09)
+     */
+    public static final String CODE_STOCK_ADJUSTMENT_TOO_MANY_ROWS = "ED-STO-09";
+
+    /**
+     * Código de error: Fallo de base de datos al aplicar ajustes de inventario.
+     * Formato: ED-STO-10 (Ecommerce Davivienda - Stock - 10)
+     */
+    public static final String CODE_STOCK_ADJUSTMENT_FAILED = "ED-STO-10";
+
     // ==================== DOCUMENT TYPE - SUCCESS MESSAGES ====================
     
     /**
@@ -865,6 +997,11 @@ public class Constants {
      * Mensaje de éxito al procesar un pago.
      */
     public static final String SUCCESS_PAYMENT_PROCESSED = "Pago procesado exitosamente";
+
+    /**
+     * Mensaje de éxito al aceptar un pago para procesamiento asíncrono.
+     */
+    public static final String SUCCESS_PAYMENT_QUEUED = "Pago recibido. Consulte su estado con el número de referencia";
     
     /**
      * Mensaje de éxito al consultar un pago.
@@ -938,6 +1075,26 @@ public class Constants {
      */
     public static final String ERROR_INVALID_CARD_NUMBER = "Número de tarjeta inválido";
 
+    /**
+     * Mensaje de error cuando el header Idempotency-Key es inválido.
+     */
+    public static final String ERROR_INVALID_IDEMPOTENCY_KEY = "El header Idempotency-Key debe tener entre 1 y 100 caracteres";
+
+    /**
+     * Mensaje de error cuando se reutiliza una clave de idempotencia con otra solicitud.
+     */
+    public static final String ERROR_IDEMPOTENCY_KEY_REUSED = "La clave de idempotencia ya fue usada con una solicitud de pago diferente";
+
+    /**
+     * Mensaje de error cuando la solicitud original con la misma clave aún no tiene respuesta.
+     */
+    public static final String ERROR_IDEMPOTENCY_REQUEST_IN_PROGRESS = "Hay un pago en proceso con la misma clave de idempotencia. Intente nuevamente";
+
+    /**
+     * Mensaje de error cuando el carrito ya tiene un pago en cola.
+     */
+    public static final String ERROR_CART_PAYMENT_ALREADY_QUEUED = "El carrito ya tiene un pago en cola de procesamiento";
+
     // ==================== PAYMENT - ERROR CODES ====================
     
     /**
@@ -1012,6 +1169,30 @@ public class Constants {
      */
     public static final String CODE_INVALID_CARD_NUMBER = "ED-PAY-12";
 
+    /**
+     * Código de error: Header Idempotency-Key inválido.
+     * Formato: ED-PAY-13 (Ecommerce Davivienda - Payment - 13)
+     */
+    public static final String CODE_INVALID_IDEMPOTENCY_KEY = "ED-PAY-13";
+
+    /**
+     * Código de error: Clave de idempotencia reutilizada con otra solicitud.
+     * Formato: ED-PAY-14 (Ecommerce Davivienda - Payment - 14)
+     */
+    public static final String CODE_IDEMPOTENCY_KEY_REUSED = "ED-PAY-14";
+
+    /**
+     * Código de error: Solicitud con la misma clave de idempotencia aún en proceso.
+     * Formato: ED-PAY-15 (Ecommerce Davivienda - Payment - 15)
+     */
+    public static final String CODE_IDEMPOTENCY_REQUEST_IN_PROGRESS = "ED-PAY-15";
+
+    /**
+     * Código de error: El carrito ya tiene un pago en cola.
+     * Formato: ED-PAY-16 (Ecommerce Davivienda - Payment - 16)
+     */
+    public static final String CODE_CART_PAYMENT_ALREADY_QUEUED = "ED-PAY-16";
+
     // ==================== CART - ERROR MESSAGES ====================
 
     /**
@@ -1078,6 +1259,28 @@ public class Constants {
      */
     public static final String SUCCESS_CART_CREATED = "Carrito creado exitosamente";
 
+    // ==================== OUTBOX - EVENT TYPES ====================
+
+    /**
+     * Tipo de agregado de los eventos de pago en el outbox.
+     */
+    public static final String OUTBOX_AGGREGATE_PAYMENT = "PAGO";
+
+    /**
+     * Tipo de agregado de los eventos de carrito en el outbox.
+     */
+    public static final String OUTBOX_AGGREGATE_CART = "CARRITO";
+
+    /**
+     * Evento: pago creado en estado pendiente.
+     */
+    public static final String OUTBOX_EVENT_PAYMENT_CREATED = "PAGO_CREADO";
+
+    /**
+     * Evento: cambio de estado de un carrito.
+     */
+    public static final String OUTBOX_EVENT_CART_STATUS_CHANGED = "CARRITO_ESTADO_CAMBIADO";
+
     /**
      * Constructor privado para evitar instanciación.
      */
@@ -2,6 +2,7 @@ package com.ecommerce.davivienda.controller.cart;
 
 import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
 import com.ecommerce.davivienda.models.Response;
+import com.ecommerce.davivienda.models.cart.CartItemBatchRequest;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 import com.ecommerce.davivienda.service.cartitem.CartItemService;
 import jakarta.validation.Valid;
@@ -30,8 +31,10 @@ public class CartItemController {
 
     /**
      * Agrega un producto al carrito del usuario autenticado.
-     * Si el producto ya existe, actualiza la cantidad con el nuevo valor.
+     * Si el producto ya existe, actualiza la cantidad con el nuevo valor
+     * (o la suma a la existente si la solicitud trae {@code increment=true}).
      * Si el carrito no existe, lo crea automáticamente.
+     * El item se escribe con un único upsert, por lo que solicitudes repetidas no fallan por duplicado.
      * El usuario se obtiene automáticamente del token JWT.
      * Endpoint: POST /api/v1/cart-items/add
      *
@@ -50,6 +53,26 @@ public class CartItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Agrega o actualiza varios productos en el carrito del usuario autenticado en una sola petición.
+     * Los productos se validan con una sola consulta y los items se escriben en un único batch.
+     * Endpoint: POST /api/v1/cart-items/batch
+     *
+     * @param request DTO con el carrito y la lista de items
+     * @return Response con mensaje de éxito
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<String>> addItemsToCart(
+            @Valid @RequestBody CartItemBatchRequest request) {
+
+        log.info("Request para agregar {} productos en batch al carrito {}",
+                request.getItems().size(), request.getCartId());
+
+        Response<String> response = cartItemService.addItemsToCart(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
    
 
     /**
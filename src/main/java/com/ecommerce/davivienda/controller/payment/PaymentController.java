@@ -2,19 +2,25 @@ package com.ecommerce.davivienda.controller.payment;
 
 import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.service.payment.PaymentService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_FOUND;
 import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_PROCESSED;
+import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_QUEUED;
 
 /**
  * Controlador REST para operaciones de procesamiento de pagos.
@@ -26,10 +32,20 @@ import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_PROCE
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/payments")
-@RequiredArgsConstructor
 public class PaymentController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String CHECKOUT_MODE_ASYNC = "async";
+
     private final PaymentService paymentService;
+    private final boolean asyncCheckout;
+
+    public PaymentController(
+            PaymentService paymentService,
+            @Value("${payment.checkout.mode:sync}") String checkoutMode) {
+        this.paymentService = paymentService;
+        this.asyncCheckout = CHECKOUT_MODE_ASYNC.equalsIgnoreCase(checkoutMode);
+    }
 
     /**
      * Procesa un pago con tarjeta (débito o crédito).
@@ -47,32 +63,72 @@ public class PaymentController {
      *   "installments": 3,                     // Opcional (solo para crédito)
      *   "paymentType": "debito"                // Obligatorio (debito/credito)
      * }
+     * 
+     * El header Idempotency-Key es OPCIONAL (recomendado para reintentos):
+     * - Reintentar con la misma clave y el mismo body retorna la respuesta original sin cobrar de nuevo
+     * - Si el primer intento sigue en ejecución, el reintento espera a que termine
+     * - Reutilizar la clave con un body diferente retorna error ED-PAY-14
+     * 
+     * Con payment.checkout.mode=async la solicitud solo se valida y se encola: responde 202 Accepted
+     * con el número de referencia y estado EN_COLA; el resultado se consulta en GET /api/v1/payments/{reference}.
      *
      * @param request Solicitud con cartId (opcional) y datos encriptados de tarjeta
-     * @return Response con PaymentProcessResponseDto
+     * @param idempotencyKey Clave única por intento de pago generada por el cliente (máx. 100 caracteres)
+     * @return Response con PaymentProcessResponseDto (200 procesado, 202 encolado)
      */
     @PostMapping("/process")
     public ResponseEntity<Response<PaymentProcessResponseDto>> processPayment(
-            @Valid @RequestBody PaymentProcessRequestDto request) {
+            @Valid @RequestBody PaymentProcessRequestDto request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
-        log.info("Solicitud de procesamiento de pago recibida - CartId: {}", 
-                request.getCartId() != null ? request.getCartId() : "auto (usuario autenticado)");
+        log.info("Solicitud de procesamiento de pago recibida - CartId: {}, Modo: {}", 
+                request.getCartId() != null ? request.getCartId() : "auto (usuario autenticado)",
+                asyncCheckout ? "asíncrono" : "síncrono");
 
-        PaymentProcessResponseDto paymentResponse = paymentService.processPayment(request);
+        if (asyncCheckout) {
+            PaymentProcessResponseDto queuedResponse = paymentService.enqueuePayment(request, idempotencyKey);
+
+            log.info("Pago aceptado en cola - Referencia: {}", queuedResponse.getReferenceNumber());
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(buildResponse(HttpStatus.ACCEPTED, SUCCESS_PAYMENT_QUEUED, queuedResponse));
+        }
+
+        PaymentProcessResponseDto paymentResponse = paymentService.processPayment(request, idempotencyKey);
 
         log.info("Pago procesado exitosamente - ID: {}, Referencia: {}",
                 paymentResponse.getPaymentId(),
                 paymentResponse.getReferenceNumber());
 
-        Response<PaymentProcessResponseDto> response = Response.<PaymentProcessResponseDto>builder()
+        return ResponseEntity.ok(buildResponse(HttpStatus.OK, SUCCESS_PAYMENT_PROCESSED, paymentResponse));
+    }
+
+    /**
+     * Consulta el estado de un pago por su número de referencia.
+     * Permite seguir los pagos aceptados en modo asíncrono (EN_COLA → COMPLETADO o FALLIDO);
+     * los pagos procesados en modo síncrono aparecen como COMPLETADO.
+     * Solo el dueño del pago o un administrador pueden consultarlo.
+     *
+     * @param reference Número de referencia retornado al procesar o encolar el pago
+     * @return Response con PaymentStatusResponseDto
+     */
+    @GetMapping("/{reference}")
+    public ResponseEntity<Response<PaymentStatusResponseDto>> getPaymentStatus(@PathVariable String reference) {
+        log.info("Consultando estado del pago con referencia: {}", reference);
+
+        PaymentStatusResponseDto status = paymentService.getPaymentStatus(reference);
+
+        return ResponseEntity.ok(buildResponse(HttpStatus.OK, SUCCESS_PAYMENT_FOUND, status));
+    }
+
+    private <T> Response<T> buildResponse(HttpStatus status, String message, T body) {
+        return Response.<T>builder()
                 .failure(false)
-                .code(HttpStatus.OK.value())
-                .message(SUCCESS_PAYMENT_PROCESSED)
-                .body(paymentResponse)
+                .code(status.value())
+                .message(message)
+                .body(body)
                 .timestamp(String.valueOf(System.currentTimeMillis()))
                 .build();
-
-        return ResponseEntity.ok(response);
     }
 }
 
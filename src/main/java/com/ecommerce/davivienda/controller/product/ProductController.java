@@ -2,6 +2,7 @@ package com.ecommerce.davivienda.controller.product;
 
 import com.ecommerce.davivienda.constants.Constants;
 import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.product.ProductRequest;
@@ -83,6 +84,7 @@ public class ProductController {
 
     /**
      * Lista todos los productos del catálogo.
+     * Se sirve desde el snapshot en memoria; la versión del snapshot se expone en headers.
      *
      * @return Response con la lista de productos
      */
@@ -90,9 +92,13 @@ public class ProductController {
     public ResponseEntity<Response<List<ProductResponse>>> getAllProducts() {
         log.info("Request GET /api/v1/products/list-all - Listar todos los productos");
 
-        List<ProductResponse> products = productService.getAllProducts();
+        ProductCatalogSnapshot snapshot = productService.getCatalogSnapshot();
+        List<ProductResponse> products = snapshot.getAllProducts();
 
-        return ResponseEntity.ok(Response.<List<ProductResponse>>builder()
+        return ResponseEntity.ok()
+                .header(Constants.HEADER_CATALOG_VERSION, String.valueOf(snapshot.getVersion()))
+                .header(Constants.HEADER_CATALOG_BUILT_AT, snapshot.getBuiltAt().toString())
+                .body(Response.<List<ProductResponse>>builder()
                 .failure(false)
                 .code(HttpStatus.OK.value())
                 .message(Constants.SUCCESS_PRODUCTS_LISTED)
@@ -103,6 +109,7 @@ public class ProductController {
 
     /**
      * Lista solo los productos activos.
+     * Se sirve desde el snapshot en memoria; la versión del snapshot se expone en headers.
      *
      * @return Response con la lista de productos activos
      */
@@ -110,9 +117,13 @@ public class ProductController {
     public ResponseEntity<Response<List<ProductResponse>>> getActiveProducts() {
         log.info("Request GET /api/v1/products/list-active - Listar productos activos");
 
-        List<ProductResponse> products = productService.getActiveProducts();
+        ProductCatalogSnapshot snapshot = productService.getCatalogSnapshot();
+        List<ProductResponse> products = snapshot.getActiveProducts();
 
-        return ResponseEntity.ok(Response.<List<ProductResponse>>builder()
+        return ResponseEntity.ok()
+                .header(Constants.HEADER_CATALOG_VERSION, String.valueOf(snapshot.getVersion()))
+                .header(Constants.HEADER_CATALOG_BUILT_AT, snapshot.getBuiltAt().toString())
+                .body(Response.<List<ProductResponse>>builder()
                 .failure(false)
                 .code(HttpStatus.OK.value())
                 .message(Constants.SUCCESS_PRODUCTS_LISTED)
@@ -145,17 +156,26 @@ public class ProductController {
 
     /**
      * Busca productos aplicando filtros con paginación.
+     * Soporta dos modos:
+     * <ul>
+     *   <li><b>offset</b> (por defecto): usa {@code page}/{@code size} e incluye totales.</li>
+     *   <li><b>cursor</b>: usa {@code after}/{@code size}, sin OFFSET ni COUNT; devuelve {@code nextCursor}.
+     *       Se activa con {@code mode=cursor} o al enviar {@code after}.</li>
+     * </ul>
      *
      * @param categoryId Filtrar por ID de categoría
      * @param minPrice Precio mínimo (ej: 10.99)
      * @param maxPrice Precio máximo (ej: 99.99)
      * @param active Filtrar por estado activo (true/false)
      * @param searchTerm Búsqueda por nombre (búsqueda parcial)
-     * @param page Número de página (default: 0)
+     * @param page Número de página (default: 0, solo modo offset)
      * @param size Tamaño de página (default: 10)
      * @param sortBy Campo para ordenar (default: productoId).
      *               <p><b>Valores válidos:</b> productoId, valorUnitario, nombre, descripcion, estadoProductoId, creationDate</p>
+     *               <p><b>Modo cursor:</b> productoId, valorUnitario, nombre, creationDate</p>
      * @param sortDir Dirección de orden (asc/desc, default: asc)
+     * @param mode Modo de paginación (offset/cursor, default: offset)
+     * @param after Cursor opaco devuelto en {@code nextCursor} por la página anterior
      * @return Response con página de productos filtrados
      */
     @GetMapping("/search/paginated")
@@ -168,15 +188,23 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "productoId") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
-
-        log.info("GET /api/v1/products/search/paginated - Buscar con filtros y paginación");
-
-        Page<ProductResponse> productsPage = productService.searchProductsPaginated(
-                categoryId, minPrice, maxPrice, active, searchTerm,
-                page, size, sortBy, sortDir);
-
-        PagedProductResponseDto pagedResponse = PagedProductResponseDto.fromPage(productsPage);
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "offset") String mode,
+            @RequestParam(required = false) String after) {
+
+        log.info("GET /api/v1/products/search/paginated - Buscar con filtros y paginación (modo {})", mode);
+
+        PagedProductResponseDto pagedResponse;
+        if (Constants.PAGINATION_MODE_CURSOR.equalsIgnoreCase(mode) || after != null) {
+            pagedResponse = productService.searchProductsByCursor(
+                    categoryId, minPrice, maxPrice, active, searchTerm,
+                    size, sortBy, sortDir, after);
+        } else {
+            Page<ProductResponse> productsPage = productService.searchProductsPaginated(
+                    categoryId, minPrice, maxPrice, active, searchTerm,
+                    page, size, sortBy, sortDir);
+            pagedResponse = PagedProductResponseDto.fromPage(productsPage);
+        }
 
         return ResponseEntity.ok(Response.<PagedProductResponseDto>builder()
                 .failure(false)
@@ -1,15 +1,43 @@
 package com.ecommerce.davivienda.controller.stock;
 
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentRequestDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResponseDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto;
 import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.service.stock.StockService;
+import com.ecommerce.davivienda.service.stock.adjustment.InventoryAdjustmentFormat;
+import com.ecommerce.davivienda.service.stock.adjustment.StockAdjustmentService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Controlador REST para operaciones de stock/inventario.
@@ -24,7 +52,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class StockValidationController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final StockService stockService;
+    private final StockAdjustmentService stockAdjustmentService;
+    private final JsonUtils jsonUtils;
 
     /**
      * Valida que todos los productos del carrito del usuario autenticado tengan stock suficiente.
@@ -34,9 +66,9 @@ public class StockValidationController {
      * <ol>
      *   <li>Extrae el userRoleId del token JWT del usuario autenticado</li>
      *   <li>Obtiene el carrito del usuario</li>
-     *   <li>Valida stock de cada producto en el carrito</li>
+     *   <li>Valida stock de cada producto en el carrito (descontando reservas de otros carritos)</li>
      *   <li>Si hay stock insuficiente → retorna 200 con available=false y lista de productos</li>
-     *   Si todo tiene stock → retorna 200 con available=true
+     *   Si todo tiene stock → reserva las cantidades y retorna 200 con available=true y reservationExpiresAt
      *
      * @return Response con resultado de validación detallado
      */
@@ -60,4 +92,119 @@ public class StockValidationController {
                         .timestamp(String.valueOf(System.currentTimeMillis()))
                         .build());
     }
+
+    /**
+     * Activa el modo de alta concurrencia del stock de un producto (ej. antes de una venta relámpago).
+     * El stock se reparte en varios fragmentos para que las compras concurrentes no esperen por una sola fila.
+     *
+     * @param productId ID del producto
+     * @param shards Número de fragmentos (2 a 64, por defecto 8)
+     * @return Response con mensaje de confirmación
+     */
+    @PutMapping("/{productId}/high-contention")
+    @PreAuthorize("hasAuthority('Administrador')")
+    public ResponseEntity<Response<String>> enableHighContentionMode(
+            @PathVariable Integer productId,
+            @RequestParam(defaultValue = "8") Integer shards) {
+        log.info("PUT /api/v1/stock/{}/high-contention - Activar modo de alta concurrencia ({} fragmentos)",
+                productId, shards);
+
+        stockService.enableHighContentionMode(productId, shards);
+
+        return ResponseEntity.ok(Response.<String>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_STOCK_HIGH_CONTENTION_ENABLED)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
+    /**
+     * Desactiva el modo de alta concurrencia del stock de un producto.
+     *
+     * @param productId ID del producto
+     * @return Response con mensaje de confirmación
+     */
+    @DeleteMapping("/{productId}/high-contention")
+    @PreAuthorize("hasAuthority('Administrador')")
+    public ResponseEntity<Response<String>> disableHighContentionMode(@PathVariable Integer productId) {
+        log.info("DELETE /api/v1/stock/{}/high-contention - Desactivar modo de alta concurrencia", productId);
+
+        stockService.disableHighContentionMode(productId);
+
+        return ResponseEntity.ok(Response.<String>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_STOCK_HIGH_CONTENTION_DISABLED)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
+    /**
+     * Aplica ajustes relativos de inventario a varios productos.
+     * Cada cantidad se suma al stock actual (negativa para descontar); el stock nunca queda negativo.
+     * Las filas se validan de forma independiente: el resultado incluye el estado de cada una.
+     *
+     * @param request Lista de ajustes (productId, quantity)
+     * @return Response con totales y resultado por fila
+     */
+    @PostMapping("/adjustments")
+    @PreAuthorize("hasAuthority('Administrador')")
+    public ResponseEntity<Response<InventoryAdjustmentResponseDto>> adjustStock(
+            @Valid @RequestBody InventoryAdjustmentRequestDto request) {
+        log.info("POST /api/v1/stock/adjustments - {} ajustes de inventario", request.getAdjustments().size());
+
+        InventoryAdjustmentResponseDto result = stockAdjustmentService.adjust(request.getAdjustments());
+
+        return ResponseEntity.ok(Response.<InventoryAdjustmentResponseDto>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_STOCK_ADJUSTMENTS_PROCESSED)
+                .body(result)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
+    /**
+     * Aplica ajustes relativos de inventario leídos en streaming, sin límite de filas.
+     * Acepta NDJSON ({@code {"productId":12,"quantity":-3}} por línea) o CSV ({@code productId,quantity},
+     * cabecera opcional) y responde en NDJSON con el resultado de cada fila a medida que se aplica.
+     *
+     * @param contentType Content-Type de la solicitud (application/x-ndjson o text/csv)
+     * @param body Cuerpo de la solicitud
+     * @return Resultados por fila en NDJSON
+     */
+    @PostMapping(value = "/adjustments/stream",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('Administrador')")
+    public ResponseEntity<StreamingResponseBody> adjustStockStream(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        InventoryAdjustmentFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf(TEXT_CSV_VALUE))
+                ? InventoryAdjustmentFormat.CSV
+                : InventoryAdjustmentFormat.NDJSON;
+        log.info("POST /api/v1/stock/adjustments/stream - Ajustes de inventario en {}", format);
+
+        StreamingResponseBody responseBody = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            stockAdjustmentService.adjustStream(body, format, result -> writeLine(writer, result));
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    private void writeLine(Writer writer, InventoryAdjustmentResultDto result) {
+        try {
+            writer.write(jsonUtils.serializeToJson(result));
+            writer.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el resultado de la fila " + result.getLine(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package com.ecommerce.davivienda.controller.user;
 
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.user.PasswordChangeAuthenticatedRequest;
 import com.ecommerce.davivienda.models.user.PasswordRecoveryRequest;
@@ -15,8 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controlador REST para operaciones CRUD sobre usuarios.
  * Expone endpoints para gestión completa de usuarios del sistema.
@@ -121,17 +122,40 @@ public class UserController {
     }
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Lista los usuarios del sistema con filtros y paginación por cursor.
      * Retorna información pública sin datos sensibles como contraseñas.
+     * Ya no existe la variante sin límite: cada respuesta trae como máximo
+     * {@code USER_PAGE_MAX_SIZE} usuarios y {@code nextCursor} para pedir la siguiente página.
      *
-     * @return Response con lista de usuarios
+     * @param statusId Filtrar por ID de estado del usuario
+     * @param roleId Filtrar por ID de rol asignado
+     * @param documentTypeId Filtrar por ID de tipo de documento
+     * @param documentNumber Filtrar por número de documento exacto
+     * @param email Filtrar por prefijo del correo electrónico
+     * @param after Cursor devuelto en {@code nextCursor} por la página anterior
+     * @param size Tamaño de página (default: 20, máximo: 100)
+     * @return Response con la página de usuarios
      */
     @GetMapping("/all")
     @PreAuthorize("hasAuthority('Administrador')")
-    public ResponseEntity<Response<List<UserResponse>>> getAllUsers() {
-        log.info("GET /api/v1/users/all - Obtener todos los usuarios");
-
-        Response<List<UserResponse>> response = userService.getAllUsers();
+    public ResponseEntity<Response<PagedUserResponseDto>> getAllUsers(
+            @RequestParam(required = false) Integer statusId,
+            @RequestParam(required = false) Integer roleId,
+            @RequestParam(required = false) Integer documentTypeId,
+            @RequestParam(required = false) String documentNumber,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "" + Constants.USER_PAGE_DEFAULT_SIZE) int size) {
+        log.info("GET /api/v1/users/all - Buscar usuarios (after={}, size={})", after, size);
+
+        UserFilterDto filter = UserFilterDto.builder()
+                .statusId(statusId)
+                .roleId(roleId)
+                .documentTypeId(documentTypeId)
+                .documentNumber(documentNumber)
+                .emailPrefix(email)
+                .build();
+        Response<PagedUserResponseDto> response = userService.searchUsers(filter, after, size);
 
         return ResponseEntity.ok(response);
     }
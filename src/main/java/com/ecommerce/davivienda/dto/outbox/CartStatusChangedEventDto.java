@@ -0,0 +1,39 @@
+package com.ecommerce.davivienda.dto.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Carga del evento CARRITO_ESTADO_CAMBIADO del outbox.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartStatusChangedEventDto {
+
+    /**
+     * ID del carrito.
+     */
+    private Integer cartId;
+
+    /**
+     * ID de la relación usuario-rol dueña del carrito.
+     */
+    private Integer userRoleId;
+
+    /**
+     * ID del nuevo estado del carrito.
+     */
+    private Integer statusId;
+
+    /**
+     * Nombre del nuevo estado del carrito (ej. "Procesando").
+     */
+    private String status;
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.davivienda.dto.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un evento del outbox tal como se publica hacia el sink.
+ * El {@code eventId} es único y creciente, por lo que los consumidores pueden usarlo
+ * para descartar duplicados (la entrega es al menos una vez).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDto {
+
+    /**
+     * ID del evento en el outbox.
+     */
+    private Long eventId;
+
+    /**
+     * Tipo de agregado (ej. "PAGO", "CARRITO").
+     */
+    private String aggregateType;
+
+    /**
+     * ID del agregado que cambió.
+     */
+    private String aggregateId;
+
+    /**
+     * Tipo de evento (ej. "PAGO_CREADO").
+     */
+    private String eventType;
+
+    /**
+     * Carga del evento en JSON; se publica como objeto, no como texto.
+     */
+    @JsonRawValue
+    private String payload;
+
+    /**
+     * Fecha en que se registró el evento (commit del cambio).
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Intentos de publicación previos; uso interno del relay, no se publica.
+     */
+    @JsonIgnore
+    private int attempts;
+}
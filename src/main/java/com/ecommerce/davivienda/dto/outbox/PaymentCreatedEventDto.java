@@ -0,0 +1,51 @@
+package com.ecommerce.davivienda.dto.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Carga del evento PAGO_CREADO del outbox.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCreatedEventDto {
+
+    /**
+     * ID del pago creado.
+     */
+    private Integer paymentId;
+
+    /**
+     * Número de referencia del pago.
+     */
+    private String referenceNumber;
+
+    /**
+     * ID del carrito pagado.
+     */
+    private Integer cartId;
+
+    /**
+     * Tipo de pago (debito / credito).
+     */
+    private String paymentType;
+
+    /**
+     * Estado del pago (ej. "Pendiente").
+     */
+    private String status;
+
+    /**
+     * Fecha del pago.
+     */
+    private LocalDateTime paymentDate;
+}
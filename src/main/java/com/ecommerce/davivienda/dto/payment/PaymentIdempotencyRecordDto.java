@@ -0,0 +1,29 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO interno con el registro guardado para una clave de idempotencia de pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentIdempotencyRecordDto {
+
+    /**
+     * Huella SHA-256 (hex) de la solicitud original.
+     */
+    private String fingerprint;
+
+    /**
+     * PaymentProcessResponseDto original serializado en JSON; null si aún no hay respuesta.
+     */
+    private String responseJson;
+}
@@ -31,7 +31,7 @@ public class PaymentProcessResponseDto {
 
     /**
      * Número de referencia único del pago.
-     * Formato: UUID aleatorio
+     * Formato: "REF-" + 13 caracteres Base32, ordenado en el tiempo
      */
     @JsonProperty("referenceNumber")
     private String referenceNumber;
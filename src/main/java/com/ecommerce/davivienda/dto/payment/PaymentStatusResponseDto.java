@@ -0,0 +1,92 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para la consulta del estado de un pago por número de referencia.
+ * Cubre pagos procesados en el request y pagos aceptados en la cola asíncrona.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentStatusResponseDto {
+
+    public static final String CHECKOUT_QUEUED = "EN_COLA";
+    public static final String CHECKOUT_COMPLETED = "COMPLETADO";
+    public static final String CHECKOUT_FAILED = "FALLIDO";
+
+    /**
+     * Número de referencia del pago.
+     */
+    @JsonProperty("referenceNumber")
+    private String referenceNumber;
+
+    /**
+     * Estado del checkout: EN_COLA, COMPLETADO o FALLIDO.
+     */
+    @JsonProperty("checkoutStatus")
+    private String checkoutStatus;
+
+    /**
+     * ID del pago; solo cuando el checkout está COMPLETADO.
+     */
+    @JsonProperty("paymentId")
+    private Integer paymentId;
+
+    /**
+     * Estado del pago (ej. "Pendiente"); solo cuando el checkout está COMPLETADO.
+     */
+    @JsonProperty("status")
+    private String status;
+
+    /**
+     * Tipo de pago (debito/credito); solo cuando el checkout está COMPLETADO.
+     */
+    @JsonProperty("paymentType")
+    private String paymentType;
+
+    /**
+     * Código de error; solo cuando el checkout está FALLIDO.
+     */
+    @JsonProperty("errorCode")
+    private String errorCode;
+
+    /**
+     * Mensaje de error; solo cuando el checkout está FALLIDO.
+     */
+    @JsonProperty("errorMessage")
+    private String errorMessage;
+
+    /**
+     * Fecha en que el pago se aceptó en la cola.
+     */
+    @JsonProperty("queuedAt")
+    private LocalDateTime queuedAt;
+
+    /**
+     * Fecha en que el checkout terminó (pago creado o fallido).
+     */
+    @JsonProperty("processedAt")
+    private LocalDateTime processedAt;
+
+    /**
+     * Email del dueño del pago, usado para validar el acceso. No se expone en la respuesta.
+     */
+    @JsonIgnore
+    private String ownerEmail;
+}
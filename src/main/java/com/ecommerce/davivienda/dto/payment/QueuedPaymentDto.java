@@ -0,0 +1,67 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO interno con un pago pendiente de la cola de checkout asíncrono.
+ * No contiene el CVV ni el número de tarjeta en claro.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedPaymentDto {
+
+    /**
+     * ID de la fila en la cola.
+     */
+    private Long queueId;
+
+    /**
+     * ID de la referencia asignada al aceptar el pago.
+     */
+    private Integer referenceId;
+
+    /**
+     * ID del carrito a pagar.
+     */
+    private Integer cartId;
+
+    /**
+     * Email del usuario que realizó el pago.
+     */
+    private String userEmail;
+
+    /**
+     * Tipo de pago validado ("debito" o "credito").
+     */
+    private String paymentType;
+
+    /**
+     * Número de cuotas validado.
+     */
+    private Integer installments;
+
+    /**
+     * Nombre del titular encriptado, igual que en pago_debito/pago_credito.
+     */
+    private String encryptedCardHolderName;
+
+    /**
+     * Número de tarjeta encriptado, igual que en pago_debito/pago_credito.
+     */
+    private String encryptedCardNumber;
+
+    /**
+     * Fecha de vencimiento (último día del mes), null si la solicitud no la incluía.
+     */
+    private LocalDate expirationDate;
+}
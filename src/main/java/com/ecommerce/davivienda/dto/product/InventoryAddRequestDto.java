@@ -3,16 +3,16 @@ package com.ecommerce.davivienda.dto.product;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * DTO para la solicitud de agregar inventario a un producto.
- * Contiene la cantidad de unidades a agregar.
+ * DTO para un ajuste relativo de inventario de un producto.
+ * La cantidad se suma al stock actual: positiva para ingresos, negativa para salidas.
+ * Se valida fila por fila al aplicar el ajuste, de modo que una fila inválida no
+ * rechaza el lote completo.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -26,11 +26,14 @@ import lombok.NoArgsConstructor;
 public class InventoryAddRequestDto {
 
     /**
-     * Cantidad de inventario a agregar.
+     * ID del producto a ajustar.
+     */
+    @JsonProperty("productId")
+    private Integer productId;
+
+    /**
+     * Cantidad de inventario a sumar (negativa para descontar, distinta de 0).
      */
-    @NotNull(message = "La cantidad es obligatoria")
-    @Min(value = 1, message = "La cantidad debe ser al menos 1")
     @JsonProperty("quantity")
     private Integer quantity;
 }
-
@@ -81,6 +81,12 @@ public class PagedProductResponseDto {
     @JsonProperty("hasPrevious")
     private Boolean hasPrevious;
 
+    /**
+     * Cursor opaco para solicitar la siguiente página (solo en modo cursor).
+     */
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
     /**
      * Crea un PagedProductResponseDto a partir de un Page de Spring.
      *
@@ -100,5 +106,29 @@ public class PagedProductResponseDto {
                 .hasPrevious(page.hasPrevious())
                 .build();
     }
-}
 
+    /**
+     * Crea un PagedProductResponseDto para paginación por cursor.
+     * No incluye totales porque este modo no ejecuta la consulta COUNT.
+     *
+     * @param content Productos de la página actual
+     * @param pageSize Tamaño de la página solicitada
+     * @param first Indica si es la primera página (sin cursor)
+     * @param nextCursor Cursor de la siguiente página, o null si no hay más
+     * @return DTO paginado por cursor
+     */
+    public static PagedProductResponseDto fromCursor(List<ProductResponse> content,
+                                                     int pageSize,
+                                                     boolean first,
+                                                     String nextCursor) {
+        return PagedProductResponseDto.builder()
+                .content(content)
+                .pageSize(pageSize)
+                .first(first)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
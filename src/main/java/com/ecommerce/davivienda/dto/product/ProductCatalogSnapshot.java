@@ -0,0 +1,91 @@
+package com.ecommerce.davivienda.dto.product;
+
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot inmutable y versionado del catálogo de productos.
+ * Contiene las respuestas ya mapeadas para los listados públicos,
+ * de modo que pueden servirse sin consultar la base de datos.
+ *
+ * <p>Las listas son inmutables y las instancias de {@link ProductResponse}
+ * se comparten entre peticiones, por lo que no deben modificarse.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProductCatalogSnapshot {
+
+    /**
+     * Versión del catálogo en la BD ({@code catalogo_version}) con la que se construyó el snapshot.
+     * Es la misma en todas las instancias para el mismo catálogo.
+     */
+    private final long version;
+
+    /**
+     * Momento en que se construyó el snapshot.
+     */
+    private final Instant builtAt;
+
+    /**
+     * Todos los productos del catálogo.
+     */
+    private final List<ProductResponse> allProducts;
+
+    /**
+     * Solo los productos activos.
+     */
+    private final List<ProductResponse> activeProducts;
+
+    /**
+     * Crea un snapshot copiando las listas recibidas en listas inmutables.
+     *
+     * @param version Versión del snapshot
+     * @param allProducts Todos los productos mapeados
+     * @param activeProducts Productos activos mapeados
+     * @return Snapshot inmutable
+     */
+    public static ProductCatalogSnapshot of(long version,
+                                            List<ProductResponse> allProducts,
+                                            List<ProductResponse> activeProducts) {
+        return new ProductCatalogSnapshot(
+                version,
+                Instant.now(),
+                List.copyOf(allProducts),
+                List.copyOf(activeProducts));
+    }
+
+    /**
+     * Crea un snapshot con la misma versión en el que los productos indicados se reemplazan por
+     * una nueva instancia (ej. con el inventario actualizado). El resto de instancias se comparte.
+     *
+     * @param replacements Productos a reemplazar, por ID
+     * @return Nuevo snapshot inmutable con la misma versión
+     */
+    public ProductCatalogSnapshot withReplacedProducts(Map<Integer, ProductResponse> replacements) {
+        return new ProductCatalogSnapshot(
+                version,
+                builtAt,
+                replace(allProducts, replacements),
+                replace(activeProducts, replacements));
+    }
+
+    private static List<ProductResponse> replace(List<ProductResponse> products,
+                                                 Map<Integer, ProductResponse> replacements) {
+        List<ProductResponse> result = new ArrayList<>(products.size());
+        for (ProductResponse product : products) {
+            result.add(replacements.getOrDefault(product.getId(), product));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
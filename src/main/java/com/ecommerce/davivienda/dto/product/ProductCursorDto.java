@@ -0,0 +1,40 @@
+package com.ecommerce.davivienda.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con la posición decodificada de un cursor de paginación (keyset).
+ * Representa la clave de ordenamiento y el ID del último producto entregado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCursorDto {
+
+    /**
+     * Campo por el que se ordenó la página que generó el cursor.
+     */
+    private String sortBy;
+
+    /**
+     * Indica si el ordenamiento es descendente.
+     */
+    private boolean descending;
+
+    /**
+     * Valor del campo de ordenamiento del último producto entregado, ya tipado.
+     */
+    private Comparable<?> lastValue;
+
+    /**
+     * ID del último producto entregado (desempate del ordenamiento).
+     */
+    private Integer lastId;
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.davivienda.dto.stock;
+
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para la solicitud de ajustes masivos de inventario.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryAdjustmentRequestDto {
+
+    /**
+     * Ajustes relativos a aplicar, en orden.
+     */
+    @NotEmpty(message = "Debe enviar al menos un ajuste de inventario")
+    private List<InventoryAddRequestDto> adjustments;
+}
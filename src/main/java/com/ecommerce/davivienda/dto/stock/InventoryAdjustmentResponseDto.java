@@ -0,0 +1,43 @@
+package com.ecommerce.davivienda.dto.stock;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de un lote de ajustes de inventario.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InventoryAdjustmentResponseDto {
+
+    /**
+     * Total de filas procesadas.
+     */
+    private Integer totalRows;
+
+    /**
+     * Filas aplicadas.
+     */
+    private Integer appliedRows;
+
+    /**
+     * Filas rechazadas.
+     */
+    private Integer rejectedRows;
+
+    /**
+     * Resultado de cada fila, en el orden de la solicitud (se omite en el modo streaming).
+     */
+    private List<InventoryAdjustmentResultDto> results;
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.davivienda.dto.stock;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de una fila de ajuste de inventario.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InventoryAdjustmentResultDto {
+
+    public static final String STATUS_APPLIED = "APLICADO";
+    public static final String STATUS_REJECTED = "RECHAZADO";
+
+    /**
+     * Número de fila en la solicitud (desde 1; en CSV incluye la cabecera).
+     */
+    private Integer line;
+
+    /**
+     * ID del producto ajustado.
+     */
+    private Integer productId;
+
+    /**
+     * Cantidad solicitada en el ajuste.
+     */
+    private Integer quantity;
+
+    /**
+     * Resultado de la fila (APLICADO, RECHAZADO).
+     */
+    private String status;
+
+    /**
+     * Código de error si la fila fue rechazada.
+     */
+    private String errorCode;
+
+    /**
+     * Mensaje de error si la fila fue rechazada.
+     */
+    private String message;
+}
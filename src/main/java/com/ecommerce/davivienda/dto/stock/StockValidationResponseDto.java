@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -56,5 +57,12 @@ public class StockValidationResponseDto {
      */
     @JsonProperty("productsWithIssues")
     private Integer productsWithIssues;
+
+    /**
+     * Fecha de vencimiento de la reserva de stock del carrito.
+     * Solo se informa si available = true.
+     */
+    @JsonProperty("reservationExpiresAt")
+    private LocalDateTime reservationExpiresAt;
 }
 
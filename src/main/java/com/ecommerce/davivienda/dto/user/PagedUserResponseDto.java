@@ -0,0 +1,70 @@
+package com.ecommerce.davivienda.dto.user;
+
+import com.ecommerce.davivienda.models.user.UserResponse;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO auxiliar para respuestas paginadas por cursor de usuarios.
+ * No incluye totales porque la consulta no ejecuta COUNT.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PagedUserResponseDto {
+
+    /**
+     * Lista de usuarios de la página actual.
+     */
+    @JsonProperty("content")
+    private List<UserResponse> content;
+
+    /**
+     * Tamaño de la página.
+     */
+    @JsonProperty("pageSize")
+    private Integer pageSize;
+
+    /**
+     * Indica si hay una página siguiente.
+     */
+    @JsonProperty("hasNext")
+    private Boolean hasNext;
+
+    /**
+     * ID del último usuario de la página, para enviarlo en {@code after} (null si no hay más).
+     */
+    @JsonProperty("nextCursor")
+    private Integer nextCursor;
+
+    /**
+     * Crea un PagedUserResponseDto a partir de los usuarios leídos con una fila extra.
+     *
+     * @param users Usuarios leídos (hasta pageSize + 1)
+     * @param pageSize Tamaño de la página solicitada
+     * @return DTO paginado por cursor
+     */
+    public static PagedUserResponseDto fromSlice(List<UserResponse> users, int pageSize) {
+        boolean hasNext = users.size() > pageSize;
+        List<UserResponse> content = hasNext ? users.subList(0, pageSize) : users;
+        return PagedUserResponseDto.builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(pageSize - 1).getUsuarioId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.davivienda.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO auxiliar para filtros de búsqueda de usuarios.
+ * Permite filtrar por estado, rol, documento y prefijo de correo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserFilterDto {
+
+    /**
+     * ID del estado del usuario.
+     */
+    @JsonProperty("statusId")
+    private Integer statusId;
+
+    /**
+     * ID de un rol que el usuario debe tener asignado.
+     */
+    @JsonProperty("roleId")
+    private Integer roleId;
+
+    /**
+     * ID del tipo de documento.
+     */
+    @JsonProperty("documentTypeId")
+    private Integer documentTypeId;
+
+    /**
+     * Número de documento exacto.
+     */
+    @JsonProperty("documentNumber")
+    private String documentNumber;
+
+    /**
+     * Prefijo del correo electrónico.
+     */
+    @JsonProperty("emailPrefix")
+    private String emailPrefix;
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +48,30 @@ public class Cart {
     @Builder.Default
     private Integer estadoCarritoId = 1;
 
+    /**
+     * Total de unidades en el carrito.
+     * Lo mantienen las sentencias SQL que escriben productos_carrito, nunca JPA.
+     */
+    @Column(name = "total_items", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer totalItems = 0;
+
+    /**
+     * Suma de los subtotales (sin IVA) de los items del carrito.
+     * Lo mantienen las sentencias SQL que escriben productos_carrito, nunca JPA.
+     */
+    @Column(name = "subtotal", nullable = false, precision = 14, scale = 2, insertable = false, updatable = false)
+    @Builder.Default
+    private BigDecimal subtotal = BigDecimal.ZERO;
+
+    /**
+     * Suma del IVA de los items del carrito.
+     * Lo mantienen las sentencias SQL que escriben productos_carrito, nunca JPA.
+     */
+    @Column(name = "iva", nullable = false, precision = 14, scale = 2, insertable = false, updatable = false)
+    @Builder.Default
+    private BigDecimal iva = BigDecimal.ZERO;
+
     /**
      * Relación opcional con UserRole (si se necesita carga eager).
      */
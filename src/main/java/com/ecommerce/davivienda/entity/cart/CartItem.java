@@ -1,14 +1,15 @@
 package com.ecommerce.davivienda.entity.cart;
 
 import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.util.PricingUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Entidad que representa un producto dentro de un carrito de compras.
@@ -45,8 +46,9 @@ public class CartItem {
     /**
      * Producto asociado a este item.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "producto_id", nullable = false)
+    @ToString.Exclude
     private Product product;
 
     /**
@@ -57,6 +59,7 @@ public class CartItem {
 
     /**
      * Calcula el monto del IVA para la cantidad especificada.
+     * El IVA por unidad se redondea HALF_UP a centavos antes de multiplicar por la cantidad.
      *
      * @return Monto del IVA
      */
@@ -68,11 +71,8 @@ public class CartItem {
         if (iva.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
         }
-        BigDecimal montoIvaPorUnidad = product.getValorUnitario()
-                .multiply(iva)
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        return montoIvaPorUnidad.multiply(BigDecimal.valueOf(cantidad))
-                .setScale(2, RoundingMode.HALF_UP);
+        return PricingUtils.toAmount(PricingUtils.ivaAmountCents(
+                PricingUtils.toCents(product.getValorUnitario()), PricingUtils.toBasisPoints(iva), cantidad));
     }
 
     /**
@@ -84,9 +84,7 @@ public class CartItem {
         if (product == null || product.getValorUnitario() == null || cantidad == null) {
             return BigDecimal.ZERO;
         }
-        return product.getValorUnitario()
-                .multiply(BigDecimal.valueOf(cantidad))
-                .setScale(2, RoundingMode.HALF_UP);
+        return PricingUtils.toAmount(PricingUtils.subtotalCents(PricingUtils.toCents(product.getValorUnitario()), cantidad));
     }
 
     /**
@@ -95,7 +93,14 @@ public class CartItem {
      * @return Precio total con IVA
      */
     public BigDecimal calculateTotal() {
-        return calculateSubtotal().add(calculateIvaAmount());
+        if (product == null || product.getValorUnitario() == null || cantidad == null) {
+            return BigDecimal.ZERO;
+        }
+        long unitCents = PricingUtils.toCents(product.getValorUnitario());
+        long ivaBasisPoints = PricingUtils.toBasisPoints(product.getIva());
+        return PricingUtils.toAmount(Math.addExact(
+                PricingUtils.subtotalCents(unitCents, cantidad),
+                PricingUtils.ivaAmountCents(unitCents, ivaBasisPoints, cantidad)));
     }
 
     /**
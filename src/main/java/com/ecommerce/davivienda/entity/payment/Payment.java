@@ -42,7 +42,7 @@ public class Payment {
     /**
      * Tipo de pago (débito o crédito).
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tipo_pago_id")
     private PaymentType paymentType;
 
@@ -55,14 +55,14 @@ public class Payment {
     /**
      * Referencia única del pago.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "referencia_id")
     private PaymentReference reference;
 
     /**
      * Estado actual del pago.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "estado_pago_id")
     private PaymentStatus paymentStatus;
 
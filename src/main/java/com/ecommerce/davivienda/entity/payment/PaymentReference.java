@@ -30,8 +30,8 @@ public class PaymentReference {
     private Integer referenceId;
 
     /**
-     * Número de referencia único del pago.
-     * Ejemplo: "REF-202511-00001"
+     * Número de referencia único del pago, ordenado en el tiempo.
+     * Ejemplo: "REF-01HZX3K7QW0G4"
      */
     @Column(name = "numero", nullable = false, unique = true, length = 100)
     private String referenceNumber;
@@ -1,10 +1,12 @@
 package com.ecommerce.davivienda.entity.product;
 
+import com.ecommerce.davivienda.util.PricingUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +15,9 @@ import java.time.LocalDateTime;
  * Entidad que representa un producto del catálogo.
  * Mapea la tabla 'productos' en la base de datos existente.
  *
+ * <p>La categoría es LAZY; los listados y el detalle de producto la cargan en la misma
+ * consulta con el grafo {@value #CATEGORY_GRAPH}. El carrito y el inventario no la usan.</p>
+ *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
@@ -21,9 +26,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = Product.CATEGORY_GRAPH, attributeNodes = @NamedAttributeNode("categoria"))
 @Table(name = "productos")
 public class Product {
 
+    /**
+     * Grafo que carga la categoría junto con el producto.
+     */
+    public static final String CATEGORY_GRAPH = "Product.categoria";
+
     /**
      * Identificador único del producto.
      */
@@ -71,14 +82,15 @@ public class Product {
     /**
      * Categoría a la que pertenece el producto.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoria_id")
+    @ToString.Exclude
     private Category categoria;
 
     /**
      * Fecha de creación del producto.
      */
-    @Column(name = "creation_date", updatable = false)
+    @Column(name = "creation_date", nullable = false, updatable = false)
     private LocalDateTime creationDate;
 
     /**
@@ -109,8 +121,8 @@ public class Product {
         if (iva == null || iva.compareTo(BigDecimal.ZERO) == 0) {
             return valorUnitario;
         }
-        BigDecimal montoIva = valorUnitario.multiply(iva).divide(BigDecimal.valueOf(100), 2, java.math.RoundingMode.HALF_UP);
-        return valorUnitario.add(montoIva);
+        return PricingUtils.toAmount(PricingUtils.priceWithIvaCents(
+                PricingUtils.toCents(valorUnitario), PricingUtils.toBasisPoints(iva)));
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.ecommerce.davivienda.entity.product;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa un estado de producto (Activo, Agotado, Preventa, etc.).
+ * Mapea la tabla 'estado_producto' en la base de datos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "estado_producto")
+public class ProductStatus {
+
+    /**
+     * Identificador único del estado.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "estado_producto_id")
+    private Integer estadoProductoId;
+
+    /**
+     * Nombre del estado.
+     */
+    @Column(name = "nombre", nullable = false, length = 100)
+    private String nombre;
+}
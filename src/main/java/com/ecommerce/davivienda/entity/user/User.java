@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +13,10 @@ import java.time.LocalDateTime;
  * Entidad que representa un usuario del sistema.
  * Mapea la tabla 'usuarios' en la base de datos.
  *
+ * <p>Todas las asociaciones son LAZY. Los casos de uso que las necesitan las cargan en la
+ * misma consulta con el grafo {@value #PROFILE_GRAPH} (perfil completo: login, detalle de usuario)
+ * o {@value #ROLES_GRAPH} (solo roles: resolución del userRoleId).</p>
+ *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
@@ -20,11 +25,28 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = User.PROFILE_GRAPH, attributeNodes = {
+        @NamedAttributeNode("documentType"),
+        @NamedAttributeNode("credenciales"),
+        @NamedAttributeNode("userStatus"),
+        @NamedAttributeNode(value = "roles", subgraph = "roles")
+}, subgraphs = @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode("role")))
+@NamedEntityGraph(name = User.ROLES_GRAPH, attributeNodes = @NamedAttributeNode("roles"))
 @Table(name = "usuarios", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"documento_id", "numero_de_doc"})
 })
 public class User {
 
+    /**
+     * Grafo con documento, credenciales, estado y roles (con su Role).
+     */
+    public static final String PROFILE_GRAPH = "User.profile";
+
+    /**
+     * Grafo con la lista de UserRole, sin cargar el Role de cada uno.
+     */
+    public static final String ROLES_GRAPH = "User.roles";
+
     /**
      * Identificador único del usuario.
      */
@@ -48,8 +70,9 @@ public class User {
     /**
      * Tipo de documento del usuario.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "documento_id", nullable = false)
+    @ToString.Exclude
     private DocumentType documentType;
 
     /**
@@ -61,15 +84,17 @@ public class User {
     /**
      * Credenciales de acceso del usuario (correo y contraseña).
      */
-    @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "credenciales_id", unique = true)
+    @ToString.Exclude
     private Credentials credenciales;
 
     /**
      * Estado actual del usuario (Activo, Inactivo, Suspendido, etc.).
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "estado_usuario_id")
+    @ToString.Exclude
     private UserStatus userStatus;
 
     /**
@@ -83,8 +108,9 @@ public class User {
      * Relación con los roles del usuario.
      * Un usuario puede tener múltiples roles a través de la tabla usuario_rol.
      */
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "usuario_id")
+    @ToString.Exclude
     private java.util.List<UserRole> roles;
 
     /**
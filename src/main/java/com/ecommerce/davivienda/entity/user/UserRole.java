@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * Entidad que representa la relación entre usuarios y roles (tabla intermedia).
@@ -41,8 +42,9 @@ public class UserRole {
     /**
      * Rol asociado al usuario.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "rol_id", nullable = false)
+    @ToString.Exclude
     private Role role;
 }
 
@@ -5,6 +5,7 @@ import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 import com.ecommerce.davivienda.models.cart.CartItemResponse;
+import com.ecommerce.davivienda.util.PricingUtils;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.entity.product.Product;
 import org.mapstruct.Mapper;
@@ -77,33 +78,31 @@ public interface CartItemMapper {
 
     /**
      * Construye un resumen completo del carrito con totales agregados.
+     * Los totales se leen de las columnas del carrito, que mantienen las sentencias que
+     * escriben sus items; los items solo se mapean para el detalle.
      *
+     * @param cart Carrito con sus totales persistidos
      * @param cartItems Lista de items del carrito
      * @return DTO con resumen del carrito
      */
-    default CartSummaryDto toCartSummaryDto(List<CartItem> cartItems) {
-        List<CartItemResponse> itemDtos = toResponseDtoList(cartItems);
-        
-        BigDecimal totalSubtotal = BigDecimal.ZERO;
-        BigDecimal totalIva = BigDecimal.ZERO;
-        BigDecimal totalPrice = BigDecimal.ZERO;
-        int totalItems = 0;
-
-        if (cartItems != null) {
-            for (CartItem item : cartItems) {
-                totalSubtotal = totalSubtotal.add(item.calculateSubtotal());
-                totalIva = totalIva.add(item.calculateIvaAmount());
-                totalPrice = totalPrice.add(item.calculateTotal());
-                totalItems += item.getCantidad();
-            }
+    default CartSummaryDto toCartSummaryDto(Cart cart, List<CartItem> cartItems) {
+        if (cartItems == null || cartItems.isEmpty()) {
+            return CartSummaryDto.builder()
+                    .totalItems(0)
+                    .totalSubtotal(BigDecimal.ZERO)
+                    .totalIva(BigDecimal.ZERO)
+                    .totalPrice(BigDecimal.ZERO)
+                    .build();
         }
 
+        BigDecimal subtotal = cart.getSubtotal().setScale(PricingUtils.SCALE);
+        BigDecimal iva = cart.getIva().setScale(PricingUtils.SCALE);
         return CartSummaryDto.builder()
-                .items(itemDtos)
-                .totalItems(totalItems)
-                .totalSubtotal(totalSubtotal)
-                .totalIva(totalIva)
-                .totalPrice(totalPrice)
+                .items(toResponseDtoList(cartItems))
+                .totalItems(cart.getTotalItems())
+                .totalSubtotal(subtotal)
+                .totalIva(iva)
+                .totalPrice(subtotal.add(iva))
                 .build();
     }
 
@@ -118,15 +117,40 @@ public interface CartItemMapper {
         if (cartItem == null || cartItem.getProduct() == null) {
             return null;
         }
+        return buildCalculationDto(cartItem.getProduct(), cartItem.getCantidad());
+    }
+
+    /**
+     * Construye el DTO de cálculos de un producto para una cantidad dada.
+     * Calcula en centavos con {@link PricingUtils} (mismas reglas de redondeo que {@link CartItem})
+     * y convierte a BigDecimal solo los montos del DTO.
+     *
+     * @param product Producto del item
+     * @param quantity Cantidad del item
+     * @return DTO con cálculos de precio e IVA
+     */
+    default CartItemCalculationDto buildCalculationDto(Product product, Integer quantity) {
+        CartItemCalculationDto.CartItemCalculationDtoBuilder calculation = CartItemCalculationDto.builder()
+                .unitValue(product.getValorUnitario())
+                .ivaPercentage(product.getIva())
+                .quantity(quantity);
+        if (product.getValorUnitario() == null || quantity == null) {
+            return calculation
+                    .subtotal(BigDecimal.ZERO)
+                    .ivaAmount(BigDecimal.ZERO)
+                    .totalPrice(BigDecimal.ZERO)
+                    .build();
+        }
 
-        return CartItemCalculationDto.builder()
-                .unitValue(cartItem.getProduct().getValorUnitario())
-                .ivaPercentage(cartItem.getProduct().getIva())
-                .quantity(cartItem.getCantidad())
-                .subtotal(cartItem.calculateSubtotal())
-                .ivaAmount(cartItem.calculateIvaAmount())
-                .totalPrice(cartItem.calculateTotal())
+        long unitCents = PricingUtils.toCents(product.getValorUnitario());
+        long ivaBasisPoints = PricingUtils.toBasisPoints(product.getIva());
+        long subtotalCents = PricingUtils.subtotalCents(unitCents, quantity);
+        long ivaCents = PricingUtils.ivaAmountCents(unitCents, ivaBasisPoints, quantity);
+
+        return calculation
+                .subtotal(PricingUtils.toAmount(subtotalCents))
+                .ivaAmount(ivaBasisPoints == 0 ? BigDecimal.ZERO : PricingUtils.toAmount(ivaCents))
+                .totalPrice(PricingUtils.toAmount(Math.addExact(subtotalCents, ivaCents)))
                 .build();
     }
 }
-
@@ -2,6 +2,8 @@ package com.ecommerce.davivienda.mapper.payment;
 
 import com.ecommerce.davivienda.dto.payment.CardDataDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.dto.payment.QueuedPaymentDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.payment.*;
 import com.ecommerce.davivienda.util.Base64DecryptionService;
@@ -10,6 +12,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Mapper para transformaciones de Payment, PaymentDebit, PaymentCredit y DTOs.
@@ -21,6 +24,11 @@ import java.time.LocalDate;
 @Mapper(componentModel = "spring")
 public interface PaymentMapper {
 
+    /**
+     * Formato de la fecha de vencimiento en los datos de la tarjeta (MM/YY).
+     */
+    DateTimeFormatter EXPIRATION_DATE_FORMAT = DateTimeFormatter.ofPattern("MM/yy");
+
     /**
      * Construye la entidad Payment principal.
      *
@@ -91,6 +99,70 @@ public interface PaymentMapper {
                 .build();
     }
 
+    /**
+     * Construye el DTO de respuesta de un pago aceptado en la cola de checkout asíncrono.
+     * Aún no tiene paymentId: el pago se crea cuando un worker lo procesa.
+     *
+     * @param reference Referencia asignada al pago
+     * @param paymentType Tipo de pago validado
+     * @return PaymentProcessResponseDto con estado EN_COLA
+     */
+    default PaymentProcessResponseDto toQueuedPaymentResponseDto(PaymentReference reference, PaymentType paymentType) {
+        return PaymentProcessResponseDto.builder()
+                .referenceNumber(reference.getReferenceNumber())
+                .status(PaymentStatusResponseDto.CHECKOUT_QUEUED)
+                .paymentType(paymentType.getPaymentType())
+                .build();
+    }
+
+    /**
+     * Construye el pago a encolar con los mismos datos de tarjeta que guardan pago_debito y
+     * pago_credito: titular y número encriptados y fecha de vencimiento. El CVV no se conserva.
+     *
+     * @param reference Referencia asignada al pago
+     * @param cart Carrito a pagar
+     * @param userEmail Email del usuario
+     * @param cardData Datos de la tarjeta ya validados
+     * @param installments Número de cuotas validado
+     * @param encryptionService Servicio de encriptación Base64
+     * @return QueuedPaymentDto sin queueId
+     */
+    default QueuedPaymentDto toQueuedPaymentDto(PaymentReference reference, Cart cart, String userEmail,
+                                                CardDataDto cardData, Integer installments,
+                                                Base64DecryptionService encryptionService) {
+        String expirationDate = cardData.getExpirationDate();
+        return QueuedPaymentDto.builder()
+                .referenceId(reference.getReferenceId())
+                .cartId(cart.getCarritoId())
+                .userEmail(userEmail)
+                .paymentType(cardData.getPaymentType().trim().toLowerCase())
+                .installments(installments)
+                .encryptedCardHolderName(encryptCardHolderName(cardData.getCardHolderName(), encryptionService))
+                .encryptedCardNumber(encryptCardNumber(cardData.getCardNumber(), encryptionService))
+                .expirationDate(expirationDate == null || expirationDate.trim().isEmpty()
+                        ? null
+                        : parseExpirationDate(expirationDate.trim()))
+                .build();
+    }
+
+    /**
+     * Reconstruye los datos de la tarjeta de un pago en cola para procesarlo (sin CVV).
+     *
+     * @param queuedPayment Pago en cola
+     * @param encryptionService Servicio de encriptación Base64
+     * @return CardDataDto con titular y número desencriptados
+     */
+    default CardDataDto toCardData(QueuedPaymentDto queuedPayment, Base64DecryptionService encryptionService) {
+        LocalDate expirationDate = queuedPayment.getExpirationDate();
+        return CardDataDto.builder()
+                .cardNumber(encryptionService.decrypt(queuedPayment.getEncryptedCardNumber()))
+                .cardHolderName(encryptionService.decrypt(queuedPayment.getEncryptedCardHolderName()))
+                .expirationDate(expirationDate != null ? expirationDate.format(EXPIRATION_DATE_FORMAT) : null)
+                .installments(queuedPayment.getInstallments())
+                .paymentType(queuedPayment.getPaymentType())
+                .build();
+    }
+
     /**
      * Encripta el nombre del titular de la tarjeta usando Base64.
      *
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.mapper.product;
 
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.entity.product.Product;
 import com.ecommerce.davivienda.models.product.ProductRequest;
@@ -139,5 +140,51 @@ public interface ProductMapper {
         Sort sort = Sort.by(direction, sortBy);
         return PageRequest.of(page, size, sort);
     }
-}
 
+    /**
+     * Construye el ordenamiento para paginación por cursor.
+     * Agrega {@code productoId} como desempate para que el orden sea total y estable.
+     *
+     * @param sortBy Campo para ordenar
+     * @param sortDir Dirección de orden (asc/desc)
+     * @return Sort con desempate por ID
+     */
+    default Sort buildKeysetSort(String sortBy, String sortDir) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir)
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        Sort sort = Sort.by(direction, sortBy);
+        return "productoId".equals(sortBy) ? sort : sort.and(Sort.by(direction, "productoId"));
+    }
+
+    /**
+     * Combina los filtros de búsqueda con el predicado de keyset del cursor.
+     *
+     * @param filters Especificación con los filtros de búsqueda
+     * @param cursor Posición decodificada del cursor (null para la primera página)
+     * @return Specification combinada
+     */
+    default Specification<Product> buildKeysetSpecification(Specification<Product> filters, ProductCursorDto cursor) {
+        if (cursor == null) {
+            return filters;
+        }
+        return filters.and(ProductSpecification.afterCursor(
+                cursor.getSortBy(),
+                cursor.isDescending(),
+                cursor.getLastValue(),
+                cursor.getLastId()));
+    }
+
+    /**
+     * Combina los filtros de búsqueda con la restricción de texto del motor de búsqueda.
+     *
+     * @param filters Especificación con los filtros (sin término de búsqueda)
+     * @param textFilter Especificación de los productos que coinciden con el término
+     * @return Specification combinada
+     */
+    default Specification<Product> buildSearchSpecification(Specification<Product> filters,
+                                                            Specification<Product> textFilter) {
+        return filters.and(textFilter);
+    }
+}
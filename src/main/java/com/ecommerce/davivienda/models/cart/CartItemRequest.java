@@ -47,5 +47,13 @@ public class CartItemRequest {
     @Min(value = 1, message = "La cantidad debe ser mayor a 0")
     @JsonProperty("quantity")
     private Integer quantity;
+
+    /**
+     * Modo de escritura de la cantidad.
+     * Opcional: si es true la cantidad se suma a la que ya hay en el carrito;
+     * si se omite o es false, reemplaza la cantidad existente.
+     */
+    @JsonProperty("increment")
+    private Boolean increment;
 }
 
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.models.product;
 
+import com.ecommerce.davivienda.util.PricingUtils;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
  * @since 1.0.0
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -132,7 +133,8 @@ public class ProductResponse {
         if (unitValue == null || iva == null || iva.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
         }
-        return unitValue.multiply(iva).divide(BigDecimal.valueOf(100), 2, java.math.RoundingMode.HALF_UP);
+        return PricingUtils.toAmount(PricingUtils.ivaPerUnitCents(
+                PricingUtils.toCents(unitValue), PricingUtils.toBasisPoints(iva)));
     }
 }
 
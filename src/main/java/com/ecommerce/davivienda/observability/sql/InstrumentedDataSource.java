@@ -0,0 +1,110 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que cuenta sentencias, filas leídas y tiempo de ejecución del request en curso.
+ *
+ * <p>La medición se hace a nivel JDBC para cubrir por igual los repositorios JPA y las
+ * consultas con {@code JdbcTemplate}. Si el hilo no tiene un {@link SqlRequestStats} activo,
+ * la conexión se entrega sin envolver.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final String EXECUTE_PREFIX = "execute";
+    private static final String PREPARE_PREFIX = "prepare";
+    private static final String GET_RESULT_SET = "getResultSet";
+    private static final String NEXT = "next";
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    private static Connection instrument(Connection connection) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = method.getName().startsWith(PREPARE_PREFIX) ? (String) args[0] : null;
+                return instrument(statement, sql, stats);
+            }
+            return result;
+        });
+    }
+
+    private static Statement instrument(Statement statement, String preparedSql, SqlRequestStats stats) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            Object result;
+            if (name.startsWith(EXECUTE_PREFIX)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                try {
+                    result = invoke(statement, method, args);
+                } finally {
+                    stats.recordStatement(sql, System.nanoTime() - start);
+                }
+            } else {
+                result = invoke(statement, method, args);
+            }
+            if (result instanceof ResultSet resultSet && (name.startsWith(EXECUTE_PREFIX) || name.equals(GET_RESULT_SET))) {
+                return instrument(resultSet, stats);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet instrument(ResultSet resultSet, SqlRequestStats stats) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (NEXT.equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.recordRow();
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
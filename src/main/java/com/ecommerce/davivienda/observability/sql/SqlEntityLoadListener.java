@@ -0,0 +1,21 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Listener de Hibernate que cuenta las entidades cargadas durante el request en curso.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class SqlEntityLoadListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.recordEntityLoad();
+        }
+    }
+}
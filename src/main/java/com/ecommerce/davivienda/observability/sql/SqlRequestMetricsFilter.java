@@ -0,0 +1,127 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que mide la actividad SQL de cada request y la exporta como métricas por endpoint.
+ *
+ * <p>Registra sentencias, filas leídas, entidades cargadas y tiempo en BD con las etiquetas
+ * {@code method} y {@code uri} (el patrón del endpoint, no la URL concreta). Cuando un request
+ * supera el presupuesto de sentencias se registra un warning con las consultas más repetidas,
+ * que es la forma típica de un N+1.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public class SqlRequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_STATEMENTS = "http.server.requests.sql.statements";
+    static final String METRIC_ROWS = "http.server.requests.sql.rows";
+    static final String METRIC_ENTITY_LOADS = "http.server.requests.sql.entity.loads";
+    static final String METRIC_DB_TIME = "http.server.requests.sql.time";
+    static final String METRIC_BUDGET_EXCEEDED = "http.server.requests.sql.budget.exceeded";
+
+    static final String TAG_METHOD = "method";
+    static final String TAG_URI = "uri";
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final int REPORTED_FINGERPRINTS = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+
+    /**
+     * Medidores por combinación método + patrón de URI, para no construirlos ni buscarlos
+     * en el registro en cada request. La cardinalidad está acotada por los endpoints.
+     */
+    private final Map<String, RequestMeters> requestMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry Registro de métricas del actuator
+     * @param queryBudget Máximo de sentencias por request antes de registrar el warning
+     */
+    public SqlRequestMetricsFilter(MeterRegistry meterRegistry, int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        RequestMeters meters = requestMeters.computeIfAbsent(
+                request.getMethod() + ' ' + uri, key -> RequestMeters.register(meterRegistry, request.getMethod(), uri));
+
+        meters.statements().record(stats.getStatements());
+        meters.rows().record(stats.getRows());
+        meters.entityLoads().record(stats.getEntityLoads());
+        meters.dbTime().record(stats.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > queryBudget) {
+            Counter.builder(METRIC_BUDGET_EXCEEDED).tags(meters.tags()).register(meterRegistry).increment();
+            log.warn("Presupuesto de consultas excedido en {} {}: {} sentencias (máximo {}), {} filas, "
+                            + "{} entidades, {} ms en BD. Consultas más repetidas:{}",
+                    request.getMethod(), uri, stats.getStatements(), queryBudget, stats.getRows(),
+                    stats.getEntityLoads(), Duration.ofNanos(stats.getDbTimeNanos()).toMillis(),
+                    describe(stats));
+        }
+    }
+
+    private static String describe(SqlRequestStats stats) {
+        StringBuilder description = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : stats.topFingerprints(REPORTED_FINGERPRINTS)) {
+            description.append(System.lineSeparator())
+                    .append("  ").append(entry.getValue()).append("x ").append(entry.getKey());
+        }
+        return description.toString();
+    }
+
+    /**
+     * Medidores de un endpoint. El contador de presupuesto excedido se registra solo cuando
+     * ocurre, para no exportar contadores en cero de todos los endpoints.
+     */
+    private record RequestMeters(Tags tags, DistributionSummary statements, DistributionSummary rows,
+                                 DistributionSummary entityLoads, Timer dbTime) {
+
+        static RequestMeters register(MeterRegistry meterRegistry, String method, String uri) {
+            Tags tags = Tags.of(TAG_METHOD, method, TAG_URI, uri);
+            return new RequestMeters(tags,
+                    DistributionSummary.builder(METRIC_STATEMENTS).baseUnit("statements").tags(tags)
+                            .register(meterRegistry),
+                    DistributionSummary.builder(METRIC_ROWS).baseUnit("rows").tags(tags)
+                            .register(meterRegistry),
+                    DistributionSummary.builder(METRIC_ENTITY_LOADS).baseUnit("entities").tags(tags)
+                            .register(meterRegistry),
+                    Timer.builder(METRIC_DB_TIME).tags(tags).register(meterRegistry));
+        }
+    }
+}
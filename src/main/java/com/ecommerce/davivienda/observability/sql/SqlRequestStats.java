@@ -0,0 +1,138 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Acumulador de la actividad SQL de un request HTTP.
+ *
+ * <p>{@link SqlRequestMetricsFilter} lo asocia al hilo del request; {@link InstrumentedDataSource}
+ * y {@link SqlEntityLoadListener} lo alimentan solo mientras está activo, así que las tareas
+ * programadas y los workers en segundo plano no pagan el costo de la instrumentación.
+ * No es thread-safe: un request se atiende en un solo hilo.</p>
+ *
+ * <p>Las sentencias se agrupan por el SQL tal como llega al driver, que con parámetros enlazados
+ * ya es estable entre ejecuciones. La normalización a huella (literales → {@code ?}, listas
+ * {@code IN} colapsadas, sin comentarios) se hace solo al reportar.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class SqlRequestStats {
+
+    /**
+     * Máximo de SQL distintos que se guardan por request (el conteo total no tiene límite).
+     */
+    static final int MAX_DISTINCT_SQL = 500;
+
+    static final String UNKNOWN_SQL = "<desconocido>";
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+
+    private int statements;
+    private long rows;
+    private int entityLoads;
+    private long dbTimeNanos;
+
+    /**
+     * Inicia la medición para el hilo actual.
+     *
+     * @return Acumulador asociado al hilo
+     */
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Termina la medición del hilo actual.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Retorna el acumulador del request en curso.
+     *
+     * @return Acumulador o null si el hilo no atiende un request instrumentado
+     */
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        dbTimeNanos += elapsedNanos;
+        String key = sql != null ? sql : UNKNOWN_SQL;
+        if (countsBySql.size() < MAX_DISTINCT_SQL || countsBySql.containsKey(key)) {
+            countsBySql.merge(key, 1, Integer::sum);
+        }
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void recordEntityLoad() {
+        entityLoads++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    /**
+     * Agrupa las sentencias por huella y retorna las más repetidas.
+     *
+     * @param limit Máximo de huellas a retornar
+     * @return Huellas con su número de ejecuciones, de mayor a menor
+     */
+    public List<Map.Entry<String, Integer>> topFingerprints(int limit) {
+        Map<String, Integer> countsByFingerprint = new HashMap<>();
+        countsBySql.forEach((sql, count) -> countsByFingerprint.merge(fingerprint(sql), count, Integer::sum));
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(countsByFingerprint.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    /**
+     * Normaliza un SQL para que ejecuciones con distintos valores compartan la misma huella.
+     *
+     * @param sql SQL original
+     * @return Huella del SQL
+     */
+    static String fingerprint(String sql) {
+        String normalized = COMMENT.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
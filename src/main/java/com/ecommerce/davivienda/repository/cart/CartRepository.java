@@ -1,6 +1,7 @@
 package com.ecommerce.davivienda.repository.cart;
 
 import com.ecommerce.davivienda.entity.cart.Cart;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,9 +45,19 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
      */
     boolean existsByUsuarioRolId(Integer usuarioRolId);
 
+    /**
+     * Busca un carrito por ID junto con sus items (sin productos), para validar el checkout.
+     *
+     * @param carritoId ID del carrito
+     * @return Optional con el carrito y sus items cargados
+     */
+    @EntityGraph(attributePaths = "items")
+    Optional<Cart> findWithItemsByCarritoId(Integer carritoId);
+
     /**
      * Busca un carrito activo por el correo del usuario.
      * Navega desde credenciales → usuarios → usuario_rol → carrito.
+     * Carga los items (sin productos) en la misma consulta para validar el checkout.
      *
      * @param correo Correo electrónico del usuario
      * @return Optional con el carrito del usuario si existe
@@ -61,6 +72,7 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
                 )
             )
             """)
+    @EntityGraph(attributePaths = "items")
     Optional<Cart> findByUserEmail(@Param("correo") String correo);
 }
 
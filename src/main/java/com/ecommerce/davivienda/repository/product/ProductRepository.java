@@ -1,15 +1,24 @@
 package com.ecommerce.davivienda.repository.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para operaciones sobre la entidad Product.
  * Incluye soporte para consultas dinámicas con Specifications.
+ * Las consultas de listado y detalle cargan la categoría con {@link Product#CATEGORY_GRAPH};
+ * {@code findById} y {@code findAllById} la dejan LAZY para el carrito y el inventario.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -22,8 +31,47 @@ public interface ProductRepository extends JpaRepository<Product, Integer>, JpaS
      *
      * @return Lista de productos activos
      */
+    @EntityGraph(Product.CATEGORY_GRAPH)
     List<Product> findByEstadoProductoId(Integer estadoProductoId);
 
+    /**
+     * Lista todos los productos con su categoría (snapshot del catálogo).
+     *
+     * @return Lista de productos
+     */
+    @Override
+    @EntityGraph(Product.CATEGORY_GRAPH)
+    List<Product> findAll();
+
+    /**
+     * Lista los productos que cumplen la especificación, con su categoría.
+     *
+     * @param spec Especificación de filtros
+     * @return Lista de productos
+     */
+    @Override
+    @EntityGraph(Product.CATEGORY_GRAPH)
+    List<Product> findAll(Specification<Product> spec);
+
+    /**
+     * Lista paginada de productos que cumplen la especificación, con su categoría.
+     *
+     * @param spec Especificación de filtros
+     * @param pageable Paginación y orden
+     * @return Página de productos
+     */
+    @Override
+    @EntityGraph(Product.CATEGORY_GRAPH)
+    Page<Product> findAll(Specification<Product> spec, Pageable pageable);
+
+    /**
+     * Busca un producto por ID con su categoría (detalle y actualización de producto).
+     *
+     * @param productoId ID del producto
+     * @return Optional con el producto
+     */
+    @EntityGraph(Product.CATEGORY_GRAPH)
+    Optional<Product> findWithCategoriaByProductoId(Integer productoId);
 
     /**
      * Verifica si existe un producto con el nombre dado.
@@ -42,5 +90,28 @@ public interface ProductRepository extends JpaRepository<Product, Integer>, JpaS
      * @return true si existe otro producto con ese nombre
      */
     boolean existsByNombreAndProductoIdNot(String nombre, Integer productoId);
-}
 
+    /**
+     * Búsqueda de texto completo sobre la columna {@code search_vector} (tsvector + índice GIN).
+     * Devuelve los IDs ordenados por relevancia ({@code ts_rank}).
+     * Requiere la configuración de texto {@code es_unaccent} del script de base de datos.
+     *
+     * @param term Término de búsqueda en formato web (palabras, comillas, -exclusión)
+     * @return IDs de productos ordenados por relevancia
+     */
+    @Query(value = "SELECT p.producto_id FROM productos p "
+            + "WHERE p.search_vector @@ websearch_to_tsquery('es_unaccent', :term) "
+            + "ORDER BY ts_rank(p.search_vector, websearch_to_tsquery('es_unaccent', :term)) DESC, p.producto_id",
+            nativeQuery = true)
+    List<Integer> searchRankedIdsByFullText(@Param("term") String term);
+
+    /**
+     * Indica si el término no produce ningún lexema con la configuración {@code es_unaccent}
+     * (por ejemplo, si solo contiene palabras vacías del diccionario español de PostgreSQL).
+     *
+     * @param term Término de búsqueda en formato web
+     * @return true si el tsquery resultante está vacío
+     */
+    @Query(value = "SELECT numnode(websearch_to_tsquery('es_unaccent', :term)) = 0", nativeQuery = true)
+    boolean isEmptyFullTextQuery(@Param("term") String term);
+}
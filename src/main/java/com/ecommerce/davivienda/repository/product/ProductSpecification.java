@@ -1,12 +1,15 @@
 package com.ecommerce.davivienda.repository.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Especificaciones para consultas dinámicas sobre productos.
@@ -17,6 +20,11 @@ import java.util.List;
  */
 public class ProductSpecification {
 
+    /**
+     * Máximo de IDs que se envían como lista IN (un parámetro por ID).
+     */
+    static final int MAX_IN_LIST_SIZE = 1000;
+
     /**
      * Constructor privado para evitar instanciación.
      */
@@ -66,16 +74,92 @@ public class ProductSpecification {
             }
 
             if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-                String likePattern = "%" + searchTerm.trim().toLowerCase() + "%";
-                Predicate namePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("nombre")), likePattern);
-                Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("descripcion")), likePattern);
-                predicates.add(criteriaBuilder.or(namePredicate, descriptionPredicate));
+                predicates.add(containsText(searchTerm).toPredicate(root, query, criteriaBuilder));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
 
+    /**
+     * Construye el predicado de keyset que ubica los productos posteriores a un cursor.
+     * Equivale a {@code (campo > valor) OR (campo = valor AND producto_id > id)} en orden
+     * ascendente (invertido en descendente), de modo que cada página usa el índice
+     * en lugar de recorrer un OFFSET.
+     *
+     * @param sortBy Campo de ordenamiento (no nulo en base de datos)
+     * @param descending Indica si el ordenamiento es descendente
+     * @param lastValue Valor del campo de ordenamiento del último producto entregado
+     * @param lastId ID del último producto entregado
+     * @return Specification con el predicado de keyset
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Product> afterCursor(
+            String sortBy,
+            boolean descending,
+            Comparable<?> lastValue,
+            Integer lastId) {
+
+        return (root, query, criteriaBuilder) -> {
+            Path<Integer> idPath = root.get("productoId");
+            Predicate idBeyond = descending
+                    ? criteriaBuilder.lessThan(idPath, lastId)
+                    : criteriaBuilder.greaterThan(idPath, lastId);
+
+            if ("productoId".equals(sortBy)) {
+                return idBeyond;
+            }
+
+            Path<Comparable> sortPath = root.get(sortBy);
+            Comparable value = lastValue;
+            Predicate sortBeyond = descending
+                    ? criteriaBuilder.lessThan(sortPath, value)
+                    : criteriaBuilder.greaterThan(sortPath, value);
+            Predicate tieBreak = criteriaBuilder.and(criteriaBuilder.equal(sortPath, value), idBeyond);
+
+            return criteriaBuilder.or(sortBeyond, tieBreak);
+        };
+    }
+
+    /**
+     * Coincidencia por subcadena ({@code LIKE '%term%'}) sobre nombre o descripción,
+     * sin distinguir mayúsculas.
+     *
+     * @param searchTerm Término de búsqueda (no vacío)
+     * @return Specification con el predicado LIKE
+     */
+    public static Specification<Product> containsText(String searchTerm) {
+        String likePattern = "%" + searchTerm.trim().toLowerCase() + "%";
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("nombre")), likePattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("descripcion")), likePattern));
+    }
+
+    /**
+     * Restringe la consulta a un conjunto de IDs de producto.
+     * Se usa con los IDs devueltos por el motor de búsqueda de texto.
+     *
+     * <p>Hasta {@value #MAX_IN_LIST_SIZE} IDs se usa un IN con un parámetro por ID. Por encima,
+     * los IDs viajan como un único parámetro de texto a la función {@code producto_en_lista}
+     * (ver {@code init-ecommerce.sql}), de modo que la consulta no choca con el límite de
+     * parámetros por sentencia de PostgreSQL ni se trunca el resultado.</p>
+     *
+     * @param productIds IDs permitidos (una lista vacía no devuelve resultados)
+     * @return Specification con el predicado de pertenencia
+     */
+    public static Specification<Product> withProductIds(Collection<Integer> productIds) {
+        return (root, query, criteriaBuilder) -> {
+            if (productIds.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            if (productIds.size() <= MAX_IN_LIST_SIZE) {
+                return root.get("productoId").in(productIds);
+            }
+            String idList = productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            return criteriaBuilder.isTrue(criteriaBuilder.function("producto_en_lista", Boolean.class,
+                    root.get("productoId"), criteriaBuilder.literal(idList)));
+        };
+    }
+}
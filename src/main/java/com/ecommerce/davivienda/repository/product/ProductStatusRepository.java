@@ -0,0 +1,16 @@
+package com.ecommerce.davivienda.repository.product;
+
+import com.ecommerce.davivienda.entity.product.ProductStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para operaciones sobre la entidad ProductStatus.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Repository
+public interface ProductStatusRepository extends JpaRepository<ProductStatus, Integer> {
+
+}
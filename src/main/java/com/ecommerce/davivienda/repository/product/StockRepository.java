@@ -4,6 +4,8 @@ import com.ecommerce.davivienda.entity.product.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,5 +33,12 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @return true si existe registro de stock
      */
     boolean existsByProductoId(Integer productoId);
-}
 
+    /**
+     * Busca el stock de varios productos en una sola consulta.
+     *
+     * @param productoIds IDs de los productos
+     * @return Registros de stock existentes (los productos sin registro no se incluyen)
+     */
+    List<Stock> findAllByProductoIdIn(Collection<Integer> productoIds);
+}
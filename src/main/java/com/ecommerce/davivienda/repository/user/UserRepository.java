@@ -1,6 +1,7 @@
 package com.ecommerce.davivienda.repository.user;
 
 import com.ecommerce.davivienda.entity.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,6 +9,8 @@ import java.util.Optional;
 
 /**
  * Repositorio para operaciones CRUD sobre la entidad User.
+ * Las asociaciones de User son LAZY: cada consulta declara con {@link EntityGraph}
+ * lo que su caso de uso necesita, de modo que se resuelve en una sola sentencia.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -17,13 +20,43 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     /**
      * Busca un usuario por su correo electrónico (credenciales).
-     * Utilizado principalmente para autenticación.
+     * Carga solo las credenciales (validación de propiedad y cambio de contraseña).
      *
      * @param correo Correo electrónico del usuario
      * @return Optional con el usuario encontrado, o vacío si no existe
      */
+    @EntityGraph(attributePaths = "credenciales")
     Optional<User> findByCredenciales_Correo(String correo);
 
+    /**
+     * Busca un usuario por su correo con el perfil completo.
+     * Utilizado para autenticación (login) y construcción del UserDetails.
+     *
+     * @param correo Correo electrónico del usuario
+     * @return Optional con el usuario encontrado, o vacío si no existe
+     */
+    @EntityGraph(User.PROFILE_GRAPH)
+    Optional<User> findProfileByCredenciales_Correo(String correo);
+
+    /**
+     * Busca un usuario por su correo cargando solo sus UserRole.
+     * Utilizado para resolver el userRoleId del usuario autenticado.
+     *
+     * @param correo Correo electrónico del usuario
+     * @return Optional con el usuario encontrado, o vacío si no existe
+     */
+    @EntityGraph(User.ROLES_GRAPH)
+    Optional<User> findWithRolesByCredenciales_Correo(String correo);
+
+    /**
+     * Busca un usuario por ID con el perfil completo (documento, credenciales, estado y roles).
+     *
+     * @param usuarioId ID del usuario
+     * @return Optional con el usuario encontrado, o vacío si no existe
+     */
+    @EntityGraph(User.PROFILE_GRAPH)
+    Optional<User> findProfileByUsuarioId(Integer usuarioId);
+
     /**
      * Verifica si existe un usuario con el correo especificado.
      *
@@ -42,11 +75,22 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByDocumentType_DocumentoIdAndNumeroDeDoc(Integer documentoId, String numeroDeDoc);
 
     /**
-     * Busca un usuario por su userRoleId (ID del rol de usuario primario).
+     * Busca un usuario por tipo y número de documento cargando solo sus UserRole.
+     *
+     * @param documentoId ID del tipo de documento
+     * @param numeroDeDoc Número de documento
+     * @return Optional con el usuario encontrado, o vacío si no existe
+     */
+    @EntityGraph(User.ROLES_GRAPH)
+    Optional<User> findWithRolesByDocumentType_DocumentoIdAndNumeroDeDoc(Integer documentoId, String numeroDeDoc);
+
+    /**
+     * Busca un usuario por su userRoleId (ID del rol de usuario primario) con el perfil completo.
      *
      * @param usuarioRolId ID del rol de usuario
      * @return Optional con el usuario encontrado, o vacío si no existe
      */
-    Optional<User> findByUsuarioRolId(Integer usuarioRolId);
+    @EntityGraph(User.PROFILE_GRAPH)
+    Optional<User> findProfileByUsuarioRolId(Integer usuarioRolId);
 }
 
@@ -1,10 +1,12 @@
 package com.ecommerce.davivienda.repository.user;
 
 import com.ecommerce.davivienda.entity.user.UserRole;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para operaciones CRUD sobre la entidad UserRole.
@@ -24,6 +26,15 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Integer> {
      */
     List<UserRole> findByUsuarioId(Integer usuarioId);
 
+    /**
+     * Busca una relación usuario-rol por ID junto con su Role.
+     *
+     * @param usuarioRolId ID de la relación usuario-rol
+     * @return Optional con la relación y su Role cargado
+     */
+    @EntityGraph(attributePaths = "role")
+    Optional<UserRole> findWithRoleByUsuarioRolId(Integer usuarioRolId);
+
     /**
      * Elimina todas las relaciones usuario-rol para un usuario específico.
      *
@@ -1,9 +1,8 @@
 package com.ecommerce.davivienda.security.filter;
 
 import com.ecommerce.davivienda.dto.user.UserProfileDto;
-import com.ecommerce.davivienda.mapper.user.UserProfileMapper;
-import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.security.credentials.CredentialsExtractor;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserDetails;
 import com.ecommerce.davivienda.security.response.AuthenticationResponseBuilder;
 import com.ecommerce.davivienda.security.token.JwtTokenGenerator;
 import jakarta.servlet.FilterChain;
@@ -29,7 +28,9 @@ import java.util.Map;
  * - {@link CredentialsExtractor}: Extracción de credenciales del request
  * - {@link JwtTokenGenerator}: Generación de tokens JWT
  * - {@link AuthenticationResponseBuilder}: Construcción de respuestas HTTP con perfil de usuario
- * - {@link UserProfileMapper}: Transformación de entidad User a DTO de perfil
+ *
+ * <p>El perfil y los claims del token se toman del {@link AuthenticatedUserDetails} construido
+ * al autenticar, de modo que un login consulta el usuario una sola vez.</p>
  *
  * @author Team Tienda Digital
  * @since 1.0.0
@@ -47,8 +48,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final CredentialsExtractor credentialsExtractor;
     private final JwtTokenGenerator tokenGenerator;
     private final AuthenticationResponseBuilder responseBuilder;
-    private final UserRepository userRepository;
-    private final UserProfileMapper userProfileMapper;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) 
@@ -72,18 +71,17 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             FilterChain chain,
             Authentication authResult) throws IOException, ServletException {
 
-        org.springframework.security.core.userdetails.User springUser = 
-                (org.springframework.security.core.userdetails.User) authResult.getPrincipal();
-        String userName = springUser.getUsername();
+        // El UserDetails cargado durante la autenticación ya trae perfil y claims: no se vuelve a consultar la BD
+        AuthenticatedUserDetails userDetails = (AuthenticatedUserDetails) authResult.getPrincipal();
+        String userName = userDetails.getUsername();
         Collection<? extends GrantedAuthority> authorities = authResult.getAuthorities();
 
         log.info("Procesando autenticación exitosa para usuario: {} con roles: {}", userName, authorities);
 
-        // Obtener perfil completo del usuario desde BD
-        UserProfileDto userProfile = getUserProfile(userName);
+        UserProfileDto userProfile = userDetails.getProfile();
 
-        // Generar token JWT
-        String token = tokenGenerator.generateToken(userName, authorities);
+        // Generar token JWT con los datos del usuario como claims firmados
+        String token = tokenGenerator.generateToken(userDetails.getPrincipal(), authorities);
         
         // Construir respuesta con token y perfil de usuario
         responseBuilder.addTokenToHeader(response, token);
@@ -92,18 +90,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         log.info("Autenticación completada exitosamente para el usuario: {}", userName);
     }
 
-    /**
-     * Obtiene el perfil del usuario desde la base de datos y lo convierte a DTO.
-     * 
-     * @param email Email del usuario
-     * @return UserProfileDto con información del perfil (sin IDs ni credenciales)
-     */
-    private UserProfileDto getUserProfile(String email) {
-        return userRepository.findByCredenciales_Correo(email)
-                .map(userProfileMapper::toProfileDto)
-                .orElse(null);
-    }
-
     @Override
     protected void unsuccessfulAuthentication(
             HttpServletRequest request, 
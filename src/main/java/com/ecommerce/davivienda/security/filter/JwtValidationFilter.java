@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.security.SecurityEndpoints;
 import com.ecommerce.davivienda.security.response.AuthenticationResponseBuilder;
 import com.ecommerce.davivienda.security.token.JwtTokenExtractor;
 import com.ecommerce.davivienda.security.token.JwtTokenValidator;
-import io.jsonwebtoken.Claims;
+import com.ecommerce.davivienda.security.token.VerifiedToken;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -110,13 +110,12 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
 
         // Si hay token, validarlo
         try {
-            Claims claims = tokenValidator.validateAndParseToken(token);
-            String userName = claims.getSubject();
-
-            Collection<? extends GrantedAuthority> authorities = tokenValidator.extractAuthorities(claims);
+            VerifiedToken verifiedToken = tokenValidator.verify(token);
+            String userName = verifiedToken.getUserName();
+            Collection<? extends GrantedAuthority> authorities = verifiedToken.getAuthorities();
 
             UsernamePasswordAuthenticationToken authenticationToken =
-                    createAuthenticationToken(userName, authorities);
+                    createAuthenticationToken(verifiedToken.getAuthenticationPrincipal(), authorities);
 
             setAuthenticationInContext(authenticationToken);
 
@@ -178,15 +177,17 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
 
     /**
      * Crea el token de autenticación de Spring Security.
+     * El principal es un {@code AuthenticatedUserPrincipal} cuando el JWT trae los claims de usuario,
+     * o el nombre de usuario para tokens emitidos sin ellos.
      *
-     * @param userName Nombre de usuario
+     * @param principal Principal del usuario
      * @param authorities Authorities del usuario
      * @return Token de autenticación
      */
     private UsernamePasswordAuthenticationToken createAuthenticationToken(
-            String userName, 
+            Object principal,
             Collection<? extends GrantedAuthority> authorities) {
-        return new UsernamePasswordAuthenticationToken(userName, null, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
     /**
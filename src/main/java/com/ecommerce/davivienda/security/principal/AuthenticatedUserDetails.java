@@ -0,0 +1,49 @@
+package com.ecommerce.davivienda.security.principal;
+
+import com.ecommerce.davivienda.dto.user.UserProfileDto;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * UserDetails del login que, además de las credenciales, lleva los datos ya cargados del usuario:
+ * el perfil de la respuesta de login y el principal que se embebe en el JWT.
+ * Así el login completo cuesta una sola consulta del usuario.
+ *
+ * @author Team Tienda Digital
+ * @since 1.0.0
+ */
+@Getter
+public class AuthenticatedUserDetails extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Perfil del usuario para la respuesta de login.
+     */
+    private final transient UserProfileDto profile;
+
+    /**
+     * Datos del usuario que se firman como claims del token.
+     */
+    private final AuthenticatedUserPrincipal principal;
+
+    /**
+     * Construye el UserDetails con los datos del usuario.
+     *
+     * @param password Contraseña codificada
+     * @param enabled Si el usuario está habilitado
+     * @param authorities Roles del usuario
+     * @param profile Perfil para la respuesta de login
+     * @param principal Datos para los claims del token (su email es el username)
+     */
+    public AuthenticatedUserDetails(String password, boolean enabled,
+                                    Collection<? extends GrantedAuthority> authorities,
+                                    UserProfileDto profile, AuthenticatedUserPrincipal principal) {
+        super(principal.getEmail(), password, enabled, true, true, true, authorities);
+        this.profile = profile;
+        this.principal = principal;
+    }
+}
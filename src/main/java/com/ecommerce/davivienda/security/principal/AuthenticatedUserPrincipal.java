@@ -0,0 +1,62 @@
+package com.ecommerce.davivienda.security.principal;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Principal tipado del usuario autenticado construido a partir de los claims firmados del JWT.
+ * Permite conocer el usuario y su rol sin consultar la base de datos en cada request.
+ *
+ * <p>{@link #getName()} retorna el email para que {@code Authentication.getName()}
+ * mantenga el mismo valor que con tokens sin claims de usuario.</p>
+ *
+ * @author Team Tienda Digital
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+@ToString
+public class AuthenticatedUserPrincipal implements AuthenticatedPrincipal, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Email del usuario (subject del token).
+     */
+    private final String email;
+
+    /**
+     * ID del usuario.
+     */
+    private final Integer userId;
+
+    /**
+     * ID del UserRole principal (primer rol asignado al usuario).
+     */
+    private final Integer userRoleId;
+
+    /**
+     * Nombres de los roles del usuario en el mismo orden de asignación;
+     * el primero corresponde a {@link #userRoleId}.
+     */
+    private final List<String> roles;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Nombre del rol asociado a {@link #userRoleId}.
+     *
+     * @return Nombre del rol principal, o null si el usuario no tiene roles
+     */
+    public String getPrimaryRole() {
+        return roles == null || roles.isEmpty() ? null : roles.get(0);
+    }
+}
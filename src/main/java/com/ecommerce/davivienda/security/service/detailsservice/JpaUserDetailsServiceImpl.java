@@ -67,7 +67,7 @@ public class JpaUserDetailsServiceImpl implements UserDetailsService, JpaUserDet
      * @throws UsernameNotFoundException si el usuario no existe
      */
     private User findUserByEmail(String email) {
-        return userRepository.findByCredenciales_Correo(email)
+        return userRepository.findProfileByCredenciales_Correo(email)
                 .orElseThrow(() -> {
                     log.warn("[{}] Usuario no encontrado: {}", CODE_USER_NOT_FOUND, email);
                     return new UsernameNotFoundException(
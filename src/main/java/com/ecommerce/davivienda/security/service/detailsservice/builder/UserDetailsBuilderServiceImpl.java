@@ -1,6 +1,11 @@
 package com.ecommerce.davivienda.security.service.detailsservice.builder;
 
 import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.entity.user.UserRole;
+import com.ecommerce.davivienda.mapper.user.UserProfileMapper;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserDetails;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,30 +16,31 @@ import java.util.List;
 
 /**
  * Implementación del servicio de construcción de UserDetails.
- * Transforma entidades User en objetos UserDetails de Spring Security.
+ * Transforma entidades User en {@link AuthenticatedUserDetails}, que además del username,
+ * contraseña y roles llevan el perfil de login y los datos para los claims del JWT.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class UserDetailsBuilderServiceImpl implements UserDetailsBuilderService {
 
+    private final UserProfileMapper userProfileMapper;
+
     @Override
     public UserDetails buildUserDetails(User user) {
         log.debug("Construyendo UserDetails para usuario: {}", user.getCorreo());
         
         List<GrantedAuthority> authorities = buildAuthorities(user);
         
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getCorreo())
-                .password(user.getContrasena())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.isActive())
-                .build();
+        return new AuthenticatedUserDetails(
+                user.getContrasena(),
+                user.isActive(),
+                authorities,
+                userProfileMapper.toProfileDto(user),
+                buildPrincipal(user));
     }
 
     /**
@@ -58,5 +64,24 @@ public class UserDetailsBuilderServiceImpl implements UserDetailsBuilderService
         log.debug("Se construyeron {} autoridades para usuario: {}", authorities.size(), user.getCorreo());
         return authorities;
     }
-}
 
+    /**
+     * Construye el principal que se embebe en el token.
+     * El userRoleId corresponde al primer rol asignado, igual que en la validación de clientes.
+     *
+     * @param user Usuario del dominio
+     * @return Principal con userId, userRoleId y nombres de roles
+     */
+    private AuthenticatedUserPrincipal buildPrincipal(User user) {
+        List<UserRole> userRoles = user.getRoles() != null ? user.getRoles() : List.of();
+
+        return AuthenticatedUserPrincipal.builder()
+                .email(user.getCorreo())
+                .userId(user.getUsuarioId())
+                .userRoleId(userRoles.isEmpty() ? null : userRoles.get(0).getUsuarioRolId())
+                .roles(userRoles.stream()
+                        .map(userRole -> userRole.getRole() != null ? userRole.getRole().getNombreRol() : null)
+                        .toList())
+                .build();
+    }
+}
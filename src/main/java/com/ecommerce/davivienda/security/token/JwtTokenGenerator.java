@@ -1,8 +1,10 @@
 package com.ecommerce.davivienda.security.token;
 
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import com.ecommerce.davivienda.util.JsonUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,6 +55,31 @@ public class JwtTokenGenerator {
         return token;
     }
 
+    /**
+     * Genera un token JWT que además incluye los datos del usuario (userId, userRoleId y roles)
+     * como claims firmados, para que los requests autenticados no requieran consultar la BD.
+     *
+     * @param principal Datos del usuario autenticado
+     * @param authorities Permisos del usuario
+     * @return Token JWT generado
+     * @throws JsonProcessingException Si hay error al serializar authorities
+     */
+    public String generateToken(AuthenticatedUserPrincipal principal, Collection<? extends GrantedAuthority> authorities)
+            throws JsonProcessingException {
+
+        String userName = principal.getEmail();
+        log.debug("Generando token para usuario: {} (userRoleId: {}) con roles: {}",
+                userName, principal.getUserRoleId(), authorities);
+
+        String authoritiesJson = serializeAuthorities(authorities);
+        Claims claims = buildClaims(userName, authoritiesJson, principal);
+
+        String token = buildJwtToken(userName, claims);
+
+        log.info("Token generado exitosamente para usuario: {}", userName);
+        return token;
+    }
+
     /**
      * Serializa las authorities del usuario a JSON.
      *
@@ -76,10 +103,36 @@ public class JwtTokenGenerator {
      * @return Claims construidos
      */
     private Claims buildClaims(String userName, String authoritiesJson) {
+        return baseClaims(userName, authoritiesJson).build();
+    }
+
+    /**
+     * Construye los claims del token JWT incluyendo los datos del usuario.
+     *
+     * @param userName Nombre del usuario
+     * @param authoritiesJson JSON con authorities
+     * @param principal Datos del usuario autenticado
+     * @return Claims construidos
+     */
+    private Claims buildClaims(String userName, String authoritiesJson, AuthenticatedUserPrincipal principal) {
+        return baseClaims(userName, authoritiesJson)
+                .add(CLAIM_USER_ID, principal.getUserId())
+                .add(CLAIM_USER_ROLE_ID, principal.getUserRoleId())
+                .add(CLAIM_ROLES, principal.getRoles())
+                .build();
+    }
+
+    /**
+     * Claims comunes a todos los tokens.
+     *
+     * @param userName Nombre del usuario
+     * @param authoritiesJson JSON con authorities
+     * @return Builder de claims con authorities y username
+     */
+    private ClaimsBuilder baseClaims(String userName, String authoritiesJson) {
         return Jwts.claims()
                 .add(FIELD_AUTHORITIES, authoritiesJson)
-                .add(FIELD_USERNAME, userName)
-                .build();
+                .add(FIELD_USERNAME, userName);
     }
 
     /**
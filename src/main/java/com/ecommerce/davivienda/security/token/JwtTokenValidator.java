@@ -1,11 +1,13 @@
 package com.ecommerce.davivienda.security.token;
 
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import com.ecommerce.davivienda.security.util.SimpleGrantedAuthorityJsonCreator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,24 +16,80 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.CLAIM_ROLES;
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.CLAIM_USER_ID;
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.CLAIM_USER_ROLE_ID;
 import static com.ecommerce.davivienda.security.util.TokenJwtConfig.SECRET_KEY;
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.VERIFIED_TOKEN_CACHE_MAX_SIZE;
 
 /**
  * Componente responsable de validar y parsear tokens JWT.
  * Maneja la validación de firma, extracción de claims y deserialización de authorities.
  *
+ * <p>El parser y el lector de authorities se construyen una sola vez (ambos son thread-safe),
+ * y los tokens ya verificados se guardan en una {@link VerifiedTokenCache} hasta su expiración,
+ * para que los requests repetidos con el mismo token no repitan la verificación HMAC ni el parsing JSON.</p>
+ *
  * @author Team Tienda Digital
  * @since 1.0.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenValidator {
 
     private static final String FIELD_AUTHORITIES = "authorities";
 
-    private final ObjectMapper objectMapper;
+    private final JwtParser parser;
+    private final ObjectReader authoritiesReader;
+    private final VerifiedTokenCache verifiedTokens;
+
+    /**
+     * Construye el parser JWT y un lector de authorities dedicado.
+     * El mix-in se registra sobre una copia del ObjectMapper para no modificar el global.
+     *
+     * @param objectMapper ObjectMapper de la aplicación
+     */
+    public JwtTokenValidator(ObjectMapper objectMapper) {
+        this.parser = Jwts.parser()
+                .verifyWith(SECRET_KEY)
+                .build();
+        this.authoritiesReader = objectMapper.copy()
+                .addMixIn(SimpleGrantedAuthority.class, SimpleGrantedAuthorityJsonCreator.class)
+                .readerFor(SimpleGrantedAuthority[].class);
+        this.verifiedTokens = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_MAX_SIZE);
+    }
+
+    /**
+     * Valida un token y retorna sus datos de autenticación ya deserializados.
+     * Si el token fue verificado antes y no ha expirado, se retorna desde caché.
+     *
+     * @param token Token JWT a validar
+     * @return Subject, authorities y principal del token
+     * @throws JwtException si el token es inválido o ha expirado
+     * @throws IOException si hay error al deserializar authorities
+     */
+    public VerifiedToken verify(String token) throws JwtException, IOException {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = validateAndParseToken(token);
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                List.copyOf(extractAuthorities(claims)),
+                extractPrincipal(claims),
+                expirationMillis(claims));
+
+        if (!verified.isExpired(now)) {
+            verifiedTokens.put(token, verified, now);
+        }
+        return verified;
+    }
 
     /**
      * Valida un token JWT y extrae los claims.
@@ -72,6 +130,34 @@ public class JwtTokenValidator {
         return authorities;
     }
 
+    /**
+     * Construye el principal tipado a partir de los claims de usuario del token.
+     * Los tokens emitidos antes de incluir estos claims no tienen {@code userId};
+     * en ese caso retorna null y el llamador debe usar solo el subject.
+     *
+     * @param claims Claims del token ya validado
+     * @return Principal con userId, userRoleId y roles, o null si el token no los incluye
+     */
+    public AuthenticatedUserPrincipal extractPrincipal(Claims claims) {
+        Integer userId = claims.get(CLAIM_USER_ID, Integer.class);
+        if (userId == null) {
+            log.debug("Token sin claims de usuario para: {}", claims.getSubject());
+            return null;
+        }
+
+        Object rolesClaim = claims.get(CLAIM_ROLES);
+        List<String> roles = rolesClaim instanceof Collection<?> values
+                ? values.stream().map(String::valueOf).toList()
+                : List.of();
+
+        return AuthenticatedUserPrincipal.builder()
+                .email(claims.getSubject())
+                .userId(userId)
+                .userRoleId(claims.get(CLAIM_USER_ROLE_ID, Integer.class))
+                .roles(roles)
+                .build();
+    }
+
     /**
      * Parsea el token JWT y valida su firma.
      *
@@ -80,11 +166,19 @@ public class JwtTokenValidator {
      * @throws JwtException si el token es inválido
      */
     private Claims parseToken(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(SECRET_KEY)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Expiración del token en milisegundos epoch. Un token sin {@code exp} se trata como ya expirado
+     * para efectos de caché, de modo que nunca se reutiliza sin volver a verificarlo.
+     *
+     * @param claims Claims del token
+     * @return Expiración en milisegundos epoch
+     */
+    private long expirationMillis(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null ? expiration.getTime() : Long.MIN_VALUE;
     }
 
     /**
@@ -97,11 +191,8 @@ public class JwtTokenValidator {
     private Collection<? extends GrantedAuthority> deserializeAuthorities(Object authoritiesClaims) 
             throws IOException {
         
-        return Arrays.asList(
-                objectMapper
-                        .addMixIn(SimpleGrantedAuthority.class, SimpleGrantedAuthorityJsonCreator.class)
-                        .readValue(authoritiesClaims.toString().getBytes(), SimpleGrantedAuthority[].class)
-        );
+        SimpleGrantedAuthority[] authorities = authoritiesReader.readValue(authoritiesClaims.toString());
+        return Arrays.asList(authorities);
     }
 }
 
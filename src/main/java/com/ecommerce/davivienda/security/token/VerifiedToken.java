@@ -0,0 +1,60 @@
+package com.ecommerce.davivienda.security.token;
+
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Resultado inmutable de validar un token JWT: subject, authorities y principal
+ * ya deserializados, junto con el instante de expiración del token.
+ *
+ * @author Team Tienda Digital
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    /**
+     * Subject del token (email del usuario).
+     */
+    private final String userName;
+
+    /**
+     * Authorities deserializadas del claim {@code authorities}.
+     */
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    /**
+     * Principal tipado, o null si el token no incluye los claims de usuario.
+     */
+    private final AuthenticatedUserPrincipal principal;
+
+    /**
+     * Expiración del token en milisegundos epoch.
+     */
+    private final long expiresAtMillis;
+
+    /**
+     * Indica si el token ya expiró en el instante dado.
+     *
+     * @param nowMillis Instante actual en milisegundos epoch
+     * @return true si el token está expirado
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * Principal a registrar en el contexto de seguridad: el principal tipado si existe,
+     * o el nombre de usuario para tokens sin claims de usuario.
+     *
+     * @return Principal de la autenticación
+     */
+    public Object getAuthenticationPrincipal() {
+        return principal != null ? principal : userName;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.davivienda.security.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caché acotada de tokens JWT ya verificados, sin bloqueo global.
+ *
+ * <p>La clave es el SHA-256 del token, de modo que el token en claro no queda retenido en memoria.
+ * Las entradas expiradas nunca se retornan: se eliminan al consultarlas y el llamador
+ * vuelve a validar el token, lo que produce el error de expiración correspondiente.</p>
+ *
+ * <p>Las lecturas y escrituras van directo a un {@link ConcurrentHashMap}. Cuando se supera el
+ * máximo, un solo hilo a la vez depura la caché: primero elimina los tokens expirados y, si no
+ * basta, descarta entradas arbitrarias hasta dejar un margen libre. Descartar un token vigente
+ * solo cuesta volver a verificar su firma en el siguiente request.</p>
+ *
+ * @author Team Tienda Digital
+ * @since 1.0.0
+ */
+public class VerifiedTokenCache {
+
+    /**
+     * Fracción del máximo que queda ocupada tras depurar, para no depurar en cada inserción.
+     */
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxSize;
+
+    /**
+     * Crea la caché con el número máximo de tokens a retener.
+     *
+     * @param maxSize Número máximo de entradas; al superarlo se depura la caché
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Obtiene un token verificado vigente.
+     *
+     * @param token Token JWT en claro
+     * @param nowMillis Instante actual en milisegundos epoch
+     * @return Token verificado, o null si no está en caché o ya expiró
+     */
+    public VerifiedToken get(String token, long nowMillis) {
+        String key = hash(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified != null && verified.isExpired(nowMillis)) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * Registra un token ya verificado.
+     *
+     * @param token Token JWT en claro
+     * @param verified Resultado de la verificación
+     * @param nowMillis Instante actual en milisegundos epoch
+     */
+    public void put(String token, VerifiedToken verified, long nowMillis) {
+        String key = hash(token);
+        entries.put(key, verified);
+        if (entries.size() > maxSize) {
+            evict(key, nowMillis);
+        }
+    }
+
+    /**
+     * Número de tokens en caché.
+     *
+     * @return Cantidad de entradas
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Elimina los tokens expirados y, si la caché sigue por encima del máximo, la reduce hasta
+     * {@link #EVICTION_TARGET_RATIO} del máximo conservando el token recién insertado. Si otro
+     * hilo ya está depurando, retorna de inmediato: mientras tanto la caché puede exceder el
+     * máximo por unas pocas entradas.
+     *
+     * @param insertedKey Clave del token recién insertado
+     * @param nowMillis Instante actual en milisegundos epoch
+     */
+    private void evict(String insertedKey, long nowMillis) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(verified -> verified.isExpired(nowMillis));
+            if (entries.size() <= maxSize) {
+                return;
+            }
+
+            int target = (int) (maxSize * EVICTION_TARGET_RATIO);
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                if (!iterator.next().equals(insertedKey)) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
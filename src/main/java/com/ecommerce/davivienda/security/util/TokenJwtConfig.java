@@ -38,6 +38,26 @@ public class TokenJwtConfig {
      * Tiempo de expiración del token en milisegundos (1 hora).
      */
     public static final long EXPIRATION_TIME = 3600000; // 1 hora
+
+    /**
+     * Número máximo de tokens verificados que se mantienen en caché.
+     */
+    public static final int VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
+
+    /**
+     * Claim con el ID del usuario.
+     */
+    public static final String CLAIM_USER_ID = "userId";
+
+    /**
+     * Claim con el ID del UserRole principal del usuario.
+     */
+    public static final String CLAIM_USER_ROLE_ID = "userRoleId";
+
+    /**
+     * Claim con los nombres de los roles del usuario.
+     */
+    public static final String CLAIM_ROLES = "roles";
     
     /**
      * Constructor privado para evitar instanciación.
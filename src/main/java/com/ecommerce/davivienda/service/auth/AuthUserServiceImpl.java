@@ -5,11 +5,13 @@ import com.ecommerce.davivienda.entity.user.UserRole;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.repository.user.UserRoleRepository;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 import static com.ecommerce.davivienda.constants.Constants.*;
 
@@ -18,6 +20,10 @@ import static com.ecommerce.davivienda.constants.Constants.*;
  * Responsable de extraer y validar el usuario autenticado desde el token JWT.
  * Reutilizable por todos los módulos del sistema.
  *
+ * <p>Con tokens que incluyen los claims de usuario la validación no consulta la BD.
+ * Los tokens emitidos sin esos claims se resuelven contra la BD en cada request, de modo que
+ * un cambio de rol o de estado del usuario se refleja de inmediato.</p>
+ *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
@@ -26,17 +32,23 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class AuthUserServiceImpl implements AuthUserService {
 
+    static final String CLIENT_ROLE = "Cliente";
+
     private final AuthenticatedUserUtil authenticatedUserUtil;
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
 
     @Override
-    @Transactional(readOnly = true)
     public Integer getAuthenticatedUserRoleId() {
         try {
+            Optional<AuthenticatedUserPrincipal> principal = authenticatedUserUtil.getCurrentPrincipal();
+            if (principal.isPresent()) {
+                return getUserRoleIdFromClaims(principal.get());
+            }
+
             String userEmail = authenticatedUserUtil.getCurrentUsername();
             log.debug("Email extraído del token: {}", userEmail);
-            
+
             Integer userRoleId = getUserRoleIdFromEmail(userEmail);
             validateUserHasClientRole(userRoleId);
             
@@ -50,6 +62,31 @@ public class AuthUserServiceImpl implements AuthUserService {
         }
     }
 
+    /**
+     * Obtiene y valida el userRoleId desde los claims firmados del token, sin consultar la BD.
+     *
+     * @param principal Principal construido a partir de los claims del JWT
+     * @return ID del UserRole del usuario
+     */
+    private Integer getUserRoleIdFromClaims(AuthenticatedUserPrincipal principal) {
+        Integer userRoleId = principal.getUserRoleId();
+
+        if (userRoleId == null) {
+            log.warn("Usuario sin roles asignados: {}", principal.getEmail());
+            throw new CartException(ERROR_USER_WITHOUT_ROLES, CODE_USER_WITHOUT_ROLES);
+        }
+
+        String roleName = principal.getPrimaryRole();
+        if (!CLIENT_ROLE.equalsIgnoreCase(roleName)) {
+            log.warn("Usuario con userRoleId {} no tiene rol de Cliente. Rol actual: {}",
+                    userRoleId, roleName);
+            throw new CartException(ERROR_USER_NOT_CLIENT_ROLE, CODE_USER_NOT_CLIENT_ROLE);
+        }
+
+        log.debug("Usuario autenticado desde claims con userRoleId: {}", userRoleId);
+        return userRoleId;
+    }
+
     /**
      * Obtiene el userRoleId del usuario basado en su email (username del JWT).
      * Valida que el usuario exista y que tenga roles asignados.
@@ -60,7 +97,7 @@ public class AuthUserServiceImpl implements AuthUserService {
     private Integer getUserRoleIdFromEmail(String email) {
         log.debug("Obteniendo userRoleId para email: {}", email);
         
-        User user = userRepository.findByCredenciales_Correo(email)
+        User user = userRepository.findWithRolesByCredenciales_Correo(email)
                 .orElseThrow(() -> {
                     log.warn("Usuario no encontrado con email: {}", email);
                     return new CartException(ERROR_USER_NOT_FOUND_BY_DOCUMENT, CODE_USER_NOT_FOUND_BY_DOCUMENT);
@@ -88,7 +125,7 @@ public class AuthUserServiceImpl implements AuthUserService {
     private void validateUserHasClientRole(Integer userRoleId) {
         log.debug("Validando que userRoleId {} tenga rol de Cliente", userRoleId);
         
-        UserRole userRole = userRoleRepository.findById(userRoleId)
+        UserRole userRole = userRoleRepository.findWithRoleByUsuarioRolId(userRoleId)
                 .orElseThrow(() -> {
                     log.warn("UserRole no encontrado con ID: {}", userRoleId);
                     return new CartException(ERROR_USER_ROLE_NOT_FOUND, CODE_USER_ROLE_NOT_FOUND);
@@ -96,7 +133,7 @@ public class AuthUserServiceImpl implements AuthUserService {
         
         String roleName = userRole.getRole().getNombreRol();
         
-        if (!"Cliente".equalsIgnoreCase(roleName)) {
+        if (!CLIENT_ROLE.equalsIgnoreCase(roleName)) {
             log.warn("Usuario con userRoleId {} no tiene rol de Cliente. Rol actual: {}", 
                     userRoleId, roleName);
             throw new CartException(ERROR_USER_NOT_CLIENT_ROLE, CODE_USER_NOT_CLIENT_ROLE);
@@ -2,6 +2,7 @@ package com.ecommerce.davivienda.service.cartitem;
 
 import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
 import com.ecommerce.davivienda.models.Response;
+import com.ecommerce.davivienda.models.cart.CartItemBatchRequest;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 
 
@@ -16,14 +17,26 @@ public interface CartItemService {
 
     /**
      * Agrega un producto al carrito.
-     * Si el producto ya existe, actualiza la cantidad con el nuevo valor.
+     * Si el producto ya existe, actualiza la cantidad con el nuevo valor
+     * (o la suma a la existente si la solicitud trae {@code increment=true}).
      * Si el carrito no existe, lo crea automáticamente.
+     * El item se escribe con un único upsert, por lo que solicitudes repetidas no fallan por duplicado.
      *
      * @param request DTO con datos del item a agregar
      * @return Response con mensaje de éxito
      */
     Response<String> addItemToCart(CartItemRequest request);
 
+    /**
+     * Agrega o actualiza varios productos en el carrito del usuario autenticado en una sola operación.
+     * Si un producto ya existe en el carrito, su cantidad se reemplaza por la nueva.
+     * Si un producto aparece repetido en la solicitud, prevalece la última cantidad.
+     *
+     * @param request DTO con el carrito y los items a agregar
+     * @return Response con mensaje de éxito
+     */
+    Response<String> addItemsToCart(CartItemBatchRequest request);
+
 
     /**
      * Elimina un item del carrito.
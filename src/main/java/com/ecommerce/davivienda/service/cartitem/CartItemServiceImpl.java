@@ -1,7 +1,9 @@
 package com.ecommerce.davivienda.service.cartitem;
 
 import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
+import com.ecommerce.davivienda.dto.cart.batch.CartItemBatchItemDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.models.cart.CartItemBatchRequest;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.entity.product.Product;
@@ -12,13 +14,16 @@ import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCart
 import com.ecommerce.davivienda.service.cartitem.validation.cart.CartItemCartValidationService;
 import com.ecommerce.davivienda.service.cartitem.validation.common.CartItemCommonValidationService;
 import com.ecommerce.davivienda.service.cartitem.validation.product.CartItemProductValidationService;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static com.ecommerce.davivienda.constants.Constants.*;
 
@@ -53,12 +58,39 @@ public class CartItemServiceImpl implements CartItemService {
         productValidationService.validateProductActive(product);
         commonValidationService.validateQuantity(request.getQuantity());
         
-        CartItem cartItem = createOrUpdateCartItem(request, cart, product);
-        transactionalService.saveCartItem(cartItem);
-        
+        int quantity = transactionalService.upsertCartItem(cart.getCarritoId(), request.getProductId(),
+                request.getQuantity(), Boolean.TRUE.equals(request.getIncrement()));
+        log.debug("Producto {} con {} unidades en carrito {}", request.getProductId(), quantity, cart.getCarritoId());
+
         return Response.success(SUCCESS_CART_ITEM_ADDED);
     }
 
+    @Override
+    @Transactional
+    public Response<String> addItemsToCart(CartItemBatchRequest request) {
+        log.info("Iniciando proceso para agregar {} productos en batch al carrito {}",
+                request.getItems().size(), request.getCartId());
+
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        Cart cart = transactionalService.findOrCreateCart(userRoleId);
+        cartValidationService.validateCartMatchesUser(cart, request.getCartId());
+
+        // Ordenado por producto para que las filas se bloqueen siempre en el mismo orden
+        Map<Integer, Integer> quantitiesByProduct = new TreeMap<>();
+        for (CartItemBatchItemDto item : request.getItems()) {
+            commonValidationService.validateQuantity(item.getQuantity());
+            quantitiesByProduct.put(item.getProductId(), item.getQuantity());
+        }
+
+        Map<Integer, Product> products = productValidationService.validateProductsExist(quantitiesByProduct.keySet());
+        products.values().forEach(productValidationService::validateProductActive);
+
+        int written = transactionalService.upsertCartItems(cart.getCarritoId(), quantitiesByProduct);
+        log.info("{} productos escritos en batch en carrito {}", written, cart.getCarritoId());
+
+        return Response.success(SUCCESS_CART_ITEMS_BATCH_ADDED);
+    }
+
     @Override
     @Transactional
     public Response<String> removeItemFromCart(Integer itemId) {
@@ -89,35 +121,21 @@ public class CartItemServiceImpl implements CartItemService {
         log.info("Generando resumen del carrito {} con {} items para usuario {}", 
                 cart.getCarritoId(), items.size(), userRoleId);
         
-        return cartItemMapper.toCartSummaryDto(items);
+        return cartItemMapper.toCartSummaryDto(cart, items);
     }
 
     /**
-     * Crea un nuevo CartItem o actualiza uno existente.
-     * Si el producto ya existe en el carrito, actualiza su cantidad.
-     * Si no existe, crea un nuevo item.
+     * Mantiene los totales de los carritos activos cuando cambia el precio o el IVA de un producto.
+     * Se ejecuta una vez confirmada la transacción que modificó el producto.
      *
-     * @param request DTO con datos del item
-     * @param cart Carrito al que pertenece el item
-     * @param product Producto a agregar
-     * @return CartItem creado o actualizado
+     * @param event Evento de cambio en el catálogo
      */
-    private CartItem createOrUpdateCartItem(CartItemRequest request, Cart cart, Product product) {
-        Optional<CartItem> existingItem = transactionalService
-                .findCartItemByCartAndProduct(cart.getCarritoId(), request.getProductId());
-        
-        if (existingItem.isPresent()) {
-            CartItem cartItem = existingItem.get();
-            cartItemMapper.updateQuantity(cartItem, request.getQuantity());
-            log.debug("Producto {} actualizado a {} unidades en carrito {}", 
-                    request.getProductId(), request.getQuantity(), cart.getCarritoId());
-            return cartItem;
-        } else {
-            CartItem cartItem = cartItemMapper.toEntity(request, cart, product);
-            log.debug("Producto {} creado con {} unidades en carrito {}", 
-                    request.getProductId(), request.getQuantity(), cart.getCarritoId());
-            return cartItem;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        int carts = transactionalService.recalculateActiveCartTotals(event.getProductId());
+        if (carts > 0) {
+            log.info("Totales recalculados en {} carritos activos por cambio en producto {}",
+                    carts, event.getProductId());
         }
     }
 }
-
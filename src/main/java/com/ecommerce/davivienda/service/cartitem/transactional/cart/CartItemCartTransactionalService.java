@@ -4,6 +4,7 @@ import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,7 +19,9 @@ public interface CartItemCartTransactionalService {
     /**
      * Busca un carrito ACTIVO existente del usuario o crea uno nuevo.
      * Solo busca carritos con estado activo (id_estado_carrito = 1).
-     * Si no existe carrito activo, crea uno nuevo con estado activo.
+     * Si no existe carrito activo, lo crea con un único INSERT ... ON CONFLICT sobre el
+     * índice único parcial de carritos activos, de modo que dos solicitudes concurrentes
+     * del mismo usuario obtienen el mismo carrito en lugar de crear dos.
      *
      * @param userRoleId ID del rol de usuario
      * @return Cart activo existente o nuevo carrito creado con estado activo
@@ -53,12 +56,47 @@ public interface CartItemCartTransactionalService {
     CartItem saveCartItem(CartItem cartItem);
 
     /**
-     * Elimina un CartItem específico.
+     * Inserta o actualiza un item del carrito con una sola sentencia
+     * INSERT ... ON CONFLICT (carrito_id, producto_id) DO UPDATE, sin lectura previa.
+     * La misma sentencia aplica a los totales del carrito la diferencia de cantidad;
+     * antes se bloquea la fila del carrito para serializar las escrituras sobre él.
+     *
+     * @param cartId ID del carrito
+     * @param productId ID del producto
+     * @param quantity Cantidad a fijar, o a sumar si {@code increment} es true
+     * @param increment true para sumar la cantidad a la existente, false para reemplazarla
+     * @return Cantidad final del item en el carrito
+     */
+    int upsertCartItem(Integer cartId, Integer productId, Integer quantity, boolean increment);
+
+    /**
+     * Inserta o actualiza varios items de un carrito en un único batch JDBC.
+     * Si el producto ya existe en el carrito, su cantidad se reemplaza por la nueva.
+     * Cada sentencia del batch actualiza también los totales del carrito.
+     *
+     * @param cartId ID del carrito
+     * @param quantitiesByProduct Mapa productId → cantidad
+     * @return Número de items escritos
+     */
+    int upsertCartItems(Integer cartId, Map<Integer, Integer> quantitiesByProduct);
+
+    /**
+     * Elimina un CartItem específico y resta sus unidades y montos de los totales
+     * del carrito en la misma sentencia.
      *
      * @param cartItem Item a eliminar
      */
     void deleteCartItem(CartItem cartItem);
 
+    /**
+     * Recalcula desde sus items los totales de los carritos activos que contienen un producto,
+     * tras un cambio de su precio o IVA. Se ejecuta en una transacción propia.
+     *
+     * @param productId ID del producto modificado
+     * @return Número de carritos recalculados
+     */
+    int recalculateActiveCartTotals(Integer productId);
+
     /**
      * Busca un CartItem por ID validando ownership del usuario y carrito ACTIVO.
      * Valida en una sola query que el item existe, pertenece al carrito del usuario
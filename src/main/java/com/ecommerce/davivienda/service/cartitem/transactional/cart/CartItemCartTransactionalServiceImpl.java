@@ -6,10 +6,14 @@ import com.ecommerce.davivienda.repository.cart.CartItemRepository;
 import com.ecommerce.davivienda.repository.cart.CartRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.ecommerce.davivienda.constants.Constants.CART_STATUS_ACTIVE;
@@ -28,25 +32,132 @@ import static com.ecommerce.davivienda.constants.Constants.CART_STATUS_ACTIVE;
 @RequiredArgsConstructor
 public class CartItemCartTransactionalServiceImpl implements CartItemCartTransactionalService {
 
+    /**
+     * Bloquea la fila del carrito antes de escribir sus items. Serializa las escrituras de un mismo
+     * carrito (solo compiten solicitudes del mismo usuario), de modo que la cantidad previa leída
+     * por las sentencias siguientes es la vigente y los totales no pierden deltas concurrentes.
+     */
+    private static final String LOCK_CART_SQL =
+            "SELECT carrito_id FROM carrito WHERE carrito_id = ? FOR UPDATE";
+
+    /**
+     * Aplica a los totales del carrito el delta de las filas de {@code delta}
+     * (carrito_id, producto_id, cantidad, unidades). El IVA por unidad se redondea HALF_UP
+     * a centavos y luego se multiplica por las unidades, igual que {@code PricingUtils}.
+     */
+    private static final String APPLY_TOTALS_DELTA_SQL =
+            "UPDATE carrito c SET total_items = c.total_items + d.unidades, "
+                    + "subtotal = c.subtotal + p.valor_unitario * d.unidades, "
+                    + "iva = c.iva + ROUND(p.valor_unitario * COALESCE(p.iva, 0) / 100, 2) * d.unidades "
+                    + "FROM delta d JOIN productos p ON p.producto_id = d.producto_id "
+                    + "WHERE c.carrito_id = d.carrito_id";
+
+    /**
+     * Upsert sobre la restricción única (carrito_id, producto_id) que, en la misma sentencia,
+     * suma a los totales del carrito la diferencia entre la cantidad final y la previa.
+     * Una sentencia preparada por item, enviada en un único batch.
+     */
+    private static final String UPSERT_CART_ITEM_SQL = upsertWithTotalsSql("cantidad = EXCLUDED.cantidad");
+
+    /**
+     * Igual que {@link #UPSERT_CART_ITEM_SQL} pero retornando la cantidad final del item.
+     */
+    private static final String SET_CART_ITEM_SQL = UPSERT_CART_ITEM_SQL + " RETURNING d.cantidad";
+
+    /**
+     * Upsert que suma la cantidad a la existente en lugar de reemplazarla.
+     */
+    private static final String INCREMENT_CART_ITEM_SQL =
+            upsertWithTotalsSql("cantidad = productos_carrito.cantidad + EXCLUDED.cantidad")
+                    + " RETURNING d.cantidad";
+
+    /**
+     * Elimina un item y resta su cantidad y montos de los totales del carrito en la misma sentencia.
+     */
+    private static final String DELETE_CART_ITEM_SQL =
+            "WITH item AS ("
+                    + "DELETE FROM productos_carrito WHERE productos_carrito_id = ? "
+                    + "RETURNING carrito_id, producto_id, cantidad), "
+                    + "delta AS (SELECT carrito_id, producto_id, cantidad, -cantidad AS unidades FROM item) "
+                    + APPLY_TOTALS_DELTA_SQL;
+
+    /**
+     * Bloquea, en orden de ID, los carritos activos que contienen un producto.
+     */
+    private static final String LOCK_ACTIVE_CARTS_WITH_PRODUCT_SQL =
+            "SELECT c.carrito_id FROM carrito c "
+                    + "WHERE c.estado_carrito_id = " + CART_STATUS_ACTIVE + " "
+                    + "AND EXISTS (SELECT 1 FROM productos_carrito pc "
+                    + "WHERE pc.carrito_id = c.carrito_id AND pc.producto_id = ?) "
+                    + "ORDER BY c.carrito_id FOR UPDATE";
+
+    /**
+     * Recalcula desde sus items los totales de un carrito.
+     */
+    private static final String RECALCULATE_CART_TOTALS_SQL =
+            "UPDATE carrito c SET total_items = t.total_items, subtotal = t.subtotal, iva = t.iva "
+                    + "FROM (SELECT COALESCE(SUM(pc.cantidad), 0) AS total_items, "
+                    + "COALESCE(SUM(p.valor_unitario * pc.cantidad), 0) AS subtotal, "
+                    + "COALESCE(SUM(ROUND(p.valor_unitario * COALESCE(p.iva, 0) / 100, 2) * pc.cantidad), 0) AS iva "
+                    + "FROM productos_carrito pc JOIN productos p ON p.producto_id = pc.producto_id "
+                    + "WHERE pc.carrito_id = ?) t "
+                    + "WHERE c.carrito_id = ?";
+
+    /**
+     * Crea el carrito activo del usuario apoyándose en el índice único parcial
+     * {@code uq_carrito_usuario_activo}. Si otra solicitud lo creó primero, el DO UPDATE
+     * (sin cambios reales) hace que RETURNING entregue el carrito existente.
+     * El estado va como literal: la inferencia del índice parcial no admite parámetros.
+     */
+    private static final String CREATE_ACTIVE_CART_SQL =
+            "INSERT INTO carrito (usuario_rol_id, estado_carrito_id) VALUES (?, " + CART_STATUS_ACTIVE + ") "
+                    + "ON CONFLICT (usuario_rol_id) WHERE estado_carrito_id = " + CART_STATUS_ACTIVE + " "
+                    + "DO UPDATE SET estado_carrito_id = EXCLUDED.estado_carrito_id "
+                    + "RETURNING carrito_id";
+
+    /**
+     * Construye el upsert de un item que actualiza los totales del carrito en la misma sentencia.
+     * Parámetros: carrito_id, producto_id, cantidad. Todas las CTE leen la misma instantánea,
+     * por lo que {@code previo} ve la cantidad anterior al upsert.
+     *
+     * @param onConflictSet Asignación del DO UPDATE cuando el producto ya está en el carrito
+     * @return Sentencia SQL
+     */
+    private static String upsertWithTotalsSql(String onConflictSet) {
+        return "WITH params AS (SELECT ?::integer AS carrito_id, ?::integer AS producto_id, ?::integer AS cantidad), "
+                + "previo AS (SELECT pc.cantidad FROM productos_carrito pc "
+                + "JOIN params ON pc.carrito_id = params.carrito_id AND pc.producto_id = params.producto_id), "
+                + "item AS (INSERT INTO productos_carrito (carrito_id, producto_id, cantidad) "
+                + "SELECT carrito_id, producto_id, cantidad FROM params "
+                + "ON CONFLICT (carrito_id, producto_id) DO UPDATE SET " + onConflictSet + " "
+                + "RETURNING carrito_id, producto_id, cantidad), "
+                + "delta AS (SELECT carrito_id, producto_id, cantidad, "
+                + "cantidad - COALESCE((SELECT cantidad FROM previo), 0) AS unidades FROM item) "
+                + APPLY_TOTALS_DELTA_SQL;
+    }
+
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
     public Cart findOrCreateCart(Integer userRoleId) {
         log.debug("Buscando carrito ACTIVO para usuario {}", userRoleId);
-        
-        return cartRepository.findByUsuarioRolIdAndEstadoCarritoId(userRoleId, CART_STATUS_ACTIVE)
-                .orElseGet(() -> {
-                    Cart newCart = Cart.builder()
-                            .usuarioRolId(userRoleId)
-                            .estadoCarritoId(CART_STATUS_ACTIVE)
-                            .build();
-                    Cart savedCart = cartRepository.save(newCart);
-                    log.debug("Carrito {} creado con estado {} (Activo) para usuario {}", 
-                            savedCart.getCarritoId(), CART_STATUS_ACTIVE, userRoleId);
-                    return savedCart;
-                });
+
+        Optional<Cart> existing = cartRepository.findByUsuarioRolIdAndEstadoCarritoId(userRoleId, CART_STATUS_ACTIVE);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Integer cartId = jdbcTemplate.queryForObject(CREATE_ACTIVE_CART_SQL, Integer.class, userRoleId);
+        log.debug("Carrito {} obtenido o creado con estado {} (Activo) para usuario {}",
+                cartId, CART_STATUS_ACTIVE, userRoleId);
+        return Cart.builder()
+                .carritoId(cartId)
+                .usuarioRolId(userRoleId)
+                .estadoCarritoId(CART_STATUS_ACTIVE)
+                .build();
     }
 
 
@@ -73,11 +184,51 @@ public class CartItemCartTransactionalServiceImpl implements CartItemCartTransac
         return saved;
     }
 
+    @Override
+    @Transactional
+    public int upsertCartItem(Integer cartId, Integer productId, Integer quantity, boolean increment) {
+        log.debug("Escribiendo producto {} ({} {}) en carrito {}",
+                productId, increment ? "sumando" : "fijando", quantity, cartId);
+        lockCart(cartId);
+        return jdbcTemplate.queryForObject(increment ? INCREMENT_CART_ITEM_SQL : SET_CART_ITEM_SQL,
+                Integer.class, cartId, productId, quantity);
+    }
+
+    @Override
+    @Transactional
+    public int upsertCartItems(Integer cartId, Map<Integer, Integer> quantitiesByProduct) {
+        log.debug("Escribiendo {} items en batch para carrito {}", quantitiesByProduct.size(), cartId);
+
+        List<Object[]> batchArgs = new ArrayList<>(quantitiesByProduct.size());
+        quantitiesByProduct.forEach((productId, quantity) ->
+                batchArgs.add(new Object[]{cartId, productId, quantity}));
+
+        lockCart(cartId);
+        jdbcTemplate.batchUpdate(UPSERT_CART_ITEM_SQL, batchArgs);
+        return batchArgs.size();
+    }
+
     @Override
     @Transactional
     public void deleteCartItem(CartItem cartItem) {
         log.debug("Eliminando CartItem con ID: {}", cartItem.getProductosCarritoId());
-        cartItemRepository.delete(cartItem);
+        lockCart(cartItem.getCart().getCarritoId());
+        jdbcTemplate.update(DELETE_CART_ITEM_SQL, cartItem.getProductosCarritoId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recalculateActiveCartTotals(Integer productId) {
+        List<Integer> cartIds = jdbcTemplate.queryForList(LOCK_ACTIVE_CARTS_WITH_PRODUCT_SQL, Integer.class, productId);
+        if (cartIds.isEmpty()) {
+            return 0;
+        }
+        log.debug("Recalculando totales de {} carritos activos con el producto {}", cartIds.size(), productId);
+
+        List<Object[]> batchArgs = new ArrayList<>(cartIds.size());
+        cartIds.forEach(cartId -> batchArgs.add(new Object[]{cartId, cartId}));
+        jdbcTemplate.batchUpdate(RECALCULATE_CART_TOTALS_SQL, batchArgs);
+        return cartIds.size();
     }
 
     @Override
@@ -86,5 +237,9 @@ public class CartItemCartTransactionalServiceImpl implements CartItemCartTransac
         log.debug("Buscando CartItem con ID {} para usuario {} en carrito ACTIVO (con validación ownership)", itemId, userRoleId);
         return cartItemRepository.findByProductIdAndUserRole(itemId, userRoleId);
     }
+
+    private void lockCart(Integer cartId) {
+        jdbcTemplate.queryForObject(LOCK_CART_SQL, Integer.class, cartId);
+    }
 }
 
@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,5 +31,12 @@ public class CartItemProductTransactionalServiceImpl implements CartItemProductT
         log.debug("Buscando producto con ID: {}", productId);
         return productRepository.findById(productId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findProductsByIds(Collection<Integer> productIds) {
+        log.debug("Buscando {} productos por ID", productIds.size());
+        return productRepository.findAllById(productIds);
+    }
 }
 
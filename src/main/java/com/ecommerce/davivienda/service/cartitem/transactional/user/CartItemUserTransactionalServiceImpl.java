@@ -2,8 +2,8 @@ package com.ecommerce.davivienda.service.cartitem.transactional.user;
 
 import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.entity.user.User;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
 import com.ecommerce.davivienda.repository.user.UserRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,22 +23,21 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CartItemUserTransactionalServiceImpl implements CartItemUserTransactionalService {
 
-    private final DocumentTypeRepository documentTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRepository userRepository;
 
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<DocumentType> findDocumentTypeByCodigo(String codigo) {
         log.debug("Buscando tipo de documento con código: {}", codigo);
-        return documentTypeRepository.findByCodigo(codigo);
+        return referenceDataRegistry.findDocumentTypeByCode(codigo);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findUserByDocumentTypeAndNumber(Integer documentoId, String numeroDeDoc) {
         log.debug("Buscando usuario con documento ID: {} y número: {}", documentoId, numeroDeDoc);
-        return userRepository.findByDocumentType_DocumentoIdAndNumeroDeDoc(documentoId, numeroDeDoc);
+        return userRepository.findWithRolesByDocumentType_DocumentoIdAndNumeroDeDoc(documentoId, numeroDeDoc);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.service.cartitem.validation.cart;
 
+import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 
 /**
@@ -23,5 +24,14 @@ public interface CartItemCartValidationService {
      */
     CartItem validateItemBelongsToUser(Integer itemId, Integer userRoleId);
 
+    /**
+     * Valida que el carrito indicado en la solicitud sea el carrito ACTIVO del usuario autenticado.
+     *
+     * @param activeCart Carrito activo del usuario
+     * @param requestedCartId ID del carrito enviado en la solicitud
+     * @throws com.ecommerce.davivienda.exception.cart.CartException si el carrito no corresponde al usuario
+     */
+    void validateCartMatchesUser(Cart activeCart, Integer requestedCartId);
+
 }
 
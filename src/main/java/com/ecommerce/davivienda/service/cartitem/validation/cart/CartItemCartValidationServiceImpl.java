@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.service.cartitem.validation.cart;
 
+import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCartTransactionalService;
@@ -44,5 +45,14 @@ public class CartItemCartValidationServiceImpl implements CartItemCartValidation
         
     }
 
+    @Override
+    public void validateCartMatchesUser(Cart activeCart, Integer requestedCartId) {
+        if (!activeCart.getCarritoId().equals(requestedCartId)) {
+            log.warn("El carrito {} no es el carrito activo del usuario {}",
+                    requestedCartId, activeCart.getUsuarioRolId());
+            throw new CartException(ERROR_CART_UNAUTHORIZED, CODE_CART_UNAUTHORIZED);
+        }
+    }
+
 }
 
@@ -2,6 +2,9 @@ package com.ecommerce.davivienda.service.cartitem.validation.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Servicio de validación de productos para items del carrito.
  * Responsabilidad: Validar existencia y estado de productos.
@@ -27,5 +30,14 @@ public interface CartItemProductValidationService {
      * @throws com.ecommerce.davivienda.exception.product.ProductException si el producto está inactivo
      */
     void validateProductActive(Product product);
+
+    /**
+     * Valida que todos los productos existan, consultándolos en una sola query.
+     *
+     * @param productIds IDs de los productos a validar
+     * @return Mapa productId → producto
+     * @throws com.ecommerce.davivienda.exception.product.ProductException si algún producto no existe
+     */
+    Map<Integer, Product> validateProductsExist(Collection<Integer> productIds);
 }
 
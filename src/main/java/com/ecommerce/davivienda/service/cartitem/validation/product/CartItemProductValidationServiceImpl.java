@@ -7,6 +7,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
 import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
@@ -49,5 +56,26 @@ public class CartItemProductValidationServiceImpl implements CartItemProductVali
             throw new ProductException(ERROR_PRODUCT_INACTIVE, CODE_PRODUCT_INACTIVE);
         }
     }
+
+    @Override
+    public Map<Integer, Product> validateProductsExist(Collection<Integer> productIds) {
+        log.debug("Validando existencia de {} productos", productIds.size());
+
+        Map<Integer, Product> productsById = transactionalService.findProductsByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductoId, Function.identity()));
+
+        List<Integer> missingIds = productIds.stream()
+                .filter(productId -> !productsById.containsKey(productId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("Productos no encontrados con IDs: {}", missingIds);
+            String message = String.format("[%s] %s con ID: %s",
+                    CODE_PRODUCT_NOT_FOUND,
+                    ERROR_PRODUCT_NOT_FOUND,
+                    missingIds);
+            throw new ProductException(message, CODE_PRODUCT_NOT_FOUND);
+        }
+        return productsById;
+    }
 }
 
@@ -5,11 +5,10 @@ import com.ecommerce.davivienda.dto.category.CategoryResponseDto;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.exception.product.ProductException;
 import com.ecommerce.davivienda.mapper.category.CategoryMapper;
-import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,26 +24,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final CategoryMapper categoryMapper;
 
     @Override
-    @Transactional(readOnly = true)
     public List<CategoryResponseDto> getAllCategories() {
         log.debug("Listando todas las categorías");
 
-        List<Category> categories = categoryRepository.findAll();
+        List<Category> categories = referenceDataRegistry.findAllCategories();
         log.debug("Se encontraron {} categorías", categories.size());
 
         return categoryMapper.toResponseDtoList(categories);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public CategoryResponseDto getCategoryById(Integer id) {
         log.debug("Obteniendo categoría por ID: {}", id);
 
-        Category category = categoryRepository.findById(id)
+        Category category = referenceDataRegistry.findCategoryById(id)
                 .orElseThrow(() -> {
                     log.error("Categoría no encontrada con ID: {}", id);
                     return new ProductException(
@@ -58,11 +55,10 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public CategoryResponseDto getCategoryByName(String name) {
         log.debug("Buscando categoría por nombre: {}", name);
 
-        Category category = categoryRepository.findByNombre(name)
+        Category category = referenceDataRegistry.findCategoryByName(name)
                 .orElseThrow(() -> {
                     log.error("Categoría no encontrada con nombre: {}", name);
                     return new ProductException(
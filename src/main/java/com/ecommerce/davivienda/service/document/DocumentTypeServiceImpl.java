@@ -4,11 +4,10 @@ import com.ecommerce.davivienda.dto.document.DocumentTypeResponseDto;
 import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.exception.document.DocumentTypeException;
 import com.ecommerce.davivienda.mapper.document.DocumentTypeMapper;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -26,15 +25,14 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class DocumentTypeServiceImpl implements DocumentTypeService {
 
-    private final DocumentTypeRepository documentTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final DocumentTypeMapper documentTypeMapper;
 
     @Override
-    @Transactional(readOnly = true)
     public List<DocumentTypeResponseDto> findAll() {
         log.debug("Consultando todos los tipos de documento");
         
-        List<DocumentType> documentTypes = documentTypeRepository.findAll();
+        List<DocumentType> documentTypes = referenceDataRegistry.findAllDocumentTypes();
         
         log.debug("Se encontraron {} tipos de documento", documentTypes.size());
         return documentTypeMapper.toResponseDtoList(documentTypes);
@@ -42,11 +40,10 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
 
   
     @Override
-    @Transactional(readOnly = true)
     public DocumentTypeResponseDto findByCode(String codigo) {
         log.debug("Buscando tipo de documento con código: {}", codigo);
         
-        DocumentType documentType = documentTypeRepository.findByCodigo(codigo)
+        DocumentType documentType = referenceDataRegistry.findDocumentTypeByCode(codigo)
                 .orElseThrow(() -> new DocumentTypeException(
                         ERROR_DOCUMENT_TYPE_NOT_FOUND_BY_CODE,
                         CODE_DOCUMENT_TYPE_NOT_FOUND_BY_CODE
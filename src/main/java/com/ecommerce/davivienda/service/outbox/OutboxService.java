@@ -0,0 +1,39 @@
+package com.ecommerce.davivienda.service.outbox;
+
+/**
+ * Servicio del outbox transaccional: registra eventos de cambio de estado en la misma
+ * transacción que el cambio y los publica hacia el sink configurado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface OutboxService {
+
+    /**
+     * Registra un evento en el outbox. Debe invocarse dentro de la transacción del cambio:
+     * el evento se confirma o se revierte junto con él.
+     *
+     * @param aggregateType Tipo de agregado (ver Constants.OUTBOX_AGGREGATE_*)
+     * @param aggregateId ID del agregado
+     * @param eventType Tipo de evento (ver Constants.OUTBOX_EVENT_*)
+     * @param payload Carga del evento (se serializa a JSON)
+     */
+    void record(String aggregateType, Object aggregateId, String eventType, Object payload);
+
+    /**
+     * Reclama un lote de eventos pendientes y los publica fuera de la transacción del reclamo.
+     * Un evento que falla se reprograma con backoff (o se descarta al agotar los intentos) y el
+     * lote continúa con los siguientes; los publicados se marcan como publicados.
+     *
+     * @param batchSize Máximo de eventos a publicar
+     * @return Número de eventos publicados
+     */
+    int relayBatch(int batchSize);
+
+    /**
+     * Elimina en lotes los eventos publicados hace más de {@code outbox.retention}.
+     *
+     * @return Número de eventos eliminados
+     */
+    int purgePublished();
+}
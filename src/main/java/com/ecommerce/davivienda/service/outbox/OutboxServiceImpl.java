@@ -0,0 +1,165 @@
+package com.ecommerce.davivienda.service.outbox;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import com.ecommerce.davivienda.service.outbox.sink.OutboxEventSink;
+import com.ecommerce.davivienda.service.outbox.transactional.event.OutboxEventTransactionalService;
+import com.ecommerce.davivienda.util.BatchUtils;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del outbox transaccional.
+ *
+ * <p>Los eventos se reclaman en una transacción corta ({@code FOR UPDATE SKIP LOCKED} más un
+ * reclamo de {@code outbox.relay.claim-lease}) y se envían al sink fuera de ella, de modo que varias
+ * instancias pueden publicar en paralelo sin repetir eventos y ninguna conexión ni bloqueo queda
+ * retenido durante las llamadas al sink. Si la instancia cae antes de marcar un evento, este se
+ * reenvía cuando vence el reclamo: la entrega es al menos una vez y los consumidores deben
+ * descartar duplicados por {@code eventId}.</p>
+ *
+ * <p>Un evento que falla se reprograma con backoff exponencial ({@code outbox.relay.retry-backoff},
+ * hasta {@code outbox.relay.max-backoff}) sin bloquear a los siguientes; al agotar
+ * {@code outbox.relay.max-attempts} se descarta (dead letter, {@code fecha_descarte}) y queda en la
+ * tabla para revisión. Cada lote deja de enviar eventos al superar {@code outbox.relay.batch-time-budget}
+ * y libera los que no alcanzó a enviar.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventTransactionalService eventTransactionalService;
+    private final OutboxEventSink sink;
+    private final JsonUtils jsonUtils;
+    private final Duration retention;
+    private final int purgeBatchSize;
+    private final Duration claimLease;
+    private final Duration batchTimeBudget;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+
+    public OutboxServiceImpl(
+            OutboxEventTransactionalService eventTransactionalService,
+            OutboxEventSink sink,
+            JsonUtils jsonUtils,
+            @Value("${outbox.retention:7d}") Duration retention,
+            @Value("${outbox.purge-batch-size:500}") int purgeBatchSize,
+            @Value("${outbox.relay.claim-lease:5m}") Duration claimLease,
+            @Value("${outbox.relay.batch-time-budget:30s}") Duration batchTimeBudget,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${outbox.relay.max-backoff:10m}") Duration maxBackoff) {
+        this.eventTransactionalService = eventTransactionalService;
+        this.sink = sink;
+        this.jsonUtils = jsonUtils;
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+        this.claimLease = claimLease;
+        this.batchTimeBudget = batchTimeBudget;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        try {
+            eventTransactionalService.insert(aggregateType, String.valueOf(aggregateId), eventType,
+                    jsonUtils.serializeToJson(payload), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + eventType, e);
+        }
+    }
+
+    @Override
+    public int relayBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventDto> events = eventTransactionalService.claimBatch(batchSize, now, now.plus(claimLease));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + batchTimeBudget.toNanos();
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<Long> unsentIds = new ArrayList<>();
+        for (OutboxEventDto event : events) {
+            if (System.nanoTime() - deadline > 0) {
+                unsentIds.add(event.getEventId());
+                continue;
+            }
+            try {
+                sink.publish(event);
+                publishedIds.add(event.getEventId());
+            } catch (RuntimeException e) {
+                recordFailure(event, e);
+            }
+        }
+
+        eventTransactionalService.markPublished(publishedIds, LocalDateTime.now());
+        if (!unsentIds.isEmpty()) {
+            log.warn("Lote del outbox superó {}: {} eventos liberados sin enviar", batchTimeBudget, unsentIds.size());
+            eventTransactionalService.release(unsentIds, LocalDateTime.now());
+        }
+        log.debug("Eventos outbox publicados: {} de {}", publishedIds.size(), events.size());
+        return publishedIds.size();
+    }
+
+    @Override
+    public int purgePublished() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(retention);
+        int total = BatchUtils.drain(purgeBatchSize,
+                batchSize -> eventTransactionalService.deletePublishedBatch(publishedBefore, batchSize));
+
+        if (total > 0) {
+            log.info("Eventos outbox publicados eliminados: {}", total);
+        }
+        return total;
+    }
+
+    /**
+     * Reprograma un evento fallido con backoff exponencial o lo descarta si agotó los intentos.
+     *
+     * @param event Evento que falló
+     * @param cause Error del sink
+     */
+    private void recordFailure(OutboxEventDto event, RuntimeException cause) {
+        int attempts = event.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            log.error("Evento outbox {} ({}) descartado tras {} intentos: {}",
+                    event.getEventId(), event.getEventType(), attempts, cause.getMessage());
+            eventTransactionalService.recordFailure(event.getEventId(), cause.getMessage(), now, now);
+            return;
+        }
+
+        Duration backoff = backoff(attempts);
+        log.warn("No se pudo publicar el evento outbox {} ({}), intento {} de {}, reintento en {}: {}",
+                event.getEventId(), event.getEventType(), attempts, maxAttempts, backoff, cause.getMessage());
+        eventTransactionalService.recordFailure(event.getEventId(), cause.getMessage(), now.plus(backoff), null);
+    }
+
+    /**
+     * Backoff exponencial: {@code retryBackoff × 2^(intentos - 1)}, acotado por {@code maxBackoff}.
+     *
+     * @param attempts Intentos realizados (1 o más)
+     * @return Espera hasta el siguiente intento
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
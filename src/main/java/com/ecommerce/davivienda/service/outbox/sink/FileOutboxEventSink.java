@@ -0,0 +1,64 @@
+package com.ecommerce.davivienda.service.outbox.sink;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sink que agrega cada evento como una línea JSON (NDJSON) al archivo {@code outbox.sink.file}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.sink", name = "type", havingValue = "file")
+public class FileOutboxEventSink implements OutboxEventSink {
+
+    private final JsonUtils jsonUtils;
+    private final BufferedWriter writer;
+
+    public FileOutboxEventSink(
+            JsonUtils jsonUtils,
+            @Value("${outbox.sink.file:outbox-events.ndjson}") Path file) {
+        this.jsonUtils = jsonUtils;
+        try {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo del outbox: " + file, e);
+        }
+        log.info("Eventos del outbox se publicarán en el archivo {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publish(OutboxEventDto event) {
+        try {
+            writer.write(jsonUtils.serializeToJson(event));
+            writer.newLine();
+            writer.flush();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.getEventId(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el evento " + event.getEventId(), e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        writer.close();
+    }
+}
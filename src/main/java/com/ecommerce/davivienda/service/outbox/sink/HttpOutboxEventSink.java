@@ -0,0 +1,65 @@
+package com.ecommerce.davivienda.service.outbox.sink;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Sink que envía cada evento con un POST JSON a {@code outbox.sink.url}.
+ * Cualquier respuesta distinta de 2xx deja el evento pendiente para reintento.
+ * El header {@code Outbox-Event-Id} permite al receptor descartar duplicados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.sink", name = "type", havingValue = "http")
+public class HttpOutboxEventSink implements OutboxEventSink {
+
+    private static final String EVENT_ID_HEADER = "Outbox-Event-Id";
+
+    private final JsonUtils jsonUtils;
+    private final RestClient restClient;
+
+    public HttpOutboxEventSink(
+            JsonUtils jsonUtils,
+            @Value("${outbox.sink.url}") String url,
+            @Value("${outbox.sink.timeout:5s}") Duration timeout) {
+        this.jsonUtils = jsonUtils;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) timeout.toMillis());
+        requestFactory.setReadTimeout((int) timeout.toMillis());
+        this.restClient = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+        log.info("Eventos del outbox se publicarán vía HTTP en {}", url);
+    }
+
+    @Override
+    public void publish(OutboxEventDto event) {
+        String body;
+        try {
+            body = jsonUtils.serializeToJson(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.getEventId(), e);
+        }
+
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(EVENT_ID_HEADER, String.valueOf(event.getEventId()))
+                .body(body)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.davivienda.service.outbox.sink;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sink por defecto: escribe cada evento en el log de la aplicación.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.sink", name = "type", havingValue = "log", matchIfMissing = true)
+public class LogOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public void publish(OutboxEventDto event) {
+        log.info("Evento outbox {} - {} {} {}: {}",
+                event.getEventId(),
+                event.getEventType(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getPayload());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.davivienda.service.outbox.sink;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+
+/**
+ * Destino al que el relay publica los eventos del outbox.
+ * La implementación activa se elige con {@code outbox.sink.type} (log, file o http).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publica un evento. Si retorna sin lanzar excepción el evento se da por entregado;
+     * si lanza, el evento sigue pendiente y el relay lo reintenta con backoff.
+     *
+     * @param event Evento a publicar
+     */
+    void publish(OutboxEventDto event);
+}
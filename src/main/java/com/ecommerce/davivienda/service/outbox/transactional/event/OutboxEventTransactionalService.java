@@ -0,0 +1,75 @@
+package com.ecommerce.davivienda.service.outbox.transactional.event;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio transaccional para la tabla outbox_eventos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface OutboxEventTransactionalService {
+
+    /**
+     * Inserta un evento pendiente de publicar.
+     * Debe ejecutarse dentro de la transacción del cambio que describe.
+     *
+     * @param aggregateType Tipo de agregado
+     * @param aggregateId ID del agregado
+     * @param eventType Tipo de evento
+     * @param payload Carga del evento en JSON
+     * @param createdAt Fecha de registro
+     */
+    void insert(String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime createdAt);
+
+    /**
+     * Reclama un lote de eventos pendientes cuyo {@code proximo_intento} ya pasó, en orden de registro.
+     * La selección usa {@code FOR UPDATE SKIP LOCKED} y el reclamo se confirma en una transacción
+     * corta que mueve {@code proximo_intento} a {@code claimedUntil}: la publicación ocurre fuera de
+     * ella y otras instancias no toman esos eventos hasta que vence el reclamo.
+     *
+     * @param limit Máximo de eventos a reclamar
+     * @param now Fecha actual
+     * @param claimedUntil Vencimiento del reclamo (si la instancia cae, el evento vuelve a estar disponible)
+     * @return Eventos reclamados en orden de {@code eventId}
+     */
+    List<OutboxEventDto> claimBatch(int limit, LocalDateTime now, LocalDateTime claimedUntil);
+
+    /**
+     * Marca eventos como publicados.
+     *
+     * @param eventIds IDs de los eventos
+     * @param publishedAt Fecha de publicación
+     */
+    void markPublished(List<Long> eventIds, LocalDateTime publishedAt);
+
+    /**
+     * Registra un intento fallido de publicación y programa el siguiente.
+     *
+     * @param eventId ID del evento
+     * @param error Mensaje del error (se trunca a 500 caracteres)
+     * @param nextAttemptAt Fecha a partir de la cual se reintenta
+     * @param discardedAt Fecha de descarte si se agotaron los intentos (dead letter), o null si sigue pendiente
+     */
+    void recordFailure(Long eventId, String error, LocalDateTime nextAttemptAt, LocalDateTime discardedAt);
+
+    /**
+     * Libera el reclamo de eventos que no se alcanzaron a publicar, sin contar un intento.
+     *
+     * @param eventIds IDs de los eventos
+     * @param availableAt Fecha desde la cual vuelven a estar disponibles
+     */
+    void release(List<Long> eventIds, LocalDateTime availableAt);
+
+    /**
+     * Elimina un lote de eventos publicados antes de la fecha indicada.
+     *
+     * @param publishedBefore Fecha límite de publicación
+     * @param limit Máximo de eventos a eliminar
+     * @return Número de eventos eliminados
+     */
+    int deletePublishedBatch(LocalDateTime publishedBefore, int limit);
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.davivienda.service.outbox.transactional.event;
+
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementación del servicio transaccional del outbox con JdbcTemplate.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxEventTransactionalServiceImpl implements OutboxEventTransactionalService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_eventos (tipo_agregado, agregado_id, tipo_evento, carga, fecha_creacion) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String CLAIM_BATCH_SQL =
+            "UPDATE outbox_eventos SET proximo_intento = ? WHERE evento_id IN ("
+                    + "SELECT evento_id FROM outbox_eventos "
+                    + "WHERE fecha_publicacion IS NULL AND fecha_descarte IS NULL AND proximo_intento <= ? "
+                    + "ORDER BY evento_id LIMIT ? FOR UPDATE SKIP LOCKED) "
+                    + "RETURNING evento_id, tipo_agregado, agregado_id, tipo_evento, carga, fecha_creacion, intentos";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE outbox_eventos SET fecha_publicacion = ?, intentos = intentos + 1, ultimo_error = NULL "
+                    + "WHERE evento_id = ?";
+
+    private static final String RECORD_FAILURE_SQL =
+            "UPDATE outbox_eventos SET intentos = intentos + 1, ultimo_error = ?, proximo_intento = ?, "
+                    + "fecha_descarte = ? WHERE evento_id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE outbox_eventos SET proximo_intento = ? WHERE evento_id = ?";
+
+    private static final String DELETE_PUBLISHED_BATCH_SQL =
+            "DELETE FROM outbox_eventos WHERE evento_id IN ("
+                    + "SELECT evento_id FROM outbox_eventos WHERE fecha_publicacion < ? "
+                    + "LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insert(String aggregateType, String aggregateId, String eventType, String payload,
+                       LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_SQL, aggregateType, aggregateId, eventType, payload, createdAt);
+        log.debug("Evento {} registrado en outbox para {} {}", eventType, aggregateType, aggregateId);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxEventDto> claimBatch(int limit, LocalDateTime now, LocalDateTime claimedUntil) {
+        List<OutboxEventDto> events = new ArrayList<>(jdbcTemplate.query(CLAIM_BATCH_SQL,
+                (rs, rowNum) -> OutboxEventDto.builder()
+                        .eventId(rs.getLong("evento_id"))
+                        .aggregateType(rs.getString("tipo_agregado"))
+                        .aggregateId(rs.getString("agregado_id"))
+                        .eventType(rs.getString("tipo_evento"))
+                        .payload(rs.getString("carga"))
+                        .createdAt(rs.getObject("fecha_creacion", LocalDateTime.class))
+                        .attempts(rs.getInt("intentos"))
+                        .build(),
+                claimedUntil, now, limit));
+        events.sort(Comparator.comparing(OutboxEventDto::getEventId));
+        return events;
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(List<Long> eventIds, LocalDateTime publishedAt) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            batchArgs.add(new Object[]{publishedAt, eventId});
+        }
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, batchArgs);
+    }
+
+    @Override
+    @Transactional
+    public void recordFailure(Long eventId, String error, LocalDateTime nextAttemptAt, LocalDateTime discardedAt) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        jdbcTemplate.update(RECORD_FAILURE_SQL, truncated, nextAttemptAt, discardedAt, eventId);
+    }
+
+    @Override
+    @Transactional
+    public void release(List<Long> eventIds, LocalDateTime availableAt) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            batchArgs.add(new Object[]{availableAt, eventId});
+        }
+        jdbcTemplate.batchUpdate(RELEASE_SQL, batchArgs);
+    }
+
+    @Override
+    @Transactional
+    public int deletePublishedBatch(LocalDateTime publishedBefore, int limit) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_BATCH_SQL, publishedBefore, limit);
+    }
+}
@@ -2,6 +2,10 @@ package com.ecommerce.davivienda.service.payment;
 
 import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Interfaz de servicio principal para procesamiento de pagos.
@@ -22,9 +26,82 @@ public interface PaymentService {
      * 4. Crea registro de pago en estado "Pendiente"
      * 5. Crea registro específico de débito o crédito
      * 
+     * Con clave de idempotencia, una solicitud repetida retorna la respuesta original sin volver
+     * a procesar el pago; si la original sigue en ejecución, espera a que termine. Un pago fallido
+     * no guarda respuesta, por lo que puede reintentarse con la misma clave.
+     * 
      * @param request Solicitud con cartId y datos encriptados de tarjeta
+     * @param idempotencyKey Valor del header Idempotency-Key (opcional, puede ser null)
      * @return PaymentProcessResponseDto con información del pago creado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la clave de idempotencia
+     *         es inválida o ya fue usada con una solicitud diferente
      */
-    PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request);
-}
+    PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request, String idempotencyKey);
+
+    /**
+     * Acepta un pago para checkout asíncrono (payment.checkout.mode=async).
+     * 
+     * Desencripta y valida la tarjeta y el carrito, asigna el número de referencia y encola el pago
+     * en la tabla durable pago_cola con los mismos datos de tarjeta que guarda el detalle del pago
+     * (titular y número encriptados, vencimiento; nunca el CVV); el pago, su detalle, el descuento de stock y el cambio de estado
+     * del carrito los realiza después un worker. Admite la misma clave de idempotencia que
+     * {@link #processPayment(PaymentProcessRequestDto, String)}.
+     *
+     * @param request Solicitud con cartId y datos encriptados de tarjeta
+     * @param idempotencyKey Valor del header Idempotency-Key (opcional, puede ser null)
+     * @return PaymentProcessResponseDto con el número de referencia y estado EN_COLA
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la solicitud es inválida
+     *         o el carrito ya tiene un pago en cola
+     */
+    PaymentProcessResponseDto enqueuePayment(PaymentProcessRequestDto request, String idempotencyKey);
+
+    /**
+     * Obtiene los IDs de los pagos en cola más antiguos cuyo próximo intento ya llegó.
+     *
+     * @param limit Número máximo de IDs
+     * @return IDs en orden de llegada
+     */
+    List<Long> findQueuedPaymentIds(int limit);
 
+    /**
+     * Procesa un pago de la cola en una transacción: valida de nuevo el carrito y la tarjeta,
+     * crea el pago con la referencia asignada al encolar, descuenta el stock y marca la fila como COMPLETADO.
+     *
+     * @param queueId ID de la fila en la cola
+     * @return true si se procesó; false si ya fue procesado o lo tiene otro worker
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si el pago no se puede procesar
+     * @throws com.ecommerce.davivienda.exception.stock.InsufficientStockException si no hay stock suficiente
+     */
+    boolean processQueuedPayment(Long queueId);
+
+    /**
+     * Marca un pago de la cola como FALLIDO con el error que impidió procesarlo.
+     *
+     * @param queueId ID de la fila en la cola
+     * @param errorCode Código de error
+     * @param errorMessage Mensaje de error
+     */
+    void failQueuedPayment(Long queueId, String errorCode, String errorMessage);
+
+    /**
+     * Deja un pago en cola (EN_COLA) para reintentarlo a partir de {@code nextAttemptAt}.
+     *
+     * @param queueId ID de la fila en la cola
+     * @param countAttempt true si el error cuenta para el máximo de intentos (los transitorios no cuentan)
+     * @param errorMessage Mensaje del último error
+     * @param nextAttemptAt Fecha a partir de la cual se reintenta
+     * @return Intentos registrados, 0 si la fila ya no está en cola
+     */
+    int retryQueuedPayment(Long queueId, boolean countAttempt, String errorMessage, LocalDateTime nextAttemptAt);
+
+    /**
+     * Consulta el estado de un pago por número de referencia (síncrono o en cola).
+     * Solo el dueño del pago o un administrador pueden consultarlo.
+     *
+     * @param referenceNumber Número de referencia
+     * @return Estado del checkout y datos del pago si ya fue creado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la referencia no existe
+     *         o pertenece a otro usuario
+     */
+    PaymentStatusResponseDto getPaymentStatus(String referenceNumber);
+}
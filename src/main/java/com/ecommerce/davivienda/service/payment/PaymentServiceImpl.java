@@ -3,29 +3,41 @@ package com.ecommerce.davivienda.service.payment;
 import com.ecommerce.davivienda.dto.payment.CardDataDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.dto.payment.QueuedPaymentDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.entity.payment.*;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.exception.stock.InsufficientStockException;
 import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.payment.checkout.PaymentQueuedEvent;
+import com.ecommerce.davivienda.service.payment.idempotency.PaymentIdempotencyService;
 import com.ecommerce.davivienda.service.payment.reference.PaymentReferenceService;
 import com.ecommerce.davivienda.service.payment.transactional.cart.PaymentCartTransactionalService;
 import com.ecommerce.davivienda.service.payment.transactional.cartitem.PaymentCartItemTransactionalService;
 import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.queue.PaymentQueueTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.reference.PaymentReferenceTransactionalService;
 import com.ecommerce.davivienda.service.payment.validation.cart.PaymentCartValidationService;
 import com.ecommerce.davivienda.service.payment.validation.common.PaymentCommonValidationService;
 import com.ecommerce.davivienda.service.payment.validation.payment.PaymentPaymentValidationService;
-import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.service.stock.StockService;
 import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
 import com.ecommerce.davivienda.util.Base64DecryptionService;
 import com.ecommerce.davivienda.util.JsonUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.ecommerce.davivienda.constants.Constants.*;
 
@@ -43,6 +55,7 @@ public class PaymentServiceImpl implements PaymentService {
 
     private static final String PAYMENT_TYPE_DEBIT = "debito";
     private static final String PAYMENT_TYPE_CREDIT = "credito";
+    private static final String ROLE_ADMIN = "Administrador";
 
     // Validation subcapacidades por dominio
     private final PaymentCartValidationService cartValidationService;
@@ -53,10 +66,13 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentPaymentTransactionalService paymentTransactionalService;
     private final PaymentCartTransactionalService cartTransactionalService;
     private final PaymentCartItemTransactionalService cartItemTransactionalService;
-    private final StockStockTransactionalService stockTransactionalService;
+    private final PaymentReferenceTransactionalService referenceTransactionalService;
+    private final PaymentQueueTransactionalService queueTransactionalService;
+    private final StockService stockService;
 
     // Reference service (lógica de negocio)
     private final PaymentReferenceService paymentReferenceService;
+    private final PaymentIdempotencyService idempotencyService;
 
     // Mapper (mapeo DTO ↔ Entity)
     private final PaymentMapper paymentMapper;
@@ -65,57 +81,239 @@ public class PaymentServiceImpl implements PaymentService {
     private final Base64DecryptionService base64DecryptionService; // Usado para desencriptar request y encriptar BD
     private final JsonUtils jsonUtils;
     private final AuthenticatedUserUtil authenticatedUserUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    public PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request) {
+    public PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request, String idempotencyKey) {
         String userEmail = authenticatedUserUtil.getCurrentUsername();
         log.info("Iniciando procesamiento de pago para usuario: {}", userEmail);
 
         try {
+            Optional<PaymentProcessResponseDto> previousResponse = findPreviousResponse(userEmail, idempotencyKey, request);
+            if (previousResponse.isPresent()) {
+                return previousResponse.get();
+            }
+
             CardDataDto cardData = decryptAndParseCardData(request.getEncryptedCardData());
             
             Cart cart = resolveCart(request.getCartId(), userEmail);
-            
+
+            PaymentProcessResponseDto response = checkout(cart, cardData, paymentReferenceService::generateUniqueReference);
+
+            if (idempotencyKey != null) {
+                idempotencyService.complete(userEmail, idempotencyKey, response);
+            }
+            return response;
+
+        } catch (RuntimeException e) {
+            throw translateFailure(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public PaymentProcessResponseDto enqueuePayment(PaymentProcessRequestDto request, String idempotencyKey) {
+        String userEmail = authenticatedUserUtil.getCurrentUsername();
+        log.info("Encolando pago para usuario: {}", userEmail);
+
+        try {
+            Optional<PaymentProcessResponseDto> previousResponse = findPreviousResponse(userEmail, idempotencyKey, request);
+            if (previousResponse.isPresent()) {
+                return previousResponse.get();
+            }
+
+            CardDataDto cardData = decryptAndParseCardData(request.getEncryptedCardData());
+
+            Cart cart = resolveCart(request.getCartId(), userEmail);
+
             commonValidationService.validateCardData(cardData);
-            
+
             PaymentType paymentType = paymentValidationService.validatePaymentType(cardData.getPaymentType());
             Integer installments = paymentValidationService.validateInstallments(
-                    cardData.getInstallments(), 
-                    cardData.getPaymentType()
-            );
-            PaymentStatus pendingStatus = paymentValidationService.findPendingStatus();
-            
+                    cardData.getInstallments(), cardData.getPaymentType());
+
             PaymentReference reference = paymentReferenceService.generateUniqueReference();
-            Payment payment = paymentMapper.toPayment(cart, paymentType, reference, pendingStatus);
-            Payment savedPayment = paymentTransactionalService.savePayment(payment);
-            
-            savePaymentDetails(savedPayment, cardData, installments);
-            
-            decreaseProductsStock(cart.getCarritoId());
-            
-            cartTransactionalService.updateCartStatusToProcessing(cart.getCarritoId());
-            
-            PaymentProcessResponseDto response = paymentMapper.toPaymentProcessResponseDto(savedPayment);
+            Long queueId = enqueue(paymentMapper.toQueuedPaymentDto(
+                    reference, cart, userEmail, cardData, installments, base64DecryptionService));
+            eventPublisher.publishEvent(new PaymentQueuedEvent(queueId));
 
-            log.info("Pago procesado exitosamente - ID: {}, Referencia: {}, Tipo: {}, Carrito actualizado a 'Procesando'", 
-                    savedPayment.getPaymentId(), 
-                    reference.getReferenceNumber(),
-                    paymentType.getPaymentType());
+            PaymentProcessResponseDto response = paymentMapper.toQueuedPaymentResponseDto(reference, paymentType);
 
+            if (idempotencyKey != null) {
+                idempotencyService.complete(userEmail, idempotencyKey, response);
+            }
+
+            log.info("Pago encolado - Cola ID: {}, Referencia: {}, Carrito: {}",
+                    queueId, reference.getReferenceNumber(), cart.getCarritoId());
             return response;
 
-        } catch (PaymentException e) {
+        } catch (RuntimeException e) {
+            throw translateFailure(e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findQueuedPaymentIds(int limit) {
+        return queueTransactionalService.findQueuedIds(LocalDateTime.now(), limit);
+    }
+
+    @Override
+    @Transactional
+    public boolean processQueuedPayment(Long queueId) {
+        Optional<QueuedPaymentDto> queuedPayment = queueTransactionalService.lockQueued(queueId);
+        if (queuedPayment.isEmpty()) {
+            log.debug("Pago en cola {} ya procesado o tomado por otro worker", queueId);
+            return false;
+        }
+
+        QueuedPaymentDto job = queuedPayment.get();
+        log.info("Procesando pago en cola {} para usuario: {}", queueId, job.getUserEmail());
+
+        try {
+            CardDataDto cardData = paymentMapper.toCardData(job, base64DecryptionService);
+
+            Cart cart = cartValidationService.validateCart(job.getCartId());
+
+            PaymentProcessResponseDto response = checkout(cart, cardData,
+                    () -> referenceTransactionalService.findById(job.getReferenceId()));
+
+            queueTransactionalService.markCompleted(queueId, response.getPaymentId(), LocalDateTime.now());
+            return true;
+
+        } catch (RuntimeException e) {
+            throw translateFailure(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void failQueuedPayment(Long queueId, String errorCode, String errorMessage) {
+        if (queueTransactionalService.markFailed(queueId, errorCode, errorMessage, LocalDateTime.now())) {
+            log.warn("Pago en cola {} marcado como fallido - Código: {}", queueId, errorCode);
+        }
+    }
+
+    @Override
+    public int retryQueuedPayment(Long queueId, boolean countAttempt, String errorMessage, LocalDateTime nextAttemptAt) {
+        int attempts = queueTransactionalService.scheduleRetry(queueId, countAttempt, errorMessage, nextAttemptAt);
+        if (attempts > 0) {
+            log.warn("Pago en cola {} se reintentará desde {} (intentos: {})", queueId, nextAttemptAt, attempts);
+        }
+        return attempts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentStatusResponseDto getPaymentStatus(String referenceNumber) {
+        String userEmail = authenticatedUserUtil.getCurrentUsername();
+
+        PaymentStatusResponseDto status = queueTransactionalService.findStatusByReference(referenceNumber)
+                .filter(found -> userEmail.equals(found.getOwnerEmail()) || authenticatedUserUtil.hasRole(ROLE_ADMIN))
+                .orElseThrow(() -> {
+                    log.warn("Referencia {} no encontrada para usuario {}", referenceNumber, userEmail);
+                    return new PaymentException(ERROR_PAYMENT_NOT_FOUND, CODE_PAYMENT_NOT_FOUND);
+                });
+
+        log.debug("Estado del pago {}: {}", referenceNumber, status.getCheckoutStatus());
+        return status;
+    }
+
+    /**
+     * Ejecuta el checkout de un carrito ya validado: valida la tarjeta, crea el pago y su detalle,
+     * descuenta el stock y actualiza el carrito a "Procesando". La referencia se obtiene después
+     * de las validaciones para no consumir una referencia en solicitudes inválidas.
+     *
+     * @param cart Carrito a pagar
+     * @param cardData Datos de la tarjeta desencriptados
+     * @param referenceSupplier Proveedor de la referencia del pago (nueva o asignada al encolar)
+     * @return PaymentProcessResponseDto con el pago creado
+     */
+    private PaymentProcessResponseDto checkout(Cart cart, CardDataDto cardData,
+                                               Supplier<PaymentReference> referenceSupplier) {
+        commonValidationService.validateCardData(cardData);
+        
+        PaymentType paymentType = paymentValidationService.validatePaymentType(cardData.getPaymentType());
+        Integer installments = paymentValidationService.validateInstallments(
+                cardData.getInstallments(), 
+                cardData.getPaymentType()
+        );
+        PaymentStatus pendingStatus = paymentValidationService.findPendingStatus();
+        
+        PaymentReference reference = referenceSupplier.get();
+        Payment payment = paymentMapper.toPayment(cart, paymentType, reference, pendingStatus);
+        Payment savedPayment = paymentTransactionalService.savePayment(payment);
+        
+        savePaymentDetails(savedPayment, cardData, installments);
+        
+        decreaseProductsStock(cart.getCarritoId());
+        
+        cartTransactionalService.updateCartStatusToProcessing(cart.getCarritoId());
+        
+        PaymentProcessResponseDto response = paymentMapper.toPaymentProcessResponseDto(savedPayment);
+
+        log.info("Pago procesado exitosamente - ID: {}, Referencia: {}, Tipo: {}, Carrito actualizado a 'Procesando'", 
+                savedPayment.getPaymentId(), 
+                reference.getReferenceNumber(),
+                paymentType.getPaymentType());
+        return response;
+    }
+
+    /**
+     * Busca la respuesta de una solicitud previa con la misma clave de idempotencia.
+     *
+     * @param userEmail Email del usuario autenticado
+     * @param idempotencyKey Clave de idempotencia (puede ser null)
+     * @param request Solicitud de pago
+     * @return Respuesta original, vacío si no hay clave o esta solicitud debe procesarse
+     */
+    private Optional<PaymentProcessResponseDto> findPreviousResponse(String userEmail, String idempotencyKey,
+                                                                     PaymentProcessRequestDto request) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return idempotencyService.findOrClaim(userEmail, idempotencyKey, request);
+    }
+
+    /**
+     * Inserta el pago en la cola de checkout asíncrono.
+     *
+     * @param queuedPayment Pago a encolar
+     * @return ID de la fila en la cola
+     */
+    private Long enqueue(QueuedPaymentDto queuedPayment) {
+        try {
+            return queueTransactionalService.enqueue(queuedPayment, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("El carrito {} ya tiene un pago en cola", queuedPayment.getCartId());
+            throw new PaymentException(ERROR_CART_PAYMENT_ALREADY_QUEUED, CODE_CART_PAYMENT_ALREADY_QUEUED, e);
+        }
+    }
+
+    /**
+     * Registra el error de un pago y lo convierte en la excepción que se propaga:
+     * los errores de negocio se propagan tal cual y los inesperados se envuelven en PaymentException.
+     *
+     * @param e Excepción capturada
+     * @return Excepción a lanzar
+     */
+    private RuntimeException translateFailure(RuntimeException e) {
+        if (e instanceof PaymentException) {
             log.error("Error de negocio al procesar pago: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Error inesperado al procesar pago: {}", e.getMessage(), e);
-            throw new PaymentException(
-                    ERROR_PAYMENT_PROCESSING_FAILED + ": " + e.getMessage(),
-                    CODE_PAYMENT_PROCESSING_FAILED,
-                    e
-            );
+            return e;
         }
+        if (e instanceof InsufficientStockException insufficientStock) {
+            log.error("Stock insuficiente al procesar pago para {} productos",
+                    insufficientStock.getInsufficientStockProducts().size());
+            return e;
+        }
+        log.error("Error inesperado al procesar pago: {}", e.getMessage(), e);
+        return new PaymentException(
+                ERROR_PAYMENT_PROCESSING_FAILED + ": " + e.getMessage(),
+                CODE_PAYMENT_PROCESSING_FAILED,
+                e
+        );
     }
 
     /**
@@ -204,7 +402,9 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     /**
-     * Disminuye el stock de cada producto en el carrito según la cantidad comprada.
+     * Descuenta el stock de los productos del carrito según la cantidad comprada y convierte
+     * la reserva de stock del carrito. Los decrementos son condicionales y se envían en un único
+     * batch; si algún producto no alcanza, se lanza InsufficientStockException y el pago completo se revierte.
      *
      * @param cartId ID del carrito
      */
@@ -218,30 +418,8 @@ public class PaymentServiceImpl implements PaymentService {
             return;
         }
 
-        int productsProcessed = 0;
-        for (CartItem item : cartItems) {
-            Integer productId = item.getProduct().getProductoId();
-            Integer quantity = item.getCantidad();
-            String productName = item.getProduct().getNombre();
-
-            try {
-                stockTransactionalService.decreaseStock(productId, quantity);
-                productsProcessed++;
-                log.debug("Stock disminuido para producto '{}' (ID: {}) - Cantidad: {}",
-                        productName, productId, quantity);
-
-            } catch (IllegalStateException e) {
-                log.error("Error al disminuir stock para producto '{}' (ID: {}): {}",
-                        productName, productId, e.getMessage());
-                throw new PaymentException(
-                        "Error al disminuir stock del producto: " + productName,
-                        CODE_PAYMENT_PROCESSING_FAILED,
-                        e
-                );
-            }
-        }
-
-        log.info("Stock actualizado para {} productos del carrito {}", productsProcessed, cartId);
+        stockService.decreaseStockForCheckout(cartId, cartItems);
+        log.info("Stock actualizado para {} productos del carrito {}", cartItems.size(), cartId);
     }
 }
 
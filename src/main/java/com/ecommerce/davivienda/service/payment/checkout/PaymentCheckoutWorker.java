@@ -0,0 +1,198 @@
+package com.ecommerce.davivienda.service.payment.checkout;
+
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.exception.stock.InsufficientStockException;
+import com.ecommerce.davivienda.service.payment.PaymentService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_PROCESSING_FAILED;
+
+/**
+ * Workers del checkout asíncrono.
+ *
+ * <p>El despachador consulta la cola cada {@code payment.checkout.poll-interval} (tarea periódica
+ * de {@code SchedulingConfig}) o de inmediato cuando se encola un pago en esta instancia, y reparte
+ * un lote de pagos entre un pool fijo de {@code payment.checkout.workers} hilos. El lote nunca excede los hilos libres, por lo que el
+ * número de checkouts concurrentes contra la base de datos queda acotado por el pool.</p>
+ *
+ * <p>Cada pago se procesa en su propia transacción. Si falla, la transacción se revierte y:</p>
+ * <ul>
+ *   <li>un rechazo de negocio (tarjeta inválida, carrito no disponible, stock insuficiente) marca
+ *       el pago como FALLIDO con su código para que el cliente lo vea en el endpoint de estado;</li>
+ *   <li>un error transitorio de BD o de conexión deja el pago EN_COLA y se reintenta tras
+ *       {@code payment.checkout.retry-backoff}, sin límite de intentos;</li>
+ *   <li>cualquier otro error también se reintenta, y tras {@code payment.checkout.max-attempts}
+ *       intentos el pago se marca como FALLIDO con el código genérico.</li>
+ * </ul>
+ *
+ * <p>Los pagos en cola se procesan siempre, aunque {@code payment.checkout.mode} vuelva a {@code sync}.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PaymentCheckoutWorker {
+
+    private final PaymentService paymentService;
+    private final TaskScheduler taskScheduler;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workers;
+
+    public PaymentCheckoutWorker(
+            PaymentService paymentService,
+            TaskScheduler taskScheduler,
+            @Value("${payment.checkout.workers:4}") int workerCount,
+            @Value("${payment.checkout.max-attempts:5}") int maxAttempts,
+            @Value("${payment.checkout.retry-backoff:30s}") Duration retryBackoff) {
+        this.paymentService = paymentService;
+        this.taskScheduler = taskScheduler;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "payment-checkout-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Despierta al despachador cuando se confirma un pago encolado en esta instancia.
+     *
+     * @param event Evento de pago encolado
+     */
+    @TransactionalEventListener
+    public void onPaymentQueued(PaymentQueuedEvent event) {
+        try {
+            taskScheduler.schedule(this::dispatch, Instant.now());
+        } catch (RejectedExecutionException e) {
+            log.debug("Scheduler detenido, el pago en cola {} se tomará en el siguiente inicio", event.getQueueId());
+        }
+    }
+
+    /**
+     * Toma de la cola tantos pagos como workers libres haya y los reparte.
+     * Es sincronizado porque el sondeo periódico y el aviso de un pago nuevo pueden coincidir.
+     * Los errores se registran sin detener el sondeo periódico.
+     */
+    public synchronized void dispatch() {
+        try {
+            int freeWorkers = workerCount - inFlight.size();
+            if (freeWorkers <= 0) {
+                return;
+            }
+
+            List<Long> queueIds = paymentService.findQueuedPaymentIds(freeWorkers + inFlight.size());
+            for (Long queueId : queueIds) {
+                if (freeWorkers == 0) {
+                    break;
+                }
+                if (inFlight.add(queueId)) {
+                    freeWorkers--;
+                    workers.execute(() -> process(queueId));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error al consultar la cola de pagos", e);
+        }
+    }
+
+    /**
+     * Procesa un pago de la cola y registra su fallo o reintento, si lo hay.
+     *
+     * @param queueId ID de la fila en la cola
+     */
+    void process(Long queueId) {
+        try {
+            paymentService.processQueuedPayment(queueId);
+        } catch (RuntimeException e) {
+            fail(queueId, e);
+        } finally {
+            inFlight.remove(queueId);
+        }
+    }
+
+    private void fail(Long queueId, RuntimeException cause) {
+        try {
+            if (isBusinessRejection(cause)) {
+                paymentService.failQueuedPayment(queueId, errorCode(cause), cause.getMessage());
+                return;
+            }
+
+            boolean transientError = isTransient(cause);
+            int attempts = paymentService.retryQueuedPayment(queueId, !transientError, cause.getMessage(),
+                    LocalDateTime.now().plus(retryBackoff));
+            if (!transientError && attempts >= maxAttempts) {
+                paymentService.failQueuedPayment(queueId, CODE_PAYMENT_PROCESSING_FAILED, cause.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo registrar el fallo del pago en cola {}; sigue en cola", queueId, e);
+        }
+    }
+
+    /**
+     * Un rechazo de negocio es definitivo: reintentar daría el mismo resultado.
+     * Los errores inesperados llegan envueltos en PaymentException con el código genérico.
+     */
+    private static boolean isBusinessRejection(RuntimeException cause) {
+        if (cause instanceof InsufficientStockException) {
+            return true;
+        }
+        return cause instanceof PaymentException paymentException
+                && !CODE_PAYMENT_PROCESSING_FAILED.equals(paymentException.getErrorCode());
+    }
+
+    private static String errorCode(RuntimeException cause) {
+        if (cause instanceof PaymentException paymentException) {
+            return paymentException.getErrorCode();
+        }
+        return ((InsufficientStockException) cause).getErrorCode();
+    }
+
+    /**
+     * Errores de BD o de conexión que pueden desaparecer al reintentar (caída, timeout, bloqueo, failover).
+     */
+    private static boolean isTransient(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof TransientDataAccessException
+                    || current instanceof RecoverableDataAccessException
+                    || current instanceof CannotCreateTransactionException
+                    || current instanceof SQLTransientException
+                    || current instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.davivienda.service.payment.checkout;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cuando un pago se acepta en la cola de checkout asíncrono.
+ * Se procesa después del commit para despertar a los workers sin esperar al siguiente sondeo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentQueuedEvent {
+
+    /**
+     * ID de la fila en la cola.
+     */
+    private final Long queueId;
+}
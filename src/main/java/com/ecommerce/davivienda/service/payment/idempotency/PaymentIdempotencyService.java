@@ -0,0 +1,47 @@
+package com.ecommerce.davivienda.service.payment.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+
+import java.util.Optional;
+
+/**
+ * Servicio de idempotencia para el procesamiento de pagos (header {@code Idempotency-Key}).
+ * Debe usarse dentro de la transacción del pago: la clave se reclama y su respuesta se guarda
+ * en la misma transacción, por lo que un pago fallido no deja la clave ocupada.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentIdempotencyService {
+
+    /**
+     * Reclama la clave para la solicitud actual o retorna la respuesta de la solicitud original.
+     * Si la solicitud original sigue en ejecución, espera a que termine.
+     *
+     * @param userEmail Email del usuario autenticado
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param request Solicitud de pago
+     * @return Respuesta original si la clave ya fue procesada; vacío si esta solicitud debe procesar el pago
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la clave es inválida
+     *         o ya fue usada con una solicitud diferente
+     */
+    Optional<PaymentProcessResponseDto> findOrClaim(String userEmail, String idempotencyKey,
+                                                    PaymentProcessRequestDto request);
+
+    /**
+     * Guarda la respuesta del pago para la clave reclamada.
+     *
+     * @param userEmail Email del usuario autenticado
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param response Respuesta del pago
+     */
+    void complete(String userEmail, String idempotencyKey, PaymentProcessResponseDto response);
+
+    /**
+     * Elimina las claves vencidas en lotes.
+     *
+     * @return Número de claves eliminadas
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.davivienda.service.payment.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentIdempotencyRecordDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.transactional.idempotency.PaymentIdempotencyTransactionalService;
+import com.ecommerce.davivienda.util.BatchUtils;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de idempotencia de pagos.
+ * Un duplicado se resuelve con una lectura por clave primaria de {@code pago_idempotencia},
+ * sin desencriptar la tarjeta ni tocar carrito, stock o pagos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyServiceImpl implements PaymentIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final PaymentIdempotencyTransactionalService idempotencyTransactionalService;
+    private final JsonUtils jsonUtils;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+
+    public PaymentIdempotencyServiceImpl(
+            PaymentIdempotencyTransactionalService idempotencyTransactionalService,
+            JsonUtils jsonUtils,
+            @Value("${payment.idempotency.ttl:24h}") Duration ttl,
+            @Value("${payment.idempotency.sweep-batch-size:500}") int sweepBatchSize) {
+        this.idempotencyTransactionalService = idempotencyTransactionalService;
+        this.jsonUtils = jsonUtils;
+        this.ttl = ttl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @Override
+    public Optional<PaymentProcessResponseDto> findOrClaim(String userEmail, String idempotencyKey,
+                                                           PaymentProcessRequestDto request) {
+        validateKey(idempotencyKey);
+        String fingerprint = fingerprint(request);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (idempotencyTransactionalService.claim(userEmail, idempotencyKey, fingerprint, now, now.plus(ttl))) {
+            log.debug("Clave de idempotencia {} reclamada para usuario {}", idempotencyKey, userEmail);
+            return Optional.empty();
+        }
+
+        PaymentIdempotencyRecordDto previous = idempotencyTransactionalService.findByKey(userEmail, idempotencyKey)
+                .orElseThrow(() -> new PaymentException(
+                        ERROR_IDEMPOTENCY_REQUEST_IN_PROGRESS, CODE_IDEMPOTENCY_REQUEST_IN_PROGRESS));
+
+        if (!fingerprint.equals(previous.getFingerprint())) {
+            log.warn("Clave de idempotencia {} reutilizada con otra solicitud por usuario {}", idempotencyKey, userEmail);
+            throw new PaymentException(ERROR_IDEMPOTENCY_KEY_REUSED, CODE_IDEMPOTENCY_KEY_REUSED);
+        }
+        if (previous.getResponseJson() == null) {
+            throw new PaymentException(ERROR_IDEMPOTENCY_REQUEST_IN_PROGRESS, CODE_IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        log.info("Solicitud de pago duplicada con clave {}, retornando la respuesta original", idempotencyKey);
+        return Optional.of(deserialize(previous.getResponseJson()));
+    }
+
+    @Override
+    public void complete(String userEmail, String idempotencyKey, PaymentProcessResponseDto response) {
+        try {
+            idempotencyTransactionalService.saveResponse(userEmail, idempotencyKey, jsonUtils.serializeToJson(response));
+        } catch (JsonProcessingException e) {
+            throw new PaymentException(ERROR_PAYMENT_PROCESSING_FAILED, CODE_PAYMENT_PROCESSING_FAILED, e);
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = BatchUtils.drain(sweepBatchSize,
+                batchSize -> idempotencyTransactionalService.deleteExpiredBatch(now, batchSize));
+
+        if (total > 0) {
+            log.info("Claves de idempotencia de pago vencidas eliminadas: {}", total);
+        }
+        return total;
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new PaymentException(ERROR_INVALID_IDEMPOTENCY_KEY, CODE_INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    /**
+     * Calcula la huella SHA-256 de la solicitud para detectar claves reutilizadas con otro contenido.
+     *
+     * @param request Solicitud de pago
+     * @return Huella en hexadecimal (64 caracteres)
+     */
+    private String fingerprint(PaymentProcessRequestDto request) {
+        String canonical = request.getCartId() + "|" + request.getEncryptedCardData();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private PaymentProcessResponseDto deserialize(String responseJson) {
+        try {
+            return jsonUtils.deserializeFromJson(responseJson, PaymentProcessResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new PaymentException(ERROR_PAYMENT_PROCESSING_FAILED, CODE_PAYMENT_PROCESSING_FAILED, e);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.entity.payment.PaymentReference;
 
 /**
  * Servicio para generación de referencias únicas de pago.
- * Maneja la lógica de negocio para crear referencias UUID únicas.
+ * Maneja la lógica de negocio para crear referencias únicas ordenadas en el tiempo.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -12,10 +12,11 @@ import com.ecommerce.davivienda.entity.payment.PaymentReference;
 public interface PaymentReferenceService {
 
     /**
-     * Genera un número de referencia único para el pago usando UUID.
-     * Verifica unicidad en base de datos con reintentos.
+     * Genera un número de referencia único y ordenado en el tiempo para el pago y lo guarda.
+     * No consulta la base de datos para verificar unicidad: el número es único por construcción.
      *
      * @return PaymentReference con número único generado y guardado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si el número ya existe
      */
     PaymentReference generateUniqueReference();
 }
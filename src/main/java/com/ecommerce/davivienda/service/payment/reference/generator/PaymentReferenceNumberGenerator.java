@@ -0,0 +1,19 @@
+package com.ecommerce.davivienda.service.payment.reference.generator;
+
+/**
+ * Capacidad para generar números de referencia de pago únicos y ordenados en el tiempo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentReferenceNumberGenerator {
+
+    /**
+     * Genera el siguiente número de referencia.
+     * Los números generados por una misma instancia son estrictamente crecientes en orden
+     * lexicográfico, y dos instancias con distinto nodo nunca generan el mismo número.
+     *
+     * @return Número de referencia (ej. "REF-01HZX3K7QW0G4")
+     */
+    String nextReferenceNumber();
+}
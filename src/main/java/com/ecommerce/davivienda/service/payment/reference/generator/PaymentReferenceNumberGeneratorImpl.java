@@ -0,0 +1,104 @@
+package com.ecommerce.davivienda.service.payment.reference.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Generador de referencias de pago estilo Snowflake.
+ *
+ * <p>Cada referencia es un entero de 63 bits codificado en Base32 Crockford con ancho fijo:</p>
+ * <ul>
+ *   <li>41 bits: milisegundos desde {@link #EPOCH_MILLIS} (alcanza ~69 años)</li>
+ *   <li>10 bits: ID del nodo ({@code payment.reference.node-id}, 0-1023)</li>
+ *   <li>12 bits: secuencia dentro del mismo milisegundo (4096 referencias/ms por nodo)</li>
+ * </ul>
+ *
+ * <p>Al ser crecientes, las inserciones en el índice único de {@code referencias.numero}
+ * van siempre al final del B-tree en lugar de dividir páginas aleatorias como con UUID.
+ * La unicidad no requiere consultar la base de datos: si el reloj retrocede o la secuencia
+ * se agota, el generador sigue avanzando sobre el último milisegundo usado.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PaymentReferenceNumberGeneratorImpl implements PaymentReferenceNumberGenerator {
+
+    /**
+     * Época propia del generador: 2024-01-01T00:00:00Z.
+     */
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    static final String PREFIX = "REF-";
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final char[] CROCKFORD_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final int nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private int sequence;
+
+    @Autowired
+    public PaymentReferenceNumberGeneratorImpl(@Value("${payment.reference.node-id:0}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    PaymentReferenceNumberGeneratorImpl(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "payment.reference.node-id debe estar entre 0 y " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("Generador de referencias de pago inicializado con nodo {}", nodeId);
+    }
+
+    @Override
+    public synchronized String nextReferenceNumber() {
+        long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // Secuencia agotada: se toma prestado el siguiente milisegundo en lugar de esperar
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        long value = (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+        return PREFIX + encode(value);
+    }
+
+    /**
+     * Codifica un valor no negativo en Base32 Crockford con ancho fijo,
+     * de modo que el orden lexicográfico coincide con el numérico.
+     *
+     * @param value Valor a codificar
+     * @return Representación de 13 caracteres
+     */
+    private static String encode(long value) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = CROCKFORD_ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -1,8 +1,10 @@
 package com.ecommerce.davivienda.service.payment.transactional.cart;
 
+import com.ecommerce.davivienda.dto.outbox.CartStatusChangedEventDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
 import com.ecommerce.davivienda.repository.cart.CartRepository;
+import com.ecommerce.davivienda.service.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +14,7 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
  * Implementación del servicio transaccional para actualización de estado del carrito.
+ * Cada cambio de estado registra el evento CARRITO_ESTADO_CAMBIADO en el outbox dentro de la misma transacción.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -22,8 +25,10 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 public class PaymentCartTransactionalServiceImpl implements PaymentCartTransactionalService {
 
     private static final Integer PROCESSING_STATUS_ID = 2; // Estado "Procesando" (según init-ecommerce.sql)
+    private static final String PROCESSING_STATUS_NAME = "Procesando";
 
     private final CartRepository cartRepository;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -39,6 +44,14 @@ public class PaymentCartTransactionalServiceImpl implements PaymentCartTransacti
         cart.setEstadoCarritoId(PROCESSING_STATUS_ID);
         cartRepository.save(cart);
 
+        outboxService.record(OUTBOX_AGGREGATE_CART, cartId, OUTBOX_EVENT_CART_STATUS_CHANGED,
+                CartStatusChangedEventDto.builder()
+                        .cartId(cartId)
+                        .userRoleId(cart.getUsuarioRolId())
+                        .statusId(PROCESSING_STATUS_ID)
+                        .status(PROCESSING_STATUS_NAME)
+                        .build());
+
         log.info("Carrito {} actualizado a estado 'Procesando'", cartId);
     }
 }
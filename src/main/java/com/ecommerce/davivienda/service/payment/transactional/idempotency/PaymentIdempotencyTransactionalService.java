@@ -0,0 +1,56 @@
+package com.ecommerce.davivienda.service.payment.transactional.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentIdempotencyRecordDto;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Servicio transaccional para las claves de idempotencia de pagos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentIdempotencyTransactionalService {
+
+    /**
+     * Reclama una clave para la transacción actual insertando su registro, o reemplazando
+     * uno vencido. Si otra transacción tiene la clave sin confirmar, espera a que termine.
+     *
+     * @param userEmail Email del usuario dueño de la clave
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param fingerprint Huella de la solicitud
+     * @param createdAt Fecha de creación
+     * @param expiresAt Fecha de vencimiento
+     * @return true si la clave quedó reclamada por esta transacción
+     */
+    boolean claim(String userEmail, String idempotencyKey, String fingerprint,
+                  LocalDateTime createdAt, LocalDateTime expiresAt);
+
+    /**
+     * Busca el registro de una clave.
+     *
+     * @param userEmail Email del usuario dueño de la clave
+     * @param idempotencyKey Clave enviada por el cliente
+     * @return Registro de la clave, vacío si no existe
+     */
+    Optional<PaymentIdempotencyRecordDto> findByKey(String userEmail, String idempotencyKey);
+
+    /**
+     * Guarda la respuesta del pago para una clave reclamada.
+     *
+     * @param userEmail Email del usuario dueño de la clave
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param responseJson Respuesta serializada en JSON
+     */
+    void saveResponse(String userEmail, String idempotencyKey, String responseJson);
+
+    /**
+     * Elimina un lote de claves vencidas, saltando las bloqueadas por otras transacciones.
+     *
+     * @param now Fecha de referencia
+     * @param batchSize Tamaño máximo del lote
+     * @return Número de claves eliminadas
+     */
+    int deleteExpiredBatch(LocalDateTime now, int batchSize);
+}
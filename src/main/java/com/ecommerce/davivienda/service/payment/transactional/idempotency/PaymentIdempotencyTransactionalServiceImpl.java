@@ -0,0 +1,84 @@
+package com.ecommerce.davivienda.service.payment.transactional.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentIdempotencyRecordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementación del servicio transaccional de claves de idempotencia de pagos.
+ * El reclamo usa {@code INSERT ... ON CONFLICT}: si otra transacción insertó la misma clave
+ * y no ha terminado, PostgreSQL bloquea la sentencia hasta que confirme o revierta, de modo
+ * que los duplicados concurrentes esperan al primero en lugar de ejecutar el pago en paralelo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyTransactionalServiceImpl implements PaymentIdempotencyTransactionalService {
+
+    /**
+     * Inserta la clave o reemplaza un registro vencido; 0 filas si la clave sigue vigente.
+     */
+    private static final String CLAIM_SQL =
+            "INSERT INTO pago_idempotencia (usuario, clave, huella, respuesta, fecha_creacion, fecha_expiracion) "
+                    + "VALUES (?, ?, ?, NULL, ?, ?) "
+                    + "ON CONFLICT (usuario, clave) DO UPDATE SET huella = EXCLUDED.huella, respuesta = NULL, "
+                    + "fecha_creacion = EXCLUDED.fecha_creacion, fecha_expiracion = EXCLUDED.fecha_expiracion "
+                    + "WHERE pago_idempotencia.fecha_expiracion <= EXCLUDED.fecha_creacion";
+
+    private static final String FIND_BY_KEY_SQL =
+            "SELECT huella, respuesta FROM pago_idempotencia WHERE usuario = ? AND clave = ?";
+
+    private static final String SAVE_RESPONSE_SQL =
+            "UPDATE pago_idempotencia SET respuesta = ? WHERE usuario = ? AND clave = ?";
+
+    private static final String DELETE_EXPIRED_BATCH_SQL =
+            "DELETE FROM pago_idempotencia WHERE (usuario, clave) IN ("
+                    + "SELECT usuario, clave FROM pago_idempotencia WHERE fecha_expiracion <= ? "
+                    + "LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim(String userEmail, String idempotencyKey, String fingerprint,
+                         LocalDateTime createdAt, LocalDateTime expiresAt) {
+        int claimed = jdbcTemplate.update(CLAIM_SQL, userEmail, idempotencyKey, fingerprint, createdAt, expiresAt);
+        log.debug("Clave de idempotencia {} - Reclamada: {}", idempotencyKey, claimed > 0);
+        return claimed > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaymentIdempotencyRecordDto> findByKey(String userEmail, String idempotencyKey) {
+        return jdbcTemplate.query(FIND_BY_KEY_SQL,
+                        (rs, rowNum) -> PaymentIdempotencyRecordDto.builder()
+                                .fingerprint(rs.getString("huella"))
+                                .responseJson(rs.getString("respuesta"))
+                                .build(),
+                        userEmail, idempotencyKey)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveResponse(String userEmail, String idempotencyKey, String responseJson) {
+        jdbcTemplate.update(SAVE_RESPONSE_SQL, responseJson, userEmail, idempotencyKey);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredBatch(LocalDateTime now, int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED_BATCH_SQL, now, batchSize);
+    }
+}
@@ -1,19 +1,25 @@
 package com.ecommerce.davivienda.service.payment.transactional.payment;
 
+import com.ecommerce.davivienda.dto.outbox.PaymentCreatedEventDto;
 import com.ecommerce.davivienda.entity.payment.Payment;
 import com.ecommerce.davivienda.entity.payment.PaymentCredit;
 import com.ecommerce.davivienda.entity.payment.PaymentDebit;
 import com.ecommerce.davivienda.repository.payment.PaymentCreditRepository;
 import com.ecommerce.davivienda.repository.payment.PaymentDebitRepository;
 import com.ecommerce.davivienda.repository.payment.PaymentRepository;
+import com.ecommerce.davivienda.service.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.ecommerce.davivienda.constants.Constants.OUTBOX_AGGREGATE_PAYMENT;
+import static com.ecommerce.davivienda.constants.Constants.OUTBOX_EVENT_PAYMENT_CREATED;
+
 /**
  * Implementación del servicio transaccional para operaciones de consulta y persistencia de Payment.
  * Centraliza todas las operaciones de acceso a datos de pagos.
+ * Cada pago creado registra el evento PAGO_CREADO en el outbox dentro de la misma transacción.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -26,6 +32,7 @@ public class PaymentPaymentTransactionalServiceImpl implements PaymentPaymentTra
     private final PaymentRepository paymentRepository;
     private final PaymentDebitRepository paymentDebitRepository;
     private final PaymentCreditRepository paymentCreditRepository;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -35,6 +42,16 @@ public class PaymentPaymentTransactionalServiceImpl implements PaymentPaymentTra
                 payment.getPaymentType().getPaymentType());
         
         Payment savedPayment = paymentRepository.save(payment);
+
+        outboxService.record(OUTBOX_AGGREGATE_PAYMENT, savedPayment.getPaymentId(), OUTBOX_EVENT_PAYMENT_CREATED,
+                PaymentCreatedEventDto.builder()
+                        .paymentId(savedPayment.getPaymentId())
+                        .referenceNumber(savedPayment.getReference().getReferenceNumber())
+                        .cartId(savedPayment.getCart().getCarritoId())
+                        .paymentType(savedPayment.getPaymentType().getPaymentType())
+                        .status(savedPayment.getPaymentStatus().getName())
+                        .paymentDate(savedPayment.getPaymentDate())
+                        .build());
         
         log.info("Pago guardado exitosamente - ID: {}", savedPayment.getPaymentId());
         return savedPayment;
@@ -0,0 +1,85 @@
+package com.ecommerce.davivienda.service.payment.transactional.queue;
+
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.dto.payment.QueuedPaymentDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Servicio transaccional para la cola durable de checkout asíncrono ({@code pago_cola}).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentQueueTransactionalService {
+
+    /**
+     * Inserta un pago en la cola.
+     *
+     * @param payment Pago a encolar (sin queueId)
+     * @param queuedAt Fecha de aceptación
+     * @return ID de la fila en la cola
+     * @throws org.springframework.dao.DataIntegrityViolationException si el carrito ya tiene un pago en cola
+     */
+    Long enqueue(QueuedPaymentDto payment, LocalDateTime queuedAt);
+
+    /**
+     * Obtiene los IDs de los pagos en cola más antiguos cuyo próximo intento ya llegó.
+     *
+     * @param now Fecha actual
+     * @param limit Número máximo de IDs
+     * @return IDs en orden de llegada
+     */
+    List<Long> findQueuedIds(LocalDateTime now, int limit);
+
+    /**
+     * Bloquea un pago en cola para la transacción actual. Si otro worker ya lo tiene bloqueado
+     * o ya fue procesado, retorna vacío sin esperar.
+     *
+     * @param queueId ID de la fila
+     * @return Pago bloqueado, vacío si no está disponible
+     */
+    Optional<QueuedPaymentDto> lockQueued(Long queueId);
+
+    /**
+     * Marca un pago de la cola como completado y borra los datos de la tarjeta.
+     *
+     * @param queueId ID de la fila
+     * @param paymentId ID del pago creado
+     * @param processedAt Fecha de procesamiento
+     */
+    void markCompleted(Long queueId, Integer paymentId, LocalDateTime processedAt);
+
+    /**
+     * Marca un pago de la cola como fallido y borra los datos de la tarjeta,
+     * solo si sigue en cola.
+     *
+     * @param queueId ID de la fila
+     * @param errorCode Código de error
+     * @param errorMessage Mensaje de error
+     * @param processedAt Fecha de procesamiento
+     * @return true si la fila se marcó como fallida
+     */
+    boolean markFailed(Long queueId, String errorCode, String errorMessage, LocalDateTime processedAt);
+
+    /**
+     * Deja un pago en cola para reintentarlo a partir de {@code nextAttemptAt}, solo si sigue en cola.
+     *
+     * @param queueId ID de la fila
+     * @param countAttempt true si el error cuenta para el máximo de intentos (los transitorios no cuentan)
+     * @param errorMessage Mensaje del último error
+     * @param nextAttemptAt Fecha a partir de la cual se reintenta
+     * @return Intentos registrados tras la actualización, 0 si la fila ya no está en cola
+     */
+    int scheduleRetry(Long queueId, boolean countAttempt, String errorMessage, LocalDateTime nextAttemptAt);
+
+    /**
+     * Consulta el estado de un pago por número de referencia, esté en la cola o procesado en el request.
+     *
+     * @param referenceNumber Número de referencia
+     * @return Estado del pago con el email del dueño, vacío si la referencia no existe
+     */
+    Optional<PaymentStatusResponseDto> findStatusByReference(String referenceNumber);
+}
@@ -0,0 +1,178 @@
+package com.ecommerce.davivienda.service.payment.transactional.queue;
+
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.dto.payment.QueuedPaymentDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto.CHECKOUT_COMPLETED;
+
+/**
+ * Implementación del servicio transaccional de la cola de checkout asíncrono.
+ * Cada worker procesa un pago bloqueando su fila con {@code FOR UPDATE SKIP LOCKED} durante
+ * toda la transacción del checkout: si el proceso cae, el bloqueo se libera con el rollback
+ * y el pago sigue en cola, sin necesidad de arrendamientos ni estados intermedios.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentQueueTransactionalServiceImpl implements PaymentQueueTransactionalService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private static final String CLEAR_CARD_DATA =
+            "nombre_titular = NULL, numero_tarjeta = NULL, fecha_vencimiento = NULL, ";
+
+    private static final String ENQUEUE_SQL =
+            "INSERT INTO pago_cola (referencia_id, carrito_id, usuario, tipo_pago, numero_de_cuotas, nombre_titular, "
+                    + "numero_tarjeta, fecha_vencimiento, estado, proximo_intento, fecha_creacion) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'EN_COLA', ?, ?) RETURNING cola_id";
+
+    private static final String FIND_QUEUED_IDS_SQL =
+            "SELECT cola_id FROM pago_cola WHERE estado = 'EN_COLA' AND proximo_intento <= ? ORDER BY cola_id LIMIT ?";
+
+    private static final String LOCK_QUEUED_SQL =
+            "SELECT cola_id, referencia_id, carrito_id, usuario, tipo_pago, numero_de_cuotas, nombre_titular, "
+                    + "numero_tarjeta, fecha_vencimiento FROM pago_cola "
+                    + "WHERE cola_id = ? AND estado = 'EN_COLA' FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_COMPLETED_SQL =
+            "UPDATE pago_cola SET estado = 'COMPLETADO', pago_id = ?, " + CLEAR_CARD_DATA
+                    + "fecha_procesamiento = ? WHERE cola_id = ?";
+
+    private static final String MARK_FAILED_SQL =
+            "UPDATE pago_cola SET estado = 'FALLIDO', codigo_error = ?, mensaje_error = ?, " + CLEAR_CARD_DATA
+                    + "fecha_procesamiento = ? WHERE cola_id = ? AND estado = 'EN_COLA'";
+
+    private static final String SCHEDULE_RETRY_SQL =
+            "UPDATE pago_cola SET intentos = intentos + ?, proximo_intento = ?, mensaje_error = ? "
+                    + "WHERE cola_id = ? AND estado = 'EN_COLA' RETURNING intentos";
+
+    /**
+     * Estado por referencia: la fila de la cola (si el pago fue asíncrono) y el pago creado (si existe).
+     * El dueño se toma de la cola o, para pagos síncronos, del usuario del carrito.
+     */
+    private static final String FIND_STATUS_BY_REFERENCE_SQL =
+            "SELECT r.numero, q.estado AS estado_cola, q.codigo_error, q.mensaje_error, q.fecha_creacion, "
+                    + "q.fecha_procesamiento, p.pago_id, p.tipo_pago_id, ep.nombre AS estado_pago, "
+                    + "COALESCE(q.usuario, cr.correo) AS usuario "
+                    + "FROM referencias r "
+                    + "LEFT JOIN pago_cola q ON q.referencia_id = r.referencia_id "
+                    + "LEFT JOIN pago p ON p.referencia_id = r.referencia_id "
+                    + "LEFT JOIN estado_pago ep ON ep.estado_pago_id = p.estado_pago_id "
+                    + "LEFT JOIN carrito c ON c.carrito_id = p.carrito_id "
+                    + "LEFT JOIN usuario_rol ur ON ur.usuario_rol_id = c.usuario_rol_id "
+                    + "LEFT JOIN usuarios u ON u.usuario_id = ur.usuario_id "
+                    + "LEFT JOIN credenciales cr ON cr.credenciales_id = u.credenciales_id "
+                    + "WHERE r.numero = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long enqueue(QueuedPaymentDto payment, LocalDateTime queuedAt) {
+        Long queueId = jdbcTemplate.queryForObject(ENQUEUE_SQL, Long.class,
+                payment.getReferenceId(), payment.getCartId(), payment.getUserEmail(), payment.getPaymentType(),
+                payment.getInstallments(), payment.getEncryptedCardHolderName(), payment.getEncryptedCardNumber(),
+                payment.getExpirationDate(), queuedAt, queuedAt);
+        log.debug("Pago encolado - Cola ID: {}, Carrito ID: {}", queueId, payment.getCartId());
+        return queueId;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findQueuedIds(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList(FIND_QUEUED_IDS_SQL, Long.class, now, limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<QueuedPaymentDto> lockQueued(Long queueId) {
+        return jdbcTemplate.query(LOCK_QUEUED_SQL,
+                        (rs, rowNum) -> QueuedPaymentDto.builder()
+                                .queueId(rs.getLong("cola_id"))
+                                .referenceId(rs.getInt("referencia_id"))
+                                .cartId(rs.getInt("carrito_id"))
+                                .userEmail(rs.getString("usuario"))
+                                .paymentType(rs.getString("tipo_pago"))
+                                .installments(rs.getObject("numero_de_cuotas", Integer.class))
+                                .encryptedCardHolderName(rs.getString("nombre_titular"))
+                                .encryptedCardNumber(rs.getString("numero_tarjeta"))
+                                .expirationDate(rs.getObject("fecha_vencimiento", LocalDate.class))
+                                .build(),
+                        queueId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markCompleted(Long queueId, Integer paymentId, LocalDateTime processedAt) {
+        jdbcTemplate.update(MARK_COMPLETED_SQL, paymentId, processedAt, queueId);
+    }
+
+    @Override
+    @Transactional
+    public boolean markFailed(Long queueId, String errorCode, String errorMessage, LocalDateTime processedAt) {
+        return jdbcTemplate.update(MARK_FAILED_SQL, errorCode, truncate(errorMessage), processedAt, queueId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int scheduleRetry(Long queueId, boolean countAttempt, String errorMessage, LocalDateTime nextAttemptAt) {
+        return jdbcTemplate.query(SCHEDULE_RETRY_SQL,
+                        (rs, rowNum) -> rs.getInt("intentos"),
+                        countAttempt ? 1 : 0, nextAttemptAt, truncate(errorMessage), queueId)
+                .stream()
+                .findFirst()
+                .orElse(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaymentStatusResponseDto> findStatusByReference(String referenceNumber) {
+        return jdbcTemplate.query(FIND_STATUS_BY_REFERENCE_SQL,
+                        (rs, rowNum) -> {
+                            Integer paymentId = rs.getObject("pago_id", Integer.class);
+                            String queueStatus = rs.getString("estado_cola");
+                            return PaymentStatusResponseDto.builder()
+                                    .referenceNumber(rs.getString("numero"))
+                                    .checkoutStatus(queueStatus != null ? queueStatus : CHECKOUT_COMPLETED)
+                                    .paymentId(paymentId)
+                                    .status(rs.getString("estado_pago"))
+                                    .paymentType(rs.getString("tipo_pago_id"))
+                                    .errorCode(rs.getString("codigo_error"))
+                                    .errorMessage(rs.getString("mensaje_error"))
+                                    .queuedAt(toLocalDateTime(rs.getTimestamp("fecha_creacion")))
+                                    .processedAt(toLocalDateTime(rs.getTimestamp("fecha_procesamiento")))
+                                    .ownerEmail(rs.getString("usuario"))
+                                    .build();
+                        },
+                        referenceNumber)
+                .stream()
+                .findFirst();
+    }
+
+    private static String truncate(String errorMessage) {
+        return errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -11,14 +11,6 @@ import com.ecommerce.davivienda.entity.payment.PaymentReference;
  */
 public interface PaymentReferenceTransactionalService {
 
-    /**
-     * Verifica si existe una referencia de pago por su número.
-     *
-     * @param referenceNumber Número de referencia a verificar
-     * @return true si existe, false en caso contrario
-     */
-    boolean existsByReferenceNumber(String referenceNumber);
-
     /**
      * Guarda una referencia de pago.
      *
@@ -26,5 +18,13 @@ public interface PaymentReferenceTransactionalService {
      * @return PaymentReference guardada
      */
     PaymentReference savePaymentReference(PaymentReference reference);
-}
 
+    /**
+     * Busca una referencia de pago por su ID.
+     *
+     * @param referenceId ID de la referencia
+     * @return PaymentReference encontrada
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la referencia no existe
+     */
+    PaymentReference findById(Integer referenceId);
+}
@@ -1,12 +1,16 @@
 package com.ecommerce.davivienda.service.payment.transactional.reference;
 
 import com.ecommerce.davivienda.entity.payment.PaymentReference;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
 import com.ecommerce.davivienda.repository.payment.PaymentReferenceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_PAYMENT_NOT_FOUND;
+
 /**
  * Implementación del servicio transaccional para operaciones de consulta y persistencia de PaymentReference.
  * Centraliza todas las operaciones de acceso a datos de referencias de pago.
@@ -21,17 +25,6 @@ public class PaymentReferenceTransactionalServiceImpl implements PaymentReferenc
 
     private final PaymentReferenceRepository paymentReferenceRepository;
 
-    @Override
-    @Transactional(readOnly = true)
-    public boolean existsByReferenceNumber(String referenceNumber) {
-        log.debug("Verificando existencia de referencia: {}", referenceNumber);
-        
-        boolean exists = paymentReferenceRepository.existsByReferenceNumber(referenceNumber);
-        
-        log.debug("Referencia {} - Existe: {}", referenceNumber, exists);
-        return exists;
-    }
-
     @Override
     @Transactional
     public PaymentReference savePaymentReference(PaymentReference reference) {
@@ -44,5 +37,11 @@ public class PaymentReferenceTransactionalServiceImpl implements PaymentReferenc
                 savedReference.getReferenceNumber());
         return savedReference;
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentReference findById(Integer referenceId) {
+        return paymentReferenceRepository.findById(referenceId)
+                .orElseThrow(() -> new PaymentException(ERROR_PAYMENT_NOT_FOUND, CODE_PAYMENT_NOT_FOUND));
+    }
+}
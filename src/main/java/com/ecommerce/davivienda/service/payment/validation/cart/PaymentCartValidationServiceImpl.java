@@ -32,7 +32,7 @@ public class PaymentCartValidationServiceImpl implements PaymentCartValidationSe
             throw new PaymentException(ERROR_CART_NOT_FOUND, CODE_CART_NOT_FOUND);
         }
 
-        Cart cart = cartRepository.findById(cartId)
+        Cart cart = cartRepository.findWithItemsByCarritoId(cartId)
                 .orElseThrow(() -> {
                     log.error("Carrito no encontrado con ID: {}", cartId);
                     return new PaymentException(ERROR_CART_NOT_FOUND, CODE_CART_NOT_FOUND);
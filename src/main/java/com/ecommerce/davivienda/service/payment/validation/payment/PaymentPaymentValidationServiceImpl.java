@@ -3,8 +3,7 @@ package com.ecommerce.davivienda.service.payment.validation.payment;
 import com.ecommerce.davivienda.entity.payment.PaymentStatus;
 import com.ecommerce.davivienda.entity.payment.PaymentType;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
-import com.ecommerce.davivienda.repository.payment.PaymentStatusRepository;
-import com.ecommerce.davivienda.repository.payment.PaymentTypeRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,8 +26,7 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
     private static final String PAYMENT_TYPE_CREDIT = "credito";
     private static final String PAYMENT_STATUS_PENDING = "Pendiente";
 
-    private final PaymentTypeRepository paymentTypeRepository;
-    private final PaymentStatusRepository paymentStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public PaymentType validatePaymentType(String paymentTypeStr) {
@@ -46,7 +44,7 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
             throw new PaymentException(ERROR_INVALID_PAYMENT_TYPE, CODE_INVALID_PAYMENT_TYPE);
         }
 
-        PaymentType paymentType = paymentTypeRepository.findByPaymentType(normalizedType)
+        PaymentType paymentType = referenceDataRegistry.findPaymentType(normalizedType)
                 .orElseThrow(() -> {
                     log.error("Tipo de pago no encontrado en BD: {}", normalizedType);
                     return new PaymentException(ERROR_INVALID_PAYMENT_TYPE, CODE_INVALID_PAYMENT_TYPE);
@@ -60,7 +58,7 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
     public PaymentStatus findPendingStatus() {
         log.debug("Buscando estado de pago 'Pendiente'");
 
-        PaymentStatus status = paymentStatusRepository.findByName(PAYMENT_STATUS_PENDING)
+        PaymentStatus status = referenceDataRegistry.findPaymentStatusByName(PAYMENT_STATUS_PENDING)
                 .orElseThrow(() -> {
                     log.error("Estado de pago 'Pendiente' no encontrado en BD");
                     return new PaymentException(ERROR_PAYMENT_STATUS_NOT_FOUND, CODE_PAYMENT_STATUS_NOT_FOUND);
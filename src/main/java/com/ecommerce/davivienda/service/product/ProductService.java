@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.service.product;
 
+import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.models.product.ProductRequest;
 import com.ecommerce.davivienda.models.product.ProductResponse;
@@ -38,6 +40,7 @@ public interface ProductService {
 
     /**
      * Lista todos los productos del catálogo.
+     * Se sirve desde el snapshot en memoria del catálogo.
      *
      * @return Lista de todos los productos
      */
@@ -45,11 +48,19 @@ public interface ProductService {
 
     /**
      * Lista solo los productos activos.
+     * Se sirve desde el snapshot en memoria del catálogo.
      *
      * @return Lista de productos activos
      */
     List<ProductResponse> getActiveProducts();
 
+    /**
+     * Obtiene el snapshot vigente del catálogo, con su versión y fecha de construcción.
+     *
+     * @return Snapshot inmutable del catálogo
+     */
+    ProductCatalogSnapshot getCatalogSnapshot();
+
     /**
      * Busca productos aplicando filtros.
      *
@@ -83,6 +94,33 @@ public interface ProductService {
             String sortBy,
             String sortDir);
 
+    /**
+     * Busca productos aplicando filtros con paginación por cursor (keyset).
+     * No ejecuta OFFSET ni COUNT: el costo de cada página es independiente de su profundidad.
+     *
+     * @param categoryId Filtrar por ID de categoría
+     * @param minPrice Precio mínimo
+     * @param maxPrice Precio máximo
+     * @param active Filtrar por estado activo
+     * @param searchTerm Búsqueda por nombre
+     * @param size Tamaño de página
+     * @param sortBy Campo para ordenar (productoId, nombre, valorUnitario, creationDate)
+     * @param sortDir Dirección de orden
+     * @param after Cursor opaco de la página anterior (null para la primera página)
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.ecommerce.davivienda.exception.product.ProductException si el cursor o el campo de orden son inválidos
+     */
+    PagedProductResponseDto searchProductsByCursor(
+            Integer categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean active,
+            String searchTerm,
+            int size,
+            String sortBy,
+            String sortDir,
+            String after);
+
     /**
      * Actualiza un producto existente por cualquier criterio.
      * Permite actualización parcial o completa de campos.
@@ -1,5 +1,8 @@
 package com.ecommerce.davivienda.service.product;
 
+import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.entity.product.Product;
@@ -7,6 +10,11 @@ import com.ecommerce.davivienda.mapper.product.ProductMapper;
 import com.ecommerce.davivienda.models.product.ProductRequest;
 import com.ecommerce.davivienda.models.product.ProductResponse;
 import com.ecommerce.davivienda.models.product.ProductUpdateRequest;
+import com.ecommerce.davivienda.service.product.availability.ProductAvailabilityService;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotService;
+import com.ecommerce.davivienda.service.product.pagination.ProductCursorService;
+import com.ecommerce.davivienda.service.product.search.ProductSearchEngine;
+import com.ecommerce.davivienda.service.product.search.ProductTextMatch;
 import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
 import com.ecommerce.davivienda.service.product.validation.category.ProductCategoryValidationService;
 import com.ecommerce.davivienda.service.product.validation.common.ProductCommonValidationService;
@@ -16,12 +24,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +58,10 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductMapper productMapper;
     private final StockService stockService;
+    private final ProductCatalogSnapshotService catalogSnapshotService;
+    private final ProductCursorService cursorService;
+    private final ProductSearchEngine searchEngine;
+    private final ProductAvailabilityService availabilityService;
 
     @Override
     @Transactional
@@ -65,6 +81,7 @@ public class ProductServiceImpl implements ProductService {
             stockService.createOrUpdateStock(savedProduct.getProductoId(), request.getInventory());
         }
 
+        catalogSnapshotService.requestRefresh(savedProduct.getProductoId());
         return productMapper.toResponseDto(savedProduct);
     }
 
@@ -81,29 +98,26 @@ public class ProductServiceImpl implements ProductService {
         log.info("Obteniendo producto por ID: {}", id);
 
         Product product = productValidationService.findProductByIdOrThrow(id);
-        return productMapper.toResponseDto(product);
+        ProductResponse response = productMapper.toResponseDto(product);
+        availabilityService.enrich(List.of(response));
+        return response;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
         log.info("Listando todos los productos");
-
-        List<Product> products = transactionalService.findAllProducts();
-        return products.stream()
-                .map(productMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return catalogSnapshotService.getSnapshot().getAllProducts();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ProductResponse> getActiveProducts() {
         log.info("Listando productos activos");
+        return catalogSnapshotService.getSnapshot().getActiveProducts();
+    }
 
-        List<Product> products = transactionalService.findProductsByStatus(1); 
-        return products.stream()
-                .map(productMapper::toResponseDto)
-                .collect(Collectors.toList());
+    @Override
+    public ProductCatalogSnapshot getCatalogSnapshot() {
+        return catalogSnapshotService.getSnapshot();
     }
 
     @Override
@@ -111,12 +125,21 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductResponse> searchProducts(ProductFilterDto filter) {
         log.info("Buscando productos con filtros: {}", filter);
 
-        Specification<Product> spec = productMapper.buildSpecificationFromFilter(filter);
-        List<Product> products = transactionalService.findAllProducts(spec);
+        if (!hasSearchTerm(filter.getSearchTerm())) {
+            Specification<Product> spec = productMapper.buildSpecificationFromFilter(filter);
+            return toEnrichedResponses(transactionalService.findAllProducts(spec));
+        }
 
-        return products.stream()
-                .map(productMapper::toResponseDto)
-                .collect(Collectors.toList());
+        Specification<Product> filters = productMapper.buildSpecificationFromParams(
+                filter.getCategoryId(), filter.getMinPrice(), filter.getMaxPrice(), filter.getActive(), null);
+        ProductTextMatch match = searchEngine.match(filter.getSearchTerm());
+        List<Product> products = transactionalService.findAllProducts(
+                productMapper.buildSearchSpecification(filters, match.getSpecification()));
+
+        // Se conserva el orden de relevancia cuando el motor de búsqueda lo define
+        return toEnrichedResponses(match.getRanking()
+                .map(rankedIds -> sortByRanking(products, rankedIds))
+                .orElse(products));
     }
 
     @Override
@@ -134,12 +157,56 @@ public class ProductServiceImpl implements ProductService {
 
         log.info("Buscando productos paginados: page={}, size={}", page, size);
 
-        Specification<Product> spec = productMapper.buildSpecificationFromParams(
+        Specification<Product> spec = buildFilterSpecification(
                 categoryId, minPrice, maxPrice, active, searchTerm);
         Pageable pageable = productMapper.buildPageable(page, size, sortBy, sortDir);
 
         Page<Product> productsPage = transactionalService.findAllProducts(spec, pageable);
-        return productsPage.map(productMapper::toResponseDto);
+        Page<ProductResponse> responsePage = productsPage.map(productMapper::toResponseDto);
+        availabilityService.enrich(responsePage.getContent());
+        return responsePage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedProductResponseDto searchProductsByCursor(
+            Integer categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean active,
+            String searchTerm,
+            int size,
+            String sortBy,
+            String sortDir,
+            String after) {
+
+        log.info("Buscando productos por cursor: size={}, sortBy={}, first={}", size, sortBy, after == null);
+
+        cursorService.validateSortField(sortBy);
+        boolean firstPage = after == null || after.isBlank();
+        ProductCursorDto cursor = firstPage ? null : cursorService.decode(after, sortBy, sortDir);
+
+        Specification<Product> filters = buildFilterSpecification(
+                categoryId, minPrice, maxPrice, active, searchTerm);
+        Specification<Product> spec = productMapper.buildKeysetSpecification(filters, cursor);
+        Sort sort = productMapper.buildKeysetSort(sortBy, sortDir);
+
+        // Se pide una fila extra para saber si hay página siguiente sin ejecutar COUNT
+        int pageSize = Math.max(size, 1);
+        List<Product> products = transactionalService.findProductsSlice(spec, sort, pageSize + 1);
+        boolean hasNext = products.size() > pageSize;
+        List<Product> pageContent = hasNext ? products.subList(0, pageSize) : products;
+
+        String nextCursor = hasNext
+                ? cursorService.encode(pageContent.get(pageSize - 1), sortBy, sortDir)
+                : null;
+
+        List<ProductResponse> content = pageContent.stream()
+                .map(productMapper::toResponseDto)
+                .collect(Collectors.toList());
+        availabilityService.enrich(content);
+
+        return PagedProductResponseDto.fromCursor(content, pageSize, firstPage, nextCursor);
     }
 
     @Override
@@ -164,9 +231,47 @@ public class ProductServiceImpl implements ProductService {
             stockService.createOrUpdateStock(updatedProduct.getProductoId(), request.getInventory());
         }
 
+        catalogSnapshotService.requestRefresh(updatedProduct.getProductoId());
         log.info("Producto {} actualizado exitosamente", id);
     }
 
+    /**
+     * Construye la especificación de filtros resolviendo el término de búsqueda con el motor
+     * configurado, de modo que la restricción de texto se aplica en la misma consulta.
+     */
+    private Specification<Product> buildFilterSpecification(
+            Integer categoryId, BigDecimal minPrice, BigDecimal maxPrice, Boolean active, String searchTerm) {
+
+        Specification<Product> filters = productMapper.buildSpecificationFromParams(
+                categoryId, minPrice, maxPrice, active, null);
+        if (!hasSearchTerm(searchTerm)) {
+            return filters;
+        }
+        return productMapper.buildSearchSpecification(filters, searchEngine.match(searchTerm).getSpecification());
+    }
+
+    private boolean hasSearchTerm(String searchTerm) {
+        return searchTerm != null && !searchTerm.isBlank();
+    }
+
+    private List<Product> sortByRanking(List<Product> products, List<Integer> rankedIds) {
+        Map<Integer, Integer> rankById = new HashMap<>(rankedIds.size() * 2);
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rankById.put(rankedIds.get(i), i);
+        }
+        return products.stream()
+                .sorted(Comparator.comparing(product -> rankById.get(product.getProductoId())))
+                .collect(Collectors.toList());
+    }
+
+    private List<ProductResponse> toEnrichedResponses(List<Product> products) {
+        List<ProductResponse> responses = products.stream()
+                .map(productMapper::toResponseDto)
+                .collect(Collectors.toList());
+        availabilityService.enrich(responses);
+        return responses;
+    }
+
     private void validateUpdateRequest(ProductUpdateRequest request, Integer productId) {
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
             productValidationService.validateProductNameNotExistsOnUpdate(request.getName(), productId);
@@ -0,0 +1,22 @@
+package com.ecommerce.davivienda.service.product.availability;
+
+import com.ecommerce.davivienda.models.product.ProductResponse;
+
+import java.util.List;
+
+/**
+ * Servicio que completa la disponibilidad (inventario y nombre de estado) de los productos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ProductAvailabilityService {
+
+    /**
+     * Completa {@code inventory} y {@code estadoProducto} de los productos recibidos.
+     * El inventario se resuelve con una sola consulta de stock para toda la lista.
+     *
+     * @param products Productos a completar (se modifican en sitio)
+     */
+    void enrich(List<ProductResponse> products);
+}
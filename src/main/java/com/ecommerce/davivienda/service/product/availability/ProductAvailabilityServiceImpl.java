@@ -0,0 +1,56 @@
+package com.ecommerce.davivienda.service.product.availability;
+
+import com.ecommerce.davivienda.entity.product.ProductStatus;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
+import com.ecommerce.davivienda.service.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del servicio de disponibilidad de productos.
+ *
+ * <p>El inventario se obtiene con una consulta {@code IN} por lista (no una por producto).
+ * Los nombres de estado se resuelven desde el {@link ReferenceDataRegistry} en memoria.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductAvailabilityServiceImpl implements ProductAvailabilityService {
+
+    private final StockService stockService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @Override
+    public void enrich(List<ProductResponse> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> productIds = products.stream()
+                .map(ProductResponse::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Integer, Integer> stockByProduct = stockService.getCurrentStockByProductIds(productIds);
+
+        for (ProductResponse product : products) {
+            product.setInventory(stockByProduct.getOrDefault(product.getId(), 0));
+            if (product.getEstadoProductoId() != null) {
+                product.setEstadoProducto(referenceDataRegistry.findProductStatusById(product.getEstadoProductoId())
+                        .map(ProductStatus::getNombre)
+                        .orElse(null));
+            }
+        }
+    }
+}
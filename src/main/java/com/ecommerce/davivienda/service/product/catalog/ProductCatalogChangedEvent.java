@@ -0,0 +1,21 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cuando un producto del catálogo se crea o se actualiza.
+ * Se procesa después del commit para reconstruir el snapshot del catálogo.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCatalogChangedEvent {
+
+    /**
+     * ID del producto que cambió.
+     */
+    private final Integer productId;
+}
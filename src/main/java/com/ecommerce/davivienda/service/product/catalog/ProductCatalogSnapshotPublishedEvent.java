@@ -0,0 +1,24 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cuando se reconstruye el snapshot del catálogo con una nueva versión.
+ * Se emite en el mismo hilo de la reconstrucción, para que las estructuras derivadas del
+ * snapshot (ej. el índice de búsqueda) se preparen antes de que las lean los requests.
+ * Las actualizaciones de inventario no lo publican porque conservan la versión.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCatalogSnapshotPublishedEvent {
+
+    /**
+     * Snapshot recién publicado.
+     */
+    private final ProductCatalogSnapshot snapshot;
+}
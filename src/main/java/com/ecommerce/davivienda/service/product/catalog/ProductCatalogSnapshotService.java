@@ -0,0 +1,50 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+
+/**
+ * Servicio que mantiene en memoria un snapshot inmutable y versionado del catálogo.
+ * Los listados públicos se sirven desde el snapshot sin consultar la base de datos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ProductCatalogSnapshotService {
+
+    /**
+     * Obtiene el snapshot vigente del catálogo.
+     * Si aún no existe (primer acceso) se construye en ese momento.
+     *
+     * @return Snapshot vigente
+     */
+    ProductCatalogSnapshot getSnapshot();
+
+    /**
+     * Registra un cambio en el catálogo: incrementa la versión del catálogo en la BD dentro de la
+     * transacción activa y solicita reconstruir el snapshot local después del commit
+     * (inmediatamente si no hay transacción).
+     *
+     * @param productId ID del producto que cambió
+     */
+    void requestRefresh(Integer productId);
+
+    /**
+     * Compara la versión del snapshot local con la versión del catálogo en la BD y programa
+     * una reconstrucción si difieren (ej. el producto se modificó desde otra instancia).
+     */
+    void refreshIfStale();
+
+    /**
+     * Vuelve a leer el stock de todos los productos del snapshot y publica una copia con el
+     * inventario actualizado, sin cambiar la versión. Incluye cambios de stock hechos desde
+     * otra instancia.
+     */
+    void refreshInventory();
+
+    /**
+     * Reconstruye el snapshot desde la base de datos y lo publica atómicamente.
+     *
+     * @return Nuevo snapshot publicado
+     */
+    ProductCatalogSnapshot rebuild();
+}
@@ -0,0 +1,276 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.product.ProductMapper;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.service.product.availability.ProductAvailabilityService;
+import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
+import com.ecommerce.davivienda.service.stock.StockService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementación del snapshot en memoria del catálogo de productos.
+ *
+ * <p>El snapshot se construye con una sola consulta y se mapea una única vez.
+ * Cada escritura de productos publica un {@link ProductCatalogChangedEvent} que se procesa
+ * después del commit, reconstruyendo y reemplazando el snapshot de forma atómica.
+ * Las lecturas nunca ven un snapshot a medio construir.</p>
+ *
+ * <p>Las escrituras de stock publican un {@link ProductStockChangedEvent}: solo se vuelve a leer
+ * el stock de esos productos y se publica una copia del snapshot con sus respuestas
+ * reemplazadas, conservando la versión (y con ella el índice de búsqueda derivado). Cada
+ * reconstrucción publica un {@link ProductCatalogSnapshotPublishedEvent}.</p>
+ *
+ * <p>Reconstrucciones y actualizaciones de inventario se ejecutan en un hilo dedicado y los
+ * cambios se agrupan: si llegan varios eventos mientras hay una tarea pendiente (ej. un pago
+ * que descuenta stock de varios productos), se procesan juntos. Si una reconstrucción falla se
+ * conserva el último snapshot válido.</p>
+ *
+ * <p>La versión del snapshot es la de la tabla {@code catalogo_version}, que se incrementa en
+ * la transacción de cada escritura de productos. Así todas las instancias exponen la misma
+ * versión para el mismo catálogo, y {@link #refreshIfStale()} (tarea periódica) detecta los
+ * cambios hechos desde otra instancia.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogSnapshotServiceImpl implements ProductCatalogSnapshotService {
+
+    private final ProductProductTransactionalService transactionalService;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductAvailabilityService availabilityService;
+    private final StockService stockService;
+
+    private final AtomicReference<ProductCatalogSnapshot> currentSnapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final AtomicBoolean inventoryRefreshPending = new AtomicBoolean();
+    private final Set<Integer> pendingInventoryIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public ProductCatalogSnapshot getSnapshot() {
+        ProductCatalogSnapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return buildIfAbsent();
+    }
+
+    @Override
+    public void requestRefresh(Integer productId) {
+        long version = transactionalService.incrementCatalogVersion();
+        log.debug("Solicitando reconstrucción del catálogo (versión {}) por cambio en producto {}",
+                version, productId);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(productId));
+    }
+
+    @Override
+    public void refreshIfStale() {
+        ProductCatalogSnapshot snapshot = currentSnapshot.get();
+        if (snapshot == null) {
+            return;
+        }
+        long catalogVersion = transactionalService.findCatalogVersion();
+        if (catalogVersion != snapshot.getVersion()) {
+            log.info("Versión del catálogo en BD ({}) distinta a la del snapshot ({}), se reconstruye",
+                    catalogVersion, snapshot.getVersion());
+            scheduleRefresh(null);
+        }
+    }
+
+    @Override
+    public void refreshInventory() {
+        ProductCatalogSnapshot snapshot = currentSnapshot.get();
+        if (snapshot == null) {
+            return;
+        }
+        updateInventory(snapshot.getAllProducts().stream()
+                .map(ProductResponse::getId)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public synchronized ProductCatalogSnapshot rebuild() {
+        // La versión se lee antes que los productos: si otra escritura confirma en medio, el
+        // snapshot queda con una versión anterior y la siguiente comparación lo reconstruye
+        long version = transactionalService.findCatalogVersion();
+        List<Product> products = transactionalService.findAllProducts();
+
+        List<ProductResponse> allProducts = new ArrayList<>(products.size());
+        List<ProductResponse> activeProducts = new ArrayList<>(products.size());
+        for (Product product : products) {
+            ProductResponse response = productMapper.toResponseDto(product);
+            allProducts.add(response);
+            if (product.isActive()) {
+                activeProducts.add(response);
+            }
+        }
+        availabilityService.enrich(allProducts);
+
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(
+                version, allProducts, activeProducts);
+        currentSnapshot.set(snapshot);
+
+        log.info("Snapshot del catálogo publicado: versión={}, productos={}, activos={}",
+                snapshot.getVersion(), allProducts.size(), activeProducts.size());
+        eventPublisher.publishEvent(new ProductCatalogSnapshotPublishedEvent(snapshot));
+        return snapshot;
+    }
+
+    /**
+     * Programa la reconstrucción del snapshot una vez confirmada la transacción que modificó
+     * el catálogo. Si ya hay una reconstrucción pendiente, el evento se agrupa con ella.
+     *
+     * @param event Evento de cambio en el catálogo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        scheduleRefresh(event.getProductId());
+    }
+
+    /**
+     * Programa la reconstrucción en el hilo dedicado, agrupándola con una ya pendiente.
+     *
+     * @param productId ID del producto que originó el cambio (null si lo detectó la tarea periódica)
+     */
+    private void scheduleRefresh(Integer productId) {
+        if (!refreshPending.compareAndSet(false, true)) {
+            log.debug("Reconstrucción del catálogo ya pendiente, se agrupa cambio en producto {}", productId);
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refreshSnapshot(productId));
+        } catch (RejectedExecutionException e) {
+            refreshPending.set(false);
+            log.warn("No se pudo programar la reconstrucción del catálogo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Programa la actualización del inventario del producto en el snapshot una vez confirmada
+     * la transacción que modificó su stock. Los productos de eventos que llegan mientras hay una
+     * actualización pendiente se agregan a ella.
+     *
+     * @param event Evento de cambio de stock
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        pendingInventoryIds.add(event.getProductId());
+        if (!inventoryRefreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(this::refreshPendingInventory);
+        } catch (RejectedExecutionException e) {
+            inventoryRefreshPending.set(false);
+            log.warn("No se pudo programar la actualización de inventario del catálogo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruye el snapshot. Si la reconstrucción falla se conserva el snapshot anterior:
+     * su versión sigue siendo distinta a la de la BD, por lo que {@link #refreshIfStale()}
+     * vuelve a intentarlo en la siguiente verificación.
+     *
+     * @param productId ID del producto que originó el cambio
+     */
+    void refreshSnapshot(Integer productId) {
+        // Se libera antes de leer para que cambios posteriores programen otra reconstrucción
+        refreshPending.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Error al reconstruir el catálogo tras cambio en producto {}; se conserva el snapshot anterior",
+                    productId, e);
+        }
+    }
+
+    /**
+     * Actualiza el inventario de los productos acumulados por {@link #onStockChanged}.
+     * Si falla, el inventario se corrige en la siguiente ejecución de {@link #refreshInventory()}.
+     */
+    void refreshPendingInventory() {
+        // Se libera antes de leer para que cambios posteriores programen otra actualización
+        inventoryRefreshPending.set(false);
+        List<Integer> productIds = new ArrayList<>();
+        for (Iterator<Integer> iterator = pendingInventoryIds.iterator(); iterator.hasNext(); ) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        try {
+            updateInventory(productIds);
+        } catch (RuntimeException e) {
+            log.error("Error al actualizar el inventario del catálogo para productos {}", productIds, e);
+        }
+    }
+
+    /**
+     * Lee el stock de los productos indicados y publica un snapshot con la misma versión en el
+     * que se reemplazan las respuestas cuyo inventario cambió. Las respuestas publicadas no se
+     * modifican porque se comparten entre peticiones.
+     *
+     * @param productIds IDs de los productos a actualizar
+     */
+    private synchronized void updateInventory(Collection<Integer> productIds) {
+        ProductCatalogSnapshot snapshot = currentSnapshot.get();
+        if (snapshot == null || productIds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> stockByProduct = stockService.getCurrentStockByProductIds(productIds);
+        Map<Integer, ProductResponse> updated = new HashMap<>();
+        for (ProductResponse product : snapshot.getAllProducts()) {
+            Integer inventory = stockByProduct.get(product.getId());
+            if (inventory != null && !inventory.equals(product.getInventory())) {
+                updated.put(product.getId(), product.toBuilder().inventory(inventory).build());
+            }
+        }
+        if (updated.isEmpty()) {
+            return;
+        }
+
+        currentSnapshot.set(snapshot.withReplacedProducts(updated));
+        log.debug("Inventario actualizado en el snapshot del catálogo: versión={}, productos={}",
+                snapshot.getVersion(), updated.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private synchronized ProductCatalogSnapshot buildIfAbsent() {
+        ProductCatalogSnapshot snapshot = currentSnapshot.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+}
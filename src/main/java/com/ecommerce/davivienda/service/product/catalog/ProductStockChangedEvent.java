@@ -0,0 +1,22 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cuando cambia el stock de un producto.
+ * Se procesa después del commit para actualizar el inventario del producto en el snapshot
+ * del catálogo, sin reconstruirlo ni cambiar su versión.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductStockChangedEvent {
+
+    /**
+     * ID del producto cuyo stock cambió.
+     */
+    private final Integer productId;
+}
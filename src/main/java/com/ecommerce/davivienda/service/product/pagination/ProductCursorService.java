@@ -0,0 +1,45 @@
+package com.ecommerce.davivienda.service.product.pagination;
+
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
+import com.ecommerce.davivienda.entity.product.Product;
+
+/**
+ * Servicio para codificar y decodificar cursores opacos de paginación por keyset.
+ * El cursor contiene el campo y la dirección de ordenamiento, el valor de ese campo
+ * y el ID del último producto entregado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ProductCursorService {
+
+    /**
+     * Valida que el campo de ordenamiento admita paginación por cursor.
+     * Solo se admiten columnas no nulas para que el keyset sea estable.
+     *
+     * @param sortBy Campo de ordenamiento
+     * @throws com.ecommerce.davivienda.exception.product.ProductException si el campo no es soportado
+     */
+    void validateSortField(String sortBy);
+
+    /**
+     * Genera el cursor opaco que apunta después del producto indicado.
+     *
+     * @param lastProduct Último producto de la página actual
+     * @param sortBy Campo de ordenamiento
+     * @param sortDir Dirección de orden (asc/desc)
+     * @return Cursor codificado en Base64 URL-safe
+     */
+    String encode(Product lastProduct, String sortBy, String sortDir);
+
+    /**
+     * Decodifica un cursor y verifica que corresponda al ordenamiento solicitado.
+     *
+     * @param cursor Cursor opaco recibido del cliente
+     * @param sortBy Campo de ordenamiento de la petición actual
+     * @param sortDir Dirección de orden de la petición actual
+     * @return Posición decodificada con el valor ya tipado
+     * @throws com.ecommerce.davivienda.exception.product.ProductException si el cursor es inválido
+     */
+    ProductCursorDto decode(String cursor, String sortBy, String sortDir);
+}
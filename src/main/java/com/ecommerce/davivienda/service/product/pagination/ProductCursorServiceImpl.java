@@ -0,0 +1,117 @@
+package com.ecommerce.davivienda.service.product.pagination;
+
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.exception.product.ProductException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Implementación del servicio de cursores de paginación por keyset.
+ *
+ * <p>Formato interno (antes de Base64): {@code sortBy:dir:lastId:lastValue}.
+ * El valor va al final para que pueda contener el separador sin ambigüedad.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ProductCursorServiceImpl implements ProductCursorService {
+
+    private static final String SEPARATOR = ":";
+    private static final int CURSOR_PARTS = 4;
+    private static final String DIRECTION_ASC = "asc";
+    private static final String DIRECTION_DESC = "desc";
+
+    private static final String FIELD_PRODUCT_ID = "productoId";
+    private static final String FIELD_NAME = "nombre";
+    private static final String FIELD_UNIT_VALUE = "valorUnitario";
+    private static final String FIELD_CREATION_DATE = "creationDate";
+
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of(
+            FIELD_PRODUCT_ID, FIELD_NAME, FIELD_UNIT_VALUE, FIELD_CREATION_DATE);
+
+    @Override
+    public void validateSortField(String sortBy) {
+        if (!KEYSET_SORT_FIELDS.contains(sortBy)) {
+            log.warn("Campo de ordenamiento no soportado en paginación por cursor: {}", sortBy);
+            throw new ProductException(
+                    Constants.ERROR_INVALID_CURSOR_SORT_FIELD,
+                    Constants.CODE_INVALID_CURSOR_SORT_FIELD);
+        }
+    }
+
+    @Override
+    public String encode(Product lastProduct, String sortBy, String sortDir) {
+        String raw = String.join(SEPARATOR,
+                sortBy,
+                normalizeDirection(sortDir),
+                String.valueOf(lastProduct.getProductoId()),
+                extractSortValue(lastProduct, sortBy));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ProductCursorDto decode(String cursor, String sortBy, String sortDir) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, CURSOR_PARTS);
+
+            if (parts.length != CURSOR_PARTS
+                    || !parts[0].equals(sortBy)
+                    || !parts[1].equals(normalizeDirection(sortDir))) {
+                throw invalidCursor(null);
+            }
+
+            return ProductCursorDto.builder()
+                    .sortBy(sortBy)
+                    .descending(DIRECTION_DESC.equals(parts[1]))
+                    .lastId(Integer.valueOf(parts[2]))
+                    .lastValue(parseSortValue(sortBy, parts[3]))
+                    .build();
+
+        } catch (IllegalArgumentException | DateTimeException e) {
+            log.warn("Cursor de paginación inválido: {}", e.getMessage());
+            throw invalidCursor(e);
+        }
+    }
+
+    private String extractSortValue(Product product, String sortBy) {
+        return switch (sortBy) {
+            case FIELD_NAME -> product.getNombre();
+            case FIELD_UNIT_VALUE -> product.getValorUnitario().toPlainString();
+            case FIELD_CREATION_DATE -> product.getCreationDate().toString();
+            default -> String.valueOf(product.getProductoId());
+        };
+    }
+
+    private Comparable<?> parseSortValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case FIELD_NAME -> value;
+            case FIELD_UNIT_VALUE -> new BigDecimal(value);
+            case FIELD_CREATION_DATE -> LocalDateTime.parse(value);
+            default -> Integer.valueOf(value);
+        };
+    }
+
+    private String normalizeDirection(String sortDir) {
+        return DIRECTION_DESC.equalsIgnoreCase(sortDir) ? DIRECTION_DESC : DIRECTION_ASC;
+    }
+
+    private ProductException invalidCursor(Throwable cause) {
+        return new ProductException(
+                Constants.ERROR_INVALID_PAGINATION_CURSOR,
+                Constants.CODE_INVALID_PAGINATION_CURSOR,
+                cause);
+    }
+}
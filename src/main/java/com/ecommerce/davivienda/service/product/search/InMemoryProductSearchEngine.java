@@ -0,0 +1,88 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotPublishedEvent;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Motor de búsqueda con índice invertido en memoria.
+ *
+ * <p>El índice se deriva del snapshot del catálogo: cada {@link ProductCatalogSnapshotPublishedEvent}
+ * lo reconstruye en el hilo que reconstruyó el snapshot y lo reemplaza de forma atómica. Las
+ * búsquedas solo leen el índice vigente; únicamente la primera búsqueda tras el arranque puede
+ * construirlo en el hilo del request. No ejecuta consultas propias contra la base de datos.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "catalog.search", name = "engine", havingValue = "index", matchIfMissing = true)
+public class InMemoryProductSearchEngine implements ProductSearchEngine {
+
+    private final ProductCatalogSnapshotService catalogSnapshotService;
+
+    private final AtomicReference<ProductSearchIndex> currentIndex = new AtomicReference<>();
+
+    @Override
+    public ProductTextMatch match(String searchTerm) {
+        // Un término formado solo por palabras vacías no restringe la búsqueda
+        if (SpanishTextAnalyzer.analyze(searchTerm).isEmpty()) {
+            return ProductTextMatch.all();
+        }
+        return ProductTextMatch.ranked(resolveIndex().search(searchTerm));
+    }
+
+    /**
+     * Reconstruye el índice cuando se publica un snapshot con otra versión.
+     * Un fallo al indexar se registra y conserva el índice anterior, sin afectar al snapshot.
+     *
+     * @param event Evento con el snapshot publicado
+     */
+    @EventListener
+    public synchronized void onSnapshotPublished(ProductCatalogSnapshotPublishedEvent event) {
+        ProductCatalogSnapshot snapshot = event.getSnapshot();
+        ProductSearchIndex index = currentIndex.get();
+        if (index != null && index.getVersion() == snapshot.getVersion()) {
+            return;
+        }
+        try {
+            publish(snapshot);
+        } catch (RuntimeException e) {
+            log.error("Error reconstruyendo el índice de búsqueda para la versión {}, se conserva el anterior",
+                    snapshot.getVersion(), e);
+        }
+    }
+
+    private ProductSearchIndex resolveIndex() {
+        ProductSearchIndex index = currentIndex.get();
+        if (index != null) {
+            return index;
+        }
+        // Arranque en frío: construir el snapshot publica el evento que construye el índice
+        ProductCatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        index = currentIndex.get();
+        return index != null ? index : buildIfAbsent(snapshot);
+    }
+
+    private synchronized ProductSearchIndex buildIfAbsent(ProductCatalogSnapshot snapshot) {
+        ProductSearchIndex index = currentIndex.get();
+        return index != null ? index : publish(snapshot);
+    }
+
+    private ProductSearchIndex publish(ProductCatalogSnapshot snapshot) {
+        ProductSearchIndex index = ProductSearchIndex.build(snapshot.getVersion(), snapshot.getAllProducts());
+        currentIndex.set(index);
+        log.info("Índice de búsqueda reconstruido: versión={}, términos={}",
+                index.getVersion(), index.termCount());
+        return index;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.repository.product.ProductSpecification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Motor de búsqueda original: resuelve el término como
+ * {@code LIKE '%term%'} sobre nombre y descripción, sin orden de relevancia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "catalog.search", name = "engine", havingValue = "like")
+public class LikeProductSearchEngine implements ProductSearchEngine {
+
+    @Override
+    public ProductTextMatch match(String searchTerm) {
+        return ProductTextMatch.of(ProductSpecification.containsText(searchTerm));
+    }
+}
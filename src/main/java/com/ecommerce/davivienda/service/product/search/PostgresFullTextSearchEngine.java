@@ -0,0 +1,37 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Motor de búsqueda basado en PostgreSQL (tsvector + índice GIN).
+ * Usa la configuración de texto {@code es_unaccent} (español sin tildes) creada en el script de base de datos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "catalog.search", name = "engine", havingValue = "postgres")
+public class PostgresFullTextSearchEngine implements ProductSearchEngine {
+
+    private final ProductProductTransactionalService transactionalService;
+
+    @Override
+    public ProductTextMatch match(String searchTerm) {
+        String term = searchTerm.trim();
+        List<Integer> rankedIds = transactionalService.findRankedIdsByFullText(term);
+        // Las palabras vacías las decide el diccionario de PostgreSQL, no el analizador en Java:
+        // un tsquery vacío no restringe la búsqueda en lugar de devolver cero resultados
+        if (rankedIds.isEmpty() && transactionalService.isEmptyFullTextQuery(term)) {
+            return ProductTextMatch.all();
+        }
+        return ProductTextMatch.ranked(rankedIds);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.davivienda.service.product.search;
+
+/**
+ * Motor de búsqueda de texto para productos (nombre y descripción).
+ *
+ * <p>La implementación activa se selecciona con la propiedad {@code catalog.search.engine}:</p>
+ * <ul>
+ *   <li><b>index</b> (por defecto): índice invertido en memoria, sincronizado con el snapshot del catálogo.</li>
+ *   <li><b>postgres</b>: búsqueda de texto completo con tsvector + índice GIN.</li>
+ *   <li><b>like</b>: comportamiento original con {@code LIKE '%term%'} en la especificación.</li>
+ * </ul>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ProductSearchEngine {
+
+    /**
+     * Resuelve un término de búsqueda como una restricción sobre los productos.
+     * La restricción cubre todas las coincidencias (sin tope), para que el conteo y la
+     * paginación se calculen en la consulta.
+     *
+     * @param searchTerm Término de búsqueda (no vacío)
+     * @return Coincidencia con la especificación de texto y, si aplica, el orden de relevancia
+     */
+    ProductTextMatch match(String searchTerm);
+}
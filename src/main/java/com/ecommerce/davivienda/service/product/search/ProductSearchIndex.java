@@ -0,0 +1,126 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Índice invertido inmutable sobre nombre y descripción de productos.
+ *
+ * <p>Cada término apunta a un mapa {@code productId → puntaje}. El nombre pesa más
+ * que la descripción. Una consulta exige que todos sus términos coincidan (AND);
+ * el último término se evalúa como prefijo para soportar búsqueda mientras se escribe.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class ProductSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * Versión del snapshot de catálogo a partir del cual se construyó el índice.
+     */
+    @Getter
+    private final long version;
+
+    private final NavigableMap<String, Map<Integer, Integer>> postings;
+
+    private ProductSearchIndex(long version, NavigableMap<String, Map<Integer, Integer>> postings) {
+        this.version = version;
+        this.postings = postings;
+    }
+
+    /**
+     * Construye el índice a partir de los productos del catálogo.
+     *
+     * @param version Versión del snapshot de origen
+     * @param products Productos a indexar
+     * @return Índice inmutable
+     */
+    public static ProductSearchIndex build(long version, List<ProductResponse> products) {
+        TreeMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+        for (ProductResponse product : products) {
+            addTerms(postings, product.getId(), product.getName(), NAME_WEIGHT);
+            addTerms(postings, product.getId(), product.getDescription(), DESCRIPTION_WEIGHT);
+        }
+        return new ProductSearchIndex(version, Collections.unmodifiableNavigableMap(postings));
+    }
+
+    /**
+     * Busca productos que contienen todos los términos de la consulta.
+     *
+     * @param searchTerm Término de búsqueda
+     * @return IDs de todas las coincidencias, ordenados por puntaje descendente y luego por ID
+     */
+    public List<Integer> search(String searchTerm) {
+        List<String> terms = SpanishTextAnalyzer.analyze(searchTerm);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> scores = null;
+        for (int i = 0; i < terms.size(); i++) {
+            boolean lastTerm = i == terms.size() - 1;
+            Map<Integer, Integer> termScores = lastTerm ? prefixScores(terms.get(i)) : exactScores(terms.get(i));
+            scores = scores == null ? new HashMap<>(termScores) : intersect(scores, termScores);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Número de términos distintos en el índice.
+     *
+     * @return Cantidad de términos
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    private static void addTerms(Map<String, Map<Integer, Integer>> postings,
+                                 Integer productId, String text, int weight) {
+        for (String term : SpanishTextAnalyzer.analyze(text)) {
+            postings.computeIfAbsent(term, key -> new HashMap<>())
+                    .merge(productId, weight, Integer::sum);
+        }
+    }
+
+    private Map<Integer, Integer> exactScores(String term) {
+        return postings.getOrDefault(term, Map.of());
+    }
+
+    private Map<Integer, Integer> prefixScores(String prefix) {
+        Map<Integer, Integer> merged = new HashMap<>();
+        postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+                .values()
+                .forEach(entry -> entry.forEach((id, score) -> merged.merge(id, score, Integer::sum)));
+        return merged;
+    }
+
+    private static Map<Integer, Integer> intersect(Map<Integer, Integer> accumulated, Map<Integer, Integer> termScores) {
+        Map<Integer, Integer> result = new HashMap<>();
+        accumulated.forEach((id, score) -> {
+            Integer termScore = termScores.get(id);
+            if (termScore != null) {
+                result.put(id, score + termScore);
+            }
+        });
+        return result;
+    }
+}
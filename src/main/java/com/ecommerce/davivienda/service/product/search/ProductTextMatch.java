@@ -0,0 +1,80 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.repository.product.ProductSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resultado de resolver un término de búsqueda con un motor de texto.
+ *
+ * <p>Siempre aporta una especificación que restringe la consulta a los productos coincidentes,
+ * de modo que los filtros, el conteo y la paginación se resuelven en la base de datos sobre
+ * el conjunto completo. Los motores que rankean además exponen el orden de relevancia.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class ProductTextMatch {
+
+    private static final ProductTextMatch ALL =
+            new ProductTextMatch((root, query, criteriaBuilder) -> criteriaBuilder.conjunction(), null);
+
+    private final Specification<Product> specification;
+    private final List<Integer> rankedIds;
+
+    private ProductTextMatch(Specification<Product> specification, List<Integer> rankedIds) {
+        this.specification = specification;
+        this.rankedIds = rankedIds;
+    }
+
+    /**
+     * Coincidencia sin restricción de texto (por ejemplo, un término formado solo por palabras vacías).
+     *
+     * @return Coincidencia que no filtra productos ni define orden
+     */
+    public static ProductTextMatch all() {
+        return ALL;
+    }
+
+    /**
+     * Coincidencia resuelta por un predicado, sin orden de relevancia.
+     *
+     * @param specification Predicado de texto
+     * @return Coincidencia sin ranking
+     */
+    public static ProductTextMatch of(Specification<Product> specification) {
+        return new ProductTextMatch(specification, null);
+    }
+
+    /**
+     * Coincidencia resuelta como IDs ordenados por relevancia.
+     *
+     * @param rankedIds Todos los IDs coincidentes, de mayor a menor relevancia
+     * @return Coincidencia rankeada
+     */
+    public static ProductTextMatch ranked(List<Integer> rankedIds) {
+        List<Integer> ids = List.copyOf(rankedIds);
+        return new ProductTextMatch(ProductSpecification.withProductIds(ids), ids);
+    }
+
+    /**
+     * Especificación que restringe los productos a los que coinciden con el término.
+     *
+     * @return Specification de texto
+     */
+    public Specification<Product> getSpecification() {
+        return specification;
+    }
+
+    /**
+     * Orden de relevancia de los productos coincidentes, si el motor lo define.
+     *
+     * @return IDs de mayor a menor relevancia, o vacío si el motor no rankea
+     */
+    public Optional<List<Integer>> getRanking() {
+        return Optional.ofNullable(rankedIds);
+    }
+}
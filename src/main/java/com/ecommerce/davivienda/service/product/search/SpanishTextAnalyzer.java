@@ -0,0 +1,87 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Analizador de texto en español para el índice de búsqueda de productos.
+ * Normaliza a minúsculas, elimina tildes y diacríticos, descarta palabras vacías
+ * y aplica un stemming ligero de plurales.
+ *
+ * <p>Se usa el mismo análisis para indexar y para consultar, por lo que la
+ * forma reducida solo necesita ser consistente, no lingüísticamente exacta.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class SpanishTextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^a-z0-9ñ]+");
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los",
+            "o", "para", "por", "se", "sin", "su", "sus", "un", "una", "unos", "unas", "y");
+
+    /**
+     * Constructor privado para evitar instanciación.
+     */
+    private SpanishTextAnalyzer() {
+        throw new IllegalStateException("Utility class - No se puede instanciar");
+    }
+
+    /**
+     * Convierte un texto en la lista de términos indexables.
+     *
+     * @param text Texto a analizar (puede ser null)
+     * @return Términos normalizados en el orden en que aparecen
+     */
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Pasa el texto a minúsculas y elimina tildes, conservando la ñ.
+     *
+     * @param text Texto original
+     * @return Texto normalizado
+     */
+    static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace('ñ', '\u0001');
+        String withoutMarks = DIACRITICS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+        return withoutMarks.replace('\u0001', 'ñ');
+    }
+
+    /**
+     * Stemming ligero: elimina la 's' y luego la 'e' finales (plurales regulares).
+     * Ej: "cables" y "cable" → "cabl"; "portátiles" y "portátil" → "portatil".
+     *
+     * @param token Token normalizado
+     * @return Forma reducida del token
+     */
+    static String stem(String token) {
+        String stem = token;
+        if (stem.length() > MIN_STEM_LENGTH && stem.endsWith("s")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        if (stem.length() > MIN_STEM_LENGTH && stem.endsWith("e")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+}
@@ -1,11 +1,10 @@
 package com.ecommerce.davivienda.service.product.transactional.category;
 
 import com.ecommerce.davivienda.entity.product.Category;
-import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,13 +20,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductCategoryTransactionalServiceImpl implements ProductCategoryTransactionalService {
 
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Category> findCategoryByName(String categoryName) {
         log.debug("Buscando categoría con nombre: {}", categoryName);
-        return categoryRepository.findByNombreIgnoreCase(categoryName);
+        return referenceDataRegistry.findCategoryByNameIgnoreCase(categoryName);
     }
 }
 
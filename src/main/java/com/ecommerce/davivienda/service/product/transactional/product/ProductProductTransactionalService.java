@@ -3,6 +3,7 @@ package com.ecommerce.davivienda.service.product.transactional.product;
 import com.ecommerce.davivienda.entity.product.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -57,6 +58,34 @@ public interface ProductProductTransactionalService {
      */
     Page<Product> findAllProducts(Specification<Product> spec, Pageable pageable);
 
+    /**
+     * Busca hasta {@code limit} productos usando especificación y ordenamiento,
+     * sin OFFSET ni consulta COUNT (paginación por cursor).
+     *
+     * @param spec Especificación de búsqueda (incluye el predicado de keyset)
+     * @param sort Ordenamiento total de la consulta
+     * @param limit Número máximo de filas a obtener
+     * @return Lista ordenada de productos
+     */
+    List<Product> findProductsSlice(Specification<Product> spec, Sort sort, int limit);
+
+    /**
+     * Busca IDs de productos por texto completo (PostgreSQL tsvector), ordenados por relevancia.
+     *
+     * @param term Término de búsqueda
+     * @return IDs de todos los productos coincidentes, ordenados por relevancia
+     */
+    List<Integer> findRankedIdsByFullText(String term);
+
+    /**
+     * Indica si el término de texto completo queda vacío tras el análisis de PostgreSQL
+     * (solo palabras vacías o sin lexemas).
+     *
+     * @param term Término de búsqueda
+     * @return true si el término no restringe la búsqueda
+     */
+    boolean isEmptyFullTextQuery(String term);
+
     /**
      * Verifica si existe un producto con el nombre dado.
      *
@@ -74,6 +103,20 @@ public interface ProductProductTransactionalService {
      */
     boolean existsByNameAndNotId(String name, Integer productId);
 
+    /**
+     * Incrementa la versión del catálogo dentro de la transacción activa.
+     *
+     * @return Nueva versión del catálogo
+     */
+    long incrementCatalogVersion();
+
+    /**
+     * Obtiene la versión confirmada del catálogo.
+     *
+     * @return Versión del catálogo
+     */
+    long findCatalogVersion();
+
     /**
      * Guarda un producto.
      *
@@ -6,7 +6,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +27,23 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductProductTransactionalServiceImpl implements ProductProductTransactionalService {
 
+    /**
+     * Incremento atómico de la versión del catálogo; la fila queda bloqueada hasta el commit.
+     */
+    private static final String INCREMENT_CATALOG_VERSION_SQL =
+            "UPDATE catalogo_version SET version = version + 1 RETURNING version";
+
+    private static final String FIND_CATALOG_VERSION_SQL =
+            "SELECT version FROM catalogo_version";
+
     private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Product> findProductById(Integer productId) {
         log.debug("Buscando producto con ID: {}", productId);
-        return productRepository.findById(productId);
+        return productRepository.findWithCategoriaByProductoId(productId);
     }
 
     @Override
@@ -62,6 +74,27 @@ public class ProductProductTransactionalServiceImpl implements ProductProductTra
         return productRepository.findAll(spec, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findProductsSlice(Specification<Product> spec, Sort sort, int limit) {
+        log.debug("Buscando hasta {} productos por cursor", limit);
+        // project() aplica las propiedades como fetch graph: la categoría llega en la misma consulta
+        return productRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).project("categoria").all());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findRankedIdsByFullText(String term) {
+        log.debug("Buscando productos por texto completo: {}", term);
+        return productRepository.searchRankedIdsByFullText(term);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmptyFullTextQuery(String term) {
+        return productRepository.isEmptyFullTextQuery(term);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByName(String name) {
@@ -76,6 +109,20 @@ public class ProductProductTransactionalServiceImpl implements ProductProductTra
         return productRepository.existsByNombreAndProductoIdNot(name, productId);
     }
 
+    @Override
+    @Transactional
+    public long incrementCatalogVersion() {
+        Long version = jdbcTemplate.queryForObject(INCREMENT_CATALOG_VERSION_SQL, Long.class);
+        log.debug("Versión del catálogo incrementada a {}", version);
+        return version;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findCatalogVersion() {
+        return jdbcTemplate.queryForObject(FIND_CATALOG_VERSION_SQL, Long.class);
+    }
+
     @Override
     @Transactional
     public Product saveProduct(Product product) {
@@ -0,0 +1,160 @@
+package com.ecommerce.davivienda.service.reference;
+
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.ProductStatus;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Registro en memoria de los datos de referencia del sistema: roles, tipos de documento,
+ * estados de usuario, tipos y estados de pago, categorías y estados de producto.
+ *
+ * <p>Son tablas pequeñas y casi estáticas: se cargan al iniciar la aplicación y se recargan
+ * completas de forma periódica o cuando una búsqueda no encuentra el valor (con un intervalo
+ * mínimo entre recargas). Los aciertos no acceden a la base de datos; cada búsqueda registra
+ * un acierto o fallo en la métrica {@code reference.data.lookups}.</p>
+ *
+ * <p>Las entidades retornadas son compartidas y no deben modificarse.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ReferenceDataRegistry {
+
+    /**
+     * Lista todos los roles.
+     *
+     * @return Roles registrados
+     */
+    List<Role> findAllRoles();
+
+    /**
+     * Busca un rol por ID.
+     *
+     * @param roleId ID del rol
+     * @return Optional con el rol si existe
+     */
+    Optional<Role> findRoleById(Integer roleId);
+
+    /**
+     * Busca un rol por su nombre exacto.
+     *
+     * @param roleName Nombre del rol
+     * @return Optional con el rol si existe
+     */
+    Optional<Role> findRoleByName(String roleName);
+
+    /**
+     * Lista todos los tipos de documento.
+     *
+     * @return Tipos de documento registrados
+     */
+    List<DocumentType> findAllDocumentTypes();
+
+    /**
+     * Busca un tipo de documento por ID.
+     *
+     * @param documentTypeId ID del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeById(Integer documentTypeId);
+
+    /**
+     * Busca un tipo de documento por código (ej: "CC", "PA").
+     *
+     * @param code Código del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeByCode(String code);
+
+    /**
+     * Busca un tipo de documento por nombre.
+     *
+     * @param name Nombre del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeByName(String name);
+
+    /**
+     * Busca un estado de usuario por ID.
+     *
+     * @param statusId ID del estado
+     * @return Optional con el estado si existe
+     */
+    Optional<UserStatus> findUserStatusById(Integer statusId);
+
+    /**
+     * Busca un estado de usuario por nombre.
+     *
+     * @param statusName Nombre del estado (ej: "Activo")
+     * @return Optional con el estado si existe
+     */
+    Optional<UserStatus> findUserStatusByName(String statusName);
+
+    /**
+     * Busca un tipo de pago por su identificador.
+     *
+     * @param paymentType Identificador del tipo ("debito" o "credito")
+     * @return Optional con el tipo de pago si existe
+     */
+    Optional<PaymentType> findPaymentType(String paymentType);
+
+    /**
+     * Busca un estado de pago por nombre.
+     *
+     * @param statusName Nombre del estado (ej: "Pendiente")
+     * @return Optional con el estado si existe
+     */
+    Optional<PaymentStatus> findPaymentStatusByName(String statusName);
+
+    /**
+     * Lista todas las categorías.
+     *
+     * @return Categorías registradas
+     */
+    List<Category> findAllCategories();
+
+    /**
+     * Busca una categoría por ID.
+     *
+     * @param categoryId ID de la categoría
+     * @return Optional con la categoría si existe
+     */
+    Optional<Category> findCategoryById(Integer categoryId);
+
+    /**
+     * Busca una categoría por su nombre exacto.
+     *
+     * @param name Nombre de la categoría
+     * @return Optional con la categoría si existe
+     */
+    Optional<Category> findCategoryByName(String name);
+
+    /**
+     * Busca una categoría por nombre ignorando mayúsculas/minúsculas.
+     *
+     * @param name Nombre de la categoría
+     * @return Optional con la categoría si existe
+     */
+    Optional<Category> findCategoryByNameIgnoreCase(String name);
+
+    /**
+     * Busca un estado de producto por ID.
+     *
+     * @param statusId ID del estado de producto
+     * @return Optional con el estado si existe
+     */
+    Optional<ProductStatus> findProductStatusById(Integer statusId);
+
+    /**
+     * Recarga todas las tablas de referencia desde la base de datos
+     * y reemplaza el registro de forma atómica.
+     */
+    void refresh();
+}
@@ -0,0 +1,356 @@
+package com.ecommerce.davivienda.service.reference;
+
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.ProductStatus;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+import com.ecommerce.davivienda.repository.payment.PaymentStatusRepository;
+import com.ecommerce.davivienda.repository.payment.PaymentTypeRepository;
+import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.repository.product.ProductStatusRepository;
+import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.repository.user.RoleRepository;
+import com.ecommerce.davivienda.repository.user.UserStatusRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementación del registro de datos de referencia.
+ *
+ * <p>Todas las tablas se cargan en un {@link Snapshot} inmutable que se reemplaza de forma
+ * atómica en cada recarga, de modo que las lecturas nunca ven datos parciales.
+ * Si la carga al iniciar falla, el registro se carga en la primera consulta.</p>
+ *
+ * <p>Estas tablas solo cambian con SQL directo, así que el registro no recibe avisos de cambio:
+ * una búsqueda fallida recarga el registro (como máximo una vez por
+ * {@code reference-data.miss-refresh-interval}) para que los valores nuevos se vean al instante,
+ * y una tarea periódica lo recarga completo para reflejar modificaciones y eliminaciones.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ReferenceDataRegistryImpl implements ReferenceDataRegistry {
+
+    static final String METRIC_LOOKUPS = "reference.data.lookups";
+    static final String METRIC_REFRESHES = "reference.data.refreshes";
+    static final String RESULT_HIT = "hit";
+    static final String RESULT_MISS = "miss";
+
+    private static final String TYPE_ROLE = "role";
+    private static final String TYPE_DOCUMENT_TYPE = "document_type";
+    private static final String TYPE_USER_STATUS = "user_status";
+    private static final String TYPE_PAYMENT_TYPE = "payment_type";
+    private static final String TYPE_PAYMENT_STATUS = "payment_status";
+    private static final String TYPE_CATEGORY = "category";
+    private static final String TYPE_PRODUCT_STATUS = "product_status";
+
+    private final RoleRepository roleRepository;
+    private final DocumentTypeRepository documentTypeRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final PaymentTypeRepository paymentTypeRepository;
+    private final PaymentStatusRepository paymentStatusRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductStatusRepository productStatusRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration missRefreshInterval;
+    private final LongSupplier clock;
+
+    private final AtomicReference<Snapshot> currentSnapshot = new AtomicReference<>();
+    private final Map<String, Counter> lookupCounters = new ConcurrentHashMap<>();
+    private volatile long lastRefreshMillis;
+
+    @Autowired
+    public ReferenceDataRegistryImpl(RoleRepository roleRepository,
+                                     DocumentTypeRepository documentTypeRepository,
+                                     UserStatusRepository userStatusRepository,
+                                     PaymentTypeRepository paymentTypeRepository,
+                                     PaymentStatusRepository paymentStatusRepository,
+                                     CategoryRepository categoryRepository,
+                                     ProductStatusRepository productStatusRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${reference-data.miss-refresh-interval:10s}") Duration missRefreshInterval) {
+        this(roleRepository, documentTypeRepository, userStatusRepository, paymentTypeRepository,
+                paymentStatusRepository, categoryRepository, productStatusRepository, meterRegistry,
+                missRefreshInterval, System::currentTimeMillis);
+    }
+
+    ReferenceDataRegistryImpl(RoleRepository roleRepository,
+                              DocumentTypeRepository documentTypeRepository,
+                              UserStatusRepository userStatusRepository,
+                              PaymentTypeRepository paymentTypeRepository,
+                              PaymentStatusRepository paymentStatusRepository,
+                              CategoryRepository categoryRepository,
+                              ProductStatusRepository productStatusRepository,
+                              MeterRegistry meterRegistry,
+                              Duration missRefreshInterval,
+                              LongSupplier clock) {
+        this.roleRepository = roleRepository;
+        this.documentTypeRepository = documentTypeRepository;
+        this.userStatusRepository = userStatusRepository;
+        this.paymentTypeRepository = paymentTypeRepository;
+        this.paymentStatusRepository = paymentStatusRepository;
+        this.categoryRepository = categoryRepository;
+        this.productStatusRepository = productStatusRepository;
+        this.meterRegistry = meterRegistry;
+        this.missRefreshInterval = missRefreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<Role> findAllRoles() {
+        return snapshot().roles;
+    }
+
+    @Override
+    public Optional<Role> findRoleById(Integer roleId) {
+        return lookup(TYPE_ROLE, snapshot -> snapshot.rolesById, roleId);
+    }
+
+    @Override
+    public Optional<Role> findRoleByName(String roleName) {
+        return lookup(TYPE_ROLE, snapshot -> snapshot.rolesByName, roleName);
+    }
+
+    @Override
+    public List<DocumentType> findAllDocumentTypes() {
+        return snapshot().documentTypes;
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeById(Integer documentTypeId) {
+        return lookup(TYPE_DOCUMENT_TYPE, snapshot -> snapshot.documentTypesById, documentTypeId);
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeByCode(String code) {
+        return lookup(TYPE_DOCUMENT_TYPE, snapshot -> snapshot.documentTypesByCode, code);
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeByName(String name) {
+        return lookup(TYPE_DOCUMENT_TYPE, snapshot -> snapshot.documentTypesByName, name);
+    }
+
+    @Override
+    public Optional<UserStatus> findUserStatusById(Integer statusId) {
+        return lookup(TYPE_USER_STATUS, snapshot -> snapshot.userStatusesById, statusId);
+    }
+
+    @Override
+    public Optional<UserStatus> findUserStatusByName(String statusName) {
+        return lookup(TYPE_USER_STATUS, snapshot -> snapshot.userStatusesByName, statusName);
+    }
+
+    @Override
+    public Optional<PaymentType> findPaymentType(String paymentType) {
+        return lookup(TYPE_PAYMENT_TYPE, snapshot -> snapshot.paymentTypesById, paymentType);
+    }
+
+    @Override
+    public Optional<PaymentStatus> findPaymentStatusByName(String statusName) {
+        return lookup(TYPE_PAYMENT_STATUS, snapshot -> snapshot.paymentStatusesByName, statusName);
+    }
+
+    @Override
+    public List<Category> findAllCategories() {
+        return snapshot().categories;
+    }
+
+    @Override
+    public Optional<Category> findCategoryById(Integer categoryId) {
+        return lookup(TYPE_CATEGORY, snapshot -> snapshot.categoriesById, categoryId);
+    }
+
+    @Override
+    public Optional<Category> findCategoryByName(String name) {
+        return lookup(TYPE_CATEGORY, snapshot -> snapshot.categoriesByName, name);
+    }
+
+    @Override
+    public Optional<Category> findCategoryByNameIgnoreCase(String name) {
+        String key = name != null ? name.toLowerCase(Locale.ROOT) : null;
+        return lookup(TYPE_CATEGORY, snapshot -> snapshot.categoriesByLowerName, key);
+    }
+
+    @Override
+    public Optional<ProductStatus> findProductStatusById(Integer statusId) {
+        return lookup(TYPE_PRODUCT_STATUS, snapshot -> snapshot.productStatusesById, statusId);
+    }
+
+    @Override
+    public synchronized void refresh() {
+        Snapshot snapshot = new Snapshot(
+                roleRepository.findAll(),
+                documentTypeRepository.findAll(),
+                userStatusRepository.findAll(),
+                paymentTypeRepository.findAll(),
+                paymentStatusRepository.findAll(),
+                categoryRepository.findAll(),
+                productStatusRepository.findAll());
+        currentSnapshot.set(snapshot);
+        lastRefreshMillis = clock.getAsLong();
+        meterRegistry.counter(METRIC_REFRESHES).increment();
+
+        log.info("Datos de referencia cargados: roles={}, documentos={}, categorías={}",
+                snapshot.roles.size(), snapshot.documentTypes.size(), snapshot.categories.size());
+    }
+
+    /**
+     * Carga el registro al iniciar la aplicación. Un error no impide el arranque:
+     * el registro se carga en la primera consulta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("No se pudieron cargar los datos de referencia al iniciar", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (currentSnapshot.get() == null) {
+                refresh();
+            }
+            return currentSnapshot.get();
+        }
+    }
+
+    private <K, V> Optional<V> lookup(String type, Function<Snapshot, Map<K, V>> index, K key) {
+        if (key == null) {
+            lookupCounter(type, RESULT_MISS).increment();
+            return Optional.empty();
+        }
+        V value = index.apply(snapshot()).get(key);
+        if (value == null && refreshAfterMiss()) {
+            value = index.apply(snapshot()).get(key);
+        }
+        lookupCounter(type, value != null ? RESULT_HIT : RESULT_MISS).increment();
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Recarga el registro tras un fallo de búsqueda si la última carga tiene más de
+     * {@code reference-data.miss-refresh-interval}. Así un valor insertado directamente en la
+     * base de datos se ve sin reiniciar, y los fallos repetidos (ej. nombres inexistentes)
+     * generan como máximo una recarga por intervalo.
+     *
+     * @return true si el registro se recargó (por este hilo o por otro mientras esperaba)
+     */
+    private boolean refreshAfterMiss() {
+        long loadedAt = lastRefreshMillis;
+        if (clock.getAsLong() - loadedAt < missRefreshInterval.toMillis()) {
+            return false;
+        }
+        synchronized (this) {
+            if (lastRefreshMillis != loadedAt) {
+                return true;
+            }
+            try {
+                log.debug("Búsqueda fallida en datos de referencia, se recarga el registro");
+                refresh();
+                return true;
+            } catch (RuntimeException e) {
+                // Se conserva el registro vigente y no se reintenta hasta el siguiente intervalo
+                lastRefreshMillis = clock.getAsLong();
+                log.error("No se pudieron recargar los datos de referencia tras una búsqueda fallida", e);
+                return false;
+            }
+        }
+    }
+
+    private Counter lookupCounter(String type, String result) {
+        return lookupCounters.computeIfAbsent(type + ':' + result, key -> Counter.builder(METRIC_LOOKUPS)
+                .description("Búsquedas en el registro de datos de referencia")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Copia inmutable de todas las tablas de referencia con sus índices de búsqueda.
+     */
+    private static final class Snapshot {
+
+        private final List<Role> roles;
+        private final Map<Integer, Role> rolesById;
+        private final Map<String, Role> rolesByName;
+        private final List<DocumentType> documentTypes;
+        private final Map<Integer, DocumentType> documentTypesById;
+        private final Map<String, DocumentType> documentTypesByCode;
+        private final Map<String, DocumentType> documentTypesByName;
+        private final Map<Integer, UserStatus> userStatusesById;
+        private final Map<String, UserStatus> userStatusesByName;
+        private final Map<String, PaymentType> paymentTypesById;
+        private final Map<String, PaymentStatus> paymentStatusesByName;
+        private final List<Category> categories;
+        private final Map<Integer, Category> categoriesById;
+        private final Map<String, Category> categoriesByName;
+        private final Map<String, Category> categoriesByLowerName;
+        private final Map<Integer, ProductStatus> productStatusesById;
+
+        private Snapshot(List<Role> roles, List<DocumentType> documentTypes, List<UserStatus> userStatuses,
+                         List<PaymentType> paymentTypes, List<PaymentStatus> paymentStatuses,
+                         List<Category> categories, List<ProductStatus> productStatuses) {
+            this.roles = List.copyOf(roles);
+            this.rolesById = index(roles, Role::getRolId);
+            this.rolesByName = index(roles, Role::getNombreRol);
+            this.documentTypes = List.copyOf(documentTypes);
+            this.documentTypesById = index(documentTypes, DocumentType::getDocumentoId);
+            this.documentTypesByCode = index(documentTypes, DocumentType::getCodigo);
+            this.documentTypesByName = index(documentTypes, DocumentType::getNombre);
+            this.userStatusesById = index(userStatuses, UserStatus::getEstadoUsuarioId);
+            this.userStatusesByName = index(userStatuses, UserStatus::getNombre);
+            this.paymentTypesById = index(paymentTypes, PaymentType::getPaymentType);
+            this.paymentStatusesByName = index(paymentStatuses, PaymentStatus::getName);
+            this.categories = List.copyOf(categories);
+            this.categoriesById = index(categories, Category::getCategoriaId);
+            this.categoriesByName = index(categories, Category::getNombre);
+            this.categoriesByLowerName = index(categories,
+                    category -> category.getNombre() != null ? category.getNombre().toLowerCase(Locale.ROOT) : null);
+            this.productStatusesById = index(productStatuses, ProductStatus::getEstadoProductoId);
+        }
+
+        /**
+         * Indexa los valores por la clave dada. Ante claves repetidas se conserva el primero.
+         */
+        private static <K, V> Map<K, V> index(List<V> values, Function<V, K> keyExtractor) {
+            Map<K, V> indexed = new HashMap<>(values.size() * 2);
+            for (V value : values) {
+                K key = keyExtractor.apply(value);
+                if (key != null) {
+                    indexed.putIfAbsent(key, value);
+                }
+            }
+            return Collections.unmodifiableMap(indexed);
+        }
+    }
+}
@@ -4,11 +4,10 @@ import com.ecommerce.davivienda.dto.role.RoleResponseDto;
 import com.ecommerce.davivienda.entity.user.Role;
 import com.ecommerce.davivienda.exception.role.RoleException;
 import com.ecommerce.davivienda.mapper.role.RoleMapper;
-import com.ecommerce.davivienda.repository.user.RoleRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -26,15 +25,14 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class RoleServiceImpl implements RoleService {
 
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final RoleMapper roleMapper;
 
     @Override
-    @Transactional(readOnly = true)
     public List<RoleResponseDto> findAll() {
         log.debug("Consultando todos los roles");
         
-        List<Role> roles = roleRepository.findAll();
+        List<Role> roles = referenceDataRegistry.findAllRoles();
         
         log.debug("Se encontraron {} roles", roles.size());
         return roleMapper.toResponseDtoList(roles);
@@ -43,11 +41,10 @@ public class RoleServiceImpl implements RoleService {
   
 
     @Override
-    @Transactional(readOnly = true)
     public RoleResponseDto findByName(String nombre) {
         log.debug("Buscando rol con nombre: {}", nombre);
         
-        Role role = roleRepository.findByNombreRol(nombre)
+        Role role = referenceDataRegistry.findRoleByName(nombre)
                 .orElseThrow(() -> new RoleException(
                         ERROR_ROLE_NOT_FOUND_BY_NAME,
                         CODE_ROLE_NOT_FOUND_BY_NAME
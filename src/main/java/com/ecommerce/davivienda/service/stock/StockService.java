@@ -1,6 +1,11 @@
 package com.ecommerce.davivienda.service.stock;
 
 import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio para gestionar operaciones de stock/inventario.
@@ -31,12 +36,22 @@ public interface StockService {
 
     /**
      * Obtiene la cantidad actual de stock de un producto.
+     * En modo de alta concurrencia es la suma de sus fragmentos.
      *
      * @param productoId ID del producto
      * @return Cantidad actual de stock, 0 si no existe
      */
     Integer getCurrentStock(Integer productoId);
 
+    /**
+     * Obtiene la cantidad actual de stock de varios productos con una consulta por cada bloque
+     * de hasta 1000 IDs.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → cantidad (0 para productos sin registro de stock)
+     */
+    Map<Integer, Integer> getCurrentStockByProductIds(Collection<Integer> productoIds);
+
     /**
      * Verifica si un producto tiene suficiente stock.
      *
@@ -54,9 +69,12 @@ public interface StockService {
      * <ol>
      *   <li>Extrae el userRoleId del token JWT del usuario autenticado</li>
      *   <li>Obtiene el carrito del usuario</li>
-     *   <li>Valida cada producto del carrito contra el stock disponible</li>
-     *   <li>Retorna respuesta con available=true si hay stock suficiente</li>
-     *   <li>Retorna respuesta con available=false y lista de productos faltantes si no hay stock</li>
+     *   <li>Valida cada producto del carrito contra el stock disponible
+     *       (stock menos las reservas vigentes de otros carritos)</li>
+     *   <li>Si hay stock suficiente, reserva las cantidades del carrito por un tiempo limitado y
+     *       retorna available=true con la fecha de vencimiento de la reserva</li>
+     *   <li>Si no hay stock, libera las reservas previas del carrito y retorna available=false
+     *       con la lista de productos faltantes</li>
      * </ol>
      *
      * @return Respuesta con indicador de disponibilidad y productos con problemas (si los hay)
@@ -64,5 +82,37 @@ public interface StockService {
      * @throws com.ecommerce.davivienda.exception.cart.CartException si el carrito está vacío
      */
     StockValidationResponseDto validateCartStock();
+
+    /**
+     * Descuenta el stock de los items de un carrito durante el checkout y convierte su reserva.
+     * Usa decrementos condicionales atómicos en un único batch que respetan las reservas vigentes
+     * de otros carritos; si algún producto no tiene stock suficiente se lanza la excepción con el
+     * detalle de todos los productos que fallaron, para que la transacción del pago se revierta completa.
+     *
+     * @param cartId ID del carrito que se paga (sus reservas se convierten en compra)
+     * @param cartItems Items del carrito a descontar
+     * @throws com.ecommerce.davivienda.exception.stock.InsufficientStockException si algún producto no tiene stock suficiente
+     */
+    void decreaseStockForCheckout(Integer cartId, List<CartItem> cartItems);
+
+    /**
+     * Activa el modo de alta concurrencia de un producto (ej. para una venta relámpago):
+     * su stock se reparte en varios fragmentos para que las compras concurrentes no esperen
+     * por una sola fila. Mientras está activo, el producto no se reserva al validar el carrito.
+     *
+     * @param productoId ID del producto
+     * @param shards Número de fragmentos
+     * @throws com.ecommerce.davivienda.exception.stock.StockException si el número de fragmentos es inválido
+     *         o el producto no tiene registro de stock
+     */
+    void enableHighContentionMode(Integer productoId, Integer shards);
+
+    /**
+     * Desactiva el modo de alta concurrencia de un producto, devolviendo su stock a una sola fila.
+     *
+     * @param productoId ID del producto
+     * @throws com.ecommerce.davivienda.exception.stock.StockException si el producto no tiene registro de stock
+     */
+    void disableHighContentionMode(Integer productoId);
 }
 
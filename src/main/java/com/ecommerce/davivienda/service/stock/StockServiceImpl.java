@@ -4,19 +4,31 @@ import com.ecommerce.davivienda.dto.stock.ProductStockDetailDto;
 import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
-import com.ecommerce.davivienda.entity.product.Stock;
+import com.ecommerce.davivienda.exception.stock.InsufficientStockException;
 import com.ecommerce.davivienda.mapper.stock.StockMapper;
 import com.ecommerce.davivienda.service.auth.AuthUserService;
+import com.ecommerce.davivienda.service.stock.availability.StockAvailabilityChecker;
+import com.ecommerce.davivienda.service.stock.reservation.StockReservationService;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
 import com.ecommerce.davivienda.service.stock.transactional.cart.StockCartTransactionalService;
 import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
 import com.ecommerce.davivienda.service.stock.validation.StockCartValidationService;
+import com.ecommerce.davivienda.util.BatchUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_INSUFFICIENT_STOCK;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_INSUFFICIENT_STOCK;
 
 /**
  * Implementación del servicio de stock/inventario.
@@ -30,17 +42,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StockServiceImpl implements StockService {
 
+    /**
+     * Máximo de IDs por consulta {@code IN}; PostgreSQL admite hasta 32767 parámetros por sentencia.
+     */
+    static final int STOCK_LOOKUP_CHUNK_SIZE = 1000;
+
     private final StockStockTransactionalService stockTransactionalService;
     private final StockCartTransactionalService cartTransactionalService;
     private final StockCartValidationService cartValidationService;
     private final StockMapper stockMapper;
     private final AuthUserService authUserService;
+    private final StockAvailabilityChecker availabilityChecker;
+    private final StockReservationService reservationService;
+    private final StockShardService shardService;
 
     @Override
     @Transactional
     public void createOrUpdateStock(Integer productoId, Integer cantidad) {
         log.info("Creando/Actualizando stock para producto ID: {}, cantidad: {}", productoId, cantidad);
-        stockTransactionalService.createOrUpdateStock(productoId, cantidad);
+        if (shardService.findShardCounts(List.of(productoId)).isEmpty()) {
+            stockTransactionalService.createOrUpdateStock(productoId, cantidad);
+        } else {
+            shardService.setQuantity(productoId, cantidad);
+        }
         log.info("Stock actualizado exitosamente para producto ID: {}", productoId);
     }
 
@@ -54,17 +78,36 @@ public class StockServiceImpl implements StockService {
     @Override
     @Transactional(readOnly = true)
     public Integer getCurrentStock(Integer productoId) {
-        return stockTransactionalService.getCurrentStock(productoId);
+        return stockTransactionalService.getCurrentStock(productoId)
+                + shardService.sumShards(List.of(productoId)).getOrDefault(productoId, 0);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public boolean hasEnoughStock(Integer productoId, Integer requestedQuantity) {
-        return stockTransactionalService.hasEnoughStock(productoId, requestedQuantity);
+    public Map<Integer, Integer> getCurrentStockByProductIds(Collection<Integer> productoIds) {
+        Map<Integer, Integer> stockByProduct = new HashMap<>(productoIds.size() * 2);
+        if (productoIds.isEmpty()) {
+            return stockByProduct;
+        }
+
+        productoIds.forEach(productoId -> stockByProduct.put(productoId, 0));
+        for (Collection<Integer> chunk : BatchUtils.partition(productoIds, STOCK_LOOKUP_CHUNK_SIZE)) {
+            stockTransactionalService.findAllByProductoIds(chunk)
+                    .forEach(stock -> stockByProduct.put(stock.getProductoId(), stock.getCantidad()));
+            shardService.sumShards(chunk).forEach((productoId, shardTotal) ->
+                    stockByProduct.merge(productoId, shardTotal, Integer::sum));
+        }
+        return stockByProduct;
     }
 
     @Override
     @Transactional(readOnly = true)
+    public boolean hasEnoughStock(Integer productoId, Integer requestedQuantity) {
+        return getCurrentStock(productoId) >= requestedQuantity;
+    }
+
+    @Override
+    @Transactional
     public StockValidationResponseDto validateCartStock() {
         log.info("Iniciando validación de stock para usuario autenticado");
 
@@ -77,106 +120,103 @@ public class StockServiceImpl implements StockService {
 
         cartValidationService.validateCartHasItems(cartItems);
 
-        List<ProductStockDetailDto> insufficientStockProducts = checkStockAvailability(cartItems);
+        Map<Integer, Integer> quantitiesByProduct = quantitiesByProduct(cartItems);
+        Set<Integer> highContentionProductIds =
+                shardService.findShardCounts(quantitiesByProduct.keySet()).keySet();
 
-        if (!insufficientStockProducts.isEmpty()) {
-            log.warn("Stock insuficiente para {} productos del carrito",
-                    insufficientStockProducts.size());
+        StockValidationResponseDto response =
+                availabilityChecker.check(cart.getCarritoId(), cartItems, highContentionProductIds);
 
-            return stockMapper.buildInsufficientStockResponse(
-                    cartItems.size(),
-                    insufficientStockProducts
-            );
+        // Los productos de alta concurrencia no se reservan: se venden al primero que paga
+        quantitiesByProduct.keySet().removeAll(highContentionProductIds);
+        if (Boolean.TRUE.equals(response.getAvailable()) && !quantitiesByProduct.isEmpty()) {
+            response.setReservationExpiresAt(reservationService.reserve(cart.getCarritoId(), quantitiesByProduct));
+            log.info("Stock suficiente y reservado para todos los productos del carrito");
+        } else {
+            reservationService.release(cart.getCarritoId());
         }
-
-        log.info("Stock suficiente para todos los productos del carrito");
-        return stockMapper.buildSuccessResponse(cartItems.size());
+        return response;
     }
 
-    /**
-     * Verifica la disponibilidad de stock para cada producto del carrito.
-     *
-     * @param cartItems Items del carrito a validar
-     * @return Lista de productos con stock insuficiente (vacía si todos tienen stock)
-     */
-    private List<ProductStockDetailDto> checkStockAvailability(List<CartItem> cartItems) {
-        log.debug("Verificando stock para {} productos", cartItems.size());
-
-        List<ProductStockDetailDto> insufficientStockProducts = new ArrayList<>();
-
+    @Override
+    @Transactional
+    public void decreaseStockForCheckout(Integer cartId, List<CartItem> cartItems) {
+        Map<Integer, Integer> quantitiesByProduct = quantitiesByProduct(cartItems);
+        Map<Integer, String> namesByProduct = new HashMap<>(cartItems.size() * 2);
         for (CartItem item : cartItems) {
-            validateSingleItemStock(item, insufficientStockProducts);
+            namesByProduct.put(item.getProduct().getProductoId(), item.getProduct().getNombre());
         }
 
-        return insufficientStockProducts;
-    }
-
-    /**
-     * Valida el stock de un solo item del carrito.
-     *
-     * @param item Item del carrito a validar
-     * @param insufficientStockProducts Lista donde se agregan productos con stock insuficiente
-     */
-    private void validateSingleItemStock(CartItem item, List<ProductStockDetailDto> insufficientStockProducts) {
-        Integer productId = item.getProduct().getProductoId();
-        Integer requestedQuantity = item.getCantidad();
-        String productName = item.getProduct().getNombre();
-
-        log.debug("Validando stock para producto: {} (ID: {}), cantidad solicitada: {}",
-                productName, productId, requestedQuantity);
-
-        Stock stock = stockTransactionalService.findByProductoId(productId).orElse(null);
-
-        if (stock == null) {
-            handleMissingStock(productId, productName, requestedQuantity, insufficientStockProducts);
-            return;
+        Map<Integer, Integer> shardCounts = shardService.findShardCounts(quantitiesByProduct.keySet());
+        Map<Integer, Integer> singleRowQuantities = new TreeMap<>(quantitiesByProduct);
+        singleRowQuantities.keySet().removeAll(shardCounts.keySet());
+
+        List<Integer> failedProductIds = new ArrayList<>();
+        Map<Integer, Integer> availableByProduct = new HashMap<>();
+        if (!singleRowQuantities.isEmpty()) {
+            // Bloquear antes de leer las reservas para que no cambien hasta el descuento
+            Map<Integer, Integer> stockByProduct = stockTransactionalService.lockStock(singleRowQuantities.keySet());
+            Map<Integer, Integer> reservedByProduct =
+                    reservationService.findReservedByOthers(cartId, singleRowQuantities.keySet());
+
+            for (Integer productId : stockTransactionalService.decreaseStockBatch(singleRowQuantities, reservedByProduct)) {
+                failedProductIds.add(productId);
+                availableByProduct.put(productId, Math.max(0, stockByProduct.getOrDefault(productId, 0)
+                        - reservedByProduct.getOrDefault(productId, 0)));
+            }
         }
 
-        if (!stock.hasEnoughStock(requestedQuantity)) {
-            handleInsufficientStock(productId, productName, requestedQuantity, stock, insufficientStockProducts);
+        // Productos de alta concurrencia en orden por producto, igual que el batch, para evitar interbloqueos
+        new TreeMap<>(shardCounts).forEach((productId, shardCount) -> {
+            if (!shardService.decrease(productId, shardCount, quantitiesByProduct.get(productId))) {
+                failedProductIds.add(productId);
+            }
+        });
+
+        if (failedProductIds.isEmpty()) {
+            reservationService.convert(cartId);
+            log.info("Stock descontado para {} productos", quantitiesByProduct.size());
             return;
         }
 
-        log.debug("Stock suficiente para producto: {} (ID: {})", productName, productId);
+        Map<Integer, Integer> shardTotals = shardService.sumShards(failedProductIds);
+        List<ProductStockDetailDto> insufficientStockProducts = failedProductIds.stream()
+                .map(productId -> stockMapper.buildProductStockDetail(
+                        productId,
+                        namesByProduct.get(productId),
+                        quantitiesByProduct.get(productId),
+                        availableByProduct.getOrDefault(productId, shardTotals.getOrDefault(productId, 0))))
+                .toList();
+
+        log.warn("Stock insuficiente al descontar {} de {} productos",
+                failedProductIds.size(), quantitiesByProduct.size());
+        throw new InsufficientStockException(ERROR_INSUFFICIENT_STOCK, CODE_INSUFFICIENT_STOCK, insufficientStockProducts);
     }
 
-    /**
-     * Maneja el caso cuando no existe registro de stock para un producto.
-     *
-     * @param productId ID del producto
-     * @param productName Nombre del producto
-     * @param requestedQuantity Cantidad solicitada
-     * @param insufficientStockProducts Lista donde se agrega el producto
-     */
-    private void handleMissingStock(Integer productId, String productName, Integer requestedQuantity,
-                                     List<ProductStockDetailDto> insufficientStockProducts) {
-        log.warn("No existe registro de stock para producto: {} (ID: {})", productName, productId);
+    @Override
+    @Transactional
+    public void enableHighContentionMode(Integer productoId, Integer shards) {
+        shardService.enable(productoId, shards);
+    }
 
-        insufficientStockProducts.add(stockMapper.buildProductStockDetail(
-                productId, productName, requestedQuantity, 0
-        ));
+    @Override
+    @Transactional
+    public void disableHighContentionMode(Integer productoId) {
+        shardService.disable(productoId);
     }
 
     /**
-     * Maneja el caso cuando hay stock insuficiente para un producto.
+     * Agrupa las cantidades de los items por producto, en orden por producto.
      *
-     * @param productId ID del producto
-     * @param productName Nombre del producto
-     * @param requestedQuantity Cantidad solicitada
-     * @param stock Registro de stock actual
-     * @param insufficientStockProducts Lista donde se agrega el producto
+     * @param cartItems Items del carrito
+     * @return Mapa productoId → cantidad total
      */
-    private void handleInsufficientStock(Integer productId, String productName, Integer requestedQuantity,
-                                          Stock stock, List<ProductStockDetailDto> insufficientStockProducts) {
-        Integer availableQuantity = stock.getCantidad() != null ? stock.getCantidad() : 0;
-
-        log.warn("Stock insuficiente para producto: {} (ID: {}). Solicitado: {}, Disponible: {}",
-                productName, productId, requestedQuantity, availableQuantity);
-
-        insufficientStockProducts.add(stockMapper.buildProductStockDetail(
-                productId, productName, requestedQuantity, availableQuantity
-        ));
+    private Map<Integer, Integer> quantitiesByProduct(List<CartItem> cartItems) {
+        Map<Integer, Integer> quantitiesByProduct = new TreeMap<>();
+        for (CartItem item : cartItems) {
+            quantitiesByProduct.merge(item.getProduct().getProductoId(), item.getCantidad(), Integer::sum);
+        }
+        return quantitiesByProduct;
     }
 }
 
-
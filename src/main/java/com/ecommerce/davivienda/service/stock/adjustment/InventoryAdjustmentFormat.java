@@ -0,0 +1,20 @@
+package com.ecommerce.davivienda.service.stock.adjustment;
+
+/**
+ * Formatos aceptados por el endpoint de ajustes de inventario en streaming.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public enum InventoryAdjustmentFormat {
+
+    /**
+     * Un objeto JSON por línea: {@code {"productId": 12, "quantity": -3}}.
+     */
+    NDJSON,
+
+    /**
+     * Una fila {@code productId,quantity} por línea, con cabecera opcional (separador coma o punto y coma).
+     */
+    CSV
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.davivienda.service.stock.adjustment;
+
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResponseDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Capacidad para aplicar ajustes relativos de inventario de forma masiva.
+ *
+ * <p>Los ajustes se procesan en bloques de {@code stock.adjustment.chunk-size} filas: cada bloque
+ * valida sus productos con una consulta y aplica los ajustes con un único batch de upserts en su
+ * propia transacción. Cada fila recibe su propio resultado; una fila rechazada no afecta a las demás.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockAdjustmentService {
+
+    /**
+     * Aplica una lista de ajustes y retorna el resultado de cada fila.
+     *
+     * @param adjustments Ajustes en orden (máximo {@code stock.adjustment.max-rows})
+     * @return Totales y resultado por fila en el orden recibido
+     * @throws com.ecommerce.davivienda.exception.stock.StockException si se supera el máximo de filas
+     */
+    InventoryAdjustmentResponseDto adjust(List<InventoryAddRequestDto> adjustments);
+
+    /**
+     * Lee ajustes línea por línea y entrega el resultado de cada fila a medida que se aplica cada bloque,
+     * sin cargar la entrada completa en memoria ni limitar el número de filas.
+     *
+     * @param input Entrada NDJSON o CSV (UTF-8)
+     * @param format Formato de la entrada
+     * @param resultConsumer Receptor de los resultados por fila, en orden
+     * @return Totales (sin resultados por fila)
+     */
+    InventoryAdjustmentResponseDto adjustStream(InputStream input, InventoryAdjustmentFormat format,
+                                                Consumer<InventoryAdjustmentResultDto> resultConsumer);
+}
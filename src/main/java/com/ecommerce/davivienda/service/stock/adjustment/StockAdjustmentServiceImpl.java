@@ -0,0 +1,344 @@
+package com.ecommerce.davivienda.service.stock.adjustment;
+
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResponseDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto;
+import com.ecommerce.davivienda.exception.stock.StockException;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación de los ajustes masivos de inventario.
+ *
+ * <p>Los productos en modo de alta concurrencia se ajustan sobre sus fragmentos, fila por fila;
+ * el resto se aplica con el batch de upserts del bloque. Las cantidades negativas sobre productos
+ * sin registro de stock se rechazan antes de enviar el batch.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class StockAdjustmentServiceImpl implements StockAdjustmentService {
+
+    private static final Pattern CSV_SEPARATOR = Pattern.compile("[,;]");
+
+    private final StockStockTransactionalService stockTransactionalService;
+    private final StockShardService shardService;
+    private final JsonUtils jsonUtils;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public StockAdjustmentServiceImpl(
+            StockStockTransactionalService stockTransactionalService,
+            StockShardService shardService,
+            JsonUtils jsonUtils,
+            @Value("${stock.adjustment.chunk-size:1000}") int chunkSize,
+            @Value("${stock.adjustment.max-rows:10000}") int maxRows) {
+        this.stockTransactionalService = stockTransactionalService;
+        this.shardService = shardService;
+        this.jsonUtils = jsonUtils;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public InventoryAdjustmentResponseDto adjust(List<InventoryAddRequestDto> adjustments) {
+        if (adjustments.size() > maxRows) {
+            log.warn("Solicitud con {} ajustes de inventario supera el máximo de {}", adjustments.size(), maxRows);
+            throw new StockException(ERROR_STOCK_ADJUSTMENT_TOO_MANY_ROWS, CODE_STOCK_ADJUSTMENT_TOO_MANY_ROWS);
+        }
+
+        List<InventoryAdjustmentResultDto> results = new ArrayList<>(adjustments.size());
+        AdjustmentCounter counter = new AdjustmentCounter(results::add);
+        List<PendingAdjustment> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < adjustments.size(); i++) {
+            chunk.add(new PendingAdjustment(i + 1, adjustments.get(i), null));
+            if (chunk.size() == chunkSize) {
+                applyChunk(chunk, counter);
+                chunk.clear();
+            }
+        }
+        applyChunk(chunk, counter);
+
+        InventoryAdjustmentResponseDto response = counter.summary();
+        response.setResults(results);
+        log.info("Ajustes de inventario procesados: {} aplicados, {} rechazados",
+                response.getAppliedRows(), response.getRejectedRows());
+        return response;
+    }
+
+    @Override
+    public InventoryAdjustmentResponseDto adjustStream(InputStream input, InventoryAdjustmentFormat format,
+                                                       Consumer<InventoryAdjustmentResultDto> resultConsumer) {
+        AdjustmentCounter counter = new AdjustmentCounter(resultConsumer);
+        List<PendingAdjustment> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == InventoryAdjustmentFormat.CSV && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                chunk.add(format == InventoryAdjustmentFormat.CSV
+                        ? parseCsvLine(lineNumber, line)
+                        : parseJsonLine(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    applyChunk(chunk, counter);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al leer los ajustes de inventario", e);
+        }
+        applyChunk(chunk, counter);
+
+        InventoryAdjustmentResponseDto summary = counter.summary();
+        log.info("Ajustes de inventario ({}) procesados en streaming: {} aplicados, {} rechazados",
+                format, summary.getAppliedRows(), summary.getRejectedRows());
+        return summary;
+    }
+
+    /**
+     * Valida y aplica un bloque de ajustes y entrega sus resultados en orden.
+     *
+     * @param chunk Filas del bloque
+     * @param resultConsumer Receptor de resultados
+     */
+    private void applyChunk(List<PendingAdjustment> chunk, Consumer<InventoryAdjustmentResultDto> resultConsumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        InventoryAdjustmentResultDto[] results = new InventoryAdjustmentResultDto[chunk.size()];
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        Set<Integer> productIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingAdjustment row = chunk.get(i);
+            if (row.rejection != null) {
+                results[i] = row.rejection;
+            } else if (!isValid(row.adjustment)) {
+                results[i] = rejected(row, CODE_INVALID_STOCK_ADJUSTMENT, ERROR_INVALID_STOCK_ADJUSTMENT);
+            } else {
+                validIndexes.add(i);
+                productIds.add(row.adjustment.getProductId());
+            }
+        }
+
+        if (!validIndexes.isEmpty()) {
+            Map<Integer, Integer> stockByProduct =
+                    new HashMap<>(stockTransactionalService.findStockForAdjustment(productIds));
+            Map<Integer, Integer> shardCounts = shardService.findShardCounts(productIds);
+
+            List<Integer> batchIndexes = new ArrayList<>(validIndexes.size());
+            List<InventoryAddRequestDto> batch = new ArrayList<>(validIndexes.size());
+            for (Integer index : validIndexes) {
+                PendingAdjustment row = chunk.get(index);
+                Integer productId = row.adjustment.getProductId();
+                if (!stockByProduct.containsKey(productId)) {
+                    results[index] = rejected(row, CODE_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND,
+                            ERROR_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND);
+                } else if (shardCounts.containsKey(productId)) {
+                    results[index] = adjustShards(row, shardCounts.get(productId));
+                } else if (stockByProduct.get(productId) == null && row.adjustment.getQuantity() < 0) {
+                    results[index] = rejected(row, CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT,
+                            ERROR_STOCK_ADJUSTMENT_NEGATIVE_RESULT);
+                } else {
+                    // El batch crea el registro de stock: los ajustes siguientes del producto ya lo encuentran
+                    stockByProduct.putIfAbsent(productId, 0);
+                    batchIndexes.add(index);
+                    batch.add(row.adjustment);
+                }
+            }
+            applyBatch(chunk, batchIndexes, batch, results);
+        }
+
+        for (InventoryAdjustmentResultDto result : results) {
+            resultConsumer.accept(result);
+        }
+    }
+
+    /**
+     * Aplica el batch de upserts del bloque y registra el resultado de cada fila.
+     * Si la base de datos rechaza el batch (ej. un producto eliminado en paralelo), la transacción
+     * del bloque se revierte y todas sus filas se reportan como rechazadas.
+     */
+    private void applyBatch(List<PendingAdjustment> chunk, List<Integer> batchIndexes,
+                            List<InventoryAddRequestDto> batch, InventoryAdjustmentResultDto[] results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            int[] updatedRows = stockTransactionalService.adjustStockBatch(batch);
+            for (int i = 0; i < batchIndexes.size(); i++) {
+                PendingAdjustment row = chunk.get(batchIndexes.get(i));
+                results[batchIndexes.get(i)] = updatedRows[i] > 0
+                        ? applied(row)
+                        : rejected(row, CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT, ERROR_STOCK_ADJUSTMENT_NEGATIVE_RESULT);
+            }
+        } catch (DataAccessException e) {
+            log.error("Error al aplicar un bloque de {} ajustes de inventario: {}", batch.size(), e.getMessage());
+            for (Integer index : batchIndexes) {
+                results[index] = rejected(chunk.get(index), CODE_STOCK_ADJUSTMENT_FAILED, ERROR_STOCK_ADJUSTMENT_FAILED);
+            }
+        }
+    }
+
+    /**
+     * Ajusta un producto en modo de alta concurrencia sobre sus fragmentos.
+     */
+    private InventoryAdjustmentResultDto adjustShards(PendingAdjustment row, int shardCount) {
+        Integer productId = row.adjustment.getProductId();
+        int quantity = row.adjustment.getQuantity();
+        if (quantity > 0) {
+            return shardService.increase(productId, shardCount, quantity)
+                    ? applied(row)
+                    : rejected(row, CODE_STOCK_ADJUSTMENT_FAILED, ERROR_STOCK_ADJUSTMENT_FAILED);
+        }
+        return shardService.decrease(productId, shardCount, -quantity)
+                ? applied(row)
+                : rejected(row, CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT, ERROR_STOCK_ADJUSTMENT_NEGATIVE_RESULT);
+    }
+
+    private PendingAdjustment parseCsvLine(int lineNumber, String line) {
+        String[] fields = CSV_SEPARATOR.split(line.trim());
+        try {
+            if (fields.length != 2) {
+                throw new NumberFormatException("Se esperaban 2 columnas: " + fields.length);
+            }
+            InventoryAddRequestDto adjustment = InventoryAddRequestDto.builder()
+                    .productId(Integer.valueOf(fields[0].trim()))
+                    .quantity(Integer.valueOf(fields[1].trim()))
+                    .build();
+            return new PendingAdjustment(lineNumber, adjustment, null);
+        } catch (NumberFormatException e) {
+            return unparseable(lineNumber);
+        }
+    }
+
+    private PendingAdjustment parseJsonLine(int lineNumber, String line) {
+        try {
+            return new PendingAdjustment(lineNumber,
+                    jsonUtils.deserializeFromJson(line, InventoryAddRequestDto.class), null);
+        } catch (JsonProcessingException e) {
+            return unparseable(lineNumber);
+        }
+    }
+
+    private PendingAdjustment unparseable(int lineNumber) {
+        return new PendingAdjustment(lineNumber, null, InventoryAdjustmentResultDto.builder()
+                .line(lineNumber)
+                .status(InventoryAdjustmentResultDto.STATUS_REJECTED)
+                .errorCode(CODE_INVALID_STOCK_ADJUSTMENT)
+                .message(ERROR_INVALID_STOCK_ADJUSTMENT)
+                .build());
+    }
+
+    /**
+     * La cabecera CSV es una primera línea que no empieza con un número.
+     */
+    private boolean isCsvHeader(String line) {
+        char first = line.trim().charAt(0);
+        return !Character.isDigit(first) && first != '-' && first != '+';
+    }
+
+    private boolean isValid(InventoryAddRequestDto adjustment) {
+        return adjustment != null
+                && adjustment.getProductId() != null
+                && adjustment.getQuantity() != null
+                && adjustment.getQuantity() != 0;
+    }
+
+    private InventoryAdjustmentResultDto applied(PendingAdjustment row) {
+        return InventoryAdjustmentResultDto.builder()
+                .line(row.line)
+                .productId(row.adjustment.getProductId())
+                .quantity(row.adjustment.getQuantity())
+                .status(InventoryAdjustmentResultDto.STATUS_APPLIED)
+                .build();
+    }
+
+    private InventoryAdjustmentResultDto rejected(PendingAdjustment row, String errorCode, String message) {
+        return InventoryAdjustmentResultDto.builder()
+                .line(row.line)
+                .productId(row.adjustment != null ? row.adjustment.getProductId() : null)
+                .quantity(row.adjustment != null ? row.adjustment.getQuantity() : null)
+                .status(InventoryAdjustmentResultDto.STATUS_REJECTED)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Fila pendiente de aplicar: el ajuste leído o, si no se pudo leer, su rechazo.
+     */
+    private static final class PendingAdjustment {
+
+        private final int line;
+        private final InventoryAddRequestDto adjustment;
+        private final InventoryAdjustmentResultDto rejection;
+
+        private PendingAdjustment(int line, InventoryAddRequestDto adjustment, InventoryAdjustmentResultDto rejection) {
+            this.line = line;
+            this.adjustment = adjustment;
+            this.rejection = rejection;
+        }
+    }
+
+    /**
+     * Receptor que cuenta los resultados antes de entregarlos.
+     */
+    private static final class AdjustmentCounter implements Consumer<InventoryAdjustmentResultDto> {
+
+        private final Consumer<InventoryAdjustmentResultDto> delegate;
+        private int total;
+        private int applied;
+
+        private AdjustmentCounter(Consumer<InventoryAdjustmentResultDto> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void accept(InventoryAdjustmentResultDto result) {
+            total++;
+            if (InventoryAdjustmentResultDto.STATUS_APPLIED.equals(result.getStatus())) {
+                applied++;
+            }
+            delegate.accept(result);
+        }
+
+        private InventoryAdjustmentResponseDto summary() {
+            return InventoryAdjustmentResponseDto.builder()
+                    .totalRows(total)
+                    .appliedRows(applied)
+                    .rejectedRows(total - applied)
+                    .build();
+        }
+    }
+}
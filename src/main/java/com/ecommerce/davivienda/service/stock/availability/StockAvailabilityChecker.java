@@ -0,0 +1,34 @@
+package com.ecommerce.davivienda.service.stock.availability;
+
+import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Capacidad para verificar la disponibilidad de stock de un conjunto de items de carrito.
+ * Consulta el inventario de todos los productos en una sola consulta {@code IN} y descuenta
+ * las unidades reservadas por otros carritos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockAvailabilityChecker {
+
+    /**
+     * Verifica que todos los items tengan stock suficiente.
+     * Si un producto aparece en varios items, se valida la suma de sus cantidades.
+     * Las filas de stock quedan bloqueadas hasta el fin de la transacción, de modo que
+     * el resultado sigue siendo válido para reservar en la misma transacción.
+     *
+     * <p>Los productos en modo de alta concurrencia se validan contra la suma de sus fragmentos,
+     * sin bloqueo ni reservas.</p>
+     *
+     * @param cartId ID del carrito (sus propias reservas no se descuentan)
+     * @param cartItems Items a validar (con producto cargado)
+     * @param highContentionProductIds IDs de los productos del carrito con stock fragmentado
+     * @return Respuesta con indicador de disponibilidad y detalle de productos con stock insuficiente
+     */
+    StockValidationResponseDto check(Integer cartId, List<CartItem> cartItems, Set<Integer> highContentionProductIds);
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.davivienda.service.stock.availability;
+
+import com.ecommerce.davivienda.dto.stock.ProductStockDetailDto;
+import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.mapper.stock.StockMapper;
+import com.ecommerce.davivienda.service.stock.reservation.StockReservationService;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación de la verificación de disponibilidad de stock.
+ * Agrupa las cantidades por producto, bloquea y obtiene el inventario con una sola consulta,
+ * obtiene las reservas de otros carritos con otra (y la suma de fragmentos de los productos
+ * de alta concurrencia con una tercera) y construye la respuesta completa en memoria.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockAvailabilityCheckerImpl implements StockAvailabilityChecker {
+
+    private final StockStockTransactionalService stockTransactionalService;
+    private final StockReservationService reservationService;
+    private final StockShardService shardService;
+    private final StockMapper stockMapper;
+
+    @Override
+    @Transactional
+    public StockValidationResponseDto check(Integer cartId, List<CartItem> cartItems,
+                                            Set<Integer> highContentionProductIds) {
+        if (cartItems.isEmpty()) {
+            return stockMapper.buildSuccessResponse(0);
+        }
+
+        Map<Integer, Integer> requestedByProduct = new LinkedHashMap<>();
+        Map<Integer, String> namesByProduct = new HashMap<>(cartItems.size() * 2);
+        for (CartItem item : cartItems) {
+            Integer productId = item.getProduct().getProductoId();
+            requestedByProduct.merge(productId, item.getCantidad(), Integer::sum);
+            namesByProduct.put(productId, item.getProduct().getNombre());
+        }
+
+        Set<Integer> singleRowProductIds = new HashSet<>(requestedByProduct.keySet());
+        singleRowProductIds.removeAll(highContentionProductIds);
+
+        Map<Integer, Integer> stockByProduct = new HashMap<>(requestedByProduct.size() * 2);
+        Map<Integer, Integer> reservedByProduct = new HashMap<>();
+        if (!singleRowProductIds.isEmpty()) {
+            stockByProduct.putAll(stockTransactionalService.lockStock(singleRowProductIds));
+            reservedByProduct.putAll(reservationService.findReservedByOthers(cartId, singleRowProductIds));
+        }
+        if (!highContentionProductIds.isEmpty()) {
+            stockByProduct.putAll(shardService.sumShards(highContentionProductIds));
+        }
+
+        List<ProductStockDetailDto> insufficientStockProducts = new ArrayList<>();
+        requestedByProduct.forEach((productId, requestedQuantity) -> {
+            Integer stockQuantity = stockByProduct.get(productId);
+            if (stockQuantity == null) {
+                log.warn("No existe registro de stock para producto: {} (ID: {})",
+                        namesByProduct.get(productId), productId);
+                stockQuantity = 0;
+            }
+            int availableQuantity = Math.max(0, stockQuantity - reservedByProduct.getOrDefault(productId, 0));
+            if (availableQuantity < requestedQuantity) {
+                insufficientStockProducts.add(stockMapper.buildProductStockDetail(
+                        productId, namesByProduct.get(productId), requestedQuantity, availableQuantity));
+            }
+        });
+
+        if (!insufficientStockProducts.isEmpty()) {
+            log.warn("Stock insuficiente para {} de {} productos",
+                    insufficientStockProducts.size(), requestedByProduct.size());
+            return stockMapper.buildInsufficientStockResponse(cartItems.size(), insufficientStockProducts);
+        }
+
+        log.debug("Stock suficiente para {} productos", requestedByProduct.size());
+        return stockMapper.buildSuccessResponse(cartItems.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.davivienda.service.stock.reservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Capacidad de reservas temporales de stock.
+ *
+ * <p>Al validar el stock del carrito se reservan sus cantidades por un tiempo limitado
+ * ({@code stock.reservation.ttl}). Mientras la reserva está vigente esas unidades no están
+ * disponibles para otros carritos: disponible = {@code stock.cantidad} − reservas vigentes
+ * de otros carritos. El pago convierte la reserva (descuenta el stock y la elimina) y las
+ * reservas vencidas se liberan en lotes en segundo plano.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockReservationService {
+
+    /**
+     * Obtiene las unidades reservadas y vigentes de cada producto por carritos distintos al indicado.
+     *
+     * @param cartId Carrito cuyas reservas no se cuentan
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → unidades reservadas por otros carritos
+     */
+    Map<Integer, Integer> findReservedByOthers(Integer cartId, Collection<Integer> productoIds);
+
+    /**
+     * Reemplaza las reservas del carrito por las cantidades indicadas y renueva su vencimiento.
+     * Las filas de stock de los productos deben estar bloqueadas en la transacción actual
+     * y la disponibilidad ya verificada.
+     *
+     * @param cartId ID del carrito
+     * @param quantitiesByProduct Mapa productoId → cantidad a reservar
+     * @return Fecha de vencimiento de la reserva
+     */
+    LocalDateTime reserve(Integer cartId, Map<Integer, Integer> quantitiesByProduct);
+
+    /**
+     * Libera las reservas del carrito (ej. cuando su stock ya no alcanza).
+     *
+     * @param cartId ID del carrito
+     */
+    void release(Integer cartId);
+
+    /**
+     * Convierte las reservas del carrito en compra: se eliminan porque el stock ya fue descontado
+     * en la misma transacción del pago.
+     *
+     * @param cartId ID del carrito
+     */
+    void convert(Integer cartId);
+
+    /**
+     * Elimina las reservas vencidas en lotes de {@code stock.reservation.sweep-batch-size};
+     * cada lote se confirma en su propia transacción.
+     *
+     * @return Cantidad total de reservas eliminadas
+     */
+    int releaseExpired();
+}
@@ -0,0 +1,87 @@
+package com.ecommerce.davivienda.service.stock.reservation;
+
+import com.ecommerce.davivienda.service.stock.transactional.reservation.StockReservationTransactionalService;
+import com.ecommerce.davivienda.util.BatchUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Implementación de las reservas temporales de stock.
+ * Las reservas vencidas se ignoran en todas las consultas, por lo que liberarlas es solo
+ * limpieza: la disponibilidad es correcta aunque el barrido se retrase.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationTransactionalService reservationTransactionalService;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+
+    public StockReservationServiceImpl(
+            StockReservationTransactionalService reservationTransactionalService,
+            @Value("${stock.reservation.ttl:15m}") Duration ttl,
+            @Value("${stock.reservation.sweep-batch-size:500}") int sweepBatchSize) {
+        this.reservationTransactionalService = reservationTransactionalService;
+        this.ttl = ttl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> findReservedByOthers(Integer cartId, Collection<Integer> productoIds) {
+        return reservationTransactionalService.sumActiveReservations(productoIds, cartId, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public LocalDateTime reserve(Integer cartId, Map<Integer, Integer> quantitiesByProduct) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        reservationTransactionalService.deleteByCartId(cartId);
+        reservationTransactionalService.saveReservations(cartId, quantitiesByProduct, now, expiresAt);
+
+        log.info("Stock reservado para carrito {} ({} productos) hasta {}",
+                cartId, quantitiesByProduct.size(), expiresAt);
+        return expiresAt;
+    }
+
+    @Override
+    @Transactional
+    public void release(Integer cartId) {
+        int released = reservationTransactionalService.deleteByCartId(cartId);
+        if (released > 0) {
+            log.info("Reservas liberadas para carrito {}: {}", cartId, released);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void convert(Integer cartId) {
+        int converted = reservationTransactionalService.deleteByCartId(cartId);
+        log.debug("Reservas convertidas en compra para carrito {}: {}", cartId, converted);
+    }
+
+    @Override
+    public int releaseExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = BatchUtils.drain(sweepBatchSize,
+                batchSize -> reservationTransactionalService.deleteExpiredBatch(now, batchSize));
+
+        if (total > 0) {
+            log.info("Reservas de stock vencidas liberadas: {}", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.davivienda.service.stock.shard;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Capacidad de stock fragmentado para productos de alta concurrencia (ej. ventas relámpago).
+ *
+ * <p>En este modo, opcional por producto, la cantidad se reparte en N filas de
+ * {@code stock_fragmento}. Cada compra descuenta un fragmento elegido al azar (con respaldo
+ * en otros fragmentos), de modo que las compras concurrentes no esperan todas por la misma fila.
+ * El stock total es la suma de los fragmentos.</p>
+ *
+ * <p>Los productos fragmentados no se reservan al validar el carrito: reservar exigiría
+ * serializar en una sola fila, justo lo que este modo evita. Se venden al primero que paga.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockShardService {
+
+    /**
+     * Número mínimo de fragmentos de un producto en modo de alta concurrencia.
+     */
+    int MIN_SHARDS = 2;
+
+    /**
+     * Número máximo de fragmentos de un producto en modo de alta concurrencia.
+     */
+    int MAX_SHARDS = 64;
+
+    /**
+     * Obtiene cuántos fragmentos tiene cada producto en modo de alta concurrencia.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → número de fragmentos (solo productos fragmentados)
+     */
+    Map<Integer, Integer> findShardCounts(Collection<Integer> productoIds);
+
+    /**
+     * Obtiene el stock total (suma de fragmentos) de los productos fragmentados.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → stock total (solo productos fragmentados)
+     */
+    Map<Integer, Integer> sumShards(Collection<Integer> productoIds);
+
+    /**
+     * Descuenta unidades de un producto fragmentado. Intenta primero fragmentos individuales
+     * empezando por uno al azar; si ninguno alcanza, bloquea todos los fragmentos y descuenta
+     * repartiendo entre ellos.
+     *
+     * @param productoId ID del producto
+     * @param shardCount Número de fragmentos del producto
+     * @param quantity Cantidad a descontar
+     * @return true si había stock suficiente y se descontó
+     */
+    boolean decrease(Integer productoId, int shardCount, int quantity);
+
+    /**
+     * Suma unidades a un producto fragmentado, en un fragmento al azar.
+     *
+     * @param productoId ID del producto
+     * @param shardCount Número de fragmentos del producto
+     * @param quantity Cantidad a sumar
+     * @return true si se sumó; false si el modo se desactivó en paralelo
+     */
+    boolean increase(Integer productoId, int shardCount, int quantity);
+
+    /**
+     * Activa el modo de alta concurrencia: reparte el stock actual del producto en fragmentos.
+     * Si el producto ya estaba fragmentado, redistribuye su stock con el nuevo número de fragmentos.
+     *
+     * @param productoId ID del producto
+     * @param shards Número de fragmentos ({@value #MIN_SHARDS} a {@value #MAX_SHARDS})
+     * @throws com.ecommerce.davivienda.exception.stock.StockException si el número de fragmentos es inválido
+     *         o el producto no tiene registro de stock
+     */
+    void enable(Integer productoId, int shards);
+
+    /**
+     * Desactiva el modo de alta concurrencia: devuelve la suma de los fragmentos a {@code stock.cantidad}.
+     *
+     * @param productoId ID del producto
+     */
+    void disable(Integer productoId);
+
+    /**
+     * Fija el stock total de un producto fragmentado, repartiéndolo entre sus fragmentos actuales.
+     *
+     * @param productoId ID del producto
+     * @param quantity Nuevo stock total
+     */
+    void setQuantity(Integer productoId, int quantity);
+}
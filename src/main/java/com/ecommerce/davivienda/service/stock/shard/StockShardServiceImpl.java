@@ -0,0 +1,184 @@
+package com.ecommerce.davivienda.service.stock.shard;
+
+import com.ecommerce.davivienda.exception.stock.StockException;
+import com.ecommerce.davivienda.service.stock.transactional.shard.StockShardTransactionalService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_INVALID_STOCK_SHARD_COUNT;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_INVALID_STOCK_SHARD_COUNT;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_STOCK_NOT_FOUND;
+
+/**
+ * Implementación del stock fragmentado para productos de alta concurrencia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockShardServiceImpl implements StockShardService {
+
+    /**
+     * Fragmentos individuales que se intentan antes de descontar repartiendo entre todos.
+     */
+    private static final int SINGLE_SHARD_ATTEMPTS = 3;
+
+    private final StockShardTransactionalService shardTransactionalService;
+    private final StockStockTransactionalService stockTransactionalService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> findShardCounts(Collection<Integer> productoIds) {
+        return shardTransactionalService.findShardCounts(productoIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> sumShards(Collection<Integer> productoIds) {
+        return shardTransactionalService.sumShards(productoIds);
+    }
+
+    @Override
+    @Transactional
+    public boolean decrease(Integer productoId, int shardCount, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        int attempts = Math.min(shardCount, SINGLE_SHARD_ATTEMPTS);
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            if (shardTransactionalService.decreaseShard(productoId, (start + attempt) % shardCount, quantity)) {
+                return true;
+            }
+        }
+
+        log.debug("Ningún fragmento individual alcanza para {} unidades del producto {}, se reparte el descuento",
+                quantity, productoId);
+        return decreaseAcrossShards(productoId, quantity);
+    }
+
+    @Override
+    @Transactional
+    public boolean increase(Integer productoId, int shardCount, int quantity) {
+        return shardTransactionalService.increaseShard(
+                productoId, ThreadLocalRandom.current().nextInt(shardCount), quantity);
+    }
+
+    @Override
+    @Transactional
+    public void enable(Integer productoId, int shards) {
+        if (shards < MIN_SHARDS || shards > MAX_SHARDS) {
+            throw new StockException(ERROR_INVALID_STOCK_SHARD_COUNT, CODE_INVALID_STOCK_SHARD_COUNT);
+        }
+
+        int total = lockTotalStock(productoId);
+        shardTransactionalService.deleteShards(productoId);
+        shardTransactionalService.createShards(productoId, split(total, shards));
+        stockTransactionalService.createOrUpdateStock(productoId, 0);
+
+        log.info("Modo de alta concurrencia activado para producto ID: {} ({} unidades en {} fragmentos)",
+                productoId, total, shards);
+    }
+
+    @Override
+    @Transactional
+    public void disable(Integer productoId) {
+        int total = lockTotalStock(productoId);
+        shardTransactionalService.deleteShards(productoId);
+        stockTransactionalService.createOrUpdateStock(productoId, total);
+
+        log.info("Modo de alta concurrencia desactivado para producto ID: {} ({} unidades)", productoId, total);
+    }
+
+    @Override
+    @Transactional
+    public void setQuantity(Integer productoId, int quantity) {
+        Map<Integer, Integer> currentShards = shardTransactionalService.lockShards(productoId);
+        if (currentShards.isEmpty()) {
+            // El modo se desactivó en paralelo: el stock vuelve a estar en una sola fila
+            stockTransactionalService.createOrUpdateStock(productoId, quantity);
+            return;
+        }
+        List<Integer> quantities = split(quantity, currentShards.size());
+
+        Map<Integer, Integer> quantitiesByShard = new HashMap<>(quantities.size() * 2);
+        int index = 0;
+        for (Integer shard : currentShards.keySet()) {
+            quantitiesByShard.put(shard, quantities.get(index++));
+        }
+        shardTransactionalService.updateShards(productoId, quantitiesByShard);
+
+        log.info("Stock fragmentado del producto ID: {} fijado en {} unidades", productoId, quantity);
+    }
+
+    /**
+     * Descuenta repartiendo entre fragmentos, con todos los fragmentos del producto bloqueados.
+     *
+     * @param productoId ID del producto
+     * @param quantity Cantidad a descontar
+     * @return true si la suma de los fragmentos alcanzaba
+     */
+    private boolean decreaseAcrossShards(Integer productoId, int quantity) {
+        Map<Integer, Integer> currentShards = shardTransactionalService.lockShards(productoId);
+        int total = currentShards.values().stream().mapToInt(Integer::intValue).sum();
+        if (total < quantity) {
+            return false;
+        }
+
+        Map<Integer, Integer> updatedShards = new HashMap<>();
+        int remaining = quantity;
+        for (Map.Entry<Integer, Integer> entry : currentShards.entrySet()) {
+            if (remaining == 0) {
+                break;
+            }
+            int taken = Math.min(entry.getValue(), remaining);
+            if (taken > 0) {
+                updatedShards.put(entry.getKey(), entry.getValue() - taken);
+                remaining -= taken;
+            }
+        }
+        shardTransactionalService.updateShards(productoId, updatedShards);
+        return true;
+    }
+
+    /**
+     * Bloquea la fila de stock y los fragmentos del producto y retorna su stock total.
+     *
+     * @param productoId ID del producto
+     * @return stock.cantidad más la suma de los fragmentos
+     */
+    private int lockTotalStock(Integer productoId) {
+        Integer baseQuantity = stockTransactionalService.lockStock(List.of(productoId)).get(productoId);
+        if (baseQuantity == null) {
+            throw new StockException(ERROR_STOCK_NOT_FOUND, CODE_STOCK_NOT_FOUND);
+        }
+        return baseQuantity + shardTransactionalService.lockShards(productoId).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    /**
+     * Reparte una cantidad en partes casi iguales; el residuo se asigna a los primeros fragmentos.
+     *
+     * @param total Cantidad a repartir
+     * @param shards Número de partes
+     * @return Cantidad de cada parte
+     */
+    private List<Integer> split(int total, int shards) {
+        List<Integer> quantities = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            quantities.add(total / shards + (shard < total % shards ? 1 : 0));
+        }
+        return quantities;
+    }
+}
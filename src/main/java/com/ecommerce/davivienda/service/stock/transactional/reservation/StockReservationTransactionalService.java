@@ -0,0 +1,54 @@
+package com.ecommerce.davivienda.service.stock.transactional.reservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Servicio transaccional para las reservas temporales de stock (tabla {@code reserva_stock}).
+ * Centraliza el acceso a datos de reservas.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockReservationTransactionalService {
+
+    /**
+     * Suma las unidades reservadas y vigentes de cada producto, excluyendo las de un carrito.
+     *
+     * @param productoIds IDs de los productos
+     * @param excludedCartId Carrito cuyas reservas no se cuentan (el que está validando o pagando)
+     * @param now Instante de referencia para determinar las reservas vigentes
+     * @return Mapa productoId → unidades reservadas (sin entrada para productos sin reservas)
+     */
+    Map<Integer, Integer> sumActiveReservations(Collection<Integer> productoIds, Integer excludedCartId,
+                                                LocalDateTime now);
+
+    /**
+     * Inserta en un único batch las reservas de un carrito.
+     *
+     * @param cartId ID del carrito
+     * @param quantitiesByProduct Mapa productoId → cantidad reservada
+     * @param createdAt Fecha de creación de la reserva
+     * @param expiresAt Fecha de vencimiento de la reserva
+     */
+    void saveReservations(Integer cartId, Map<Integer, Integer> quantitiesByProduct,
+                          LocalDateTime createdAt, LocalDateTime expiresAt);
+
+    /**
+     * Elimina todas las reservas de un carrito.
+     *
+     * @param cartId ID del carrito
+     * @return Cantidad de reservas eliminadas
+     */
+    int deleteByCartId(Integer cartId);
+
+    /**
+     * Elimina un lote de reservas vencidas, omitiendo las filas bloqueadas por otra transacción.
+     *
+     * @param now Instante de referencia para determinar las reservas vencidas
+     * @param batchSize Máximo de reservas a eliminar
+     * @return Cantidad de reservas eliminadas
+     */
+    int deleteExpiredBatch(LocalDateTime now, int batchSize);
+}
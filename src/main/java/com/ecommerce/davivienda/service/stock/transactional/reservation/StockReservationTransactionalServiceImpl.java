@@ -0,0 +1,98 @@
+package com.ecommerce.davivienda.service.stock.transactional.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementación del servicio transaccional de reservas de stock.
+ * Usa sentencias SQL directas para leer y escribir todas las reservas de un carrito
+ * con un número fijo de sentencias, sin importar la cantidad de productos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationTransactionalServiceImpl implements StockReservationTransactionalService {
+
+    /**
+     * Suma de reservas vigentes por producto; se completa con los placeholders del IN.
+     */
+    private static final String SUM_ACTIVE_RESERVATIONS_SQL =
+            "SELECT producto_id, SUM(cantidad) AS reservada FROM reserva_stock "
+                    + "WHERE producto_id IN (%s) AND carrito_id <> ? AND fecha_expiracion > ? "
+                    + "GROUP BY producto_id";
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO reserva_stock (carrito_id, producto_id, cantidad, fecha_creacion, fecha_expiracion) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_BY_CART_SQL =
+            "DELETE FROM reserva_stock WHERE carrito_id = ?";
+
+    private static final String DELETE_EXPIRED_BATCH_SQL =
+            "DELETE FROM reserva_stock WHERE reserva_id IN ("
+                    + "SELECT reserva_id FROM reserva_stock WHERE fecha_expiracion <= ? "
+                    + "LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> sumActiveReservations(Collection<Integer> productoIds, Integer excludedCartId,
+                                                       LocalDateTime now) {
+        Map<Integer, Integer> reservedByProduct = new HashMap<>(productoIds.size() * 2);
+        if (productoIds.isEmpty()) {
+            return reservedByProduct;
+        }
+
+        List<Object> args = new ArrayList<>(productoIds.size() + 2);
+        args.addAll(productoIds);
+        args.add(excludedCartId);
+        args.add(now);
+
+        String placeholders = String.join(", ", Collections.nCopies(productoIds.size(), "?"));
+        jdbcTemplate.query(String.format(SUM_ACTIVE_RESERVATIONS_SQL, placeholders),
+                (RowCallbackHandler) rs -> reservedByProduct.put(rs.getInt("producto_id"), rs.getInt("reservada")),
+                args.toArray());
+        return reservedByProduct;
+    }
+
+    @Override
+    @Transactional
+    public void saveReservations(Integer cartId, Map<Integer, Integer> quantitiesByProduct,
+                                 LocalDateTime createdAt, LocalDateTime expiresAt) {
+        List<Object[]> batchArgs = new ArrayList<>(quantitiesByProduct.size());
+        new TreeMap<>(quantitiesByProduct).forEach((productoId, quantity) ->
+                batchArgs.add(new Object[]{cartId, productoId, quantity, createdAt, expiresAt}));
+
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, batchArgs);
+        log.debug("Reservas creadas para carrito {}: {} productos hasta {}", cartId, batchArgs.size(), expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public int deleteByCartId(Integer cartId) {
+        return jdbcTemplate.update(DELETE_BY_CART_SQL, cartId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredBatch(LocalDateTime now, int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED_BATCH_SQL, now, batchSize);
+    }
+}
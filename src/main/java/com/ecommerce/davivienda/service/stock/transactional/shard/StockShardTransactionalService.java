@@ -0,0 +1,83 @@
+package com.ecommerce.davivienda.service.stock.transactional.shard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio transaccional para los fragmentos de stock (tabla {@code stock_fragmento})
+ * de los productos en modo de alta concurrencia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface StockShardTransactionalService {
+
+    /**
+     * Obtiene cuántos fragmentos tiene cada producto fragmentado.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → número de fragmentos (sin entrada para productos no fragmentados)
+     */
+    Map<Integer, Integer> findShardCounts(Collection<Integer> productoIds);
+
+    /**
+     * Suma la cantidad de todos los fragmentos de cada producto.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → cantidad total (sin entrada para productos no fragmentados)
+     */
+    Map<Integer, Integer> sumShards(Collection<Integer> productoIds);
+
+    /**
+     * Disminuye un fragmento con un {@code UPDATE ... WHERE cantidad >= ?} condicional.
+     *
+     * @param productoId ID del producto
+     * @param shard Número de fragmento
+     * @param quantity Cantidad a disminuir
+     * @return true si el fragmento tenía unidades suficientes y se descontó
+     */
+    boolean decreaseShard(Integer productoId, int shard, int quantity);
+
+    /**
+     * Suma unidades a un fragmento del producto.
+     *
+     * @param productoId ID del producto
+     * @param shard Número de fragmento
+     * @param quantity Cantidad a sumar
+     * @return true si el fragmento existía y se actualizó
+     */
+    boolean increaseShard(Integer productoId, int shard, int quantity);
+
+    /**
+     * Bloquea ({@code SELECT ... FOR UPDATE}) todos los fragmentos del producto en orden.
+     *
+     * @param productoId ID del producto
+     * @return Mapa fragmento → cantidad, en orden de fragmento
+     */
+    Map<Integer, Integer> lockShards(Integer productoId);
+
+    /**
+     * Actualiza en un único batch la cantidad de varios fragmentos del producto.
+     *
+     * @param productoId ID del producto
+     * @param quantitiesByShard Mapa fragmento → nueva cantidad
+     */
+    void updateShards(Integer productoId, Map<Integer, Integer> quantitiesByShard);
+
+    /**
+     * Crea los fragmentos del producto, numerados desde 0.
+     *
+     * @param productoId ID del producto
+     * @param quantities Cantidad de cada fragmento
+     */
+    void createShards(Integer productoId, List<Integer> quantities);
+
+    /**
+     * Elimina todos los fragmentos del producto.
+     *
+     * @param productoId ID del producto
+     * @return Cantidad de fragmentos eliminados
+     */
+    int deleteShards(Integer productoId);
+}
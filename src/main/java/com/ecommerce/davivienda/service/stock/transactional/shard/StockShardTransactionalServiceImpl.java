@@ -0,0 +1,150 @@
+package com.ecommerce.davivienda.service.stock.transactional.shard;
+
+import com.ecommerce.davivienda.service.product.catalog.ProductStockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementación del servicio transaccional de fragmentos de stock.
+ * Cada descuento toca una sola fila de fragmento, de modo que compras concurrentes
+ * del mismo producto se reparten entre varias filas en lugar de esperar por una.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockShardTransactionalServiceImpl implements StockShardTransactionalService {
+
+    private static final String FIND_SHARD_COUNTS_SQL =
+            "SELECT producto_id, COUNT(*) AS fragmentos FROM stock_fragmento "
+                    + "WHERE producto_id IN (%s) GROUP BY producto_id";
+
+    private static final String SUM_SHARDS_SQL =
+            "SELECT producto_id, SUM(cantidad) AS cantidad FROM stock_fragmento "
+                    + "WHERE producto_id IN (%s) GROUP BY producto_id";
+
+    /**
+     * Decremento condicional de un fragmento: solo afecta la fila si hay unidades suficientes.
+     */
+    private static final String DECREASE_SHARD_SQL =
+            "UPDATE stock_fragmento SET cantidad = cantidad - ? "
+                    + "WHERE producto_id = ? AND fragmento = ? AND cantidad >= ?";
+
+    private static final String INCREASE_SHARD_SQL =
+            "UPDATE stock_fragmento SET cantidad = cantidad + ? WHERE producto_id = ? AND fragmento = ?";
+
+    private static final String LOCK_SHARDS_SQL =
+            "SELECT fragmento, cantidad FROM stock_fragmento WHERE producto_id = ? ORDER BY fragmento FOR UPDATE";
+
+    private static final String UPDATE_SHARD_SQL =
+            "UPDATE stock_fragmento SET cantidad = ? WHERE producto_id = ? AND fragmento = ?";
+
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO stock_fragmento (producto_id, fragmento, cantidad) VALUES (?, ?, ?)";
+
+    private static final String DELETE_SHARDS_SQL =
+            "DELETE FROM stock_fragmento WHERE producto_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> findShardCounts(Collection<Integer> productoIds) {
+        return queryByProduct(FIND_SHARD_COUNTS_SQL, "fragmentos", productoIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> sumShards(Collection<Integer> productoIds) {
+        return queryByProduct(SUM_SHARDS_SQL, "cantidad", productoIds);
+    }
+
+    @Override
+    @Transactional
+    public boolean decreaseShard(Integer productoId, int shard, int quantity) {
+        boolean decreased = jdbcTemplate.update(DECREASE_SHARD_SQL, quantity, productoId, shard, quantity) > 0;
+        if (decreased) {
+            eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
+        }
+        return decreased;
+    }
+
+    @Override
+    @Transactional
+    public boolean increaseShard(Integer productoId, int shard, int quantity) {
+        boolean increased = jdbcTemplate.update(INCREASE_SHARD_SQL, quantity, productoId, shard) > 0;
+        if (increased) {
+            eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
+        }
+        return increased;
+    }
+
+    @Override
+    @Transactional
+    public Map<Integer, Integer> lockShards(Integer productoId) {
+        Map<Integer, Integer> quantitiesByShard = new TreeMap<>();
+        jdbcTemplate.query(LOCK_SHARDS_SQL,
+                (RowCallbackHandler) rs -> quantitiesByShard.put(rs.getInt("fragmento"), rs.getInt("cantidad")),
+                productoId);
+        return quantitiesByShard;
+    }
+
+    @Override
+    @Transactional
+    public void updateShards(Integer productoId, Map<Integer, Integer> quantitiesByShard) {
+        List<Object[]> batchArgs = new ArrayList<>(quantitiesByShard.size());
+        new TreeMap<>(quantitiesByShard).forEach((shard, quantity) ->
+                batchArgs.add(new Object[]{quantity, productoId, shard}));
+
+        jdbcTemplate.batchUpdate(UPDATE_SHARD_SQL, batchArgs);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
+    }
+
+    @Override
+    @Transactional
+    public void createShards(Integer productoId, List<Integer> quantities) {
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        for (int shard = 0; shard < quantities.size(); shard++) {
+            batchArgs.add(new Object[]{productoId, shard, quantities.get(shard)});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SHARD_SQL, batchArgs);
+        log.debug("Creados {} fragmentos de stock para producto ID: {}", quantities.size(), productoId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteShards(Integer productoId) {
+        return jdbcTemplate.update(DELETE_SHARDS_SQL, productoId);
+    }
+
+    private Map<Integer, Integer> queryByProduct(String sqlTemplate, String valueColumn,
+                                                 Collection<Integer> productoIds) {
+        Map<Integer, Integer> valuesByProduct = new HashMap<>(productoIds.size() * 2);
+        if (productoIds.isEmpty()) {
+            return valuesByProduct;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(productoIds.size(), "?"));
+        jdbcTemplate.query(String.format(sqlTemplate, placeholders),
+                (RowCallbackHandler) rs -> valuesByProduct.put(rs.getInt("producto_id"), rs.getInt(valueColumn)),
+                productoIds.toArray());
+        return valuesByProduct;
+    }
+}
@@ -1,7 +1,11 @@
 package com.ecommerce.davivienda.service.stock.transactional.stock;
 
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
 import com.ecommerce.davivienda.entity.product.Stock;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -29,6 +33,14 @@ public interface StockStockTransactionalService {
      */
     Optional<Stock> findByProductoId(Integer productoId);
 
+    /**
+     * Busca el stock de varios productos en una sola consulta.
+     *
+     * @param productoIds IDs de los productos
+     * @return Registros de stock existentes
+     */
+    List<Stock> findAllByProductoIds(Collection<Integer> productoIds);
+
     /**
      * Obtiene la cantidad actual de stock de un producto.
      *
@@ -54,5 +66,59 @@ public interface StockStockTransactionalService {
      * @throws IllegalStateException si no hay suficiente stock
      */
     void decreaseStock(Integer productoId, Integer quantity);
+
+    /**
+     * Disminuye el stock de varios productos con sentencias condicionales
+     * {@code UPDATE ... WHERE cantidad >= ?} enviadas en un único batch ordenado por producto.
+     * Cada decremento es atómico en la base de datos, por lo que no hay sobreventa
+     * aunque varias compras concurrentes descuenten el mismo producto.
+     *
+     * @param quantitiesByProduct Mapa productoId → cantidad a disminuir
+     * @return IDs de los productos que no tenían stock suficiente (vacío si todos se descontaron)
+     */
+    List<Integer> decreaseStockBatch(Map<Integer, Integer> quantitiesByProduct);
+
+    /**
+     * Igual que {@link #decreaseStockBatch(Map)}, pero conservando las unidades reservadas
+     * por otros carritos: un producto solo se descuenta si {@code cantidad >= solicitada + reservada}.
+     * Las filas de stock deben estar bloqueadas con {@link #lockStock(Collection)} antes de
+     * calcular las reservas, para que no cambien entre la lectura y el descuento.
+     *
+     * @param quantitiesByProduct Mapa productoId → cantidad a disminuir
+     * @param reservedByProduct Mapa productoId → unidades reservadas por otros carritos
+     * @return IDs de los productos que no tenían stock suficiente (vacío si todos se descontaron)
+     */
+    List<Integer> decreaseStockBatch(Map<Integer, Integer> quantitiesByProduct, Map<Integer, Integer> reservedByProduct);
+
+    /**
+     * Bloquea ({@code SELECT ... FOR UPDATE}) las filas de stock de los productos, en orden por producto,
+     * hasta el fin de la transacción actual. Serializa las reservas y los descuentos de un mismo producto.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → cantidad en stock (sin entrada para productos sin registro de stock)
+     */
+    Map<Integer, Integer> lockStock(Collection<Integer> productoIds);
+
+    /**
+     * Consulta con una sola sentencia qué productos existen y su stock actual,
+     * para validar un lote de ajustes de inventario.
+     *
+     * @param productoIds IDs de los productos
+     * @return Mapa productoId → cantidad en stock; el valor es null si el producto existe sin registro
+     *         de stock y no hay entrada si el producto no existe
+     */
+    Map<Integer, Integer> findStockForAdjustment(Collection<Integer> productoIds);
+
+    /**
+     * Aplica ajustes relativos de inventario en un único batch de
+     * {@code INSERT ... ON CONFLICT (producto_id) DO UPDATE SET cantidad = stock.cantidad + excluded.cantidad}.
+     * La actualización es condicional: la fila no se modifica si el stock quedaría negativo.
+     * Las sentencias se envían ordenadas por producto para que lotes concurrentes bloqueen filas en el mismo orden.
+     *
+     * @param adjustments Ajustes a aplicar (productId y quantity no nulos; cantidades negativas solo
+     *                    para productos con registro de stock)
+     * @return Filas afectadas por cada ajuste en el orden recibido (0 si el stock quedaría negativo)
+     */
+    int[] adjustStockBatch(List<InventoryAddRequestDto> adjustments);
 }
 
@@ -1,13 +1,26 @@
 package com.ecommerce.davivienda.service.stock.transactional.stock;
 
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
 import com.ecommerce.davivienda.entity.product.Stock;
 import com.ecommerce.davivienda.repository.product.StockRepository;
+import com.ecommerce.davivienda.service.product.catalog.ProductStockChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Implementación del servicio transaccional para operaciones de stock.
@@ -21,7 +34,36 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class StockStockTransactionalServiceImpl implements StockStockTransactionalService {
 
+    /**
+     * Decremento condicional: solo afecta la fila si hay unidades suficientes.
+     */
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE stock SET cantidad = cantidad - ? WHERE producto_id = ? AND cantidad >= ?";
+
+    /**
+     * Bloqueo de filas de stock en orden por producto; se completa con los placeholders del IN.
+     */
+    private static final String LOCK_STOCK_SQL =
+            "SELECT producto_id, cantidad FROM stock WHERE producto_id IN (%s) ORDER BY producto_id FOR UPDATE";
+
+    /**
+     * Productos existentes y su stock (NULL sin registro de stock); se completa con los placeholders del IN.
+     */
+    private static final String FIND_STOCK_FOR_ADJUSTMENT_SQL =
+            "SELECT p.producto_id, s.cantidad FROM productos p "
+                    + "LEFT JOIN stock s ON s.producto_id = p.producto_id WHERE p.producto_id IN (%s)";
+
+    /**
+     * Ajuste relativo: crea el registro de stock o suma la cantidad solo si el resultado no es negativo.
+     */
+    private static final String ADJUST_STOCK_SQL =
+            "INSERT INTO stock (producto_id, cantidad) VALUES (?, ?) "
+                    + "ON CONFLICT (producto_id) DO UPDATE SET cantidad = stock.cantidad + EXCLUDED.cantidad "
+                    + "WHERE stock.cantidad + EXCLUDED.cantidad >= 0";
+
     private final StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -45,6 +87,8 @@ public class StockStockTransactionalServiceImpl implements StockStockTransaction
                             stockRepository.save(newStock);
                         }
                 );
+
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
     }
 
     @Override
@@ -54,6 +98,13 @@ public class StockStockTransactionalServiceImpl implements StockStockTransaction
         return stockRepository.findByProductoId(productoId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Stock> findAllByProductoIds(Collection<Integer> productoIds) {
+        log.debug("Buscando stock para {} productos", productoIds.size());
+        return stockRepository.findAllByProductoIdIn(productoIds);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Integer getCurrentStock(Integer productoId) {
@@ -94,9 +145,110 @@ public class StockStockTransactionalServiceImpl implements StockStockTransaction
         Integer newQuantity = stock.getCantidad() - quantity;
         stock.setCantidad(newQuantity);
         stockRepository.save(stock);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
 
         log.info("Stock actualizado para producto ID: {}. Cantidad anterior: {}, Nueva cantidad: {}",
                 productoId, stock.getCantidad() + quantity, newQuantity);
     }
-}
 
+    @Override
+    @Transactional
+    public List<Integer> decreaseStockBatch(Map<Integer, Integer> quantitiesByProduct) {
+        return decreaseStockBatch(quantitiesByProduct, Map.of());
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> decreaseStockBatch(Map<Integer, Integer> quantitiesByProduct,
+                                            Map<Integer, Integer> reservedByProduct) {
+        // Orden determinístico por producto para que compras concurrentes bloqueen filas en el mismo orden
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(new TreeMap<>(quantitiesByProduct).entrySet());
+        log.debug("Disminuyendo stock en batch para {} productos", entries.size());
+
+        List<Object[]> batchArgs = new ArrayList<>(entries.size());
+        for (Map.Entry<Integer, Integer> entry : entries) {
+            int required = entry.getValue() + reservedByProduct.getOrDefault(entry.getKey(), 0);
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey(), required});
+        }
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+
+        List<Integer> failedProductIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Integer productoId = entries.get(i).getKey();
+            if (updatedRows[i] == 0) {
+                failedProductIds.add(productoId);
+            } else {
+                eventPublisher.publishEvent(new ProductStockChangedEvent(productoId));
+            }
+        }
+
+        if (!failedProductIds.isEmpty()) {
+            log.warn("Stock insuficiente al descontar productos: {}", failedProductIds);
+        }
+        return failedProductIds;
+    }
+
+    @Override
+    @Transactional
+    public Map<Integer, Integer> lockStock(Collection<Integer> productoIds) {
+        Map<Integer, Integer> stockByProduct = new HashMap<>(productoIds.size() * 2);
+        if (productoIds.isEmpty()) {
+            return stockByProduct;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(productoIds.size(), "?"));
+        jdbcTemplate.query(String.format(LOCK_STOCK_SQL, placeholders),
+                (RowCallbackHandler) rs -> stockByProduct.put(rs.getInt("producto_id"), rs.getInt("cantidad")),
+                productoIds.toArray());
+
+        log.debug("Stock bloqueado para {} productos", stockByProduct.size());
+        return stockByProduct;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> findStockForAdjustment(Collection<Integer> productoIds) {
+        Map<Integer, Integer> stockByProduct = new HashMap<>(productoIds.size() * 2);
+        if (productoIds.isEmpty()) {
+            return stockByProduct;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(productoIds.size(), "?"));
+        jdbcTemplate.query(String.format(FIND_STOCK_FOR_ADJUSTMENT_SQL, placeholders),
+                (RowCallbackHandler) rs -> stockByProduct.put(
+                        rs.getInt("producto_id"), rs.getObject("cantidad", Integer.class)),
+                productoIds.toArray());
+        return stockByProduct;
+    }
+
+    @Override
+    @Transactional
+    public int[] adjustStockBatch(List<InventoryAddRequestDto> adjustments) {
+        // Orden estable por producto: los ajustes repetidos de un producto conservan su orden relativo
+        List<Integer> order = new ArrayList<>(adjustments.size());
+        for (int i = 0; i < adjustments.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(index -> adjustments.get(index).getProductId()));
+
+        List<Object[]> batchArgs = new ArrayList<>(order.size());
+        for (Integer index : order) {
+            InventoryAddRequestDto adjustment = adjustments.get(index);
+            batchArgs.add(new Object[]{adjustment.getProductId(), adjustment.getQuantity()});
+        }
+
+        int[] sortedRows = jdbcTemplate.batchUpdate(ADJUST_STOCK_SQL, batchArgs);
+
+        int[] updatedRows = new int[adjustments.size()];
+        for (int i = 0; i < order.size(); i++) {
+            updatedRows[order.get(i)] = sortedRows[i];
+            if (sortedRows[i] > 0) {
+                eventPublisher.publishEvent(new ProductStockChangedEvent(adjustments.get(order.get(i)).getProductId()));
+            }
+        }
+
+        log.debug("Ajustes de inventario aplicados en batch: {}", adjustments.size());
+        return updatedRows;
+    }
+}
@@ -1,12 +1,12 @@
 package com.ecommerce.davivienda.service.user;
 
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.user.UserRequest;
 import com.ecommerce.davivienda.models.user.UserResponse;
 import com.ecommerce.davivienda.models.user.UserUpdateRequest;
 
-import java.util.List;
-
 /**
  * Servicio principal para operaciones CRUD sobre usuarios.
  * Define las operaciones de negocio para gestión de usuarios.
@@ -64,12 +64,15 @@ public interface UserService {
     Response<String> changePasswordAuthenticated(String email, String newPassword);
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Busca usuarios del sistema aplicando filtros, con paginación por cursor sobre el ID.
      * Retorna información pública sin datos sensibles.
      *
-     * @return Response con lista de usuarios
+     * @param filter Filtros de búsqueda (estado, rol, documento, prefijo de correo)
+     * @param afterUserId Cursor devuelto en {@code nextCursor} por la página anterior (null para la primera)
+     * @param size Tamaño de página (se limita entre 1 y {@code USER_PAGE_MAX_SIZE})
+     * @return Response con la página de usuarios
      */
-    Response<List<UserResponse>> getAllUsers();
+    Response<PagedUserResponseDto> searchUsers(UserFilterDto filter, Integer afterUserId, int size);
 
     /**
      * Busca un usuario por su ID (usuarioId).
@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.service.user;
 
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.entity.user.*;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.mapper.user.UserMapper;
@@ -356,18 +358,19 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public Response<List<UserResponse>> getAllUsers() {
-        log.info("Obteniendo todos los usuarios del sistema");
+    public Response<PagedUserResponseDto> searchUsers(UserFilterDto filter, Integer afterUserId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), USER_PAGE_MAX_SIZE);
+        log.info("Buscando usuarios: after={}, size={}", afterUserId, pageSize);
 
-        List<User> users = userTransactionalService.findAllUsers();
-        List<UserResponse> userResponses = userMapper.toResponseList(users);
+        List<UserResponse> users = userTransactionalService.findUsersPage(filter, afterUserId, pageSize + 1);
+        PagedUserResponseDto page = PagedUserResponseDto.fromSlice(users, pageSize);
 
-        log.info("Se encontraron {} usuarios", userResponses.size());
-        return Response.<List<UserResponse>>builder()
+        log.info("Se encontraron {} usuarios (hasNext={})", page.getContent().size(), page.getHasNext());
+        return Response.<PagedUserResponseDto>builder()
                 .failure(false)
                 .code(200)
                 .message(SUCCESS_USERS_FOUND)
-                .body(userResponses)
+                .body(page)
                 .timestamp(String.valueOf(System.currentTimeMillis()))
                 .build();
     }
@@ -1,11 +1,10 @@
 package com.ecommerce.davivienda.service.user.transactional.document;
 
 import com.ecommerce.davivienda.entity.user.DocumentType;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,27 +21,25 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserDocumentTransactionalServiceImpl implements UserDocumentTransactionalService {
 
-    private final DocumentTypeRepository documentTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<DocumentType> findDocumentTypeById(Integer documentTypeId) {
         log.debug("Buscando tipo de documento por ID: {}", documentTypeId);
-        return documentTypeRepository.findById(documentTypeId);
+        return referenceDataRegistry.findDocumentTypeById(documentTypeId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<DocumentType> findDocumentTypeByNameOrCode(String documentType) {
         log.debug("Buscando tipo de documento por nombre o código: {}", documentType);
         
-        Optional<DocumentType> result = documentTypeRepository.findByCodigo(documentType);
+        Optional<DocumentType> result = referenceDataRegistry.findDocumentTypeByCode(documentType);
         if (result.isPresent()) {
             log.debug("Tipo de documento encontrado por código: {}", documentType);
             return result;
         }
         
-        result = documentTypeRepository.findByNombre(documentType);
+        result = referenceDataRegistry.findDocumentTypeByName(documentType);
         if (result.isPresent()) {
             log.debug("Tipo de documento encontrado por nombre: {}", documentType);
         }
@@ -2,8 +2,8 @@ package com.ecommerce.davivienda.service.user.transactional.role;
 
 import com.ecommerce.davivienda.entity.user.Role;
 import com.ecommerce.davivienda.entity.user.UserRole;
-import com.ecommerce.davivienda.repository.user.RoleRepository;
 import com.ecommerce.davivienda.repository.user.UserRoleRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,21 +25,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRoleTransactionalServiceImpl implements UserRoleTransactionalService {
 
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRoleRepository userRoleRepository;
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Role> findRoleById(Integer roleId) {
         log.debug("Buscando rol por ID: {}", roleId);
-        return roleRepository.findById(roleId);
+        return referenceDataRegistry.findRoleById(roleId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Role> findRoleByNombre(String nombreRol) {
         log.debug("Buscando rol por nombre: {}", nombreRol);
-        return roleRepository.findByNombreRol(nombreRol);
+        return referenceDataRegistry.findRoleByName(nombreRol);
     }
 
     @Override
@@ -1,11 +1,10 @@
 package com.ecommerce.davivienda.service.user.transactional.status;
 
 import com.ecommerce.davivienda.entity.user.UserStatus;
-import com.ecommerce.davivienda.repository.user.UserStatusRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,20 +21,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserStatusTransactionalServiceImpl implements UserStatusTransactionalService {
 
-    private final UserStatusRepository userStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<UserStatus> findUserStatusByName(String statusName) {
         log.debug("Buscando estado de usuario: {}", statusName);
-        return userStatusRepository.findByNombre(statusName);
+        return referenceDataRegistry.findUserStatusByName(statusName);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<UserStatus> findUserStatusById(Integer statusId) {
         log.debug("Buscando estado de usuario por ID: {}", statusId);
-        return userStatusRepository.findById(statusId);
+        return referenceDataRegistry.findUserStatusById(statusId);
     }
 }
 
@@ -1,6 +1,8 @@
 package com.ecommerce.davivienda.service.user.transactional.user;
 
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.models.user.UserResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,11 +58,15 @@ public interface UserUserTransactionalService {
     Optional<User> findByDocumentTypeAndNumber(Integer documentTypeId, String documentNumber);
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Busca una página de usuarios ordenada por ID, proyectada directamente a UserResponse.
+     * Una sola consulta obtiene documento, correo, estado y roles de cada usuario.
      *
-     * @return Lista de todos los usuarios
+     * @param filter Filtros a aplicar (campos null se ignoran)
+     * @param afterUserId ID del último usuario de la página anterior (null para la primera)
+     * @param limit Máximo de usuarios a retornar
+     * @return Usuarios con ID mayor a afterUserId, en orden ascendente
      */
-    List<User> findAllUsers();
+    List<UserResponse> findUsersPage(UserFilterDto filter, Integer afterUserId, int limit);
 
     /**
      * Guarda un usuario.
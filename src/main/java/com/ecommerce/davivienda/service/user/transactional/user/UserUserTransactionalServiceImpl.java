@@ -1,12 +1,21 @@
 package com.ecommerce.davivienda.service.user.transactional.user;
 
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.models.user.UserResponse;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +32,23 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserUserTransactionalServiceImpl implements UserUserTransactionalService {
 
+    /**
+     * Proyección de usuarios a UserResponse en una sola consulta; los roles se agregan en un arreglo
+     * por usuario. Las condiciones de filtro y el cursor se agregan dinámicamente tras {@code WHERE TRUE}.
+     */
+    private static final String FIND_USERS_PAGE_SQL =
+            "SELECT u.usuario_id, u.nombre, u.apellido, d.nombre AS tipo_documento, u.numero_de_doc, "
+                    + "c.correo, e.nombre AS estado, u.usuario_rol_id, "
+                    + "ARRAY(SELECT r.nombre FROM usuario_rol ur JOIN roles r ON r.rol_id = ur.rol_id "
+                    + "WHERE ur.usuario_id = u.usuario_id ORDER BY ur.usuario_rol_id) AS roles "
+                    + "FROM usuarios u "
+                    + "JOIN documentos d ON d.documento_id = u.documento_id "
+                    + "LEFT JOIN credenciales c ON c.credenciales_id = u.credenciales_id "
+                    + "LEFT JOIN estado_usuario e ON e.estado_usuario_id = u.estado_usuario_id "
+                    + "WHERE TRUE";
+
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,7 +61,7 @@ public class UserUserTransactionalServiceImpl implements UserUserTransactionalSe
     @Transactional(readOnly = true)
     public Optional<User> findUserById(Integer userId) {
         log.debug("Buscando usuario: {}", userId);
-        return userRepository.findById(userId);
+        return userRepository.findProfileByUsuarioId(userId);
     }
 
     @Override
@@ -50,7 +75,7 @@ public class UserUserTransactionalServiceImpl implements UserUserTransactionalSe
     @Transactional(readOnly = true)
     public Optional<User> findUserByUserRoleId(Integer userRoleId) {
         log.debug("Buscando usuario por userRoleId: {}", userRoleId);
-        return userRepository.findByUsuarioRolId(userRoleId);
+        return userRepository.findProfileByUsuarioRolId(userRoleId);
     }
 
     @Override
@@ -62,9 +87,51 @@ public class UserUserTransactionalServiceImpl implements UserUserTransactionalSe
 
     @Override
     @Transactional(readOnly = true)
-    public List<User> findAllUsers() {
-        log.debug("Obteniendo todos los usuarios del sistema");
-        return userRepository.findAll();
+    public List<UserResponse> findUsersPage(UserFilterDto filter, Integer afterUserId, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_USERS_PAGE_SQL);
+        List<Object> args = new ArrayList<>();
+
+        if (afterUserId != null) {
+            sql.append(" AND u.usuario_id > ?");
+            args.add(afterUserId);
+        }
+        if (filter != null) {
+            if (filter.getStatusId() != null) {
+                sql.append(" AND u.estado_usuario_id = ?");
+                args.add(filter.getStatusId());
+            }
+            if (filter.getRoleId() != null) {
+                sql.append(" AND EXISTS (SELECT 1 FROM usuario_rol fr WHERE fr.usuario_id = u.usuario_id AND fr.rol_id = ?)");
+                args.add(filter.getRoleId());
+            }
+            if (filter.getDocumentTypeId() != null) {
+                sql.append(" AND u.documento_id = ?");
+                args.add(filter.getDocumentTypeId());
+            }
+            if (StringUtils.hasText(filter.getDocumentNumber())) {
+                sql.append(" AND u.numero_de_doc = ?");
+                args.add(filter.getDocumentNumber().trim());
+            }
+            if (StringUtils.hasText(filter.getEmailPrefix())) {
+                sql.append(" AND c.correo LIKE ? ESCAPE '\\'");
+                args.add(escapeLike(filter.getEmailPrefix().trim()) + "%");
+            }
+        }
+        sql.append(" ORDER BY u.usuario_id LIMIT ?");
+        args.add(limit);
+
+        log.debug("Buscando página de usuarios: after={}, limit={}, filtro={}", afterUserId, limit, filter);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> UserResponse.builder()
+                .usuarioId(rs.getInt("usuario_id"))
+                .nombre(rs.getString("nombre"))
+                .apellido(rs.getString("apellido"))
+                .documentType(rs.getString("tipo_documento"))
+                .documentNumber(rs.getString("numero_de_doc"))
+                .email(rs.getString("correo"))
+                .status(rs.getString("estado"))
+                .roles(toRoleNames(rs.getArray("roles")))
+                .usuarioRolId(rs.getObject("usuario_rol_id", Integer.class))
+                .build(), args.toArray());
     }
 
     @Override
@@ -73,5 +140,20 @@ public class UserUserTransactionalServiceImpl implements UserUserTransactionalSe
         log.debug("Guardando usuario: {}", user.getCorreo());
         return userRepository.save(user);
     }
-}
 
+    /**
+     * Escapa los comodines de LIKE para que el prefijo se compare literalmente.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static List<String> toRoleNames(Array roles) throws SQLException {
+        if (roles == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream((Object[]) roles.getArray())
+                .map(String::valueOf)
+                .toList();
+    }
+}
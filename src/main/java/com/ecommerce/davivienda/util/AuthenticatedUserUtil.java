@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.util;
 
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -7,6 +8,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Utilidad para obtener información del usuario autenticado.
@@ -33,6 +35,22 @@ public class AuthenticatedUserUtil {
         return username;
     }
 
+    /**
+     * Obtiene el principal tipado del usuario autenticado, construido desde los claims del JWT.
+     * Está vacío cuando el token no incluye los claims de usuario (tokens emitidos previamente).
+     *
+     * @return Principal con userId, userRoleId y roles, si el token los incluye
+     * @throws IllegalStateException si no hay usuario autenticado
+     */
+    public Optional<AuthenticatedUserPrincipal> getCurrentPrincipal() {
+        Authentication authentication = getAuthentication();
+
+        if (authentication.getPrincipal() instanceof AuthenticatedUserPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Obtiene los authorities/roles del usuario autenticado.
      *
@@ -0,0 +1,65 @@
+package com.ecommerce.davivienda.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Utilidades para procesar trabajos por lotes acotados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class BatchUtils {
+
+    private BatchUtils() {
+    }
+
+    /**
+     * Ejecuta lotes mientras vengan completos: un lote incompleto indica que no queda trabajo.
+     * Cada lote corre en su propia transacción, por lo que ningún bloqueo dura más que un lote.
+     *
+     * @param batchSize Tamaño máximo de cada lote
+     * @param batch Procesa hasta {@code batchSize} elementos y retorna cuántos procesó
+     * @return Total de elementos procesados
+     */
+    public static int drain(int batchSize, IntUnaryOperator batch) {
+        int total = 0;
+        int processed;
+        do {
+            processed = batch.applyAsInt(batchSize);
+            total += processed;
+        } while (processed == batchSize);
+        return total;
+    }
+
+    /**
+     * Divide una colección en bloques de hasta {@code size} elementos, para consultas {@code IN}
+     * que no deben superar el límite de parámetros por sentencia del driver.
+     * Si la colección cabe en un bloque se retorna tal cual, sin copiarla.
+     *
+     * @param items Elementos a dividir
+     * @param size Tamaño máximo de cada bloque
+     * @param <T> Tipo de los elementos
+     * @return Bloques en el orden de iteración de la colección
+     */
+    public static <T> List<Collection<T>> partition(Collection<T> items, int size) {
+        if (items.size() <= size) {
+            return List.of(items);
+        }
+        List<Collection<T>> chunks = new ArrayList<>(items.size() / size + 1);
+        List<T> chunk = new ArrayList<>(size);
+        for (T item : items) {
+            chunk.add(item);
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
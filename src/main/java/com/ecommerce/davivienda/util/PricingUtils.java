@@ -0,0 +1,123 @@
+package com.ecommerce.davivienda.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Motor de cálculo de precios en aritmética entera.
+ *
+ * <p>Los montos se representan en centavos ({@code long}) y los porcentajes de IVA en centésimas
+ * de punto porcentual ({@code 19.00% → 1900}), que es exactamente la precisión de las columnas
+ * {@code valor_unitario DECIMAL(10,2)} e {@code iva DECIMAL(5,2)}. Las reglas de redondeo son las
+ * mismas que con {@link BigDecimal}: el IVA por unidad se redondea HALF_UP a centavos y luego se
+ * multiplica por la cantidad. La conversión a {@link BigDecimal} se hace solo al construir la respuesta.</p>
+ *
+ * <p>Los cálculos lanzan {@link ArithmeticException} si un valor tiene más de 2 decimales o si el
+ * resultado no cabe en un {@code long}, en lugar de redondear o desbordarse en silencio.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class PricingUtils {
+
+    /**
+     * Decimales de los montos y de los porcentajes.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Divisor para llevar centavos × centésimas de porcentaje a centavos (100 del porcentaje × 100 de la escala).
+     */
+    private static final long PERCENT_DIVISOR = 10_000L;
+
+    private PricingUtils() {
+    }
+
+    /**
+     * Convierte un monto a centavos.
+     *
+     * @param amount Monto con hasta 2 decimales (null se toma como 0)
+     * @return Monto en centavos
+     * @throws ArithmeticException si el monto tiene más de 2 decimales significativos o no cabe en un long
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Convierte un porcentaje a centésimas de punto porcentual (19.00 → 1900).
+     *
+     * @param percentage Porcentaje con hasta 2 decimales (null se toma como 0)
+     * @return Porcentaje en centésimas
+     * @throws ArithmeticException si el porcentaje tiene más de 2 decimales significativos
+     */
+    public static long toBasisPoints(BigDecimal percentage) {
+        return toCents(percentage);
+    }
+
+    /**
+     * Convierte centavos al monto con escala 2 que se expone en las respuestas.
+     *
+     * @param cents Monto en centavos
+     * @return Monto con 2 decimales
+     */
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Calcula el IVA de una unidad, redondeado HALF_UP a centavos.
+     *
+     * @param unitCents Valor unitario en centavos
+     * @param ivaBasisPoints IVA en centésimas de punto porcentual
+     * @return IVA por unidad en centavos
+     */
+    public static long ivaPerUnitCents(long unitCents, long ivaBasisPoints) {
+        return divideHalfUp(Math.multiplyExact(unitCents, ivaBasisPoints), PERCENT_DIVISOR);
+    }
+
+    /**
+     * Calcula el subtotal sin IVA (valor unitario × cantidad).
+     *
+     * @param unitCents Valor unitario en centavos
+     * @param quantity Cantidad
+     * @return Subtotal en centavos
+     */
+    public static long subtotalCents(long unitCents, int quantity) {
+        return Math.multiplyExact(unitCents, quantity);
+    }
+
+    /**
+     * Calcula el IVA de una cantidad de unidades (IVA por unidad redondeado × cantidad).
+     *
+     * @param unitCents Valor unitario en centavos
+     * @param ivaBasisPoints IVA en centésimas de punto porcentual
+     * @param quantity Cantidad
+     * @return IVA total en centavos
+     */
+    public static long ivaAmountCents(long unitCents, long ivaBasisPoints, int quantity) {
+        return Math.multiplyExact(ivaPerUnitCents(unitCents, ivaBasisPoints), quantity);
+    }
+
+    /**
+     * Calcula el precio de una unidad con IVA incluido.
+     *
+     * @param unitCents Valor unitario en centavos
+     * @param ivaBasisPoints IVA en centésimas de punto porcentual
+     * @return Precio con IVA en centavos
+     */
+    public static long priceWithIvaCents(long unitCents, long ivaBasisPoints) {
+        return Math.addExact(unitCents, ivaPerUnitCents(unitCents, ivaBasisPoints));
+    }
+
+    /**
+     * División entera con redondeo HALF_UP (la mitad se aleja de cero), como {@link java.math.RoundingMode#HALF_UP}.
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
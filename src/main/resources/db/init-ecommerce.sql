@@ -9,6 +9,12 @@ DROP TABLE IF EXISTS pago_debito CASCADE;
 DROP TABLE IF EXISTS pago_credito CASCADE;
 DROP TABLE IF EXISTS tipo_pago CASCADE;
 DROP TABLE IF EXISTS referencias CASCADE;
+DROP TABLE IF EXISTS catalogo_version CASCADE;
+DROP TABLE IF EXISTS pago_idempotencia CASCADE;
+DROP TABLE IF EXISTS pago_cola CASCADE;
+DROP TABLE IF EXISTS outbox_eventos CASCADE;
+DROP TABLE IF EXISTS reserva_stock CASCADE;
+DROP TABLE IF EXISTS stock_fragmento CASCADE;
 DROP TABLE IF EXISTS productos_carrito CASCADE;
 DROP TABLE IF EXISTS carrito CASCADE;
 DROP TABLE IF EXISTS pago CASCADE;
@@ -24,6 +30,9 @@ DROP TABLE IF EXISTS documentos CASCADE;
 DROP TABLE IF EXISTS estado_usuario CASCADE;
 DROP TABLE IF EXISTS estado_producto CASCADE;
 
+-- Eliminar la configuración de búsqueda de texto (la columna search_vector depende de ella)
+DROP TEXT SEARCH CONFIGURATION IF EXISTS es_unaccent CASCADE;
+
 -- ============================================
 -- TABLAS INDEPENDIENTES (Sin claves foráneas)
 -- ============================================
@@ -373,6 +382,34 @@ ALTER TABLE carrito
 CREATE INDEX idx_carrito_estado 
     ON carrito(estado_carrito_id);
 
+-- Un solo carrito activo por usuario: permite crearlo con INSERT ... ON CONFLICT sin carreras
+CREATE UNIQUE INDEX uq_carrito_usuario_activo
+    ON carrito(usuario_rol_id)
+    WHERE estado_carrito_id = 1;
+
+-- Totales del carrito: los mantienen las mismas sentencias que escriben productos_carrito
+-- (aplicando el delta de la fila) para que el resumen no tenga que recorrer los items
+ALTER TABLE carrito
+    ADD COLUMN total_items INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN subtotal DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN iva DECIMAL(14, 2) NOT NULL DEFAULT 0;
+
+-- Calcular los totales de los carritos existentes (IVA por unidad redondeado a centavos)
+UPDATE carrito c
+SET total_items = t.total_items,
+    subtotal = t.subtotal,
+    iva = t.iva
+FROM (
+    SELECT pc.carrito_id,
+           SUM(pc.cantidad) AS total_items,
+           SUM(p.valor_unitario * pc.cantidad) AS subtotal,
+           SUM(ROUND(p.valor_unitario * COALESCE(p.iva, 0) / 100, 2) * pc.cantidad) AS iva
+    FROM productos_carrito pc
+    JOIN productos p ON p.producto_id = pc.producto_id
+    GROUP BY pc.carrito_id
+) t
+WHERE c.carrito_id = t.carrito_id;
+
     
 -- Agregar columna numero_referencia para almacenar UUID de la referencia de pago
 ALTER TABLE productos_carrito 
@@ -384,3 +421,218 @@ CREATE INDEX idx_productos_carrito_referencia
 
 -- Comentario en la columna
 COMMENT ON COLUMN productos_carrito.numero_referencia IS 'UUID de la referencia de pago asociada al item del carrito';
+
+-- ============================================
+-- Índices para paginación por cursor (keyset) de productos
+-- (campo de ordenamiento + producto_id como desempate)
+-- ============================================
+
+CREATE INDEX idx_productos_nombre_id
+    ON productos(nombre, producto_id);
+
+CREATE INDEX idx_productos_valor_unitario_id
+    ON productos(valor_unitario, producto_id);
+
+-- El cursor por creation_date compara valores: una fila con NULL quedaría fuera de todas las páginas
+UPDATE productos SET creation_date = CURRENT_TIMESTAMP WHERE creation_date IS NULL;
+ALTER TABLE productos ALTER COLUMN creation_date SET NOT NULL;
+
+CREATE INDEX idx_productos_creation_date_id
+    ON productos(creation_date, producto_id);
+
+-- ============================================
+-- Búsqueda de texto completo de productos (catalog.search.engine = postgres)
+-- Configuración en español sin tildes + columna tsvector generada + índice GIN
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE TEXT SEARCH CONFIGURATION es_unaccent (COPY = spanish);
+
+ALTER TEXT SEARCH CONFIGURATION es_unaccent
+    ALTER MAPPING FOR hword, hword_part, word
+    WITH unaccent, spanish_stem;
+
+ALTER TABLE productos
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('es_unaccent'::regconfig, coalesce(nombre, '')), 'A') ||
+        setweight(to_tsvector('es_unaccent'::regconfig, coalesce(descripcion, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_productos_search_vector
+    ON productos USING GIN (search_vector);
+
+-- Pertenencia de un producto a una lista de IDs separada por comas.
+-- Los motores de búsqueda (index, postgres) devuelven todos los IDs coincidentes; con más de
+-- 1000 IDs se envían como un único parámetro en lugar de un IN con un parámetro por ID.
+-- Es SQL puro e IMMUTABLE, por lo que el planificador la expande en línea a "= ANY(...)".
+CREATE OR REPLACE FUNCTION producto_en_lista(p_producto_id INTEGER, p_ids TEXT)
+RETURNS BOOLEAN AS $$
+    SELECT p_producto_id = ANY (string_to_array(p_ids, ',')::INTEGER[])
+$$ LANGUAGE sql IMMUTABLE;
+
+-- ============================================
+-- Versión del catálogo de productos (fila única)
+-- Se incrementa en la misma transacción que crea o actualiza un producto. Cada instancia
+-- compara la versión de su snapshot en memoria con esta y lo reconstruye si difiere.
+-- ============================================
+
+CREATE TABLE catalogo_version (
+    catalogo_version_id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (catalogo_version_id = 1),
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO catalogo_version (catalogo_version_id, version) VALUES (1, 0);
+
+COMMENT ON TABLE catalogo_version IS 'Versión del catálogo compartida por las instancias para invalidar sus snapshots en memoria';
+
+-- ============================================
+-- Reservas de stock con vencimiento (TTL)
+-- Se crean al validar el stock del carrito y se convierten (eliminan) al pagar.
+-- Disponible = stock.cantidad - reservas vigentes de otros carritos.
+-- ============================================
+
+CREATE TABLE reserva_stock (
+    reserva_id SERIAL PRIMARY KEY,
+    carrito_id INTEGER NOT NULL,
+    producto_id INTEGER NOT NULL,
+    cantidad INTEGER NOT NULL CHECK (cantidad > 0),
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_expiracion TIMESTAMP NOT NULL,
+    FOREIGN KEY (carrito_id) REFERENCES carrito(carrito_id) ON DELETE CASCADE,
+    FOREIGN KEY (producto_id) REFERENCES productos(producto_id) ON DELETE CASCADE,
+    UNIQUE(carrito_id, producto_id)
+);
+
+CREATE INDEX idx_reserva_stock_producto_expiracion
+    ON reserva_stock(producto_id, fecha_expiracion);
+
+CREATE INDEX idx_reserva_stock_expiracion
+    ON reserva_stock(fecha_expiracion);
+
+COMMENT ON TABLE reserva_stock IS 'Reservas temporales de inventario entre la validación de stock y el pago';
+
+-- ============================================
+-- Stock fragmentado para productos de alta concurrencia (opcional por producto)
+-- La cantidad del producto se reparte en N filas; stock.cantidad queda en 0 mientras
+-- el producto está fragmentado y el stock total es la suma de sus fragmentos.
+-- ============================================
+
+CREATE TABLE stock_fragmento (
+    producto_id INTEGER NOT NULL,
+    fragmento SMALLINT NOT NULL CHECK (fragmento >= 0),
+    cantidad INTEGER NOT NULL DEFAULT 0 CHECK (cantidad >= 0),
+    PRIMARY KEY (producto_id, fragmento),
+    FOREIGN KEY (producto_id) REFERENCES stock(producto_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE stock_fragmento IS 'Subcontadores de inventario de productos en modo de alta concurrencia';
+
+-- ============================================
+-- Claves de idempotencia de pagos (header Idempotency-Key)
+-- La fila se inserta en la misma transacción del pago: un duplicado concurrente queda
+-- bloqueado en el INSERT hasta que el primero confirma (y lee su respuesta) o revierte.
+-- ============================================
+
+CREATE TABLE pago_idempotencia (
+    usuario VARCHAR(255) NOT NULL,
+    clave VARCHAR(100) NOT NULL,
+    huella CHAR(64) NOT NULL,
+    respuesta TEXT,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_expiracion TIMESTAMP NOT NULL,
+    PRIMARY KEY (usuario, clave)
+);
+
+CREATE INDEX idx_pago_idempotencia_expiracion
+    ON pago_idempotencia(fecha_expiracion);
+
+COMMENT ON TABLE pago_idempotencia IS 'Respuestas de pagos procesados por clave de idempotencia del cliente';
+
+-- ============================================
+-- Cola de checkout asíncrono (payment.checkout.mode=async)
+-- El endpoint valida y encola; un pool acotado de workers procesa cada fila en su propia
+-- transacción bloqueándola con FOR UPDATE SKIP LOCKED. De la tarjeta solo se guardan los
+-- mismos campos que pago_debito/pago_credito (titular y número encriptados, vencimiento);
+-- nunca el CVV ni la carga original. Se borran al terminar el procesamiento.
+-- Los errores transitorios (BD, conexión) se reintentan en proximo_intento; solo los rechazos
+-- de negocio o los errores que agotan los intentos marcan la fila como FALLIDO.
+-- ============================================
+
+CREATE TABLE pago_cola (
+    cola_id BIGSERIAL PRIMARY KEY,
+    referencia_id INTEGER NOT NULL UNIQUE,
+    carrito_id INTEGER NOT NULL,
+    usuario VARCHAR(255) NOT NULL,
+    tipo_pago VARCHAR(20) NOT NULL,
+    numero_de_cuotas INTEGER,
+    nombre_titular VARCHAR(200),
+    numero_tarjeta VARCHAR(200),
+    fecha_vencimiento DATE,
+    estado VARCHAR(20) NOT NULL DEFAULT 'EN_COLA' CHECK (estado IN ('EN_COLA', 'COMPLETADO', 'FALLIDO')),
+    pago_id INTEGER,
+    codigo_error VARCHAR(20),
+    mensaje_error VARCHAR(500),
+    intentos INTEGER NOT NULL DEFAULT 0,
+    proximo_intento TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_procesamiento TIMESTAMP,
+    FOREIGN KEY (referencia_id) REFERENCES referencias(referencia_id),
+    FOREIGN KEY (carrito_id) REFERENCES carrito(carrito_id) ON DELETE CASCADE,
+    FOREIGN KEY (pago_id) REFERENCES pago(pago_id)
+);
+
+CREATE INDEX idx_pago_cola_pendiente
+    ON pago_cola(cola_id) WHERE estado = 'EN_COLA';
+
+-- Un carrito no puede tener dos pagos en cola al mismo tiempo
+CREATE UNIQUE INDEX uq_pago_cola_carrito_pendiente
+    ON pago_cola(carrito_id) WHERE estado = 'EN_COLA';
+
+COMMENT ON TABLE pago_cola IS 'Cola durable de pagos aceptados pendientes de checkout asíncrono';
+
+-- ============================================
+-- Outbox transaccional de eventos de pagos y carritos
+-- Eventos de cambio de estado (pago creado, carrito en proceso) escritos en la
+-- misma transacción que el cambio. Un relay los reclama con FOR UPDATE SKIP LOCKED
+-- y los publica hacia el sink configurado; varias instancias pueden publicar en paralelo.
+-- ============================================
+
+CREATE TABLE outbox_eventos (
+    evento_id BIGSERIAL PRIMARY KEY,
+    tipo_agregado VARCHAR(50) NOT NULL,
+    agregado_id VARCHAR(100) NOT NULL,
+    tipo_evento VARCHAR(100) NOT NULL,
+    carga TEXT NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_publicacion TIMESTAMP,
+    intentos INTEGER NOT NULL DEFAULT 0,
+    ultimo_error VARCHAR(500),
+    -- Reclamo del relay (hasta cuándo) o siguiente reintento tras un fallo
+    proximo_intento TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Evento descartado (dead letter) al agotar outbox.relay.max-attempts
+    fecha_descarte TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_eventos_pendientes
+    ON outbox_eventos(evento_id) WHERE fecha_publicacion IS NULL AND fecha_descarte IS NULL;
+
+CREATE INDEX idx_outbox_eventos_descartados
+    ON outbox_eventos(fecha_descarte) WHERE fecha_descarte IS NOT NULL;
+
+CREATE INDEX idx_outbox_eventos_publicados
+    ON outbox_eventos(fecha_publicacion) WHERE fecha_publicacion IS NOT NULL;
+
+COMMENT ON TABLE outbox_eventos IS 'Outbox transaccional de eventos de pagos y carritos pendientes de publicar';
+
+-- ============================================
+-- Listado paginado de usuarios (/api/v1/users/all)
+-- Paginación por cursor sobre usuario_id con filtros de estado y prefijo de correo
+-- ============================================
+
+CREATE INDEX idx_usuarios_estado_id
+    ON usuarios(estado_usuario_id, usuario_id);
+
+CREATE INDEX idx_credenciales_correo_prefijo
+    ON credenciales(correo varchar_pattern_ops);
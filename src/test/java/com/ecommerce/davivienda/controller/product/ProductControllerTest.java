@@ -1,6 +1,7 @@
 package com.ecommerce.davivienda.controller.product;
 
 import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.product.ProductRequest;
@@ -26,9 +27,11 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -111,17 +114,20 @@ class ProductControllerTest {
     void testGetAllProducts_Success() throws Exception {
         // Arrange
         List<ProductResponse> products = Arrays.asList(mockProductResponse, mockProductResponse);
-        when(productService.getAllProducts()).thenReturn(products);
+        when(productService.getCatalogSnapshot())
+                .thenReturn(ProductCatalogSnapshot.of(3L, products, List.of(mockProductResponse)));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/products/list-all"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "3"))
+                .andExpect(header().exists("X-Catalog-Built-At"))
                 .andExpect(jsonPath("$.failure").value(false))
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.body").isArray())
                 .andExpect(jsonPath("$.body.length()").value(2));
 
-        verify(productService).getAllProducts();
+        verify(productService).getCatalogSnapshot();
     }
 
     @Test
@@ -129,16 +135,19 @@ class ProductControllerTest {
     void testGetActiveProducts_Success() throws Exception {
         // Arrange
         List<ProductResponse> products = Arrays.asList(mockProductResponse);
-        when(productService.getActiveProducts()).thenReturn(products);
+        when(productService.getCatalogSnapshot())
+                .thenReturn(ProductCatalogSnapshot.of(3L, products, products));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/products/list-active"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "3"))
                 .andExpect(jsonPath("$.failure").value(false))
                 .andExpect(jsonPath("$.code").value(200))
-                .andExpect(jsonPath("$.body").isArray());
+                .andExpect(jsonPath("$.body").isArray())
+                .andExpect(jsonPath("$.body.length()").value(1));
 
-        verify(productService).getActiveProducts();
+        verify(productService).getCatalogSnapshot();
     }
 
     @Test
@@ -192,6 +201,31 @@ class ProductControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("GET /search/paginated?mode=cursor - Buscar productos por cursor")
+    void testSearchProductsPaginated_CursorMode_Success() throws Exception {
+        // Arrange
+        PagedProductResponseDto cursorPage = PagedProductResponseDto.fromCursor(
+                List.of(mockProductResponse), 1, false, "bmV4dA");
+        when(productService.searchProductsByCursor(
+                any(), any(), any(), any(), any(),
+                anyInt(), anyString(), anyString(), eq("Y3Vyc29y")
+        )).thenReturn(cursorPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/products/search/paginated")
+                        .param("size", "1")
+                        .param("after", "Y3Vyc29y"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.nextCursor").value("bmV4dA"))
+                .andExpect(jsonPath("$.body.hasNext").value(true))
+                .andExpect(jsonPath("$.body.totalElements").doesNotExist());
+
+        verify(productService, never()).searchProductsPaginated(
+                any(), any(), any(), any(), any(),
+                anyInt(), anyInt(), anyString(), anyString());
+    }
+
     @Test
     @DisplayName("PUT /update/{id} - Actualizar producto")
     void testUpdateProduct_Success() throws Exception {
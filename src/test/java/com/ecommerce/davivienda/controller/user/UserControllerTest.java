@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.controller.user;
 
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.user.PasswordChangeAuthenticatedRequest;
 import com.ecommerce.davivienda.models.user.PasswordRecoveryRequest;
@@ -20,11 +22,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
-import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -252,7 +254,7 @@ class UserControllerTest {
     }
 
     @Test
-    @DisplayName("GET /api/v1/users/all - Obtener todos los usuarios exitosamente")
+    @DisplayName("GET /api/v1/users/all - Buscar usuarios con filtros y cursor exitosamente")
     void testGetAllUsers_Success() throws Exception {
         // Arrange
         UserResponse user1 = UserResponse.builder()
@@ -269,28 +271,39 @@ class UserControllerTest {
                 .apellido("Smith")
                 .build();
 
-        List<UserResponse> users = Arrays.asList(user1, user2);
+        PagedUserResponseDto page = PagedUserResponseDto.builder()
+                .content(Arrays.asList(user1, user2))
+                .pageSize(2)
+                .hasNext(true)
+                .nextCursor(2)
+                .build();
 
-        Response<List<UserResponse>> mockResponse = Response.<List<UserResponse>>builder()
+        Response<PagedUserResponseDto> mockResponse = Response.<PagedUserResponseDto>builder()
                 .failure(false)
                 .code(200)
                 .message("Usuarios encontrados exitosamente")
-                .body(users)
+                .body(page)
                 .timestamp(String.valueOf(System.currentTimeMillis()))
                 .build();
 
-        when(userService.getAllUsers()).thenReturn(mockResponse);
+        when(userService.searchUsers(any(UserFilterDto.class), isNull(), eq(2))).thenReturn(mockResponse);
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/users/all"))
+        mockMvc.perform(get("/api/v1/users/all")
+                        .param("statusId", "1")
+                        .param("email", "user")
+                        .param("size", "2"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.failure").value(false))
                 .andExpect(jsonPath("$.code").value(200))
-                .andExpect(jsonPath("$.body").isArray())
-                .andExpect(jsonPath("$.body[0].email").value("user1@example.com"))
-                .andExpect(jsonPath("$.body[1].email").value("user2@example.com"));
-
-        verify(userService).getAllUsers();
+                .andExpect(jsonPath("$.body.content").isArray())
+                .andExpect(jsonPath("$.body.content[0].email").value("user1@example.com"))
+                .andExpect(jsonPath("$.body.content[1].email").value("user2@example.com"))
+                .andExpect(jsonPath("$.body.hasNext").value(true))
+                .andExpect(jsonPath("$.body.nextCursor").value(2));
+
+        verify(userService).searchUsers(
+                UserFilterDto.builder().statusId(1).emailPrefix("user").build(), null, 2);
     }
 
     @Test
@@ -97,15 +97,41 @@ class CartItemMapperTest {
     }
 
     @Test
-    @DisplayName("toCartSummaryDto - Genera resumen del carrito")
+    @DisplayName("toCartSummaryDto - Genera resumen con los totales persistidos del carrito")
     void testToCartSummaryDto() {
+        mockCart.setTotalItems(2);
+        mockCart.setSubtotal(new BigDecimal("2000"));
+        mockCart.setIva(new BigDecimal("380"));
         List<CartItem> items = Arrays.asList(mockCartItem);
-        CartSummaryDto result = cartItemMapper.toCartSummaryDto(items);
+
+        CartSummaryDto result = cartItemMapper.toCartSummaryDto(mockCart, items);
 
         assertThat(result).isNotNull();
         assertThat(result.getItems()).hasSize(1);
         assertThat(result.getTotalItems()).isEqualTo(2);
-        assertThat(result.getTotalSubtotal()).isGreaterThan(BigDecimal.ZERO);
+        assertThat(result.getTotalSubtotal()).isEqualTo(new BigDecimal("2000.00"));
+        assertThat(result.getTotalIva()).isEqualTo(new BigDecimal("380.00"));
+        assertThat(result.getTotalPrice()).isEqualTo(new BigDecimal("2380.00"));
+        assertThat(result.getTotalPrice()).isEqualByComparingTo(result.getItems().get(0).getCalculation().getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("toCartSummaryDto - Carrito vacío, totales en cero")
+    void testToCartSummaryDto_EmptyCart_ZeroTotals() {
+        CartSummaryDto result = cartItemMapper.toCartSummaryDto(mockCart, List.of());
+
+        assertThat(result.getTotalItems()).isZero();
+        assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("buildCalculationDto - Producto y cantidad, mismos montos que la entidad")
+    void testBuildCalculationDto_ProductAndQuantity() {
+        CartItemCalculationDto result = cartItemMapper.buildCalculationDto(mockProduct, 3);
+
+        assertThat(result.getSubtotal()).isEqualByComparingTo("3000.00");
+        assertThat(result.getIvaAmount()).isEqualByComparingTo("570.00");
+        assertThat(result.getTotalPrice()).isEqualByComparingTo("3570.00");
     }
 
     @Test
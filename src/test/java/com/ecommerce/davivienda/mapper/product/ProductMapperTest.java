@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.mapper.product;
 
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.entity.product.Product;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -150,5 +152,45 @@ class ProductMapperTest {
         assertThat(result.getPageSize()).isEqualTo(10);
         assertThat(result.getSort().toString()).contains("nombre: DESC");
     }
-}
 
+    @Test
+    @DisplayName("buildKeysetSort - Agrega productoId como desempate")
+    void testBuildKeysetSort_AddsTieBreaker() {
+        Sort result = productMapper.buildKeysetSort("nombre", "desc");
+
+        assertThat(result.toString()).contains("nombre: DESC").contains("productoId: DESC");
+    }
+
+    @Test
+    @DisplayName("buildKeysetSort - Sin desempate duplicado al ordenar por productoId")
+    void testBuildKeysetSort_ById() {
+        Sort result = productMapper.buildKeysetSort("productoId", "asc");
+
+        assertThat(result.stream().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("buildKeysetSpecification - Sin cursor retorna los filtros originales")
+    void testBuildKeysetSpecification_NoCursor() {
+        Specification<Product> filters = productMapper.buildSpecificationFromParams(null, null, null, null, null);
+
+        Specification<Product> result = productMapper.buildKeysetSpecification(filters, null);
+
+        assertThat(result).isSameAs(filters);
+    }
+
+    @Test
+    @DisplayName("buildKeysetSpecification - Con cursor combina el predicado de keyset")
+    void testBuildKeysetSpecification_WithCursor() {
+        Specification<Product> filters = productMapper.buildSpecificationFromParams(null, null, null, null, null);
+        ProductCursorDto cursor = ProductCursorDto.builder()
+                .sortBy("nombre")
+                .lastValue("Laptop")
+                .lastId(10)
+                .build();
+
+        Specification<Product> result = productMapper.buildKeysetSpecification(filters, cursor);
+
+        assertThat(result).isNotNull().isNotSameAs(filters);
+    }
+}
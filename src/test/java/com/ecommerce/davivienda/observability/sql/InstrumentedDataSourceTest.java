@@ -0,0 +1,93 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InstrumentedDataSource - Tests Unitarios")
+class InstrumentedDataSourceTest {
+
+    private static final String SELECT_BY_ID = "SELECT nombre FROM productos WHERE producto_id = ?";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(database));
+        jdbcTemplate.execute("CREATE TABLE productos (producto_id INT PRIMARY KEY, nombre VARCHAR(100))");
+        jdbcTemplate.batchUpdate("INSERT INTO productos (producto_id, nombre) VALUES (?, ?)",
+                List.of(new Object[]{1, "Teclado"}, new Object[]{2, "Mouse"}, new Object[]{3, "Monitor"}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Request activo - Cuenta sentencias, filas leídas y tiempo en BD")
+    void testRequestActive_CountsStatementsAndRows() {
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        jdbcTemplate.queryForList("SELECT nombre FROM productos ORDER BY producto_id", String.class);
+        for (int id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForObject(SELECT_BY_ID, String.class, id);
+        }
+        jdbcTemplate.update("UPDATE productos SET nombre = 'Teclado mecánico' WHERE producto_id = 1");
+
+        assertThat(stats.getStatements()).isEqualTo(5);
+        assertThat(stats.getRows()).isEqualTo(6);
+        assertThat(stats.getDbTimeNanos()).isPositive();
+        assertThat(stats.topFingerprints(1)).containsExactly(
+                Map.entry("SELECT nombre FROM productos WHERE producto_id = ?", 3));
+    }
+
+    @Test
+    @DisplayName("Batch - Un executeBatch cuenta como una sentencia")
+    void testBatch_CountsSingleStatement() {
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        jdbcTemplate.batchUpdate("UPDATE productos SET nombre = ? WHERE producto_id = ?",
+                List.of(new Object[]{"A", 1}, new Object[]{"B", 2}));
+
+        assertThat(stats.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sin request activo - La conexión no se envuelve ni se cuenta nada")
+    void testNoRequest_ConnectionNotWrapped() throws Exception {
+        try (Connection connection = new InstrumentedDataSource(database).getConnection()) {
+            assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
+        }
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("fingerprint - Normaliza literales, listas IN, comentarios y espacios")
+    void testFingerprint_NormalizesLiterals() {
+        String sql = "/* load Product */ select p1_0.producto_id\n  from productos p1_0 "
+                + "where p1_0.nombre = 'O''Brien' and p1_0.iva > 19.00 and p1_0.producto_id in (?, ?, ?)";
+
+        assertThat(SqlRequestStats.fingerprint(sql)).isEqualTo(
+                "select p1_0.producto_id from productos p1_0 where p1_0.nombre = ? and p1_0.iva > ? "
+                        + "and p1_0.producto_id in (?)");
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.davivienda.observability.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.ecommerce.davivienda.observability.sql.SqlRequestMetricsFilter.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SqlRequestMetricsFilter - Tests Unitarios")
+class SqlRequestMetricsFilterTest {
+
+    private static final int QUERY_BUDGET = 3;
+    private static final String URI_PATTERN = "/api/v1/products/{id}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlRequestMetricsFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlRequestMetricsFilter(meterRegistry, QUERY_BUDGET);
+        request = new MockHttpServletRequest("GET", "/api/v1/products/7");
+    }
+
+    @Test
+    @DisplayName("doFilter - Exporta sentencias, filas, entidades y tiempo etiquetados por patrón del endpoint")
+    void testDoFilter_RecordsMetricsByUriPattern() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), handler(2));
+
+        assertThat(meterRegistry.get(METRIC_STATEMENTS).tag(TAG_URI, URI_PATTERN).tag(TAG_METHOD, "GET")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(METRIC_ROWS).tag(TAG_URI, URI_PATTERN).summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(METRIC_ENTITY_LOADS).tag(TAG_URI, URI_PATTERN).summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(METRIC_DB_TIME).tag(TAG_URI, URI_PATTERN).timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+        assertThat(meterRegistry.find(METRIC_BUDGET_EXCEEDED).counter()).isNull();
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter - Request que supera el presupuesto incrementa el contador de excedidos")
+    void testDoFilter_OverBudget_CountsExceeded() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), handler(QUERY_BUDGET + 1));
+
+        assertThat(meterRegistry.get(METRIC_BUDGET_EXCEEDED).tag(TAG_URI, URI_PATTERN).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter - Request sin handler se etiqueta como UNKNOWN y excepción no deja estado en el hilo")
+    void testDoFilter_NoHandlerAndException_UnknownUriAndCleanThread() {
+        FilterChain failing = (req, res) -> {
+            SqlRequestStats.current().recordStatement("SELECT 1", 0);
+            throw new IllegalStateException("fallo");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(METRIC_STATEMENTS).tag(TAG_URI, UNKNOWN_URI).summary().totalAmount())
+                .isEqualTo(1);
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter - Requests al mismo endpoint reutilizan los medidores")
+    void testDoFilter_SameEndpoint_ReusesMeters() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), handler(1));
+        int metersAfterFirst = meterRegistry.getMeters().size();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products/8"), new MockHttpServletResponse(), handler(2));
+
+        assertThat(meterRegistry.getMeters()).hasSize(metersAfterFirst);
+        assertThat(meterRegistry.get(METRIC_STATEMENTS).tag(TAG_URI, URI_PATTERN).summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(METRIC_STATEMENTS).tag(TAG_URI, URI_PATTERN).summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    /**
+     * Simula un endpoint que ejecuta la misma consulta por cada entidad (N+1).
+     */
+    private FilterChain handler(int statements) {
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI_PATTERN);
+            SqlRequestStats stats = SqlRequestStats.current();
+            for (int i = 0; i < statements; i++) {
+                stats.recordStatement("select * from productos where producto_id = " + i, 1_000_000);
+                stats.recordRow();
+                stats.recordEntityLoad();
+            }
+        };
+    }
+}
@@ -0,0 +1,296 @@
+package com.ecommerce.davivienda.repository;
+
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.entity.user.Credentials;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.entity.user.UserRole;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+import com.ecommerce.davivienda.repository.cart.CartItemRepository;
+import com.ecommerce.davivienda.repository.cart.CartRepository;
+import com.ecommerce.davivienda.repository.product.ProductRepository;
+import com.ecommerce.davivienda.repository.user.UserRepository;
+import com.ecommerce.davivienda.repository.user.UserRoleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cuenta las sentencias SQL que ejecuta cada caso de uso con las asociaciones en LAZY.
+ *
+ * <p>Usa Hibernate sobre H2 con estadísticas habilitadas y los repositorios reales, de modo que
+ * un cambio en los entity graphs o en los JOIN FETCH que reintroduzca N+1 rompe el conteo.</p>
+ */
+@DisplayName("Fetch plans - Conteo de sentencias por caso de uso")
+class FetchPlanStatementCountTest {
+
+    private static final String EMAIL = "cliente@mail.com";
+    private static final String DOCUMENT_NUMBER = "1020304050";
+    private static final int PRODUCTS = 5;
+
+    private EmbeddedDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private Statistics statistics;
+
+    private UserRepository userRepository;
+    private UserRoleRepository userRoleRepository;
+    private ProductRepository productRepository;
+    private CartRepository cartRepository;
+    private CartItemRepository cartItemRepository;
+
+    private User user;
+    private DocumentType documentType;
+    private Cart cart;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(database);
+        factoryBean.setPackagesToScan("com.ecommerce.davivienda.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.generate_statistics", "true"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        entityManager = entityManagerFactory.createEntityManager();
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        userRepository = repositoryFactory.getRepository(UserRepository.class);
+        userRoleRepository = repositoryFactory.getRepository(UserRoleRepository.class);
+        productRepository = repositoryFactory.getRepository(ProductRepository.class);
+        cartRepository = repositoryFactory.getRepository(CartRepository.class);
+        cartItemRepository = repositoryFactory.getRepository(CartItemRepository.class);
+
+        seed();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Login - Perfil con documento, estado, credenciales y roles en una sola sentencia")
+    void testLogin_ProfileGraph_SingleStatement() {
+        Optional<User> result = userRepository.findProfileByCredenciales_Correo(EMAIL);
+
+        assertThat(result).isPresent();
+        User loaded = result.get();
+        assertThat(loaded.isActive()).isTrue();
+        assertThat(loaded.getDocumentType().getCodigo()).isEqualTo("CC");
+        assertThat(loaded.getRoles()).extracting(userRole -> userRole.getRole().getNombreRol())
+                .containsExactly("Cliente");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Registro - Validar correo existente no carga asociaciones")
+    void testRegister_ExistsByEmail_SingleStatement() {
+        assertThat(userRepository.existsByCredenciales_Correo(EMAIL)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Perfil de usuario - Búsqueda por ID y por usuario_rol en una sola sentencia cada una")
+    void testUserProfile_ById_SingleStatement() {
+        User byId = userRepository.findProfileByUsuarioId(user.getUsuarioId()).orElseThrow();
+        assertThat(byId.getRoles()).extracting(userRole -> userRole.getRole().getNombreRol())
+                .containsExactly("Cliente");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        User byUserRole = userRepository.findProfileByUsuarioRolId(user.getUsuarioRolId()).orElseThrow();
+        assertThat(byUserRole.getCorreo()).isEqualTo(EMAIL);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findById - Sin entity graph las asociaciones quedan sin inicializar")
+    void testFindById_NoGraph_AssociationsStayLazy() {
+        User loaded = userRepository.findById(user.getUsuarioId()).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(loaded.getRoles())).isFalse();
+        assertThat(Hibernate.isInitialized(loaded.getDocumentType())).isFalse();
+        assertThat(Hibernate.isInitialized(loaded.getCredenciales())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Carrito - Validar comprador por documento carga los roles en la misma sentencia")
+    void testCartBuyer_ByDocument_SingleStatement() {
+        User loaded = userRepository.findWithRolesByDocumentType_DocumentoIdAndNumeroDeDoc(
+                documentType.getDocumentoId(), DOCUMENT_NUMBER).orElseThrow();
+
+        assertThat(loaded.getRoles()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rol de usuario - El rol llega con la misma sentencia")
+    void testUserRole_WithRole_SingleStatement() {
+        UserRole userRole = userRoleRepository.findWithRoleByUsuarioRolId(user.getUsuarioRolId()).orElseThrow();
+
+        assertThat(userRole.getRole().getNombreRol()).isEqualTo("Cliente");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Catálogo - Listados de productos traen la categoría sin N+1")
+    void testProductListing_CategoryGraph_SingleStatement() {
+        List<Product> all = productRepository.findAll();
+        assertThat(all).hasSize(PRODUCTS)
+                .allSatisfy(loaded -> assertThat(Hibernate.isInitialized(loaded.getCategoria())).isTrue());
+        assertThat(all).extracting(loaded -> loaded.getCategoria().getNombre()).containsOnly("Tecnología");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        Specification<Product> active = (root, query, cb) -> cb.equal(root.get("estadoProductoId"), 1);
+        assertThat(productRepository.findAll(active))
+                .allSatisfy(loaded -> assertThat(Hibernate.isInitialized(loaded.getCategoria())).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(productRepository.findByEstadoProductoId(1)).hasSize(PRODUCTS)
+                .allSatisfy(loaded -> assertThat(Hibernate.isInitialized(loaded.getCategoria())).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Catálogo - Página por cursor proyecta la categoría en la misma sentencia")
+    void testProductSlice_ProjectCategory_SingleStatement() {
+        Specification<Product> active = (root, query, cb) -> cb.equal(root.get("estadoProductoId"), 1);
+
+        List<Product> slice = productRepository.findBy(active, query -> query
+                .sortBy(Sort.by("productoId")).limit(3).project("categoria").all());
+
+        assertThat(slice).hasSize(3)
+                .allSatisfy(loaded -> assertThat(Hibernate.isInitialized(loaded.getCategoria())).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Detalle de producto - Producto y categoría en una sola sentencia")
+    void testProductDetail_WithCategory_SingleStatement() {
+        Product loaded = productRepository.findWithCategoriaByProductoId(product.getProductoId()).orElseThrow();
+
+        assertThat(loaded.getCategoria().getNombre()).isEqualTo("Tecnología");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Resumen del carrito - Items con su producto en una sola sentencia")
+    void testCartSummary_ItemsWithProduct_SingleStatement() {
+        List<CartItem> items = cartItemRepository.findByCartCarritoId(cart.getCarritoId());
+
+        assertThat(items).hasSize(PRODUCTS)
+                .allSatisfy(item -> assertThat(Hibernate.isInitialized(item.getProduct())).isTrue());
+        assertThat(items).extracting(CartItem::calculateTotal).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Checkout - Carrito del usuario con sus items en una sola sentencia")
+    void testCheckout_CartWithItems_SingleStatement() {
+        Cart loaded = cartRepository.findByUserEmail(EMAIL).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(loaded.getItems())).isTrue();
+        assertThat(loaded.getItems()).hasSize(PRODUCTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        Cart byId = cartRepository.findWithItemsByCarritoId(cart.getCarritoId()).orElseThrow();
+        assertThat(byId.getItems()).hasSize(PRODUCTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void seed() {
+        entityManager.getTransaction().begin();
+
+        documentType = DocumentType.builder().nombre("Cédula de Ciudadanía").codigo("CC").build();
+        UserStatus active = UserStatus.builder().nombre("Activo").build();
+        Role role = Role.builder().nombreRol("Cliente").build();
+        entityManager.persist(documentType);
+        entityManager.persist(active);
+        entityManager.persist(role);
+
+        user = User.builder()
+                .nombre("Ana")
+                .apellido("Gómez")
+                .documentType(documentType)
+                .numeroDeDoc(DOCUMENT_NUMBER)
+                .credenciales(Credentials.builder().correo(EMAIL).contrasena("hash").build())
+                .userStatus(active)
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        UserRole userRole = UserRole.builder().usuarioId(user.getUsuarioId()).role(role).build();
+        entityManager.persist(userRole);
+        entityManager.flush();
+        user.setUsuarioRolId(userRole.getUsuarioRolId());
+
+        Category category = Category.builder().nombre("Tecnología").build();
+        entityManager.persist(category);
+
+        cart = Cart.builder().usuarioRolId(userRole.getUsuarioRolId()).build();
+        entityManager.persist(cart);
+        for (int i = 1; i <= PRODUCTS; i++) {
+            Product item = Product.builder()
+                    .nombre("Producto " + i)
+                    .valorUnitario(BigDecimal.valueOf(1_000L * i, 2))
+                    .iva(new BigDecimal("19.00"))
+                    .categoria(category)
+                    .build();
+            entityManager.persist(item);
+            cart.addItem(CartItem.builder().product(item).cantidad(i).build());
+            if (product == null) {
+                product = item;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.getTransaction().commit();
+    }
+}
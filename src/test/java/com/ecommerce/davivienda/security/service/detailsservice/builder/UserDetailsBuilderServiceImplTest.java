@@ -0,0 +1,81 @@
+package com.ecommerce.davivienda.security.service.detailsservice.builder;
+
+import com.ecommerce.davivienda.entity.user.Credentials;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.entity.user.UserRole;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+import com.ecommerce.davivienda.mapper.user.UserProfileMapper;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserDetailsBuilderServiceImpl - Tests Unitarios")
+class UserDetailsBuilderServiceImplTest {
+
+    private UserDetailsBuilderServiceImpl builderService;
+
+    @BeforeEach
+    void setUp() {
+        builderService = new UserDetailsBuilderServiceImpl(new UserProfileMapper());
+    }
+
+    @Test
+    @DisplayName("buildUserDetails - Incluye perfil y datos del token sin consultas adicionales")
+    void testBuildUserDetails_ActiveUser_CarriesProfileAndPrincipal() {
+        User user = buildUser("Activo");
+
+        UserDetails userDetails = builderService.buildUserDetails(user);
+
+        assertThat(userDetails).isInstanceOf(AuthenticatedUserDetails.class);
+        AuthenticatedUserDetails details = (AuthenticatedUserDetails) userDetails;
+        assertThat(details.getUsername()).isEqualTo("cliente@example.com");
+        assertThat(details.getPassword()).isEqualTo("$2a$10$hash");
+        assertThat(details.isEnabled()).isTrue();
+        assertThat(details.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("Cliente");
+
+        assertThat(details.getProfile().getNombre()).isEqualTo("Ana");
+        assertThat(details.getProfile().getCodigoDocumento()).isEqualTo("CC");
+        assertThat(details.getProfile().getEstado()).isEqualTo("Activo");
+        assertThat(details.getProfile().getRoles()).containsExactly("Cliente");
+
+        assertThat(details.getPrincipal().getEmail()).isEqualTo("cliente@example.com");
+        assertThat(details.getPrincipal().getUserId()).isEqualTo(10);
+        assertThat(details.getPrincipal().getUserRoleId()).isEqualTo(20);
+        assertThat(details.getPrincipal().getRoles()).containsExactly("Cliente");
+    }
+
+    @Test
+    @DisplayName("buildUserDetails - Usuario inactivo queda deshabilitado")
+    void testBuildUserDetails_InactiveUser_Disabled() {
+        UserDetails userDetails = builderService.buildUserDetails(buildUser("Inactivo"));
+
+        assertThat(userDetails.isEnabled()).isFalse();
+    }
+
+    private User buildUser(String status) {
+        Role role = Role.builder().rolId(1).nombreRol("Cliente").build();
+        UserRole userRole = new UserRole();
+        userRole.setUsuarioRolId(20);
+        userRole.setRole(role);
+
+        User user = new User();
+        user.setUsuarioId(10);
+        user.setNombre("Ana");
+        user.setApellido("Pérez");
+        user.setNumeroDeDoc("123");
+        user.setDocumentType(DocumentType.builder().documentoId(1).codigo("CC").nombre("Cédula").build());
+        user.setUserStatus(UserStatus.builder().estadoUsuarioId(1).nombre(status).build());
+        user.setCredenciales(Credentials.builder().correo("cliente@example.com").contrasena("$2a$10$hash").build());
+        user.setRoles(List.of(userRole));
+        return user;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.davivienda.security.token;
+
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenValidator - Tests Unitarios")
+class JwtTokenValidatorTest {
+
+    private JwtTokenGenerator tokenGenerator;
+    private JwtTokenValidator tokenValidator;
+    private ObjectMapper objectMapper;
+
+    private final List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("Cliente"));
+
+    @BeforeEach
+    void setUp() {
+        tokenGenerator = new JwtTokenGenerator(new JsonUtils(new ObjectMapper()));
+        objectMapper = new ObjectMapper();
+        tokenValidator = new JwtTokenValidator(objectMapper);
+    }
+
+    @Test
+    @DisplayName("extractPrincipal - Recupera userId, userRoleId y roles de los claims")
+    void testExtractPrincipal_TokenWithUserClaims_Success() throws Exception {
+        AuthenticatedUserPrincipal principal = AuthenticatedUserPrincipal.builder()
+                .email("cliente@example.com")
+                .userId(10)
+                .userRoleId(25)
+                .roles(List.of("Cliente"))
+                .build();
+
+        String token = tokenGenerator.generateToken(principal, authorities);
+        Claims claims = tokenValidator.validateAndParseToken(token);
+        AuthenticatedUserPrincipal extracted = tokenValidator.extractPrincipal(claims);
+        Collection<? extends GrantedAuthority> extractedAuthorities = tokenValidator.extractAuthorities(claims);
+
+        assertThat(extracted).isNotNull();
+        assertThat(extracted.getName()).isEqualTo("cliente@example.com");
+        assertThat(extracted.getUserId()).isEqualTo(10);
+        assertThat(extracted.getUserRoleId()).isEqualTo(25);
+        assertThat(extracted.getRoles()).containsExactly("Cliente");
+        assertThat(extractedAuthorities).extracting(GrantedAuthority::getAuthority).containsExactly("Cliente");
+    }
+
+    @Test
+    @DisplayName("extractPrincipal - Token sin claims de usuario retorna null")
+    void testExtractPrincipal_LegacyToken_ReturnsNull() throws Exception {
+        String token = tokenGenerator.generateToken("cliente@example.com", authorities);
+        Claims claims = tokenValidator.validateAndParseToken(token);
+
+        assertThat(tokenValidator.extractPrincipal(claims)).isNull();
+        assertThat(claims.getSubject()).isEqualTo("cliente@example.com");
+    }
+
+    @Test
+    @DisplayName("verify - Un token repetido se resuelve desde caché")
+    void testVerify_RepeatedToken_ReturnsCachedResult() throws Exception {
+        String token = tokenGenerator.generateToken("cliente@example.com", authorities);
+
+        VerifiedToken first = tokenValidator.verify(token);
+        VerifiedToken second = tokenValidator.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getUserName()).isEqualTo("cliente@example.com");
+        assertThat(first.getAuthenticationPrincipal()).isEqualTo("cliente@example.com");
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("Cliente");
+    }
+
+    @Test
+    @DisplayName("verify - Token con firma alterada es rechazado")
+    void testVerify_TamperedToken_ThrowsException() throws Exception {
+        String token = tokenGenerator.generateToken("cliente@example.com", authorities);
+        int position = token.length() - 3;
+        char replacement = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + replacement + token.substring(position + 1);
+
+        assertThatThrownBy(() -> tokenValidator.verify(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("verify - No registra mix-ins en el ObjectMapper compartido")
+    void testVerify_DoesNotMutateSharedObjectMapper() throws Exception {
+        tokenValidator.verify(tokenGenerator.generateToken("cliente@example.com", authorities));
+
+        assertThat(objectMapper.mixInCount()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.davivienda.security.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache - Tests Unitarios")
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    @DisplayName("get - Retorna el token verificado vigente")
+    void testGet_ValidEntry_ReturnsToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedToken verified = verifiedToken(NOW + 1000);
+
+        cache.put("token-a", verified, NOW);
+
+        assertThat(cache.get("token-a", NOW)).isSameAs(verified);
+        assertThat(cache.get("token-b", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("get - Descarta entradas expiradas")
+    void testGet_ExpiredEntry_ReturnsNullAndEvicts() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token-a", verifiedToken(NOW), NOW - 1);
+
+        assertThat(cache.get("token-a", NOW)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put - Descarta primero los tokens expirados al superar el máximo")
+    void testPut_ExceedsMaxSize_EvictsExpiredFirst() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("token-a", verifiedToken(NOW + 1000), NOW);
+        cache.put("token-b", verifiedToken(NOW + 10), NOW);
+
+        cache.put("token-c", verifiedToken(NOW + 1000), NOW + 10);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token-a", NOW)).isNotNull();
+        assertThat(cache.get("token-b", NOW)).isNull();
+        assertThat(cache.get("token-c", NOW)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("put - Mantiene la caché acotada aunque todos los tokens estén vigentes")
+    void testPut_ExceedsMaxSizeWithValidTokens_StaysBounded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("token-" + i, verifiedToken(NOW + 1000), NOW);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("token-49", NOW)).isNotNull();
+    }
+
+    private VerifiedToken verifiedToken(long expiresAtMillis) {
+        return new VerifiedToken("cliente@example.com", List.of(), null, expiresAtMillis);
+    }
+}
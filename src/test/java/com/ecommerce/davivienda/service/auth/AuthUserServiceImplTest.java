@@ -7,6 +7,7 @@ import com.ecommerce.davivienda.entity.user.UserRole;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.repository.user.UserRoleRepository;
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static com.ecommerce.davivienda.constants.Constants.*;
@@ -81,8 +83,8 @@ class AuthUserServiceImplTest {
         String email = "test@example.com";
 
         when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
-        when(userRepository.findByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
-        when(userRoleRepository.findById(1)).thenReturn(Optional.of(mockUserRole));
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
+        when(userRoleRepository.findWithRoleByUsuarioRolId(1)).thenReturn(Optional.of(mockUserRole));
 
         // Act
         Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
@@ -91,8 +93,8 @@ class AuthUserServiceImplTest {
         assertThat(userRoleId).isEqualTo(1);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository).findByCredenciales_Correo(email);
-        verify(userRoleRepository).findById(1);
+        verify(userRepository).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository).findWithRoleByUsuarioRolId(1);
     }
 
     @Test
@@ -108,7 +110,7 @@ class AuthUserServiceImplTest {
                 .hasMessageContaining(ERROR_CART_AUTHENTICATION_REQUIRED);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository, never()).findByCredenciales_Correo(anyString());
+        verify(userRepository, never()).findWithRolesByCredenciales_Correo(anyString());
     }
 
     @Test
@@ -118,7 +120,7 @@ class AuthUserServiceImplTest {
         String email = "nonexistent@example.com";
 
         when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
-        when(userRepository.findByCredenciales_Correo(email)).thenReturn(Optional.empty());
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
@@ -126,8 +128,8 @@ class AuthUserServiceImplTest {
                 .hasMessageContaining(ERROR_USER_NOT_FOUND_BY_DOCUMENT);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository).findByCredenciales_Correo(email);
-        verify(userRoleRepository, never()).findById(anyInt());
+        verify(userRepository).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository, never()).findWithRoleByUsuarioRolId(anyInt());
     }
 
     @Test
@@ -144,7 +146,7 @@ class AuthUserServiceImplTest {
         userWithoutRoles.setRoles(Collections.emptyList());
 
         when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
-        when(userRepository.findByCredenciales_Correo(email)).thenReturn(Optional.of(userWithoutRoles));
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(userWithoutRoles));
 
         // Act & Assert
         assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
@@ -152,8 +154,8 @@ class AuthUserServiceImplTest {
                 .hasMessageContaining(ERROR_USER_WITHOUT_ROLES);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository).findByCredenciales_Correo(email);
-        verify(userRoleRepository, never()).findById(anyInt());
+        verify(userRepository).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository, never()).findWithRoleByUsuarioRolId(anyInt());
     }
 
     @Test
@@ -163,8 +165,8 @@ class AuthUserServiceImplTest {
         String email = "test@example.com";
 
         when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
-        when(userRepository.findByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
-        when(userRoleRepository.findById(1)).thenReturn(Optional.empty());
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
+        when(userRoleRepository.findWithRoleByUsuarioRolId(1)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
@@ -172,8 +174,8 @@ class AuthUserServiceImplTest {
                 .hasMessageContaining(ERROR_USER_ROLE_NOT_FOUND);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository).findByCredenciales_Correo(email);
-        verify(userRoleRepository).findById(1);
+        verify(userRepository).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository).findWithRoleByUsuarioRolId(1);
     }
 
     @Test
@@ -200,8 +202,8 @@ class AuthUserServiceImplTest {
         adminUser.setRoles(Collections.singletonList(adminUserRole));
 
         when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
-        when(userRepository.findByCredenciales_Correo(email)).thenReturn(Optional.of(adminUser));
-        when(userRoleRepository.findById(2)).thenReturn(Optional.of(adminUserRole));
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(adminUser));
+        when(userRoleRepository.findWithRoleByUsuarioRolId(2)).thenReturn(Optional.of(adminUserRole));
 
         // Act & Assert
         assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
@@ -209,8 +211,111 @@ class AuthUserServiceImplTest {
                 .hasMessageContaining(ERROR_USER_NOT_CLIENT_ROLE);
 
         verify(authenticatedUserUtil).getCurrentUsername();
-        verify(userRepository).findByCredenciales_Correo(email);
-        verify(userRoleRepository).findById(2);
+        verify(userRepository).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository).findWithRoleByUsuarioRolId(2);
     }
-}
 
+    @Test
+    @DisplayName("getAuthenticatedUserRoleId - Obtener userRoleId desde claims sin consultar BD")
+    void testGetAuthenticatedUserRoleId_FromClaims_NoDatabaseAccess() {
+        // Arrange
+        when(authenticatedUserUtil.getCurrentPrincipal())
+                .thenReturn(Optional.of(buildPrincipal(7, List.of("Cliente"))));
+
+        // Act
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+
+        // Assert
+        assertThat(userRoleId).isEqualTo(7);
+        verify(authenticatedUserUtil, never()).getCurrentUsername();
+        verifyNoInteractions(userRepository, userRoleRepository);
+    }
+
+    @Test
+    @DisplayName("getAuthenticatedUserRoleId - Fallar con claims de rol distinto a Cliente")
+    void testGetAuthenticatedUserRoleId_FromClaimsNotClientRole_ThrowsException() {
+        // Arrange
+        when(authenticatedUserUtil.getCurrentPrincipal())
+                .thenReturn(Optional.of(buildPrincipal(2, List.of("Administrador", "Cliente"))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
+                .isInstanceOf(CartException.class)
+                .hasMessageContaining(ERROR_USER_NOT_CLIENT_ROLE);
+
+        verifyNoInteractions(userRepository, userRoleRepository);
+    }
+
+    @Test
+    @DisplayName("getAuthenticatedUserRoleId - Fallar con claims de usuario sin roles")
+    void testGetAuthenticatedUserRoleId_FromClaimsWithoutRoles_ThrowsException() {
+        // Arrange
+        when(authenticatedUserUtil.getCurrentPrincipal())
+                .thenReturn(Optional.of(buildPrincipal(null, List.of())));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
+                .isInstanceOf(CartException.class)
+                .hasMessageContaining(ERROR_USER_WITHOUT_ROLES);
+
+        verifyNoInteractions(userRepository, userRoleRepository);
+    }
+
+    @Test
+    @DisplayName("getAuthenticatedUserRoleId - Token sin claims revalida el rol en cada request")
+    void testGetAuthenticatedUserRoleId_LegacyTokenRoleChanged_RejectsNextRequest() {
+        // Arrange
+        String email = "test@example.com";
+        Role adminRole = new Role();
+        adminRole.setRolId(2);
+        adminRole.setNombreRol("Administrador");
+
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
+        when(userRoleRepository.findWithRoleByUsuarioRolId(1)).thenReturn(Optional.of(mockUserRole));
+
+        // Act
+        Integer first = authUserService.getAuthenticatedUserRoleId();
+        mockUserRole.setRole(adminRole);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
+                .isInstanceOf(CartException.class)
+                .hasMessageContaining(ERROR_USER_NOT_CLIENT_ROLE);
+        verify(userRepository, times(2)).findWithRolesByCredenciales_Correo(email);
+        verify(userRoleRepository, times(2)).findWithRoleByUsuarioRolId(1);
+    }
+
+    @Test
+    @DisplayName("getAuthenticatedUserRoleId - Token sin claims no cachea validaciones fallidas")
+    void testGetAuthenticatedUserRoleId_LegacyTokenNotClient_NotCached() {
+        // Arrange
+        String email = "test@example.com";
+        Role adminRole = new Role();
+        adminRole.setRolId(2);
+        adminRole.setNombreRol("Administrador");
+        mockUserRole.setRole(adminRole);
+
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(email);
+        when(userRepository.findWithRolesByCredenciales_Correo(email)).thenReturn(Optional.of(mockUser));
+        when(userRoleRepository.findWithRoleByUsuarioRolId(1)).thenReturn(Optional.of(mockUserRole));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
+                .isInstanceOf(CartException.class);
+        assertThatThrownBy(() -> authUserService.getAuthenticatedUserRoleId())
+                .isInstanceOf(CartException.class);
+
+        verify(userRepository, times(2)).findWithRolesByCredenciales_Correo(email);
+    }
+
+    private AuthenticatedUserPrincipal buildPrincipal(Integer userRoleId, List<String> roles) {
+        return AuthenticatedUserPrincipal.builder()
+                .email("test@example.com")
+                .userId(1)
+                .userRoleId(userRoleId)
+                .roles(roles)
+                .build();
+    }
+}
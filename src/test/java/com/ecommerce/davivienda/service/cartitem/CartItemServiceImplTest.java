@@ -1,17 +1,21 @@
 package com.ecommerce.davivienda.service.cartitem;
 
+import com.ecommerce.davivienda.dto.cart.batch.CartItemBatchItemDto;
 import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
 import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.entity.product.Product;
 import com.ecommerce.davivienda.mapper.cart.CartItemMapper;
 import com.ecommerce.davivienda.models.Response;
+import com.ecommerce.davivienda.exception.cart.CartException;
+import com.ecommerce.davivienda.models.cart.CartItemBatchRequest;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 import com.ecommerce.davivienda.service.auth.AuthUserService;
 import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCartTransactionalService;
 import com.ecommerce.davivienda.service.cartitem.validation.cart.CartItemCartValidationService;
 import com.ecommerce.davivienda.service.cartitem.validation.common.CartItemCommonValidationService;
 import com.ecommerce.davivienda.service.cartitem.validation.product.CartItemProductValidationService;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +27,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
+import static com.ecommerce.davivienda.constants.Constants.CODE_CART_UNAUTHORIZED;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_CART_UNAUTHORIZED;
+import static com.ecommerce.davivienda.constants.Constants.SUCCESS_CART_ITEMS_BATCH_ADDED;
 import static com.ecommerce.davivienda.constants.Constants.SUCCESS_CART_ITEM_ADDED;
 import static com.ecommerce.davivienda.constants.Constants.SUCCESS_CART_ITEM_DELETED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -87,16 +96,14 @@ class CartItemServiceImplTest {
     }
 
     @Test
-    @DisplayName("addItemToCart - Agregar nuevo item al carrito")
-    void testAddItemToCart_NewItem_Success() {
+    @DisplayName("addItemToCart - Escribe el item con un único upsert que fija la cantidad")
+    void testAddItemToCart_SetMode_SingleUpsert() {
         when(authUserService.getAuthenticatedUserRoleId()).thenReturn(100);
         when(transactionalService.findOrCreateCart(100)).thenReturn(mockCart);
         when(productValidationService.validateProductExists(1)).thenReturn(mockProduct);
         doNothing().when(productValidationService).validateProductActive(mockProduct);
         doNothing().when(commonValidationService).validateQuantity(2);
-        when(transactionalService.findCartItemByCartAndProduct(1, 1)).thenReturn(Optional.empty());
-        when(cartItemMapper.toEntity(mockRequest, mockCart, mockProduct)).thenReturn(mockCartItem);
-        when(transactionalService.saveCartItem(any(CartItem.class))).thenReturn(mockCartItem);
+        when(transactionalService.upsertCartItem(1, 1, 2, false)).thenReturn(2);
 
         Response<String> result = cartItemService.addItemToCart(mockRequest);
 
@@ -109,28 +116,24 @@ class CartItemServiceImplTest {
         verify(productValidationService).validateProductExists(1);
         verify(productValidationService).validateProductActive(mockProduct);
         verify(commonValidationService).validateQuantity(2);
-        verify(transactionalService).saveCartItem(any(CartItem.class));
+        verify(transactionalService, times(1)).upsertCartItem(1, 1, 2, false);
+        verify(transactionalService, never()).findCartItemByCartAndProduct(any(), any());
+        verify(transactionalService, never()).saveCartItem(any());
     }
 
     @Test
-    @DisplayName("addItemToCart - Actualizar item existente en carrito")
-    void testAddItemToCart_UpdateExisting_Success() {
+    @DisplayName("addItemToCart - Modo increment suma la cantidad a la existente")
+    void testAddItemToCart_IncrementMode_Success() {
+        mockRequest.setIncrement(true);
         when(authUserService.getAuthenticatedUserRoleId()).thenReturn(100);
         when(transactionalService.findOrCreateCart(100)).thenReturn(mockCart);
         when(productValidationService.validateProductExists(1)).thenReturn(mockProduct);
-        doNothing().when(productValidationService).validateProductActive(mockProduct);
-        doNothing().when(commonValidationService).validateQuantity(2);
-        when(transactionalService.findCartItemByCartAndProduct(1, 1)).thenReturn(Optional.of(mockCartItem));
-        doNothing().when(cartItemMapper).updateQuantity(mockCartItem, 2);
-        when(transactionalService.saveCartItem(mockCartItem)).thenReturn(mockCartItem);
+        when(transactionalService.upsertCartItem(1, 1, 2, true)).thenReturn(5);
 
         Response<String> result = cartItemService.addItemToCart(mockRequest);
 
-        assertThat(result).isNotNull();
         assertThat(result.getBody()).isEqualTo(SUCCESS_CART_ITEM_ADDED);
-
-        verify(cartItemMapper).updateQuantity(mockCartItem, 2);
-        verify(transactionalService).saveCartItem(mockCartItem);
+        verify(transactionalService).upsertCartItem(1, 1, 2, true);
     }
 
     @Test
@@ -159,7 +162,7 @@ class CartItemServiceImplTest {
         when(authUserService.getAuthenticatedUserRoleId()).thenReturn(100);
         when(transactionalService.findOrCreateCart(100)).thenReturn(mockCart);
         when(transactionalService.findCartItemsByCartId(1)).thenReturn(items);
-        when(cartItemMapper.toCartSummaryDto(items)).thenReturn(mockSummary);
+        when(cartItemMapper.toCartSummaryDto(mockCart, items)).thenReturn(mockSummary);
 
         CartSummaryDto result = cartItemService.getCartSummary();
 
@@ -168,7 +171,65 @@ class CartItemServiceImplTest {
         verify(authUserService).getAuthenticatedUserRoleId();
         verify(transactionalService).findOrCreateCart(100);
         verify(transactionalService).findCartItemsByCartId(1);
-        verify(cartItemMapper).toCartSummaryDto(items);
+        verify(cartItemMapper).toCartSummaryDto(mockCart, items);
     }
-}
 
+    @Test
+    @DisplayName("addItemsToCart - Valida productos en una consulta y escribe en un batch")
+    void testAddItemsToCart_Success() {
+        Product secondProduct = new Product();
+        secondProduct.setProductoId(2);
+        secondProduct.setEstadoProductoId(1);
+        CartItemBatchRequest request = CartItemBatchRequest.builder()
+                .cartId(1)
+                .items(List.of(
+                        CartItemBatchItemDto.builder().productId(2).quantity(1).build(),
+                        CartItemBatchItemDto.builder().productId(1).quantity(3).build(),
+                        CartItemBatchItemDto.builder().productId(2).quantity(4).build()))
+                .build();
+
+        when(authUserService.getAuthenticatedUserRoleId()).thenReturn(100);
+        when(transactionalService.findOrCreateCart(100)).thenReturn(mockCart);
+        when(productValidationService.validateProductsExist(Set.of(1, 2)))
+                .thenReturn(Map.of(1, mockProduct, 2, secondProduct));
+        when(transactionalService.upsertCartItems(1, Map.of(1, 3, 2, 4))).thenReturn(2);
+
+        Response<String> result = cartItemService.addItemsToCart(request);
+
+        assertThat(result.getBody()).isEqualTo(SUCCESS_CART_ITEMS_BATCH_ADDED);
+        verify(cartValidationService).validateCartMatchesUser(mockCart, 1);
+        verify(productValidationService, times(1)).validateProductsExist(Set.of(1, 2));
+        verify(productValidationService, never()).validateProductExists(any());
+        verify(transactionalService, times(1)).upsertCartItems(1, Map.of(1, 3, 2, 4));
+        verify(transactionalService, never()).findCartItemByCartAndProduct(any(), any());
+        verify(transactionalService, never()).saveCartItem(any());
+    }
+
+    @Test
+    @DisplayName("addItemsToCart - Carrito de otro usuario, no escribe items")
+    void testAddItemsToCart_OtherCart_ThrowsException() {
+        CartItemBatchRequest request = CartItemBatchRequest.builder()
+                .cartId(99)
+                .items(List.of(CartItemBatchItemDto.builder().productId(1).quantity(1).build()))
+                .build();
+
+        when(authUserService.getAuthenticatedUserRoleId()).thenReturn(100);
+        when(transactionalService.findOrCreateCart(100)).thenReturn(mockCart);
+        doThrow(new CartException(ERROR_CART_UNAUTHORIZED, CODE_CART_UNAUTHORIZED))
+                .when(cartValidationService).validateCartMatchesUser(mockCart, 99);
+
+        assertThatThrownBy(() -> cartItemService.addItemsToCart(request))
+                .isInstanceOf(CartException.class);
+        verify(transactionalService, never()).upsertCartItems(any(), any());
+    }
+
+    @Test
+    @DisplayName("onCatalogChanged - Recalcula los totales de los carritos activos con el producto")
+    void testOnCatalogChanged_RecalculatesActiveCartTotals() {
+        when(transactionalService.recalculateActiveCartTotals(1)).thenReturn(3);
+
+        cartItemService.onCatalogChanged(new ProductCatalogChangedEvent(1));
+
+        verify(transactionalService).recalculateActiveCartTotals(1);
+    }
+}
@@ -11,14 +11,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static com.ecommerce.davivienda.constants.Constants.CART_STATUS_ACTIVE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +38,9 @@ class CartItemCartTransactionalServiceImplTest {
     @Mock
     private CartItemRepository cartItemRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private CartItemCartTransactionalServiceImpl transactionalService;
 
@@ -65,16 +75,41 @@ class CartItemCartTransactionalServiceImplTest {
     }
 
     @Test
-    @DisplayName("findOrCreateCart - Carrito no existe, crea nuevo")
+    @DisplayName("findOrCreateCart - Carrito no existe, lo crea con un upsert sobre el índice de carritos activos")
     void testFindOrCreateCart_NotExists_CreatesNew() {
         when(cartRepository.findByUsuarioRolIdAndEstadoCarritoId(100, CART_STATUS_ACTIVE))
                 .thenReturn(Optional.empty());
-        when(cartRepository.save(any(Cart.class))).thenReturn(mockCart);
+        when(jdbcTemplate.queryForObject(argThat((String sql) -> sql.contains("ON CONFLICT (usuario_rol_id)")),
+                eq(Integer.class), eq(100))).thenReturn(7);
 
         Cart result = transactionalService.findOrCreateCart(100);
 
-        assertThat(result).isNotNull();
-        verify(cartRepository).save(any(Cart.class));
+        assertThat(result.getCarritoId()).isEqualTo(7);
+        assertThat(result.getUsuarioRolId()).isEqualTo(100);
+        assertThat(result.getEstadoCarritoId()).isEqualTo(CART_STATUS_ACTIVE);
+        verify(cartRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("upsertCartItem - Modo fijar reemplaza la cantidad y retorna la final")
+    void testUpsertCartItem_SetMode_ReplacesQuantity() {
+        stubCartLock();
+        when(jdbcTemplate.queryForObject(argThat((String sql) -> sql.contains("SET cantidad = EXCLUDED.cantidad")),
+                eq(Integer.class), eq(1), eq(3), eq(2))).thenReturn(2);
+
+        assertThat(transactionalService.upsertCartItem(1, 3, 2, false)).isEqualTo(2);
+        verify(jdbcTemplate).queryForObject(argThat((String sql) -> sql.contains("FOR UPDATE")), eq(Integer.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("upsertCartItem - Modo incremento suma a la cantidad existente")
+    void testUpsertCartItem_IncrementMode_AddsQuantity() {
+        stubCartLock();
+        when(jdbcTemplate.queryForObject(
+                argThat((String sql) -> sql.contains("cantidad = productos_carrito.cantidad + EXCLUDED.cantidad")),
+                eq(Integer.class), eq(1), eq(3), eq(2))).thenReturn(6);
+
+        assertThat(transactionalService.upsertCartItem(1, 3, 2, true)).isEqualTo(6);
     }
 
     @Test
@@ -112,13 +147,47 @@ class CartItemCartTransactionalServiceImplTest {
     }
 
     @Test
-    @DisplayName("deleteCartItem - Elimina item exitosamente")
+    @DisplayName("deleteCartItem - Elimina el item y resta su delta de los totales en la misma sentencia")
     void testDeleteCartItem_Success() {
-        doNothing().when(cartItemRepository).delete(mockCartItem);
-
         transactionalService.deleteCartItem(mockCartItem);
 
-        verify(cartItemRepository).delete(mockCartItem);
+        verify(jdbcTemplate).queryForObject(argThat((String sql) -> sql.contains("FOR UPDATE")), eq(Integer.class), eq(1));
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("DELETE FROM productos_carrito")
+                && sql.contains("UPDATE carrito c SET total_items = c.total_items + d.unidades")), eq(1));
+        verify(cartItemRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("upsertCartItem - La misma sentencia aplica el delta a los totales del carrito")
+    void testUpsertCartItem_UpdatesCartTotalsInSameStatement() {
+        stubCartLock();
+        when(jdbcTemplate.queryForObject(argThat((String sql) -> sql.contains("INSERT INTO productos_carrito")
+                        && sql.contains("cantidad - COALESCE((SELECT cantidad FROM previo), 0) AS unidades")
+                        && sql.contains("UPDATE carrito c SET total_items")),
+                eq(Integer.class), eq(1), eq(3), eq(2))).thenReturn(2);
+
+        assertThat(transactionalService.upsertCartItem(1, 3, 2, false)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("recalculateActiveCartTotals - Recalcula cada carrito activo bloqueado que contiene el producto")
+    void testRecalculateActiveCartTotals_RecalculatesLockedCarts() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(3))).thenReturn(List.of(1, 4));
+
+        int recalculated = transactionalService.recalculateActiveCartTotals(3);
+
+        assertThat(recalculated).isEqualTo(2);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> args) ->
+                args.size() == 2 && args.get(0)[0].equals(1) && args.get(1)[0].equals(4)));
+    }
+
+    @Test
+    @DisplayName("recalculateActiveCartTotals - Ningún carrito contiene el producto, no escribe")
+    void testRecalculateActiveCartTotals_NoCarts_NoWrites() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(3))).thenReturn(List.of());
+
+        assertThat(transactionalService.recalculateActiveCartTotals(3)).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
     }
 
     @Test
@@ -131,5 +200,24 @@ class CartItemCartTransactionalServiceImplTest {
         assertThat(result).isPresent();
         verify(cartItemRepository).findByProductIdAndUserRole(1, 100);
     }
-}
 
+    @Test
+    @DisplayName("upsertCartItems - Escribe todos los items en un único batch")
+    void testUpsertCartItems_SingleBatch() {
+        Map<Integer, Integer> quantities = new TreeMap<>(Map.of(1, 2, 5, 3));
+
+        int written = transactionalService.upsertCartItems(1, quantities);
+
+        assertThat(written).isEqualTo(2);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> args) ->
+                args.size() == 2
+                        && args.get(0)[0].equals(1) && args.get(0)[1].equals(1) && args.get(0)[2].equals(2)
+                        && args.get(1)[1].equals(5) && args.get(1)[2].equals(3)));
+        verify(cartItemRepository, never()).save(any());
+    }
+
+    private void stubCartLock() {
+        when(jdbcTemplate.queryForObject(argThat((String sql) -> sql.contains("FOR UPDATE")), eq(Integer.class), eq(1)))
+                .thenReturn(1);
+    }
+}
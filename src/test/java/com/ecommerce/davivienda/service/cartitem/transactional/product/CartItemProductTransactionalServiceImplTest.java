@@ -11,7 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -60,5 +62,15 @@ class CartItemProductTransactionalServiceImplTest {
         assertThat(result).isEmpty();
         verify(productRepository).findById(999);
     }
-}
 
+    @Test
+    @DisplayName("findProductsByIds - Consulta todos los productos en una sola llamada")
+    void testFindProductsByIds_SingleQuery() {
+        when(productRepository.findAllById(Set.of(1))).thenReturn(List.of(mockProduct));
+
+        List<Product> result = transactionalService.findProductsByIds(Set.of(1));
+
+        assertThat(result).containsExactly(mockProduct);
+        verify(productRepository).findAllById(Set.of(1));
+    }
+}
@@ -82,5 +82,19 @@ class CartItemCartValidationServiceImplTest {
 
         verify(transactionalService, never()).findCartItemByIdAndUser(any(), any());
     }
-}
 
+    @Test
+    @DisplayName("validateCartMatchesUser - Carrito activo del usuario, no lanza excepción")
+    void testValidateCartMatchesUser_Success() {
+        validationService.validateCartMatchesUser(mockCart, 1);
+
+        verifyNoInteractions(transactionalService);
+    }
+
+    @Test
+    @DisplayName("validateCartMatchesUser - Carrito de otro usuario, lanza excepción")
+    void testValidateCartMatchesUser_OtherCart_ThrowsException() {
+        assertThatThrownBy(() -> validationService.validateCartMatchesUser(mockCart, 2))
+                .isInstanceOf(CartException.class);
+    }
+}
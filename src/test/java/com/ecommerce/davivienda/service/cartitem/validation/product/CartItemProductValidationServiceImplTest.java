@@ -11,7 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -84,5 +87,26 @@ class CartItemProductValidationServiceImplTest {
         assertThatThrownBy(() -> validationService.validateProductActive(null))
                 .isInstanceOf(ProductException.class);
     }
-}
 
+    @Test
+    @DisplayName("validateProductsExist - Todos existen, retorna mapa por ID")
+    void testValidateProductsExist_AllExist_ReturnsMap() {
+        Product second = new Product();
+        second.setProductoId(2);
+        when(transactionalService.findProductsByIds(Set.of(1, 2))).thenReturn(List.of(mockProduct, second));
+
+        Map<Integer, Product> result = validationService.validateProductsExist(Set.of(1, 2));
+
+        assertThat(result).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    @DisplayName("validateProductsExist - Algún producto no existe, lanza excepción")
+    void testValidateProductsExist_Missing_ThrowsException() {
+        when(transactionalService.findProductsByIds(Set.of(1, 999))).thenReturn(List.of(mockProduct));
+
+        assertThatThrownBy(() -> validationService.validateProductsExist(Set.of(1, 999)))
+                .isInstanceOf(ProductException.class)
+                .hasMessageContaining("999");
+    }
+}
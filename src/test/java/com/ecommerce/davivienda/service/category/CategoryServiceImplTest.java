@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.dto.category.CategoryResponseDto;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.exception.product.ProductException;
 import com.ecommerce.davivienda.mapper.category.CategoryMapper;
-import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ import static org.mockito.Mockito.*;
 class CategoryServiceImplTest {
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     private CategoryMapper categoryMapper;
@@ -57,7 +57,7 @@ class CategoryServiceImplTest {
         List<Category> categories = Arrays.asList(mockCategory);
         List<CategoryResponseDto> responseDtos = Arrays.asList(mockResponseDto);
 
-        when(categoryRepository.findAll()).thenReturn(categories);
+        when(referenceDataRegistry.findAllCategories()).thenReturn(categories);
         when(categoryMapper.toResponseDtoList(categories)).thenReturn(responseDtos);
 
         List<CategoryResponseDto> result = categoryService.getAllCategories();
@@ -65,14 +65,14 @@ class CategoryServiceImplTest {
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Electrónicos");
 
-        verify(categoryRepository).findAll();
+        verify(referenceDataRegistry).findAllCategories();
         verify(categoryMapper).toResponseDtoList(categories);
     }
 
     @Test
     @DisplayName("getCategoryById - Encontrar categoría por ID")
     void testGetCategoryById_Success() {
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(referenceDataRegistry.findCategoryById(1)).thenReturn(Optional.of(mockCategory));
         when(categoryMapper.toResponseDto(mockCategory)).thenReturn(mockResponseDto);
 
         CategoryResponseDto result = categoryService.getCategoryById(1);
@@ -80,26 +80,26 @@ class CategoryServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Electrónicos");
 
-        verify(categoryRepository).findById(1);
+        verify(referenceDataRegistry).findCategoryById(1);
         verify(categoryMapper).toResponseDto(mockCategory);
     }
 
     @Test
     @DisplayName("getCategoryById - Categoría no encontrada, lanza excepción")
     void testGetCategoryById_NotFound_ThrowsException() {
-        when(categoryRepository.findById(999)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCategoryById(999)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> categoryService.getCategoryById(999))
                 .isInstanceOf(ProductException.class);
 
-        verify(categoryRepository).findById(999);
+        verify(referenceDataRegistry).findCategoryById(999);
         verify(categoryMapper, never()).toResponseDto(any());
     }
 
     @Test
     @DisplayName("getCategoryByName - Encontrar categoría por nombre")
     void testGetCategoryByName_Success() {
-        when(categoryRepository.findByNombre("Electrónicos")).thenReturn(Optional.of(mockCategory));
+        when(referenceDataRegistry.findCategoryByName("Electrónicos")).thenReturn(Optional.of(mockCategory));
         when(categoryMapper.toResponseDto(mockCategory)).thenReturn(mockResponseDto);
 
         CategoryResponseDto result = categoryService.getCategoryByName("Electrónicos");
@@ -107,19 +107,19 @@ class CategoryServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Electrónicos");
 
-        verify(categoryRepository).findByNombre("Electrónicos");
+        verify(referenceDataRegistry).findCategoryByName("Electrónicos");
         verify(categoryMapper).toResponseDto(mockCategory);
     }
 
     @Test
     @DisplayName("getCategoryByName - Categoría no encontrada, lanza excepción")
     void testGetCategoryByName_NotFound_ThrowsException() {
-        when(categoryRepository.findByNombre("NoExiste")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCategoryByName("NoExiste")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> categoryService.getCategoryByName("NoExiste"))
                 .isInstanceOf(ProductException.class);
 
-        verify(categoryRepository).findByNombre("NoExiste");
+        verify(referenceDataRegistry).findCategoryByName("NoExiste");
         verify(categoryMapper, never()).toResponseDto(any());
     }
 }
@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.dto.document.DocumentTypeResponseDto;
 import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.exception.document.DocumentTypeException;
 import com.ecommerce.davivienda.mapper.document.DocumentTypeMapper;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ import static org.mockito.Mockito.*;
 class DocumentTypeServiceImplTest {
 
     @Mock
-    private DocumentTypeRepository documentTypeRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     private DocumentTypeMapper documentTypeMapper;
@@ -57,7 +57,7 @@ class DocumentTypeServiceImplTest {
         List<DocumentType> documentTypes = Arrays.asList(mockDocumentType);
         List<DocumentTypeResponseDto> responseDtos = Arrays.asList(mockResponseDto);
 
-        when(documentTypeRepository.findAll()).thenReturn(documentTypes);
+        when(referenceDataRegistry.findAllDocumentTypes()).thenReturn(documentTypes);
         when(documentTypeMapper.toResponseDtoList(documentTypes)).thenReturn(responseDtos);
 
         List<DocumentTypeResponseDto> result = documentTypeService.findAll();
@@ -65,14 +65,14 @@ class DocumentTypeServiceImplTest {
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).getCodigo()).isEqualTo("CC");
 
-        verify(documentTypeRepository).findAll();
+        verify(referenceDataRegistry).findAllDocumentTypes();
         verify(documentTypeMapper).toResponseDtoList(documentTypes);
     }
 
     @Test
     @DisplayName("findByCode - Encontrar tipo de documento por código")
     void testFindByCode_Success() {
-        when(documentTypeRepository.findByCodigo("CC")).thenReturn(Optional.of(mockDocumentType));
+        when(referenceDataRegistry.findDocumentTypeByCode("CC")).thenReturn(Optional.of(mockDocumentType));
         when(documentTypeMapper.toResponseDto(mockDocumentType)).thenReturn(mockResponseDto);
 
         DocumentTypeResponseDto result = documentTypeService.findByCode("CC");
@@ -81,19 +81,19 @@ class DocumentTypeServiceImplTest {
         assertThat(result.getCodigo()).isEqualTo("CC");
         assertThat(result.getNombre()).isEqualTo("Cédula de Ciudadanía");
 
-        verify(documentTypeRepository).findByCodigo("CC");
+        verify(referenceDataRegistry).findDocumentTypeByCode("CC");
         verify(documentTypeMapper).toResponseDto(mockDocumentType);
     }
 
     @Test
     @DisplayName("findByCode - Tipo de documento no encontrado, lanza excepción")
     void testFindByCode_NotFound_ThrowsException() {
-        when(documentTypeRepository.findByCodigo("XX")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findDocumentTypeByCode("XX")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> documentTypeService.findByCode("XX"))
                 .isInstanceOf(DocumentTypeException.class);
 
-        verify(documentTypeRepository).findByCodigo("XX");
+        verify(referenceDataRegistry).findDocumentTypeByCode("XX");
         verify(documentTypeMapper, never()).toResponseDto(any());
     }
 }
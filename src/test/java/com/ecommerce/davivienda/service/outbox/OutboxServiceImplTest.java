@@ -0,0 +1,144 @@
+package com.ecommerce.davivienda.service.outbox;
+
+import com.ecommerce.davivienda.dto.outbox.CartStatusChangedEventDto;
+import com.ecommerce.davivienda.dto.outbox.OutboxEventDto;
+import com.ecommerce.davivienda.service.outbox.sink.OutboxEventSink;
+import com.ecommerce.davivienda.service.outbox.transactional.event.OutboxEventTransactionalService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ecommerce.davivienda.constants.Constants.OUTBOX_AGGREGATE_CART;
+import static com.ecommerce.davivienda.constants.Constants.OUTBOX_EVENT_CART_STATUS_CHANGED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxServiceImpl - Tests Unitarios")
+class OutboxServiceImplTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int PURGE_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxEventTransactionalService eventTransactionalService;
+
+    @Mock
+    private OutboxEventSink sink;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(eventTransactionalService, sink, new JsonUtils(new ObjectMapper()),
+                Duration.ofDays(7), PURGE_BATCH_SIZE, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                MAX_ATTEMPTS, Duration.ofSeconds(1), Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("record - Serializa la carga e inserta el evento pendiente")
+    void testRecord_InsertsSerializedPayload() {
+        outboxService.record(OUTBOX_AGGREGATE_CART, 5, OUTBOX_EVENT_CART_STATUS_CHANGED,
+                CartStatusChangedEventDto.builder().cartId(5).statusId(2).status("Procesando").build());
+
+        verify(eventTransactionalService).insert(eq(OUTBOX_AGGREGATE_CART), eq("5"), eq(OUTBOX_EVENT_CART_STATUS_CHANGED),
+                eq("{\"cartId\":5,\"userRoleId\":null,\"statusId\":2,\"status\":\"Procesando\"}"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("relayBatch - Publica el lote reclamado y lo marca como publicado")
+    void testRelayBatch_AllPublished_MarksPublished() {
+        when(eventTransactionalService.claimBatch(eq(BATCH_SIZE), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(buildEvent(1L), buildEvent(2L)));
+
+        int published = outboxService.relayBatch(BATCH_SIZE);
+
+        assertThat(published).isEqualTo(2);
+        verify(sink, times(2)).publish(any());
+        verify(eventTransactionalService).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(eventTransactionalService, never()).recordFailure(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("relayBatch - Error del sink reprograma el evento fallido y el lote continúa")
+    void testRelayBatch_SinkFails_SchedulesRetryAndContinues() {
+        OutboxEventDto failing = buildEvent(2L);
+        when(eventTransactionalService.claimBatch(eq(BATCH_SIZE), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(buildEvent(1L), failing, buildEvent(3L)));
+        doThrow(new IllegalStateException("503 Service Unavailable")).when(sink).publish(failing);
+
+        int published = outboxService.relayBatch(BATCH_SIZE);
+
+        assertThat(published).isEqualTo(2);
+        verify(sink, times(3)).publish(any());
+        verify(eventTransactionalService).recordFailure(eq(2L), eq("503 Service Unavailable"),
+                any(LocalDateTime.class), isNull());
+        verify(eventTransactionalService).markPublished(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("relayBatch - Evento que agota los intentos se descarta (dead letter)")
+    void testRelayBatch_MaxAttemptsReached_DiscardsEvent() {
+        OutboxEventDto poison = buildEvent(1L);
+        poison.setAttempts(MAX_ATTEMPTS - 1);
+        when(eventTransactionalService.claimBatch(eq(BATCH_SIZE), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(poison));
+        doThrow(new IllegalStateException("400 Bad Request")).when(sink).publish(poison);
+
+        assertThat(outboxService.relayBatch(BATCH_SIZE)).isZero();
+
+        verify(eventTransactionalService).recordFailure(eq(1L), eq("400 Bad Request"),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("backoff - Crece exponencialmente hasta el máximo")
+    void testBackoff_Exponential_CappedAtMax() {
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outboxService.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(outboxService.backoff(3)).isEqualTo(Duration.ofSeconds(3));
+        assertThat(outboxService.backoff(40)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("relayBatch - Sin eventos pendientes no publica ni actualiza")
+    void testRelayBatch_Empty_ReturnsZero() {
+        when(eventTransactionalService.claimBatch(eq(BATCH_SIZE), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertThat(outboxService.relayBatch(BATCH_SIZE)).isZero();
+        verifyNoInteractions(sink);
+        verify(eventTransactionalService, never()).markPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("purgePublished - Elimina lotes hasta que uno viene incompleto")
+    void testPurgePublished_DeletesUntilPartialBatch() {
+        when(eventTransactionalService.deletePublishedBatch(any(LocalDateTime.class), eq(PURGE_BATCH_SIZE)))
+                .thenReturn(PURGE_BATCH_SIZE, 3);
+
+        assertThat(outboxService.purgePublished()).isEqualTo(PURGE_BATCH_SIZE + 3);
+    }
+
+    private OutboxEventDto buildEvent(Long eventId) {
+        return OutboxEventDto.builder()
+                .eventId(eventId)
+                .aggregateType(OUTBOX_AGGREGATE_CART)
+                .aggregateId("5")
+                .eventType(OUTBOX_EVENT_CART_STATUS_CHANGED)
+                .payload("{\"cartId\":5}")
+                .build();
+    }
+}
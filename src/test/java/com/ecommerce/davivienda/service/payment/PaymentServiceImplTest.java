@@ -0,0 +1,241 @@
+package com.ecommerce.davivienda.service.payment;
+
+import com.ecommerce.davivienda.dto.payment.CardDataDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.dto.payment.QueuedPaymentDto;
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.payment.Payment;
+import com.ecommerce.davivienda.entity.payment.PaymentDebit;
+import com.ecommerce.davivienda.entity.payment.PaymentReference;
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.payment.checkout.PaymentQueuedEvent;
+import com.ecommerce.davivienda.service.payment.idempotency.PaymentIdempotencyService;
+import com.ecommerce.davivienda.service.payment.reference.PaymentReferenceService;
+import com.ecommerce.davivienda.service.payment.transactional.cart.PaymentCartTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.cartitem.PaymentCartItemTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.queue.PaymentQueueTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.reference.PaymentReferenceTransactionalService;
+import com.ecommerce.davivienda.service.payment.validation.cart.PaymentCartValidationService;
+import com.ecommerce.davivienda.service.payment.validation.common.PaymentCommonValidationService;
+import com.ecommerce.davivienda.service.payment.validation.payment.PaymentPaymentValidationService;
+import com.ecommerce.davivienda.service.stock.StockService;
+import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
+import com.ecommerce.davivienda.util.Base64DecryptionService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_CART_PAYMENT_ALREADY_QUEUED;
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentServiceImpl - Tests Unitarios")
+class PaymentServiceImplTest {
+
+    private static final String EMAIL = "user@mail.com";
+    private static final String CARD_DATA = "eyJjYXJk";
+    private static final String CARD_JSON = "{\"paymentType\":\"debito\"}";
+
+    @Mock
+    private PaymentCartValidationService cartValidationService;
+
+    @Mock
+    private PaymentPaymentValidationService paymentValidationService;
+
+    @Mock
+    private PaymentCommonValidationService commonValidationService;
+
+    @Mock
+    private PaymentPaymentTransactionalService paymentTransactionalService;
+
+    @Mock
+    private PaymentCartTransactionalService cartTransactionalService;
+
+    @Mock
+    private PaymentCartItemTransactionalService cartItemTransactionalService;
+
+    @Mock
+    private PaymentReferenceTransactionalService referenceTransactionalService;
+
+    @Mock
+    private PaymentQueueTransactionalService queueTransactionalService;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private PaymentReferenceService paymentReferenceService;
+
+    @Mock
+    private PaymentIdempotencyService idempotencyService;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @Mock
+    private Base64DecryptionService base64DecryptionService;
+
+    @Mock
+    private JsonUtils jsonUtils;
+
+    @Mock
+    private AuthenticatedUserUtil authenticatedUserUtil;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private Cart cart;
+    private CardDataDto cardData;
+    private PaymentType debit;
+    private PaymentReference reference;
+
+    @BeforeEach
+    void setUp() {
+        cart = new Cart();
+        cart.setCarritoId(5);
+        cardData = CardDataDto.builder().paymentType("debito").build();
+        debit = PaymentType.builder().paymentType("debito").build();
+        reference = PaymentReference.builder().referenceId(7).referenceNumber("REF-01HZX3K7QW0G4").build();
+    }
+
+    @Test
+    @DisplayName("enqueuePayment - Valida, asigna referencia y encola sin crear el pago ni tocar el stock")
+    void testEnqueuePayment_ValidRequest_QueuesPayment() throws Exception {
+        PaymentProcessRequestDto request = PaymentProcessRequestDto.builder().encryptedCardData(CARD_DATA).build();
+        PaymentProcessResponseDto queuedResponse = PaymentProcessResponseDto.builder()
+                .referenceNumber("REF-01HZX3K7QW0G4").status(PaymentStatusResponseDto.CHECKOUT_QUEUED).build();
+        mockCardDecryption();
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(EMAIL);
+        when(cartValidationService.validateCartByUserEmail(EMAIL)).thenReturn(cart);
+        when(paymentValidationService.validatePaymentType("debito")).thenReturn(debit);
+        when(paymentReferenceService.generateUniqueReference()).thenReturn(reference);
+        QueuedPaymentDto queuedPayment = QueuedPaymentDto.builder().referenceId(7).cartId(5).userEmail(EMAIL).build();
+        when(paymentMapper.toQueuedPaymentDto(reference, cart, EMAIL, cardData, null, base64DecryptionService))
+                .thenReturn(queuedPayment);
+        when(queueTransactionalService.enqueue(any(), any())).thenReturn(3L);
+        when(paymentMapper.toQueuedPaymentResponseDto(reference, debit)).thenReturn(queuedResponse);
+
+        PaymentProcessResponseDto result = paymentService.enqueuePayment(request, null);
+
+        assertThat(result).isSameAs(queuedResponse);
+        verify(queueTransactionalService).enqueue(eq(queuedPayment), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(any(PaymentQueuedEvent.class));
+        verifyNoInteractions(paymentTransactionalService, stockService, cartTransactionalService, idempotencyService);
+    }
+
+    @Test
+    @DisplayName("enqueuePayment - Carrito con un pago ya en cola lanza PaymentException")
+    void testEnqueuePayment_CartAlreadyQueued_ThrowsException() throws Exception {
+        PaymentProcessRequestDto request = PaymentProcessRequestDto.builder().cartId(5).encryptedCardData(CARD_DATA).build();
+        mockCardDecryption();
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(EMAIL);
+        when(cartValidationService.validateCart(5)).thenReturn(cart);
+        when(paymentValidationService.validatePaymentType("debito")).thenReturn(debit);
+        when(paymentReferenceService.generateUniqueReference()).thenReturn(reference);
+        when(paymentMapper.toQueuedPaymentDto(reference, cart, EMAIL, cardData, null, base64DecryptionService))
+                .thenReturn(QueuedPaymentDto.builder().cartId(5).build());
+        when(queueTransactionalService.enqueue(any(), any()))
+                .thenThrow(new DataIntegrityViolationException("uq_pago_cola_carrito_pendiente"));
+
+        assertThatThrownBy(() -> paymentService.enqueuePayment(request, null))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_CART_PAYMENT_ALREADY_QUEUED);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("processQueuedPayment - Pago tomado por otro worker o ya procesado no hace nada")
+    void testProcessQueuedPayment_NotAvailable_ReturnsFalse() {
+        when(queueTransactionalService.lockQueued(3L)).thenReturn(Optional.empty());
+
+        assertThat(paymentService.processQueuedPayment(3L)).isFalse();
+        verifyNoInteractions(base64DecryptionService, cartValidationService, paymentTransactionalService);
+    }
+
+    @Test
+    @DisplayName("processQueuedPayment - Crea el pago con la referencia asignada y marca la fila como completada")
+    void testProcessQueuedPayment_Success_MarksCompleted() throws Exception {
+        PaymentStatus pending = PaymentStatus.builder().name("Pendiente").build();
+        Payment payment = Payment.builder().build();
+        Payment savedPayment = Payment.builder().paymentId(10).reference(reference).paymentType(debit).build();
+        QueuedPaymentDto queuedPayment = QueuedPaymentDto.builder()
+                .queueId(3L).referenceId(7).cartId(5).userEmail(EMAIL).paymentType("debito").build();
+        when(queueTransactionalService.lockQueued(3L)).thenReturn(Optional.of(queuedPayment));
+        when(paymentMapper.toCardData(queuedPayment, base64DecryptionService)).thenReturn(cardData);
+        when(cartValidationService.validateCart(5)).thenReturn(cart);
+        when(paymentValidationService.validatePaymentType("debito")).thenReturn(debit);
+        when(paymentValidationService.findPendingStatus()).thenReturn(pending);
+        when(referenceTransactionalService.findById(7)).thenReturn(reference);
+        when(paymentMapper.toPayment(cart, debit, reference, pending)).thenReturn(payment);
+        when(paymentTransactionalService.savePayment(payment)).thenReturn(savedPayment);
+        when(paymentMapper.toPaymentDebit(savedPayment, cardData, base64DecryptionService)).thenReturn(new PaymentDebit());
+        when(cartItemTransactionalService.findByCartId(5)).thenReturn(List.of());
+        when(paymentMapper.toPaymentProcessResponseDto(savedPayment))
+                .thenReturn(PaymentProcessResponseDto.builder().paymentId(10).build());
+
+        assertThat(paymentService.processQueuedPayment(3L)).isTrue();
+
+        verify(paymentReferenceService, never()).generateUniqueReference();
+        verify(cartTransactionalService).updateCartStatusToProcessing(5);
+        verify(queueTransactionalService).markCompleted(eq(3L), eq(10), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("getPaymentStatus - Referencia de otro usuario sin rol administrador se reporta como no encontrada")
+    void testGetPaymentStatus_OtherUser_ThrowsNotFound() {
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(EMAIL);
+        when(authenticatedUserUtil.hasRole("Administrador")).thenReturn(false);
+        when(queueTransactionalService.findStatusByReference("REF-01HZX3K7QW0G4")).thenReturn(Optional.of(
+                PaymentStatusResponseDto.builder().ownerEmail("other@mail.com").build()));
+
+        assertThatThrownBy(() -> paymentService.getPaymentStatus("REF-01HZX3K7QW0G4"))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_PAYMENT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("getPaymentStatus - El dueño consulta el estado de su pago en cola")
+    void testGetPaymentStatus_Owner_ReturnsStatus() {
+        PaymentStatusResponseDto status = PaymentStatusResponseDto.builder()
+                .referenceNumber("REF-01HZX3K7QW0G4")
+                .checkoutStatus(PaymentStatusResponseDto.CHECKOUT_QUEUED)
+                .ownerEmail(EMAIL)
+                .build();
+        when(authenticatedUserUtil.getCurrentUsername()).thenReturn(EMAIL);
+        when(queueTransactionalService.findStatusByReference("REF-01HZX3K7QW0G4")).thenReturn(Optional.of(status));
+
+        assertThat(paymentService.getPaymentStatus("REF-01HZX3K7QW0G4")).isSameAs(status);
+    }
+
+    private void mockCardDecryption() throws Exception {
+        when(base64DecryptionService.decrypt(CARD_DATA)).thenReturn(CARD_JSON);
+        when(jsonUtils.deserializeFromJson(CARD_JSON, CardDataDto.class)).thenReturn(cardData);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.davivienda.service.payment.checkout;
+
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.PaymentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_CART_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_PROCESSING_FAILED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentCheckoutWorker - Tests Unitarios")
+class PaymentCheckoutWorkerTest {
+
+    private static final int WORKERS = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private PaymentCheckoutWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PaymentCheckoutWorker(paymentService, taskScheduler, WORKERS, MAX_ATTEMPTS, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("dispatch - El lote nunca excede los workers libres")
+    void testDispatch_MoreQueuedThanWorkers_BoundedByPool() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(paymentService.findQueuedPaymentIds(WORKERS)).thenReturn(List.of(1L, 2L, 3L));
+        when(paymentService.processQueuedPayment(any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+
+        worker.dispatch();
+        verify(paymentService, timeout(1000).times(WORKERS)).processQueuedPayment(any());
+
+        worker.dispatch();
+
+        verify(paymentService, times(1)).findQueuedPaymentIds(anyInt());
+        verify(paymentService, never()).processQueuedPayment(3L);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("process - Error de negocio marca el pago como fallido con su código")
+    void testProcess_PaymentException_MarksFailedWithCode() {
+        when(paymentService.processQueuedPayment(7L))
+                .thenThrow(new PaymentException("Carrito no encontrado", CODE_CART_NOT_FOUND));
+
+        worker.process(7L);
+
+        verify(paymentService).failQueuedPayment(7L, CODE_CART_NOT_FOUND, "Carrito no encontrado");
+    }
+
+    @Test
+    @DisplayName("process - Error inesperado deja el pago en cola para reintentarlo")
+    void testProcess_UnexpectedError_SchedulesRetry() {
+        when(paymentService.processQueuedPayment(7L)).thenThrow(new IllegalStateException("timeout"));
+        when(paymentService.retryQueuedPayment(eq(7L), eq(true), eq("timeout"), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        worker.process(7L);
+
+        verify(paymentService, never()).failQueuedPayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("process - Error inesperado que agota los intentos marca el pago como fallido con el código genérico")
+    void testProcess_UnexpectedErrorMaxAttempts_MarksFailedWithGenericCode() {
+        when(paymentService.processQueuedPayment(7L)).thenThrow(new IllegalStateException("timeout"));
+        when(paymentService.retryQueuedPayment(eq(7L), eq(true), eq("timeout"), any(LocalDateTime.class)))
+                .thenReturn(MAX_ATTEMPTS);
+
+        worker.process(7L);
+
+        verify(paymentService).failQueuedPayment(7L, CODE_PAYMENT_PROCESSING_FAILED, "timeout");
+    }
+
+    @Test
+    @DisplayName("process - Error transitorio de BD envuelto en PaymentException se reintenta sin contar intentos")
+    void testProcess_TransientDatabaseError_RetriesWithoutCountingAttempt() {
+        PaymentException wrapped = new PaymentException("Error al procesar pago", CODE_PAYMENT_PROCESSING_FAILED,
+                new CannotAcquireLockException("lock timeout"));
+        when(paymentService.processQueuedPayment(7L)).thenThrow(wrapped);
+        when(paymentService.retryQueuedPayment(eq(7L), eq(false), any(), any(LocalDateTime.class)))
+                .thenReturn(MAX_ATTEMPTS);
+
+        worker.process(7L);
+
+        verify(paymentService, never()).failQueuedPayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("process - Pago completado no se marca como fallido")
+    void testProcess_Success_DoesNotMarkFailed() {
+        when(paymentService.processQueuedPayment(7L)).thenReturn(true);
+
+        worker.process(7L);
+
+        verify(paymentService, never()).failQueuedPayment(any(), any(), any());
+    }
+}
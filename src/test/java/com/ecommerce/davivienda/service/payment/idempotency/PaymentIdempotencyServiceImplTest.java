@@ -0,0 +1,153 @@
+package com.ecommerce.davivienda.service.payment.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentIdempotencyRecordDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.transactional.idempotency.PaymentIdempotencyTransactionalService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_IDEMPOTENCY_KEY_REUSED;
+import static com.ecommerce.davivienda.constants.Constants.CODE_IDEMPOTENCY_REQUEST_IN_PROGRESS;
+import static com.ecommerce.davivienda.constants.Constants.CODE_INVALID_IDEMPOTENCY_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentIdempotencyServiceImpl - Tests Unitarios")
+class PaymentIdempotencyServiceImplTest {
+
+    private static final String EMAIL = "user@mail.com";
+    private static final String KEY = "7f0c2a4e-9b1d-4c55-8e0a-3f2d6b9c1a77";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private PaymentIdempotencyTransactionalService idempotencyTransactionalService;
+
+    private PaymentIdempotencyServiceImpl idempotencyService;
+
+    private PaymentProcessRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new PaymentIdempotencyServiceImpl(
+                idempotencyTransactionalService, new JsonUtils(new ObjectMapper()), TTL, BATCH_SIZE);
+        request = PaymentProcessRequestDto.builder().cartId(5).encryptedCardData("eyJjYXJk").build();
+    }
+
+    @Test
+    @DisplayName("findOrClaim - Clave nueva, se reclama con vencimiento según TTL y no hay respuesta previa")
+    void testFindOrClaim_NewKey_Claims() {
+        ArgumentCaptor<LocalDateTime> createdAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(idempotencyTransactionalService.claim(eq(EMAIL), eq(KEY), anyString(), createdAt.capture(), expiresAt.capture()))
+                .thenReturn(true);
+
+        Optional<PaymentProcessResponseDto> result = idempotencyService.findOrClaim(EMAIL, KEY, request);
+
+        assertThat(result).isEmpty();
+        assertThat(expiresAt.getValue()).isEqualTo(createdAt.getValue().plus(TTL));
+        verify(idempotencyTransactionalService, never()).findByKey(any(), any());
+    }
+
+    @Test
+    @DisplayName("findOrClaim - Clave ya procesada con la misma solicitud retorna la respuesta original")
+    void testFindOrClaim_CompletedKey_ReturnsOriginalResponse() {
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        when(idempotencyTransactionalService.claim(eq(EMAIL), eq(KEY), fingerprint.capture(), any(), any()))
+                .thenReturn(false);
+        when(idempotencyTransactionalService.findByKey(EMAIL, KEY)).thenAnswer(invocation -> Optional.of(
+                PaymentIdempotencyRecordDto.builder()
+                        .fingerprint(fingerprint.getValue())
+                        .responseJson("{\"paymentId\":10,\"referenceNumber\":\"REF-01HZX3K7QW0G4\","
+                                + "\"status\":\"Pendiente\",\"paymentType\":\"debito\"}")
+                        .build()));
+
+        Optional<PaymentProcessResponseDto> result = idempotencyService.findOrClaim(EMAIL, KEY, request);
+
+        assertThat(result).contains(PaymentProcessResponseDto.builder()
+                .paymentId(10).referenceNumber("REF-01HZX3K7QW0G4").status("Pendiente").paymentType("debito").build());
+        assertThat(fingerprint.getValue()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("findOrClaim - Clave reutilizada con otra solicitud lanza PaymentException")
+    void testFindOrClaim_DifferentRequest_ThrowsKeyReused() {
+        when(idempotencyTransactionalService.claim(eq(EMAIL), eq(KEY), anyString(), any(), any())).thenReturn(false);
+        when(idempotencyTransactionalService.findByKey(EMAIL, KEY)).thenReturn(Optional.of(
+                PaymentIdempotencyRecordDto.builder().fingerprint("0".repeat(64)).responseJson("{}").build()));
+
+        assertThatThrownBy(() -> idempotencyService.findOrClaim(EMAIL, KEY, request))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("findOrClaim - Registro sin respuesta se reporta como pago en proceso")
+    void testFindOrClaim_NoResponse_ThrowsInProgress() {
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        when(idempotencyTransactionalService.claim(eq(EMAIL), eq(KEY), fingerprint.capture(), any(), any()))
+                .thenReturn(false);
+        when(idempotencyTransactionalService.findByKey(EMAIL, KEY)).thenAnswer(invocation -> Optional.of(
+                PaymentIdempotencyRecordDto.builder().fingerprint(fingerprint.getValue()).build()));
+
+        assertThatThrownBy(() -> idempotencyService.findOrClaim(EMAIL, KEY, request))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("findOrClaim - Clave vacía o demasiado larga lanza PaymentException sin consultar la BD")
+    void testFindOrClaim_InvalidKey_ThrowsException() {
+        assertThatThrownBy(() -> idempotencyService.findOrClaim(EMAIL, " ", request))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_INVALID_IDEMPOTENCY_KEY);
+        assertThatThrownBy(() -> idempotencyService.findOrClaim(EMAIL, "k".repeat(101), request))
+                .isInstanceOf(PaymentException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_INVALID_IDEMPOTENCY_KEY);
+        verifyNoInteractions(idempotencyTransactionalService);
+    }
+
+    @Test
+    @DisplayName("complete - Guarda la respuesta serializada en JSON")
+    void testComplete_SavesSerializedResponse() {
+        PaymentProcessResponseDto response = PaymentProcessResponseDto.builder()
+                .paymentId(10).referenceNumber("REF-01HZX3K7QW0G4").build();
+
+        idempotencyService.complete(EMAIL, KEY, response);
+
+        verify(idempotencyTransactionalService).saveResponse(EMAIL, KEY,
+                "{\"paymentId\":10,\"referenceNumber\":\"REF-01HZX3K7QW0G4\"}");
+    }
+
+    @Test
+    @DisplayName("purgeExpired - Elimina lotes hasta que uno viene incompleto")
+    void testPurgeExpired_DeletesUntilPartialBatch() {
+        when(idempotencyTransactionalService.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(BATCH_SIZE, 7);
+
+        assertThat(idempotencyService.purgeExpired()).isEqualTo(BATCH_SIZE + 7);
+        verify(idempotencyTransactionalService, times(2)).deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.davivienda.service.payment.reference;
+
+import com.ecommerce.davivienda.entity.payment.PaymentReference;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.reference.generator.PaymentReferenceNumberGenerator;
+import com.ecommerce.davivienda.service.payment.transactional.reference.PaymentReferenceTransactionalService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_REFERENCE_GENERATION_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReferenceServiceImpl - Tests Unitarios")
+class PaymentReferenceServiceImplTest {
+
+    @Mock
+    private PaymentReferenceTransactionalService referenceTransactionalService;
+
+    @Mock
+    private PaymentReferenceNumberGenerator referenceNumberGenerator;
+
+    @InjectMocks
+    private PaymentReferenceServiceImpl referenceService;
+
+    @Test
+    @DisplayName("generateUniqueReference - Guarda el número generado sin consultar su existencia")
+    void testGenerateUniqueReference_SavesGeneratedNumber() {
+        PaymentReference saved = PaymentReference.builder().referenceId(10).referenceNumber("REF-01HZX3K7QW0G4").build();
+        when(referenceNumberGenerator.nextReferenceNumber()).thenReturn("REF-01HZX3K7QW0G4");
+        when(referenceTransactionalService.savePaymentReference(any())).thenReturn(saved);
+
+        PaymentReference result = referenceService.generateUniqueReference();
+
+        assertThat(result).isSameAs(saved);
+        verify(referenceTransactionalService, times(1)).savePaymentReference(
+                argThat(reference -> "REF-01HZX3K7QW0G4".equals(reference.getReferenceNumber())));
+        verifyNoMoreInteractions(referenceTransactionalService);
+    }
+
+    @Test
+    @DisplayName("generateUniqueReference - Número duplicado por restricción UNIQUE lanza PaymentException")
+    void testGenerateUniqueReference_Duplicate_ThrowsPaymentException() {
+        when(referenceNumberGenerator.nextReferenceNumber()).thenReturn("REF-01HZX3K7QW0G4");
+        when(referenceTransactionalService.savePaymentReference(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThatThrownBy(() -> referenceService.generateUniqueReference())
+                .isInstanceOf(PaymentException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_PAYMENT_REFERENCE_GENERATION_FAILED);
+        verify(referenceNumberGenerator, times(1)).nextReferenceNumber();
+    }
+}
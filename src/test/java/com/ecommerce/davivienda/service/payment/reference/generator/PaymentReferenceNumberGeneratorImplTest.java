@@ -0,0 +1,144 @@
+package com.ecommerce.davivienda.service.payment.reference.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ecommerce.davivienda.service.payment.reference.generator.PaymentReferenceNumberGeneratorImpl.EPOCH_MILLIS;
+import static com.ecommerce.davivienda.service.payment.reference.generator.PaymentReferenceNumberGeneratorImpl.MAX_NODE_ID;
+import static com.ecommerce.davivienda.service.payment.reference.generator.PaymentReferenceNumberGeneratorImpl.MAX_SEQUENCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentReferenceNumberGeneratorImpl - Tests Unitarios")
+class PaymentReferenceNumberGeneratorImplTest {
+
+    private static final long NOW = EPOCH_MILLIS + 86_400_000L;
+
+    @Test
+    @DisplayName("nextReferenceNumber - Formato REF- con 13 caracteres Base32 Crockford")
+    void testNextReferenceNumber_Format() {
+        PaymentReferenceNumberGeneratorImpl generator = new PaymentReferenceNumberGeneratorImpl(7, () -> NOW);
+
+        String reference = generator.nextReferenceNumber();
+
+        assertThat(reference).matches("REF-[0-9A-HJKMNP-TV-Z]{13}");
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Mismo milisegundo, referencias crecientes por secuencia")
+    void testNextReferenceNumber_SameMillisecond_Increasing() {
+        PaymentReferenceNumberGeneratorImpl generator = new PaymentReferenceNumberGeneratorImpl(1, () -> NOW);
+
+        List<String> references = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            references.add(generator.nextReferenceNumber());
+        }
+
+        assertThat(references).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Secuencia agotada avanza al siguiente milisegundo sin repetir")
+    void testNextReferenceNumber_SequenceExhausted_BorrowsNextMillisecond() {
+        AtomicLong clock = new AtomicLong(NOW);
+        PaymentReferenceNumberGeneratorImpl generator = new PaymentReferenceNumberGeneratorImpl(1, clock::get);
+
+        List<String> references = new ArrayList<>();
+        for (int i = 0; i < (MAX_SEQUENCE + 1) * 3; i++) {
+            references.add(generator.nextReferenceNumber());
+        }
+        clock.incrementAndGet();
+        references.add(generator.nextReferenceNumber());
+
+        assertThat(references).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Reloj que retrocede no genera referencias menores ni repetidas")
+    void testNextReferenceNumber_ClockMovesBackwards_StaysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        PaymentReferenceNumberGeneratorImpl generator = new PaymentReferenceNumberGeneratorImpl(1, clock::get);
+
+        String before = generator.nextReferenceNumber();
+        clock.addAndGet(-5_000L);
+        String after = generator.nextReferenceNumber();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Referencias posteriores en el tiempo ordenan después")
+    void testNextReferenceNumber_LaterTimestamp_SortsAfter() {
+        AtomicLong clock = new AtomicLong(NOW);
+        PaymentReferenceNumberGeneratorImpl nodeHigh = new PaymentReferenceNumberGeneratorImpl(MAX_NODE_ID, clock::get);
+        PaymentReferenceNumberGeneratorImpl nodeLow = new PaymentReferenceNumberGeneratorImpl(0, clock::get);
+
+        String earlier = nodeHigh.nextReferenceNumber();
+        clock.incrementAndGet();
+        String later = nodeLow.nextReferenceNumber();
+
+        assertThat(later).isGreaterThan(earlier);
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Nodos distintos en el mismo milisegundo no colisionan")
+    void testNextReferenceNumber_DifferentNodes_NoCollision() {
+        PaymentReferenceNumberGeneratorImpl nodeOne = new PaymentReferenceNumberGeneratorImpl(1, () -> NOW);
+        PaymentReferenceNumberGeneratorImpl nodeTwo = new PaymentReferenceNumberGeneratorImpl(2, () -> NOW);
+
+        Set<String> references = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            references.add(nodeOne.nextReferenceNumber());
+            references.add(nodeTwo.nextReferenceNumber());
+        }
+
+        assertThat(references).hasSize(2000);
+    }
+
+    @Test
+    @DisplayName("nextReferenceNumber - Hilos concurrentes no generan referencias duplicadas")
+    void testNextReferenceNumber_ConcurrentThreads_Unique() throws InterruptedException {
+        PaymentReferenceNumberGeneratorImpl generator = new PaymentReferenceNumberGeneratorImpl(3, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 5_000;
+        Set<String> references = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    references.add(generator.nextReferenceNumber());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(references).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("constructor - ID de nodo fuera de rango lanza excepción")
+    void testConstructor_InvalidNodeId_ThrowsException() {
+        assertThatThrownBy(() -> new PaymentReferenceNumberGeneratorImpl(MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PaymentReferenceNumberGeneratorImpl(-1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,8 @@
 package com.ecommerce.davivienda.service.product;
 
+import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.entity.product.Product;
@@ -7,6 +10,11 @@ import com.ecommerce.davivienda.mapper.product.ProductMapper;
 import com.ecommerce.davivienda.models.product.ProductRequest;
 import com.ecommerce.davivienda.models.product.ProductResponse;
 import com.ecommerce.davivienda.models.product.ProductUpdateRequest;
+import com.ecommerce.davivienda.service.product.availability.ProductAvailabilityService;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotService;
+import com.ecommerce.davivienda.service.product.pagination.ProductCursorService;
+import com.ecommerce.davivienda.service.product.search.ProductSearchEngine;
+import com.ecommerce.davivienda.service.product.search.ProductTextMatch;
 import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
 import com.ecommerce.davivienda.service.product.validation.category.ProductCategoryValidationService;
 import com.ecommerce.davivienda.service.product.validation.common.ProductCommonValidationService;
@@ -21,7 +29,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -54,6 +64,18 @@ class ProductServiceImplTest {
     @Mock
     private StockService stockService;
 
+    @Mock
+    private ProductCatalogSnapshotService catalogSnapshotService;
+
+    @Mock
+    private ProductCursorService cursorService;
+
+    @Mock
+    private ProductSearchEngine searchEngine;
+
+    @Mock
+    private ProductAvailabilityService availabilityService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -106,6 +128,7 @@ class ProductServiceImplTest {
         assertThat(result).isNotNull();
         verify(transactionalService).saveProduct(any(Product.class));
         verify(stockService).createOrUpdateStock(1, 10);
+        verify(catalogSnapshotService).requestRefresh(1);
     }
 
     @Test
@@ -118,32 +141,31 @@ class ProductServiceImplTest {
 
         assertThat(result).isNotNull();
         verify(productValidationService).findProductByIdOrThrow(1);
+        verify(availabilityService).enrich(List.of(mockResponse));
     }
 
     @Test
-    @DisplayName("getAllProducts - Listar todos los productos")
+    @DisplayName("getAllProducts - Listar todos los productos desde el snapshot")
     void testGetAllProducts_Success() {
-        List<Product> products = Arrays.asList(mockProduct);
-        when(transactionalService.findAllProducts()).thenReturn(products);
-        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(1L, List.of(mockResponse), List.of());
+        when(catalogSnapshotService.getSnapshot()).thenReturn(snapshot);
 
         List<ProductResponse> result = productService.getAllProducts();
 
         assertThat(result).isNotNull().hasSize(1);
-        verify(transactionalService).findAllProducts();
+        verifyNoInteractions(transactionalService, productMapper);
     }
 
     @Test
-    @DisplayName("getActiveProducts - Listar productos activos")
+    @DisplayName("getActiveProducts - Listar productos activos desde el snapshot")
     void testGetActiveProducts_Success() {
-        List<Product> products = Arrays.asList(mockProduct);
-        when(transactionalService.findProductsByStatus(1)).thenReturn(products);
-        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(1L, List.of(mockResponse), List.of(mockResponse));
+        when(catalogSnapshotService.getSnapshot()).thenReturn(snapshot);
 
         List<ProductResponse> result = productService.getActiveProducts();
 
         assertThat(result).isNotNull().hasSize(1);
-        verify(transactionalService).findProductsByStatus(1);
+        verifyNoInteractions(transactionalService, productMapper);
     }
 
     @Test
@@ -162,6 +184,76 @@ class ProductServiceImplTest {
         assertThat(result).isNotNull().hasSize(1);
     }
 
+    @Test
+    @DisplayName("searchProducts - Término resuelto por el motor de búsqueda conserva el ranking")
+    void testSearchProducts_RankedBySearchEngine() {
+        ProductFilterDto filter = ProductFilterDto.builder().searchTerm("laptop gamer").build();
+        Specification<Product> filters = mock(Specification.class);
+        Specification<Product> rankedSpec = mock(Specification.class);
+        ProductTextMatch match = ProductTextMatch.ranked(List.of(7, 1));
+        Product bestMatch = new Product();
+        bestMatch.setProductoId(7);
+        ProductResponse bestResponse = ProductResponse.builder().id(7).build();
+
+        when(searchEngine.match("laptop gamer")).thenReturn(match);
+        when(productMapper.buildSpecificationFromParams(null, null, null, null, null)).thenReturn(filters);
+        when(productMapper.buildSearchSpecification(filters, match.getSpecification())).thenReturn(rankedSpec);
+        when(transactionalService.findAllProducts(rankedSpec)).thenReturn(List.of(mockProduct, bestMatch));
+        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+        when(productMapper.toResponseDto(bestMatch)).thenReturn(bestResponse);
+
+        List<ProductResponse> result = productService.searchProducts(filter);
+
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(7, 1);
+        verify(productMapper, never()).buildSpecificationFromFilter(any());
+    }
+
+    @Test
+    @DisplayName("searchProducts - Motor sin ranking conserva el orden de la consulta")
+    void testSearchProducts_UnrankedMatch_KeepsQueryOrder() {
+        ProductFilterDto filter = ProductFilterDto.builder().searchTerm("laptop").build();
+        Specification<Product> filters = mock(Specification.class);
+        Specification<Product> textSpec = mock(Specification.class);
+        Specification<Product> searchSpec = mock(Specification.class);
+        Product other = new Product();
+        other.setProductoId(7);
+        ProductResponse otherResponse = ProductResponse.builder().id(7).build();
+
+        when(searchEngine.match("laptop")).thenReturn(ProductTextMatch.of(textSpec));
+        when(productMapper.buildSpecificationFromParams(null, null, null, null, null)).thenReturn(filters);
+        when(productMapper.buildSearchSpecification(filters, textSpec)).thenReturn(searchSpec);
+        when(transactionalService.findAllProducts(searchSpec)).thenReturn(List.of(mockProduct, other));
+        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+        when(productMapper.toResponseDto(other)).thenReturn(otherResponse);
+
+        List<ProductResponse> result = productService.searchProducts(filter);
+
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(1, 7);
+    }
+
+    @Test
+    @DisplayName("searchProductsPaginated - El término se aplica en la consulta y el total es real")
+    void testSearchProductsPaginated_WithSearchTerm_FiltersInQuery() {
+        Specification<Product> filters = mock(Specification.class);
+        Specification<Product> searchSpec = mock(Specification.class);
+        Pageable pageable = mock(Pageable.class);
+        ProductTextMatch match = ProductTextMatch.ranked(List.of(1));
+        Page<Product> productsPage = new PageImpl<>(List.of(mockProduct), PageRequest.of(0, 1), 2500);
+
+        when(searchEngine.match("laptop")).thenReturn(match);
+        when(productMapper.buildSpecificationFromParams(null, null, null, null, null)).thenReturn(filters);
+        when(productMapper.buildSearchSpecification(filters, match.getSpecification())).thenReturn(searchSpec);
+        when(productMapper.buildPageable(0, 1, "nombre", "asc")).thenReturn(pageable);
+        when(transactionalService.findAllProducts(searchSpec, pageable)).thenReturn(productsPage);
+        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+
+        Page<ProductResponse> result = productService.searchProductsPaginated(
+                null, null, null, null, "laptop", 0, 1, "nombre", "asc");
+
+        assertThat(result.getTotalElements()).isEqualTo(2500);
+        assertThat(result.getContent()).hasSize(1);
+    }
+
     @Test
     @DisplayName("searchProductsPaginated - Buscar productos paginados")
     void testSearchProductsPaginated_Success() {
@@ -179,6 +271,59 @@ class ProductServiceImplTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
+        verify(availabilityService, times(1)).enrich(result.getContent());
+        verify(stockService, never()).getCurrentStock(any());
+    }
+
+    @Test
+    @DisplayName("searchProductsByCursor - Primera página con siguiente cursor")
+    void testSearchProductsByCursor_FirstPage_HasNext() {
+        Specification<Product> spec = mock(Specification.class);
+        Sort sort = Sort.by("productoId");
+        Product secondProduct = new Product();
+        secondProduct.setProductoId(2);
+
+        when(productMapper.buildSpecificationFromParams(any(), any(), any(), any(), any())).thenReturn(spec);
+        when(productMapper.buildKeysetSpecification(spec, null)).thenReturn(spec);
+        when(productMapper.buildKeysetSort("productoId", "asc")).thenReturn(sort);
+        when(transactionalService.findProductsSlice(spec, sort, 2)).thenReturn(List.of(mockProduct, secondProduct));
+        when(cursorService.encode(mockProduct, "productoId", "asc")).thenReturn("next");
+        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+
+        PagedProductResponseDto result = productService.searchProductsByCursor(
+                null, null, null, null, null, 1, "productoId", "asc", null);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        assertThat(result.getTotalElements()).isNull();
+        verify(cursorService).validateSortField("productoId");
+        verify(transactionalService, never()).findAllProducts(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("searchProductsByCursor - Última página sin siguiente cursor")
+    void testSearchProductsByCursor_LastPage_NoNext() {
+        Specification<Product> spec = mock(Specification.class);
+        Specification<Product> keysetSpec = mock(Specification.class);
+        Sort sort = Sort.by("nombre");
+        ProductCursorDto cursor = ProductCursorDto.builder().sortBy("nombre").lastValue("A").lastId(1).build();
+
+        when(cursorService.decode("token", "nombre", "asc")).thenReturn(cursor);
+        when(productMapper.buildSpecificationFromParams(any(), any(), any(), any(), any())).thenReturn(spec);
+        when(productMapper.buildKeysetSpecification(spec, cursor)).thenReturn(keysetSpec);
+        when(productMapper.buildKeysetSort("nombre", "asc")).thenReturn(sort);
+        when(transactionalService.findProductsSlice(keysetSpec, sort, 11)).thenReturn(List.of(mockProduct));
+        when(productMapper.toResponseDto(mockProduct)).thenReturn(mockResponse);
+
+        PagedProductResponseDto result = productService.searchProductsByCursor(
+                null, null, null, null, null, 10, "nombre", "asc", "token");
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getFirst()).isFalse();
+        verify(cursorService, never()).encode(any(), any(), any());
     }
 
     @Test
@@ -196,6 +341,7 @@ class ProductServiceImplTest {
         productService.updateProduct(1, updateRequest);
 
         verify(transactionalService).saveProduct(mockProduct);
+        verify(catalogSnapshotService).requestRefresh(1);
     }
 }
 
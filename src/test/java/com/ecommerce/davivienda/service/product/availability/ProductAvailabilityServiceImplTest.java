@@ -0,0 +1,83 @@
+package com.ecommerce.davivienda.service.product.availability;
+
+import com.ecommerce.davivienda.entity.product.ProductStatus;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
+import com.ecommerce.davivienda.service.stock.StockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductAvailabilityServiceImpl - Tests Unitarios")
+class ProductAvailabilityServiceImplTest {
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @InjectMocks
+    private ProductAvailabilityServiceImpl availabilityService;
+
+    @Test
+    @DisplayName("enrich - Una sola consulta de stock por página sin importar su tamaño")
+    void testEnrich_LargePage_SingleStockLookup() {
+        List<ProductResponse> page = new ArrayList<>();
+        for (int id = 1; id <= 50; id++) {
+            page.add(ProductResponse.builder().id(id).estadoProductoId(1).build());
+        }
+        when(stockService.getCurrentStockByProductIds(anyCollection())).thenReturn(Map.of(1, 5));
+        when(referenceDataRegistry.findProductStatusById(1))
+                .thenReturn(Optional.of(ProductStatus.builder().estadoProductoId(1).nombre("Activo").build()));
+
+        availabilityService.enrich(page);
+
+        verify(stockService, times(1)).getCurrentStockByProductIds(anyCollection());
+        verify(stockService, never()).getCurrentStock(any());
+        assertThat(page.get(0).getInventory()).isEqualTo(5);
+        assertThat(page.get(49).getInventory()).isZero();
+        assertThat(page).allSatisfy(product -> assertThat(product.getEstadoProducto()).isEqualTo("Activo"));
+    }
+
+    @Test
+    @DisplayName("enrich - Los nombres de estado se resuelven desde el registro de referencia")
+    void testEnrich_StatusNames_FromReferenceRegistry() {
+        when(stockService.getCurrentStockByProductIds(Set.of(1))).thenReturn(Map.of(1, 3));
+        when(referenceDataRegistry.findProductStatusById(4))
+                .thenReturn(Optional.of(ProductStatus.builder().estadoProductoId(4).nombre("Agotado").build()));
+
+        ProductResponse first = ProductResponse.builder().id(1).estadoProductoId(4).build();
+        ProductResponse second = ProductResponse.builder().id(1).estadoProductoId(4).build();
+        availabilityService.enrich(List.of(first));
+        availabilityService.enrich(List.of(second));
+
+        assertThat(second.getEstadoProducto()).isEqualTo("Agotado");
+        assertThat(second.getInventory()).isEqualTo(3);
+        verify(referenceDataRegistry, times(2)).findProductStatusById(4);
+        verify(stockService, times(2)).getCurrentStockByProductIds(Set.of(1));
+    }
+
+    @Test
+    @DisplayName("enrich - Lista vacía no consulta la base de datos")
+    void testEnrich_EmptyList_NoQueries() {
+        availabilityService.enrich(List.of());
+
+        verifyNoInteractions(stockService, referenceDataRegistry);
+    }
+}
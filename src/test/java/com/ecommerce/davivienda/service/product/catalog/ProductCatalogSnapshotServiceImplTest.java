@@ -0,0 +1,247 @@
+package com.ecommerce.davivienda.service.product.catalog;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.product.ProductMapper;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.service.product.availability.ProductAvailabilityService;
+import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
+import com.ecommerce.davivienda.service.stock.StockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalogSnapshotServiceImpl - Tests Unitarios")
+class ProductCatalogSnapshotServiceImplTest {
+
+    @Mock
+    private ProductProductTransactionalService transactionalService;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductAvailabilityService availabilityService;
+
+    @Mock
+    private StockService stockService;
+
+    @InjectMocks
+    private ProductCatalogSnapshotServiceImpl snapshotService;
+
+    private Product activeProduct;
+    private Product inactiveProduct;
+
+    @BeforeEach
+    void setUp() {
+        activeProduct = new Product();
+        activeProduct.setProductoId(1);
+        activeProduct.setEstadoProductoId(1);
+
+        inactiveProduct = new Product();
+        inactiveProduct.setProductoId(2);
+        inactiveProduct.setEstadoProductoId(2);
+    }
+
+    @Test
+    @DisplayName("getSnapshot - Construye el snapshot una sola vez")
+    void testGetSnapshot_BuildsOnce_Success() {
+        when(transactionalService.findCatalogVersion()).thenReturn(7L);
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct, inactiveProduct));
+        when(productMapper.toResponseDto(any(Product.class))).thenReturn(ProductResponse.builder().build());
+
+        ProductCatalogSnapshot first = snapshotService.getSnapshot();
+        ProductCatalogSnapshot second = snapshotService.getSnapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getVersion()).isEqualTo(7L);
+        assertThat(first.getAllProducts()).hasSize(2);
+        assertThat(first.getActiveProducts()).hasSize(1);
+        verify(transactionalService, times(1)).findAllProducts();
+        verify(productMapper, times(2)).toResponseDto(any(Product.class));
+        verify(availabilityService, times(1)).enrich(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(ProductCatalogSnapshotPublishedEvent.class));
+    }
+
+    @Test
+    @DisplayName("getSnapshot - Las listas del snapshot son inmutables")
+    void testGetSnapshot_ImmutableLists_Success() {
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        ProductCatalogSnapshot snapshot = snapshotService.getSnapshot();
+
+        assertThatThrownBy(() -> snapshot.getAllProducts().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("requestRefresh - Incrementa la versión del catálogo y publica evento de cambio")
+    void testRequestRefresh_PublishesEvent_Success() {
+        when(transactionalService.incrementCatalogVersion()).thenReturn(3L);
+
+        snapshotService.requestRefresh(5);
+
+        verify(transactionalService).incrementCatalogVersion();
+        verify(eventPublisher).publishEvent(any(ProductCatalogChangedEvent.class));
+        verifyNoMoreInteractions(transactionalService);
+    }
+
+    @Test
+    @DisplayName("refreshSnapshot - Publica el snapshot con la versión del catálogo en BD")
+    void testRefreshSnapshot_IncrementsVersion_Success() {
+        when(transactionalService.findCatalogVersion()).thenReturn(1L, 2L);
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        ProductCatalogSnapshot initial = snapshotService.getSnapshot();
+        snapshotService.refreshSnapshot(1);
+        ProductCatalogSnapshot refreshed = snapshotService.getSnapshot();
+
+        assertThat(refreshed).isNotSameAs(initial);
+        assertThat(initial.getVersion()).isEqualTo(1L);
+        assertThat(refreshed.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("refreshSnapshot - Error en reconstrucción conserva el último snapshot válido")
+    void testRefreshSnapshot_RebuildFails_KeepsLastSnapshot() {
+        when(transactionalService.findCatalogVersion()).thenReturn(1L, 2L);
+        when(transactionalService.findAllProducts())
+                .thenReturn(List.of(activeProduct))
+                .thenThrow(new RuntimeException("DB down"));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        ProductCatalogSnapshot initial = snapshotService.getSnapshot();
+        snapshotService.refreshSnapshot(1);
+        ProductCatalogSnapshot current = snapshotService.getSnapshot();
+
+        assertThat(current).isSameAs(initial);
+        assertThat(current.getVersion()).isEqualTo(1L);
+        verify(transactionalService, times(2)).findAllProducts();
+    }
+
+    @Test
+    @DisplayName("onCatalogChanged - Reconstruye el snapshot en segundo plano")
+    void testOnCatalogChanged_RebuildsAsync_Success() {
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        snapshotService.onCatalogChanged(new ProductCatalogChangedEvent(1));
+
+        verify(availabilityService, timeout(2000)).enrich(anyList());
+        verify(transactionalService, atMost(1)).findAllProducts();
+        snapshotService.shutdown();
+    }
+
+    @Test
+    @DisplayName("refreshInventory - Reemplaza solo los productos cuyo stock cambió, sin cambiar la versión")
+    void testRefreshInventory_StockChanged_ReplacesProductKeepingVersion() {
+        ProductResponse activeResponse = ProductResponse.builder().id(1).inventory(5).build();
+        ProductResponse inactiveResponse = ProductResponse.builder().id(2).inventory(3).build();
+        when(transactionalService.findCatalogVersion()).thenReturn(4L);
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct, inactiveProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(activeResponse);
+        when(productMapper.toResponseDto(inactiveProduct)).thenReturn(inactiveResponse);
+        when(stockService.getCurrentStockByProductIds(List.of(1, 2))).thenReturn(Map.of(1, 9, 2, 3));
+
+        ProductCatalogSnapshot initial = snapshotService.getSnapshot();
+        snapshotService.refreshInventory();
+        ProductCatalogSnapshot updated = snapshotService.getSnapshot();
+
+        assertThat(updated).isNotSameAs(initial);
+        assertThat(updated.getVersion()).isEqualTo(4L);
+        assertThat(updated.getAllProducts().get(0).getInventory()).isEqualTo(9);
+        assertThat(updated.getActiveProducts().get(0).getInventory()).isEqualTo(9);
+        assertThat(updated.getAllProducts().get(1)).isSameAs(inactiveResponse);
+        assertThat(activeResponse.getInventory()).isEqualTo(5);
+        verify(transactionalService, times(1)).findAllProducts();
+        verify(eventPublisher, times(1)).publishEvent(any(ProductCatalogSnapshotPublishedEvent.class));
+    }
+
+    @Test
+    @DisplayName("refreshInventory - Sin cambios de stock conserva el mismo snapshot")
+    void testRefreshInventory_NoChanges_KeepsSnapshot() {
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct))
+                .thenReturn(ProductResponse.builder().id(1).inventory(5).build());
+        when(stockService.getCurrentStockByProductIds(List.of(1))).thenReturn(Map.of(1, 5));
+
+        ProductCatalogSnapshot initial = snapshotService.getSnapshot();
+        snapshotService.refreshInventory();
+
+        assertThat(snapshotService.getSnapshot()).isSameAs(initial);
+    }
+
+    @Test
+    @DisplayName("onStockChanged - Actualiza el inventario en segundo plano sin reconstruir el catálogo")
+    void testOnStockChanged_UpdatesInventoryWithoutRebuild() {
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct))
+                .thenReturn(ProductResponse.builder().id(1).inventory(5).build());
+        when(stockService.getCurrentStockByProductIds(List.of(1))).thenReturn(Map.of(1, 4));
+
+        snapshotService.getSnapshot();
+        snapshotService.onStockChanged(new ProductStockChangedEvent(1));
+
+        verify(stockService, timeout(2000)).getCurrentStockByProductIds(List.of(1));
+        verify(transactionalService, times(1)).findAllProducts();
+        snapshotService.shutdown();
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Misma versión en BD no reconstruye")
+    void testRefreshIfStale_SameVersion_DoesNotRebuild() {
+        when(transactionalService.findCatalogVersion()).thenReturn(4L);
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        ProductCatalogSnapshot initial = snapshotService.getSnapshot();
+        snapshotService.refreshIfStale();
+
+        assertThat(snapshotService.getSnapshot()).isSameAs(initial);
+        verify(transactionalService, times(1)).findAllProducts();
+        snapshotService.shutdown();
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Versión distinta en BD reconstruye en segundo plano")
+    void testRefreshIfStale_VersionChangedOnAnotherNode_Rebuilds() {
+        when(transactionalService.findCatalogVersion()).thenReturn(4L, 5L);
+        when(transactionalService.findAllProducts()).thenReturn(List.of(activeProduct));
+        when(productMapper.toResponseDto(activeProduct)).thenReturn(ProductResponse.builder().id(1).build());
+
+        snapshotService.getSnapshot();
+        snapshotService.refreshIfStale();
+
+        verify(transactionalService, timeout(2000).times(2)).findAllProducts();
+        snapshotService.shutdown();
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Sin snapshot construido no consulta la BD")
+    void testRefreshIfStale_NoSnapshot_DoesNothing() {
+        snapshotService.refreshIfStale();
+
+        verifyNoInteractions(transactionalService);
+        snapshotService.shutdown();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.davivienda.service.product.pagination;
+
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.dto.product.ProductCursorDto;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.exception.product.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductCursorServiceImpl - Tests Unitarios")
+class ProductCursorServiceImplTest {
+
+    private ProductCursorServiceImpl cursorService;
+    private Product mockProduct;
+
+    @BeforeEach
+    void setUp() {
+        cursorService = new ProductCursorServiceImpl();
+
+        mockProduct = new Product();
+        mockProduct.setProductoId(42);
+        mockProduct.setNombre("Cámara: 4K");
+        mockProduct.setValorUnitario(new BigDecimal("1299.90"));
+        mockProduct.setCreationDate(LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+    }
+
+    @Test
+    @DisplayName("encode/decode - Ida y vuelta por nombre conserva separadores en el valor")
+    void testEncodeDecode_ByName_RoundTrip() {
+        String token = cursorService.encode(mockProduct, "nombre", "asc");
+
+        ProductCursorDto result = cursorService.decode(token, "nombre", "asc");
+
+        assertThat(result.getLastId()).isEqualTo(42);
+        assertThat(result.getLastValue()).isEqualTo("Cámara: 4K");
+        assertThat(result.isDescending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("encode/decode - Ida y vuelta por precio descendente")
+    void testEncodeDecode_ByPriceDesc_RoundTrip() {
+        String token = cursorService.encode(mockProduct, "valorUnitario", "DESC");
+
+        ProductCursorDto result = cursorService.decode(token, "valorUnitario", "desc");
+
+        assertThat(result.getLastValue()).isEqualTo(new BigDecimal("1299.90"));
+        assertThat(result.isDescending()).isTrue();
+    }
+
+    @Test
+    @DisplayName("encode/decode - Ida y vuelta por fecha de creación")
+    void testEncodeDecode_ByCreationDate_RoundTrip() {
+        String token = cursorService.encode(mockProduct, "creationDate", "asc");
+
+        ProductCursorDto result = cursorService.decode(token, "creationDate", "asc");
+
+        assertThat(result.getLastValue()).isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+    }
+
+    @Test
+    @DisplayName("decode - Cursor generado con otro ordenamiento es rechazado")
+    void testDecode_SortMismatch_ThrowsException() {
+        String token = cursorService.encode(mockProduct, "nombre", "asc");
+
+        assertThatThrownBy(() -> cursorService.decode(token, "valorUnitario", "asc"))
+                .isInstanceOf(ProductException.class)
+                .extracting("errorCode")
+                .isEqualTo(Constants.CODE_INVALID_PAGINATION_CURSOR);
+    }
+
+    @Test
+    @DisplayName("decode - Cursor manipulado es rechazado")
+    void testDecode_TamperedToken_ThrowsException() {
+        String tampered = Base64.getUrlEncoder()
+                .encodeToString("productoId:asc:abc:1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> cursorService.decode(tampered, "productoId", "asc"))
+                .isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> cursorService.decode("%%%", "productoId", "asc"))
+                .isInstanceOf(ProductException.class);
+    }
+
+    @Test
+    @DisplayName("validateSortField - Campos con valores nulos no admiten cursor")
+    void testValidateSortField() {
+        assertThatCode(() -> cursorService.validateSortField("productoId")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> cursorService.validateSortField("descripcion"))
+                .isInstanceOf(ProductException.class)
+                .extracting("errorCode")
+                .isEqualTo(Constants.CODE_INVALID_CURSOR_SORT_FIELD);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.dto.product.ProductCatalogSnapshot;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotPublishedEvent;
+import com.ecommerce.davivienda.service.product.catalog.ProductCatalogSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryProductSearchEngine - Tests Unitarios")
+class InMemoryProductSearchEngineTest {
+
+    @Mock
+    private ProductCatalogSnapshotService catalogSnapshotService;
+
+    @InjectMocks
+    private InMemoryProductSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("match - El índice sigue la versión de los snapshots publicados")
+    void testMatch_SnapshotPublished_SwapsIndex() {
+        ProductResponse laptop = ProductResponse.builder().id(1).name("Laptop").build();
+        ProductResponse tablet = ProductResponse.builder().id(2).name("Tablet").build();
+
+        searchEngine.onSnapshotPublished(new ProductCatalogSnapshotPublishedEvent(
+                ProductCatalogSnapshot.of(1L, List.of(laptop), List.of(laptop))));
+        assertThat(searchEngine.match("tablet").getRanking()).contains(List.of());
+
+        searchEngine.onSnapshotPublished(new ProductCatalogSnapshotPublishedEvent(
+                ProductCatalogSnapshot.of(2L, List.of(laptop, tablet), List.of(laptop, tablet))));
+        assertThat(searchEngine.match("tablet").getRanking()).contains(List.of(2));
+        verifyNoInteractions(catalogSnapshotService);
+    }
+
+    @Test
+    @DisplayName("match - Sin índice publicado lo construye una vez desde el snapshot")
+    void testMatch_ColdStart_BuildsIndexOnce() {
+        ProductResponse laptop = ProductResponse.builder().id(1).name("Laptop").build();
+        when(catalogSnapshotService.getSnapshot())
+                .thenReturn(ProductCatalogSnapshot.of(1L, List.of(laptop), List.of(laptop)));
+
+        assertThat(searchEngine.match("laptop").getRanking()).contains(List.of(1));
+        assertThat(searchEngine.match("lap").getRanking()).contains(List.of(1));
+        verify(catalogSnapshotService, times(1)).getSnapshot();
+    }
+
+    @Test
+    @DisplayName("match - Término solo con palabras vacías no restringe la búsqueda")
+    void testMatch_StopwordsOnly_MatchesAll() {
+        ProductTextMatch match = searchEngine.match("de la");
+
+        assertThat(match).isSameAs(ProductTextMatch.all());
+        assertThat(match.getRanking()).isEmpty();
+        verifyNoInteractions(catalogSnapshotService);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.service.product.transactional.product.ProductProductTransactionalService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresFullTextSearchEngine - Tests Unitarios")
+class PostgresFullTextSearchEngineTest {
+
+    @Mock
+    private ProductProductTransactionalService transactionalService;
+
+    @InjectMocks
+    private PostgresFullTextSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("match - Devuelve todos los IDs rankeados por la base de datos")
+    void testMatch_ReturnsRankedIds() {
+        when(transactionalService.findRankedIdsByFullText("laptop gamer")).thenReturn(List.of(7, 1));
+
+        ProductTextMatch match = searchEngine.match(" laptop gamer ");
+
+        assertThat(match.getRanking()).contains(List.of(7, 1));
+        assertThat(match.getSpecification()).isNotNull();
+        verify(transactionalService, never()).isEmptyFullTextQuery("laptop gamer");
+    }
+
+    @Test
+    @DisplayName("match - Término vacío para PostgreSQL (no para el analizador Java) no restringe")
+    void testMatch_PostgresOnlyStopword_MatchesAll() {
+        // "como" es palabra vacía del diccionario español de PostgreSQL pero no de SpanishTextAnalyzer
+        assertThat(SpanishTextAnalyzer.analyze("como")).isNotEmpty();
+        when(transactionalService.findRankedIdsByFullText("como")).thenReturn(List.of());
+        when(transactionalService.isEmptyFullTextQuery("como")).thenReturn(true);
+
+        ProductTextMatch match = searchEngine.match("como");
+
+        assertThat(match).isSameAs(ProductTextMatch.all());
+    }
+
+    @Test
+    @DisplayName("match - Término vacío solo para el analizador Java se busca en PostgreSQL")
+    void testMatch_JavaOnlyStopword_QueriesPostgres() {
+        // "sus" es palabra vacía de SpanishTextAnalyzer; PostgreSQL decide si genera lexemas
+        assertThat(SpanishTextAnalyzer.analyze("sus")).isEmpty();
+        when(transactionalService.findRankedIdsByFullText("sus")).thenReturn(List.of(4));
+
+        ProductTextMatch match = searchEngine.match("sus");
+
+        assertThat(match.getRanking()).contains(List.of(4));
+    }
+
+    @Test
+    @DisplayName("match - Sin coincidencias para un término con lexemas no devuelve resultados")
+    void testMatch_NoMatches_ReturnsEmptyRanking() {
+        when(transactionalService.findRankedIdsByFullText("zzz")).thenReturn(List.of());
+        when(transactionalService.isEmptyFullTextQuery("zzz")).thenReturn(false);
+
+        ProductTextMatch match = searchEngine.match("zzz");
+
+        assertThat(match.getRanking()).contains(List.of());
+    }
+}
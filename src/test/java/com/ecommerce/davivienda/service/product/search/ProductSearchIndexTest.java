@@ -0,0 +1,84 @@
+package com.ecommerce.davivienda.service.product.search;
+
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex - Tests Unitarios")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = ProductSearchIndex.build(1L, List.of(
+                product(1, "Portátil Lenovo", "Equipo para oficina con cámara HD"),
+                product(2, "Cámara Canon", "Cámara réflex profesional"),
+                product(3, "Cable HDMI", "Cables de alta velocidad para portátiles"),
+                product(4, "Mouse inalámbrico", null)));
+    }
+
+    @Test
+    @DisplayName("search - Ignora tildes y mayúsculas")
+    void testSearch_AccentInsensitive() {
+        assertThat(index.search("CAMARA")).containsExactly(2, 1);
+        assertThat(index.search("inalambrico")).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("search - Singular y plural coinciden")
+    void testSearch_PluralFolding() {
+        assertThat(index.search("cables")).containsExactly(3);
+        assertThat(index.search("portatiles")).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("search - Coincidencia en nombre pesa más que en descripción")
+    void testSearch_NameRanksHigher() {
+        List<Integer> result = index.search("portátil");
+
+        assertThat(result).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("search - Todos los términos deben coincidir y el último admite prefijo")
+    void testSearch_AndSemanticsWithPrefix() {
+        assertThat(index.search("camara prof")).containsExactly(2);
+        assertThat(index.search("lenovo canon")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - Palabras vacías y término en blanco no devuelven resultados")
+    void testSearch_StopwordsOnly() {
+        assertThat(index.search("de la")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - Devuelve todas las coincidencias sin tope")
+    void testSearch_ReturnsAllMatches() {
+        List<ProductResponse> products = new ArrayList<>();
+        for (int id = 1; id <= 2500; id++) {
+            products.add(product(id, "Teclado " + id, null));
+        }
+        ProductSearchIndex largeIndex = ProductSearchIndex.build(1L, products);
+
+        assertThat(largeIndex.search("teclado")).hasSize(2500).startsWith(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("analyze - Conserva la ñ y elimina diacríticos")
+    void testAnalyze_KeepsEnie() {
+        assertThat(SpanishTextAnalyzer.analyze("Diseño ÚNICO")).containsExactly("diseño", "unico");
+    }
+
+    private ProductResponse product(Integer id, String name, String description) {
+        return ProductResponse.builder().id(id).name(name).description(description).build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.ecommerce.davivienda.service.product.transactional.category;
 
 import com.ecommerce.davivienda.entity.product.Category;
-import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +21,7 @@ import static org.mockito.Mockito.when;
 class ProductCategoryTransactionalServiceImplTest {
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @InjectMocks
     private ProductCategoryTransactionalServiceImpl transactionalService;
@@ -38,35 +38,35 @@ class ProductCategoryTransactionalServiceImplTest {
     @Test
     @DisplayName("findCategoryByName - Categoría existe")
     void testFindCategoryByName_Exists() {
-        when(categoryRepository.findByNombreIgnoreCase("Electrónicos")).thenReturn(Optional.of(mockCategory));
+        when(referenceDataRegistry.findCategoryByNameIgnoreCase("Electrónicos")).thenReturn(Optional.of(mockCategory));
 
         Optional<Category> result = transactionalService.findCategoryByName("Electrónicos");
 
         assertThat(result).isPresent();
         assertThat(result.get().getNombre()).isEqualTo("Electrónicos");
-        verify(categoryRepository).findByNombreIgnoreCase("Electrónicos");
+        verify(referenceDataRegistry).findCategoryByNameIgnoreCase("Electrónicos");
     }
 
     @Test
     @DisplayName("findCategoryByName - Categoría no existe")
     void testFindCategoryByName_NotExists() {
-        when(categoryRepository.findByNombreIgnoreCase("NoExiste")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCategoryByNameIgnoreCase("NoExiste")).thenReturn(Optional.empty());
 
         Optional<Category> result = transactionalService.findCategoryByName("NoExiste");
 
         assertThat(result).isEmpty();
-        verify(categoryRepository).findByNombreIgnoreCase("NoExiste");
+        verify(referenceDataRegistry).findCategoryByNameIgnoreCase("NoExiste");
     }
 
     @Test
     @DisplayName("findCategoryByName - Búsqueda case insensitive")
     void testFindCategoryByName_CaseInsensitive() {
-        when(categoryRepository.findByNombreIgnoreCase("electrónicos")).thenReturn(Optional.of(mockCategory));
+        when(referenceDataRegistry.findCategoryByNameIgnoreCase("electrónicos")).thenReturn(Optional.of(mockCategory));
 
         Optional<Category> result = transactionalService.findCategoryByName("electrónicos");
 
         assertThat(result).isPresent();
-        verify(categoryRepository).findByNombreIgnoreCase("electrónicos");
+        verify(referenceDataRegistry).findCategoryByNameIgnoreCase("electrónicos");
     }
 }
 
@@ -13,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -21,6 +22,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +33,9 @@ class ProductProductTransactionalServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private ProductProductTransactionalServiceImpl transactionalService;
 
@@ -46,7 +52,7 @@ class ProductProductTransactionalServiceImplTest {
     @Test
     @DisplayName("findProductById - Producto existe")
     void testFindProductById_Exists() {
-        when(productRepository.findById(1)).thenReturn(Optional.of(mockProduct));
+        when(productRepository.findWithCategoriaByProductoId(1)).thenReturn(Optional.of(mockProduct));
 
         Optional<Product> result = transactionalService.findProductById(1);
 
@@ -57,7 +63,7 @@ class ProductProductTransactionalServiceImplTest {
     @Test
     @DisplayName("findProductById - Producto no existe")
     void testFindProductById_NotExists() {
-        when(productRepository.findById(999)).thenReturn(Optional.empty());
+        when(productRepository.findWithCategoriaByProductoId(999)).thenReturn(Optional.empty());
 
         Optional<Product> result = transactionalService.findProductById(999);
 
@@ -160,5 +166,14 @@ class ProductProductTransactionalServiceImplTest {
         assertThat(result.getProductoId()).isEqualTo(1);
         verify(productRepository).save(mockProduct);
     }
-}
 
+    @Test
+    @DisplayName("incrementCatalogVersion - Retorna la nueva versión del catálogo")
+    void testIncrementCatalogVersion_ReturnsNewVersion() {
+        when(jdbcTemplate.queryForObject(contains("version = version + 1"), eq(Long.class))).thenReturn(8L);
+
+        long result = transactionalService.incrementCatalogVersion();
+
+        assertThat(result).isEqualTo(8L);
+    }
+}
@@ -0,0 +1,212 @@
+package com.ecommerce.davivienda.service.reference;
+
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.repository.payment.PaymentStatusRepository;
+import com.ecommerce.davivienda.repository.payment.PaymentTypeRepository;
+import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.repository.product.ProductStatusRepository;
+import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.repository.user.RoleRepository;
+import com.ecommerce.davivienda.repository.user.UserStatusRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataRegistryImpl - Tests Unitarios")
+class ReferenceDataRegistryImplTest {
+
+    private static final Duration MISS_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private DocumentTypeRepository documentTypeRepository;
+
+    @Mock
+    private UserStatusRepository userStatusRepository;
+
+    @Mock
+    private PaymentTypeRepository paymentTypeRepository;
+
+    @Mock
+    private PaymentStatusRepository paymentStatusRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductStatusRepository productStatusRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataRegistryImpl registry;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final Role clientRole = Role.builder().rolId(1).nombreRol("Cliente").build();
+    private final Category electronics = Category.builder().categoriaId(3).nombre("Electrónicos").build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ReferenceDataRegistryImpl(roleRepository, documentTypeRepository, userStatusRepository,
+                paymentTypeRepository, paymentStatusRepository, categoryRepository, productStatusRepository,
+                meterRegistry, MISS_REFRESH_INTERVAL, now::get);
+    }
+
+    @Test
+    @DisplayName("findRoleById - Las consultas se sirven desde memoria tras una sola carga")
+    void testFindRoleById_RepeatedLookups_SingleLoad() {
+        stubTables();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.findRoleById(1)).contains(clientRole);
+        }
+        assertThat(registry.findRoleByName("Cliente")).contains(clientRole);
+        assertThat(registry.findAllRoles()).containsExactly(clientRole);
+
+        verify(roleRepository, times(1)).findAll();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("lookup - Registra aciertos y fallos en la métrica de búsquedas")
+    void testLookup_HitAndMiss_RecordsMetrics() {
+        stubTables();
+
+        registry.findRoleById(1);
+        registry.findRoleById(99);
+        registry.findRoleById(null);
+
+        assertThat(lookupCount("role", ReferenceDataRegistryImpl.RESULT_HIT)).isEqualTo(1.0);
+        assertThat(lookupCount("role", ReferenceDataRegistryImpl.RESULT_MISS)).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("findCategoryByNameIgnoreCase - Encuentra la categoría sin importar mayúsculas")
+    void testFindCategoryByNameIgnoreCase_MixedCase_Found() {
+        stubTables();
+
+        assertThat(registry.findCategoryByNameIgnoreCase("ELECTRÓNICOS")).contains(electronics);
+        assertThat(registry.findCategoryByName("electrónicos")).isEmpty();
+        assertThat(registry.findCategoryById(3)).contains(electronics);
+    }
+
+    @Test
+    @DisplayName("findPaymentType - Resuelve tipo y estado de pago desde memoria")
+    void testFindPaymentType_Success() {
+        stubTables();
+
+        assertThat(registry.findPaymentType("debito")).map(PaymentType::getName).contains("Débito");
+        assertThat(registry.findPaymentStatusByName("Pendiente")).map(PaymentStatus::getPaymentStatusId).contains(1);
+        assertThat(registry.findPaymentType("efectivo")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refresh - Recarga todas las tablas")
+    void testRefresh_ReloadsTables() {
+        stubTables();
+        registry.findRoleById(1);
+
+        Role adminRole = Role.builder().rolId(2).nombreRol("Administrador").build();
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole, adminRole));
+        registry.refresh();
+
+        assertThat(registry.findRoleById(2)).contains(adminRole);
+        verify(roleRepository, times(2)).findAll();
+        assertThat(meterRegistry.counter(ReferenceDataRegistryImpl.METRIC_REFRESHES).count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("findCategoryByNameIgnoreCase - Categoría insertada en BD se encuentra tras el intervalo de recarga")
+    void testFindCategoryByNameIgnoreCase_AddedInDatabase_ReloadsOnMiss() {
+        stubTables();
+        registry.findCategoryById(3);
+
+        Category books = Category.builder().categoriaId(4).nombre("Libros").build();
+        when(categoryRepository.findAll()).thenReturn(List.of(electronics, books));
+        now.addAndGet(MISS_REFRESH_INTERVAL.toMillis());
+
+        assertThat(registry.findCategoryByNameIgnoreCase("libros")).contains(books);
+        verify(categoryRepository, times(2)).findAll();
+        assertThat(lookupCount("category", ReferenceDataRegistryImpl.RESULT_HIT)).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("lookup - Fallos repetidos recargan como máximo una vez por intervalo")
+    void testLookup_RepeatedMisses_RateLimitsReload() {
+        stubTables();
+        registry.findRoleById(1);
+        now.addAndGet(MISS_REFRESH_INTERVAL.toMillis());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.findRoleByName("Inexistente")).isEmpty();
+        }
+
+        verify(roleRepository, times(2)).findAll();
+        assertThat(lookupCount("role", ReferenceDataRegistryImpl.RESULT_MISS)).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("lookup - Error al recargar tras un fallo conserva el registro vigente")
+    void testLookup_ReloadFails_KeepsCurrentRegistry() {
+        stubTables();
+        registry.findRoleById(1);
+        when(roleRepository.findAll()).thenThrow(new RuntimeException("DB down"));
+        now.addAndGet(MISS_REFRESH_INTERVAL.toMillis());
+
+        assertThat(registry.findRoleById(99)).isEmpty();
+        assertThat(registry.findRoleById(98)).isEmpty();
+        assertThat(registry.findRoleById(1)).contains(clientRole);
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("loadOnStartup - Un error no impide el arranque y se carga en la primera consulta")
+    void testLoadOnStartup_Failure_LoadsOnFirstLookup() {
+        stubTables();
+        when(roleRepository.findAll())
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(List.of(clientRole));
+
+        assertThatCode(() -> registry.loadOnStartup()).doesNotThrowAnyException();
+
+        assertThat(registry.findRoleById(1)).contains(clientRole);
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    private void stubTables() {
+        lenient().when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        lenient().when(documentTypeRepository.findAll()).thenReturn(List.of());
+        lenient().when(userStatusRepository.findAll()).thenReturn(List.of());
+        lenient().when(paymentTypeRepository.findAll())
+                .thenReturn(List.of(PaymentType.builder().paymentType("debito").name("Débito").build()));
+        lenient().when(paymentStatusRepository.findAll())
+                .thenReturn(List.of(PaymentStatus.builder().paymentStatusId(1).name("Pendiente").build()));
+        lenient().when(categoryRepository.findAll()).thenReturn(List.of(electronics));
+        lenient().when(productStatusRepository.findAll()).thenReturn(List.of());
+    }
+
+    private double lookupCount(String type, String result) {
+        return meterRegistry.get(ReferenceDataRegistryImpl.METRIC_LOOKUPS)
+                .tag("type", type)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.dto.role.RoleResponseDto;
 import com.ecommerce.davivienda.entity.user.Role;
 import com.ecommerce.davivienda.exception.role.RoleException;
 import com.ecommerce.davivienda.mapper.role.RoleMapper;
-import com.ecommerce.davivienda.repository.user.RoleRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ import static org.mockito.Mockito.*;
 class RoleServiceImplTest {
 
     @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     private RoleMapper roleMapper;
@@ -57,7 +57,7 @@ class RoleServiceImplTest {
         List<Role> roles = Arrays.asList(mockRole);
         List<RoleResponseDto> responseDtos = Arrays.asList(mockResponseDto);
 
-        when(roleRepository.findAll()).thenReturn(roles);
+        when(referenceDataRegistry.findAllRoles()).thenReturn(roles);
         when(roleMapper.toResponseDtoList(roles)).thenReturn(responseDtos);
 
         List<RoleResponseDto> result = roleService.findAll();
@@ -65,14 +65,14 @@ class RoleServiceImplTest {
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).getNombre()).isEqualTo("Cliente");
 
-        verify(roleRepository).findAll();
+        verify(referenceDataRegistry).findAllRoles();
         verify(roleMapper).toResponseDtoList(roles);
     }
 
     @Test
     @DisplayName("findByName - Encontrar rol por nombre")
     void testFindByName_Success() {
-        when(roleRepository.findByNombreRol("Cliente")).thenReturn(Optional.of(mockRole));
+        when(referenceDataRegistry.findRoleByName("Cliente")).thenReturn(Optional.of(mockRole));
         when(roleMapper.toResponseDto(mockRole)).thenReturn(mockResponseDto);
 
         RoleResponseDto result = roleService.findByName("Cliente");
@@ -80,19 +80,19 @@ class RoleServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getNombre()).isEqualTo("Cliente");
 
-        verify(roleRepository).findByNombreRol("Cliente");
+        verify(referenceDataRegistry).findRoleByName("Cliente");
         verify(roleMapper).toResponseDto(mockRole);
     }
 
     @Test
     @DisplayName("findByName - Rol no encontrado, lanza excepción")
     void testFindByName_NotFound_ThrowsException() {
-        when(roleRepository.findByNombreRol("NoExiste")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findRoleByName("NoExiste")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> roleService.findByName("NoExiste"))
                 .isInstanceOf(RoleException.class);
 
-        verify(roleRepository).findByNombreRol("NoExiste");
+        verify(referenceDataRegistry).findRoleByName("NoExiste");
         verify(roleMapper, never()).toResponseDto(any());
     }
 }
@@ -0,0 +1,235 @@
+package com.ecommerce.davivienda.service.stock;
+
+import com.ecommerce.davivienda.dto.stock.ProductStockDetailDto;
+import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.entity.product.Stock;
+import com.ecommerce.davivienda.exception.stock.InsufficientStockException;
+import com.ecommerce.davivienda.mapper.stock.StockMapper;
+import com.ecommerce.davivienda.service.auth.AuthUserService;
+import com.ecommerce.davivienda.service.stock.availability.StockAvailabilityChecker;
+import com.ecommerce.davivienda.service.stock.reservation.StockReservationService;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.cart.StockCartTransactionalService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.service.stock.validation.StockCartValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_INSUFFICIENT_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockServiceImpl - Tests Unitarios")
+class StockServiceImplTest {
+
+    @Mock
+    private StockStockTransactionalService stockTransactionalService;
+
+    @Mock
+    private StockCartTransactionalService cartTransactionalService;
+
+    @Mock
+    private StockCartValidationService cartValidationService;
+
+    @Mock
+    private StockMapper stockMapper;
+
+    @Mock
+    private AuthUserService authUserService;
+
+    @Mock
+    private StockAvailabilityChecker availabilityChecker;
+
+    @Mock
+    private StockReservationService reservationService;
+
+    @Mock
+    private StockShardService shardService;
+
+    @InjectMocks
+    private StockServiceImpl stockService;
+
+    private List<CartItem> cartItems;
+
+    @BeforeEach
+    void setUp() {
+        cartItems = List.of(buildItem(2, "Mouse", 3), buildItem(1, "Laptop", 1));
+    }
+
+    @Test
+    @DisplayName("getCurrentStockByProductIds - Una sola consulta y 0 para productos sin stock")
+    void testGetCurrentStockByProductIds_SingleQuery() {
+        when(stockTransactionalService.findAllByProductoIds(Set.of(1, 2)))
+                .thenReturn(List.of(Stock.builder().productoId(1).cantidad(7).build()));
+
+        Map<Integer, Integer> result = stockService.getCurrentStockByProductIds(Set.of(1, 2));
+
+        assertThat(result).containsEntry(1, 7).containsEntry(2, 0);
+        verify(stockTransactionalService, never()).getCurrentStock(any());
+    }
+
+    @Test
+    @DisplayName("getCurrentStockByProductIds - Divide las listas grandes en consultas por bloque")
+    void testGetCurrentStockByProductIds_LargeList_QueriesInChunks() {
+        List<Integer> productIds = IntStream.rangeClosed(1, StockServiceImpl.STOCK_LOOKUP_CHUNK_SIZE * 2 + 1)
+                .boxed()
+                .toList();
+        when(stockTransactionalService.findAllByProductoIds(anyCollection())).thenReturn(List.of());
+
+        Map<Integer, Integer> result = stockService.getCurrentStockByProductIds(productIds);
+
+        assertThat(result).hasSize(productIds.size());
+        verify(stockTransactionalService, times(3)).findAllByProductoIds(anyCollection());
+        verify(shardService, times(3)).sumShards(anyCollection());
+    }
+
+    @Test
+    @DisplayName("getCurrentStock - Suma los fragmentos de un producto de alta concurrencia")
+    void testGetCurrentStock_HighContentionProduct_AggregatesShards() {
+        when(stockTransactionalService.getCurrentStock(3)).thenReturn(0);
+        when(shardService.sumShards(List.of(3))).thenReturn(Map.of(3, 120));
+
+        assertThat(stockService.getCurrentStock(3)).isEqualTo(120);
+        assertThat(stockService.hasEnoughStock(3, 120)).isTrue();
+        assertThat(stockService.hasEnoughStock(3, 121)).isFalse();
+    }
+
+    @Test
+    @DisplayName("createOrUpdateStock - Producto de alta concurrencia reparte la cantidad entre fragmentos")
+    void testCreateOrUpdateStock_HighContentionProduct_SetsShardQuantity() {
+        when(shardService.findShardCounts(List.of(3))).thenReturn(Map.of(3, 8));
+
+        stockService.createOrUpdateStock(3, 500);
+
+        verify(shardService).setQuantity(3, 500);
+        verify(stockTransactionalService, never()).createOrUpdateStock(any(), any());
+    }
+
+    @Test
+    @DisplayName("validateCartStock - Stock suficiente, reserva las cantidades del carrito")
+    void testValidateCartStock_Available_ReservesCart() {
+        mockAuthenticatedCart();
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+        StockValidationResponseDto expected = StockValidationResponseDto.builder()
+                .available(true).totalProductsInCart(2).productsWithIssues(0).build();
+        when(availabilityChecker.check(5, cartItems, Set.of())).thenReturn(expected);
+        when(reservationService.reserve(5, Map.of(1, 1, 2, 3))).thenReturn(expiresAt);
+
+        StockValidationResponseDto result = stockService.validateCartStock();
+
+        assertThat(result).isSameAs(expected);
+        assertThat(result.getReservationExpiresAt()).isEqualTo(expiresAt);
+        verify(cartValidationService).validateCartHasItems(cartItems);
+        verify(reservationService, never()).release(any());
+        verifyNoInteractions(stockTransactionalService);
+    }
+
+    @Test
+    @DisplayName("validateCartStock - Stock insuficiente, libera las reservas del carrito")
+    void testValidateCartStock_Insufficient_ReleasesReservation() {
+        mockAuthenticatedCart();
+        StockValidationResponseDto expected = StockValidationResponseDto.builder()
+                .available(false).totalProductsInCart(2).productsWithIssues(1).build();
+        when(availabilityChecker.check(5, cartItems, Set.of())).thenReturn(expected);
+
+        StockValidationResponseDto result = stockService.validateCartStock();
+
+        assertThat(result.getReservationExpiresAt()).isNull();
+        verify(reservationService).release(5);
+        verify(reservationService, never()).reserve(any(), any());
+    }
+
+    @Test
+    @DisplayName("decreaseStockForCheckout - Todos los productos con stock, un solo batch y convierte la reserva")
+    void testDecreaseStockForCheckout_AllAvailable_Success() {
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(Map.of(1, 5, 2, 5));
+        when(reservationService.findReservedByOthers(eq(5), anyCollection())).thenReturn(Map.of(2, 1));
+        when(stockTransactionalService.decreaseStockBatch(Map.of(1, 1, 2, 3), Map.of(2, 1))).thenReturn(List.of());
+
+        stockService.decreaseStockForCheckout(5, cartItems);
+
+        verify(stockTransactionalService, times(1)).decreaseStockBatch(Map.of(1, 1, 2, 3), Map.of(2, 1));
+        verify(stockTransactionalService, never()).decreaseStock(any(), any());
+        verify(stockTransactionalService, never()).findAllByProductoIds(any());
+        verify(reservationService).convert(5);
+    }
+
+    @Test
+    @DisplayName("decreaseStockForCheckout - Producto de alta concurrencia se descuenta por fragmentos fuera del batch")
+    void testDecreaseStockForCheckout_HighContentionProduct_DecreasesShard() {
+        when(shardService.findShardCounts(Map.of(1, 1, 2, 3).keySet())).thenReturn(Map.of(2, 4));
+        when(stockTransactionalService.lockStock(Set.of(1))).thenReturn(Map.of(1, 5));
+        when(reservationService.findReservedByOthers(5, Set.of(1))).thenReturn(Map.of());
+        when(stockTransactionalService.decreaseStockBatch(Map.of(1, 1), Map.of())).thenReturn(List.of());
+        when(shardService.decrease(2, 4, 3)).thenReturn(true);
+
+        stockService.decreaseStockForCheckout(5, cartItems);
+
+        verify(stockTransactionalService).decreaseStockBatch(Map.of(1, 1), Map.of());
+        verify(shardService).decrease(2, 4, 3);
+        verify(reservationService).convert(5);
+    }
+
+    @Test
+    @DisplayName("decreaseStockForCheckout - Stock insuficiente, reporta el disponible descontando reservas ajenas")
+    void testDecreaseStockForCheckout_Insufficient_ThrowsWithDetails() {
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(Map.of(1, 5, 2, 3));
+        when(reservationService.findReservedByOthers(eq(5), anyCollection())).thenReturn(Map.of(2, 2));
+        when(stockTransactionalService.decreaseStockBatch(Map.of(1, 1, 2, 3), Map.of(2, 2))).thenReturn(List.of(2));
+        when(stockMapper.buildProductStockDetail(2, "Mouse", 3, 1))
+                .thenReturn(ProductStockDetailDto.builder()
+                        .productId(2).productName("Mouse").requestedQuantity(3)
+                        .availableQuantity(1).missingQuantity(2).build());
+
+        assertThatThrownBy(() -> stockService.decreaseStockForCheckout(5, cartItems))
+                .isInstanceOf(InsufficientStockException.class)
+                .satisfies(e -> {
+                    InsufficientStockException ex = (InsufficientStockException) e;
+                    assertThat(ex.getErrorCode()).isEqualTo(CODE_INSUFFICIENT_STOCK);
+                    assertThat(ex.getInsufficientStockProducts())
+                            .extracting(ProductStockDetailDto::getProductId, ProductStockDetailDto::getProductName,
+                                    ProductStockDetailDto::getAvailableQuantity, ProductStockDetailDto::getMissingQuantity)
+                            .containsExactly(tuple(2, "Mouse", 1, 2));
+                });
+        verify(reservationService, never()).convert(any());
+    }
+
+    private void mockAuthenticatedCart() {
+        Cart cart = new Cart();
+        cart.setCarritoId(5);
+        when(authUserService.getAuthenticatedUserRoleId()).thenReturn(9);
+        when(cartTransactionalService.getCartByUserRoleId(9)).thenReturn(cart);
+        when(cartTransactionalService.getCartItems(5)).thenReturn(cartItems);
+    }
+
+    private CartItem buildItem(Integer productId, String name, Integer quantity) {
+        Product product = new Product();
+        product.setProductoId(productId);
+        product.setNombre(name);
+
+        CartItem item = new CartItem();
+        item.setProduct(product);
+        item.setCantidad(quantity);
+        return item;
+    }
+}
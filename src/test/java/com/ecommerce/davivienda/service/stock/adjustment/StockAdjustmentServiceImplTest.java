@@ -0,0 +1,195 @@
+package com.ecommerce.davivienda.service.stock.adjustment;
+
+import com.ecommerce.davivienda.dto.product.InventoryAddRequestDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResponseDto;
+import com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto;
+import com.ecommerce.davivienda.exception.stock.StockException;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_INVALID_STOCK_ADJUSTMENT;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_ADJUSTMENT_FAILED;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_ADJUSTMENT_TOO_MANY_ROWS;
+import static com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto.STATUS_APPLIED;
+import static com.ecommerce.davivienda.dto.stock.InventoryAdjustmentResultDto.STATUS_REJECTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockAdjustmentServiceImpl - Tests Unitarios")
+class StockAdjustmentServiceImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_ROWS = 5;
+
+    @Mock
+    private StockStockTransactionalService stockTransactionalService;
+
+    @Mock
+    private StockShardService shardService;
+
+    private StockAdjustmentServiceImpl adjustmentService;
+
+    @BeforeEach
+    void setUp() {
+        adjustmentService = new StockAdjustmentServiceImpl(stockTransactionalService, shardService,
+                new JsonUtils(new ObjectMapper()), CHUNK_SIZE, MAX_ROWS);
+    }
+
+    @Test
+    @DisplayName("adjust - Filas válidas se aplican y las inválidas o de productos inexistentes se rechazan")
+    void testAdjust_MixedRows_ReportsEachRow() {
+        Map<Integer, Integer> stock = new HashMap<>();
+        stock.put(1, 10);
+        stock.put(2, null);
+        when(stockTransactionalService.findStockForAdjustment(anyCollection())).thenReturn(stock);
+        when(shardService.findShardCounts(anyCollection())).thenReturn(Map.of());
+        when(stockTransactionalService.adjustStockBatch(any())).thenAnswer(invocation -> {
+            List<InventoryAddRequestDto> batch = invocation.getArgument(0);
+            int[] counts = new int[batch.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        InventoryAdjustmentResponseDto response = adjustmentService.adjust(List.of(
+                adjustment(1, -3), adjustment(9, 5), adjustment(2, 4), adjustment(1, 0)));
+
+        assertThat(response.getTotalRows()).isEqualTo(4);
+        assertThat(response.getAppliedRows()).isEqualTo(2);
+        assertThat(response.getRejectedRows()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(InventoryAdjustmentResultDto::getLine, InventoryAdjustmentResultDto::getStatus,
+                        InventoryAdjustmentResultDto::getErrorCode)
+                .containsExactly(
+                        tuple(1, STATUS_APPLIED, null),
+                        tuple(2, STATUS_REJECTED, CODE_STOCK_ADJUSTMENT_PRODUCT_NOT_FOUND),
+                        tuple(3, STATUS_APPLIED, null),
+                        tuple(4, STATUS_REJECTED, CODE_INVALID_STOCK_ADJUSTMENT));
+    }
+
+    @Test
+    @DisplayName("adjust - Descuento sin registro de stock se rechaza sin enviarlo al batch")
+    void testAdjust_NegativeWithoutStock_RejectedBeforeBatch() {
+        Map<Integer, Integer> stock = new HashMap<>();
+        stock.put(2, null);
+        when(stockTransactionalService.findStockForAdjustment(Set.of(2))).thenReturn(stock);
+        when(shardService.findShardCounts(Set.of(2))).thenReturn(Map.of());
+
+        InventoryAdjustmentResponseDto response = adjustmentService.adjust(List.of(adjustment(2, -1)));
+
+        assertThat(response.getResults())
+                .extracting(InventoryAdjustmentResultDto::getErrorCode)
+                .containsExactly(CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT);
+        verify(stockTransactionalService, never()).adjustStockBatch(any());
+    }
+
+    @Test
+    @DisplayName("adjust - Fila que el upsert condicional no actualiza se reporta como stock negativo")
+    void testAdjust_ConditionalUpsertSkipsRow_RejectsRow() {
+        when(stockTransactionalService.findStockForAdjustment(Set.of(1))).thenReturn(Map.of(1, 2));
+        when(shardService.findShardCounts(Set.of(1))).thenReturn(Map.of());
+        when(stockTransactionalService.adjustStockBatch(List.of(adjustment(1, 2), adjustment(1, -5))))
+                .thenReturn(new int[]{1, 0});
+
+        InventoryAdjustmentResponseDto response = adjustmentService.adjust(List.of(adjustment(1, 2), adjustment(1, -5)));
+
+        assertThat(response.getResults())
+                .extracting(InventoryAdjustmentResultDto::getStatus, InventoryAdjustmentResultDto::getErrorCode)
+                .containsExactly(tuple(STATUS_APPLIED, null), tuple(STATUS_REJECTED, CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT));
+    }
+
+    @Test
+    @DisplayName("adjust - Error de base de datos rechaza todas las filas del bloque")
+    void testAdjust_BatchFails_RejectsChunk() {
+        when(stockTransactionalService.findStockForAdjustment(Set.of(1))).thenReturn(Map.of(1, 2));
+        when(shardService.findShardCounts(Set.of(1))).thenReturn(Map.of());
+        when(stockTransactionalService.adjustStockBatch(any()))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+
+        InventoryAdjustmentResponseDto response = adjustmentService.adjust(List.of(adjustment(1, 2), adjustment(1, 3)));
+
+        assertThat(response.getRejectedRows()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(InventoryAdjustmentResultDto::getErrorCode)
+                .containsOnly(CODE_STOCK_ADJUSTMENT_FAILED);
+    }
+
+    @Test
+    @DisplayName("adjust - Producto de alta concurrencia se ajusta sobre sus fragmentos")
+    void testAdjust_HighContentionProduct_AdjustsShards() {
+        when(stockTransactionalService.findStockForAdjustment(Set.of(3))).thenReturn(Map.of(3, 0));
+        when(shardService.findShardCounts(Set.of(3))).thenReturn(Map.of(3, 4));
+        when(shardService.increase(3, 4, 10)).thenReturn(true);
+        when(shardService.decrease(3, 4, 50)).thenReturn(false);
+
+        InventoryAdjustmentResponseDto response = adjustmentService.adjust(List.of(adjustment(3, 10), adjustment(3, -50)));
+
+        assertThat(response.getResults())
+                .extracting(InventoryAdjustmentResultDto::getStatus, InventoryAdjustmentResultDto::getErrorCode)
+                .containsExactly(tuple(STATUS_APPLIED, null), tuple(STATUS_REJECTED, CODE_STOCK_ADJUSTMENT_NEGATIVE_RESULT));
+        verify(stockTransactionalService, never()).adjustStockBatch(any());
+    }
+
+    @Test
+    @DisplayName("adjust - Más filas que el máximo lanza StockException sin consultar la BD")
+    void testAdjust_TooManyRows_ThrowsException() {
+        List<InventoryAddRequestDto> adjustments = new ArrayList<>();
+        for (int i = 0; i <= MAX_ROWS; i++) {
+            adjustments.add(adjustment(i + 1, 1));
+        }
+
+        assertThatThrownBy(() -> adjustmentService.adjust(adjustments))
+                .isInstanceOf(StockException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_STOCK_ADJUSTMENT_TOO_MANY_ROWS);
+        verifyNoInteractions(stockTransactionalService, shardService);
+    }
+
+    @Test
+    @DisplayName("adjustStream - CSV con cabecera se procesa por bloques y reporta las líneas ilegibles")
+    void testAdjustStream_CsvWithHeader_ProcessesInChunks() {
+        when(stockTransactionalService.findStockForAdjustment(anyCollection())).thenReturn(Map.of(1, 5, 2, 5));
+        when(shardService.findShardCounts(anyCollection())).thenReturn(Map.of());
+        when(stockTransactionalService.adjustStockBatch(any())).thenReturn(new int[]{1});
+        String csv = "productId,quantity\n1,4\n\nabc;1\n2;-1\n";
+        List<InventoryAdjustmentResultDto> results = new ArrayList<>();
+
+        InventoryAdjustmentResponseDto summary = adjustmentService.adjustStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), InventoryAdjustmentFormat.CSV, results::add);
+
+        assertThat(summary.getTotalRows()).isEqualTo(3);
+        assertThat(summary.getAppliedRows()).isEqualTo(2);
+        assertThat(results)
+                .extracting(InventoryAdjustmentResultDto::getLine, InventoryAdjustmentResultDto::getStatus)
+                .containsExactly(tuple(2, STATUS_APPLIED), tuple(4, STATUS_REJECTED), tuple(5, STATUS_APPLIED));
+        verify(stockTransactionalService, times(2)).adjustStockBatch(any());
+    }
+
+    private InventoryAddRequestDto adjustment(Integer productId, Integer quantity) {
+        return InventoryAddRequestDto.builder().productId(productId).quantity(quantity).build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.ecommerce.davivienda.service.stock.availability;
+
+import com.ecommerce.davivienda.dto.stock.ProductStockDetailDto;
+import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.stock.StockMapper;
+import com.ecommerce.davivienda.service.stock.reservation.StockReservationService;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockAvailabilityCheckerImpl - Tests Unitarios")
+class StockAvailabilityCheckerImplTest {
+
+    private static final int CART_ID = 7;
+    private static final int CART_SIZE = 40;
+
+    @Mock
+    private StockStockTransactionalService stockTransactionalService;
+
+    @Mock
+    private StockReservationService reservationService;
+
+    @Mock
+    private StockShardService shardService;
+
+    private StockAvailabilityCheckerImpl availabilityChecker;
+
+    @BeforeEach
+    void setUp() {
+        availabilityChecker = new StockAvailabilityCheckerImpl(
+                stockTransactionalService, reservationService, shardService, new StockMapper() { });
+    }
+
+    @Test
+    @DisplayName("check - Un carrito de 40 items hace una sola consulta de stock y una de reservas")
+    void testCheck_LargeCart_SingleStockQuery() {
+        List<CartItem> cartItems = new ArrayList<>();
+        Map<Integer, Integer> stockByProduct = new HashMap<>();
+        for (int productId = 1; productId <= CART_SIZE; productId++) {
+            cartItems.add(cartItem(productId, 2));
+            stockByProduct.put(productId, 10);
+        }
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(stockByProduct);
+        when(reservationService.findReservedByOthers(eq(CART_ID), anyCollection())).thenReturn(Map.of());
+
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, cartItems, Set.of());
+
+        assertThat(response.getAvailable()).isTrue();
+        assertThat(response.getTotalProductsInCart()).isEqualTo(CART_SIZE);
+        verify(stockTransactionalService, times(1)).lockStock(anyCollection());
+        verify(reservationService, times(1)).findReservedByOthers(eq(CART_ID), anyCollection());
+        verifyNoMoreInteractions(stockTransactionalService, reservationService);
+        verifyNoInteractions(shardService);
+    }
+
+    @Test
+    @DisplayName("check - Reporta productos sin stock suficiente y sin registro de stock")
+    void testCheck_InsufficientAndMissingStock_ReportsDetails() {
+        List<CartItem> cartItems = List.of(cartItem(1, 2), cartItem(2, 5), cartItem(3, 1));
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(Map.of(1, 10, 2, 3));
+        when(reservationService.findReservedByOthers(eq(CART_ID), anyCollection())).thenReturn(Map.of());
+
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, cartItems, Set.of());
+
+        assertThat(response.getAvailable()).isFalse();
+        assertThat(response.getProductsWithIssues()).isEqualTo(2);
+        assertThat(response.getInsufficientStockProducts())
+                .extracting(ProductStockDetailDto::getProductId, ProductStockDetailDto::getAvailableQuantity,
+                        ProductStockDetailDto::getMissingQuantity)
+                .containsExactly(tuple(2, 3, 2), tuple(3, 0, 1));
+    }
+
+    @Test
+    @DisplayName("check - Las reservas vigentes de otros carritos reducen el disponible")
+    void testCheck_ReservedByOthers_ReducesAvailable() {
+        List<CartItem> cartItems = List.of(cartItem(1, 4));
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(Map.of(1, 10));
+        when(reservationService.findReservedByOthers(eq(CART_ID), anyCollection())).thenReturn(Map.of(1, 8));
+
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, cartItems, Set.of());
+
+        assertThat(response.getAvailable()).isFalse();
+        assertThat(response.getInsufficientStockProducts())
+                .extracting(ProductStockDetailDto::getAvailableQuantity, ProductStockDetailDto::getMissingQuantity)
+                .containsExactly(tuple(2, 2));
+    }
+
+    @Test
+    @DisplayName("check - Productos de alta concurrencia usan la suma de fragmentos sin bloqueo ni reservas")
+    void testCheck_HighContentionProduct_UsesShardTotals() {
+        List<CartItem> cartItems = List.of(cartItem(1, 2), cartItem(2, 4));
+        when(stockTransactionalService.lockStock(Set.of(1))).thenReturn(Map.of(1, 5));
+        when(reservationService.findReservedByOthers(CART_ID, Set.of(1))).thenReturn(Map.of());
+        when(shardService.sumShards(Set.of(2))).thenReturn(Map.of(2, 3));
+
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, cartItems, Set.of(2));
+
+        assertThat(response.getAvailable()).isFalse();
+        assertThat(response.getInsufficientStockProducts())
+                .extracting(ProductStockDetailDto::getProductId, ProductStockDetailDto::getAvailableQuantity)
+                .containsExactly(tuple(2, 3));
+    }
+
+    @Test
+    @DisplayName("check - Suma las cantidades de un producto repetido")
+    void testCheck_RepeatedProduct_SumsQuantities() {
+        List<CartItem> cartItems = List.of(cartItem(1, 3), cartItem(1, 3));
+        when(stockTransactionalService.lockStock(anyCollection())).thenReturn(Map.of(1, 5));
+        when(reservationService.findReservedByOthers(eq(CART_ID), anyCollection())).thenReturn(Map.of());
+
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, cartItems, Set.of());
+
+        assertThat(response.getAvailable()).isFalse();
+        assertThat(response.getInsufficientStockProducts().get(0).getRequestedQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("check - Lista vacía no consulta la base de datos")
+    void testCheck_EmptyCart_NoQueries() {
+        StockValidationResponseDto response = availabilityChecker.check(CART_ID, List.of(), Set.of());
+
+        assertThat(response.getAvailable()).isTrue();
+        verifyNoInteractions(stockTransactionalService, reservationService, shardService);
+    }
+
+    private CartItem cartItem(int productId, int quantity) {
+        Product product = new Product();
+        product.setProductoId(productId);
+        product.setNombre("Producto " + productId);
+        return CartItem.builder().product(product).cantidad(quantity).build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.davivienda.service.stock.reservation;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.stock.StockMapper;
+import com.ecommerce.davivienda.repository.product.StockRepository;
+import com.ecommerce.davivienda.service.stock.availability.StockAvailabilityCheckerImpl;
+import com.ecommerce.davivienda.service.stock.shard.StockShardService;
+import com.ecommerce.davivienda.service.stock.transactional.reservation.StockReservationTransactionalServiceImpl;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StockReservation - Concurrencia en reservas de stock")
+class StockReservationConcurrencyTest {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int INITIAL_STOCK = 30;
+    private static final int CARTS = 100;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StockStockTransactionalServiceImpl stockTransactionalService;
+    private StockReservationServiceImpl reservationService;
+    private StockAvailabilityCheckerImpl availabilityChecker;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 10000");
+        jdbcTemplate.execute("CREATE TABLE stock (stock_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "producto_id INT NOT NULL UNIQUE, cantidad INT NOT NULL CHECK (cantidad >= 0))");
+        jdbcTemplate.execute("CREATE TABLE reserva_stock (reserva_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "carrito_id INT NOT NULL, producto_id INT NOT NULL, cantidad INT NOT NULL, "
+                + "fecha_creacion TIMESTAMP NOT NULL, fecha_expiracion TIMESTAMP NOT NULL, "
+                + "UNIQUE (carrito_id, producto_id))");
+        jdbcTemplate.update("INSERT INTO stock (producto_id, cantidad) VALUES (?, ?)", PRODUCT_ID, INITIAL_STOCK);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        stockTransactionalService = new StockStockTransactionalServiceImpl(
+                mock(StockRepository.class), mock(ApplicationEventPublisher.class), jdbcTemplate);
+        reservationService = new StockReservationServiceImpl(
+                new StockReservationTransactionalServiceImpl(jdbcTemplate), Duration.ofMinutes(15), 500);
+        availabilityChecker = new StockAvailabilityCheckerImpl(
+                stockTransactionalService, reservationService, mock(StockShardService.class), new StockMapper() { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("check + reserve - Reservas concurrentes nunca superan el stock")
+    void testReserve_ConcurrentCarts_NeverOverReserve() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int cartId = 1; cartId <= CARTS; cartId++) {
+                int currentCartId = cartId;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Boolean available = transactionTemplate.execute(status -> reserveCart(currentCartId, 1));
+                    (Boolean.TRUE.equals(available) ? reserved : rejected).incrementAndGet();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer totalReserved = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(cantidad), 0) FROM reserva_stock WHERE producto_id = ?", Integer.class, PRODUCT_ID);
+        assertThat(reserved.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(CARTS - INITIAL_STOCK);
+        assertThat(totalReserved).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("decreaseStockBatch - El pago respeta reservas ajenas vigentes e ignora las vencidas")
+    void testDecreaseStock_RespectsActiveReservationsOfOtherCarts() {
+        assertThat(transactionTemplate.execute(status -> reserveCart(1, 25))).isTrue();
+        jdbcTemplate.update("INSERT INTO reserva_stock (carrito_id, producto_id, cantidad, fecha_creacion, "
+                + "fecha_expiracion) VALUES (?, ?, ?, ?, ?)", 3, PRODUCT_ID, 5,
+                LocalDateTime.now().minusMinutes(30), LocalDateTime.now().minusMinutes(15));
+
+        assertThat(decreaseForCart(2, 10)).containsExactly(PRODUCT_ID);
+        assertThat(decreaseForCart(2, 5)).isEmpty();
+        assertThat(decreaseForCart(1, 25)).isEmpty();
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT cantidad FROM stock WHERE producto_id = ?", Integer.class, PRODUCT_ID);
+        assertThat(remaining).isZero();
+    }
+
+    private Boolean reserveCart(int cartId, int quantity) {
+        Product product = new Product();
+        product.setProductoId(PRODUCT_ID);
+        CartItem item = CartItem.builder().product(product).cantidad(quantity).build();
+
+        if (!Boolean.TRUE.equals(availabilityChecker.check(cartId, List.of(item), Set.of()).getAvailable())) {
+            return false;
+        }
+        reservationService.reserve(cartId, Map.of(PRODUCT_ID, quantity));
+        return true;
+    }
+
+    private List<Integer> decreaseForCart(int cartId, int quantity) {
+        return transactionTemplate.execute(status -> {
+            Map<Integer, Integer> quantities = Map.of(PRODUCT_ID, quantity);
+            stockTransactionalService.lockStock(quantities.keySet());
+            Map<Integer, Integer> reservedByOthers = reservationService.findReservedByOthers(cartId, quantities.keySet());
+            List<Integer> failed = stockTransactionalService.decreaseStockBatch(quantities, reservedByOthers);
+            if (failed.isEmpty()) {
+                reservationService.convert(cartId);
+            }
+            return failed;
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.davivienda.service.stock.reservation;
+
+import com.ecommerce.davivienda.service.stock.transactional.reservation.StockReservationTransactionalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationServiceImpl - Tests Unitarios")
+class StockReservationServiceImplTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private StockReservationTransactionalService reservationTransactionalService;
+
+    private StockReservationServiceImpl reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new StockReservationServiceImpl(reservationTransactionalService, TTL, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("reserve - Reemplaza las reservas del carrito y vence después del TTL")
+    void testReserve_ReplacesCartReservations() {
+        LocalDateTime before = LocalDateTime.now();
+
+        LocalDateTime expiresAt = reservationService.reserve(5, Map.of(1, 2, 3, 1));
+
+        assertThat(expiresAt).isBetween(before.plus(TTL), LocalDateTime.now().plus(TTL));
+        InOrder inOrder = inOrder(reservationTransactionalService);
+        inOrder.verify(reservationTransactionalService).deleteByCartId(5);
+        inOrder.verify(reservationTransactionalService)
+                .saveReservations(eq(5), eq(Map.of(1, 2, 3, 1)), any(LocalDateTime.class), eq(expiresAt));
+    }
+
+    @Test
+    @DisplayName("convert - Elimina las reservas del carrito pagado")
+    void testConvert_DeletesCartReservations() {
+        reservationService.convert(5);
+
+        verify(reservationTransactionalService).deleteByCartId(5);
+    }
+
+    @Test
+    @DisplayName("releaseExpired - Elimina lotes hasta encontrar uno incompleto")
+    void testReleaseExpired_DeletesInBatches() {
+        when(reservationTransactionalService.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(BATCH_SIZE, BATCH_SIZE, 37);
+
+        int released = reservationService.releaseExpired();
+
+        assertThat(released).isEqualTo(2 * BATCH_SIZE + 37);
+        verify(reservationTransactionalService, times(3)).deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("releaseExpired - Sin reservas vencidas hace una sola consulta")
+    void testReleaseExpired_NothingExpired_SingleQuery() {
+        when(reservationTransactionalService.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(0);
+
+        assertThat(reservationService.releaseExpired()).isZero();
+        verify(reservationTransactionalService, times(1)).deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.davivienda.service.stock.shard;
+
+import com.ecommerce.davivienda.repository.product.StockRepository;
+import com.ecommerce.davivienda.service.stock.transactional.shard.StockShardTransactionalServiceImpl;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StockShardServiceImpl - Concurrencia en stock fragmentado")
+class StockShardConcurrencyTest {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int INITIAL_STOCK = 200;
+    private static final int SHARDS = 8;
+    private static final int BUYERS = 400;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StockShardServiceImpl shardService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 10000");
+        jdbcTemplate.execute("CREATE TABLE stock_fragmento (producto_id INT NOT NULL, fragmento SMALLINT NOT NULL, "
+                + "cantidad INT NOT NULL CHECK (cantidad >= 0), PRIMARY KEY (producto_id, fragmento))");
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        StockShardTransactionalServiceImpl shardTransactionalService =
+                new StockShardTransactionalServiceImpl(jdbcTemplate, eventPublisher);
+        shardService = new StockShardServiceImpl(shardTransactionalService,
+                new StockStockTransactionalServiceImpl(mock(StockRepository.class), eventPublisher, jdbcTemplate));
+
+        List<Integer> quantities = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            quantities.add(INITIAL_STOCK / SHARDS);
+        }
+        shardTransactionalService.createShards(PRODUCT_ID, quantities);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("decrease - Compras concurrentes de 1 unidad venden exactamente el stock")
+    void testDecrease_ConcurrentSingleUnits_NoOversell() throws Exception {
+        int succeeded = runBuyers(1);
+
+        assertThat(succeeded).isEqualTo(INITIAL_STOCK);
+        assertThat(remainingStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("decrease - Compras de varias unidades usan el respaldo entre fragmentos sin sobreventa")
+    void testDecrease_ConcurrentMultiUnits_FallbackWithoutOversell() throws Exception {
+        int quantity = 3;
+
+        int succeeded = runBuyers(quantity);
+
+        int remaining = remainingStock();
+        assertThat(remaining).isBetween(0, quantity - 1);
+        assertThat(succeeded * quantity + remaining).isEqualTo(INITIAL_STOCK);
+    }
+
+    private int runBuyers(int quantity) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < BUYERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Boolean decreased = transactionTemplate.execute(
+                            status -> shardService.decrease(PRODUCT_ID, SHARDS, quantity));
+                    if (Boolean.TRUE.equals(decreased)) {
+                        succeeded.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return succeeded.get();
+    }
+
+    private int remainingStock() {
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(cantidad) FROM stock_fragmento WHERE producto_id = ?", Integer.class, PRODUCT_ID);
+    }
+}
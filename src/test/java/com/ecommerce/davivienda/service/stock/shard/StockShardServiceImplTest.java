@@ -0,0 +1,117 @@
+package com.ecommerce.davivienda.service.stock.shard;
+
+import com.ecommerce.davivienda.exception.stock.StockException;
+import com.ecommerce.davivienda.service.stock.transactional.shard.StockShardTransactionalService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_INVALID_STOCK_SHARD_COUNT;
+import static com.ecommerce.davivienda.constants.Constants.CODE_STOCK_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockShardServiceImpl - Tests Unitarios")
+class StockShardServiceImplTest {
+
+    @Mock
+    private StockShardTransactionalService shardTransactionalService;
+
+    @Mock
+    private StockStockTransactionalService stockTransactionalService;
+
+    @InjectMocks
+    private StockShardServiceImpl shardService;
+
+    @Test
+    @DisplayName("decrease - Un fragmento con unidades suficientes resuelve la compra sin bloquear los demás")
+    void testDecrease_SingleShardSucceeds_NoLock() {
+        when(shardTransactionalService.decreaseShard(eq(1), anyInt(), eq(2))).thenReturn(true);
+
+        boolean decreased = shardService.decrease(1, 8, 2);
+
+        assertThat(decreased).isTrue();
+        verify(shardTransactionalService, times(1)).decreaseShard(eq(1), anyInt(), eq(2));
+        verify(shardTransactionalService, never()).lockShards(any());
+    }
+
+    @Test
+    @DisplayName("decrease - Si ningún fragmento alcanza, reparte el descuento entre varios")
+    void testDecrease_NoSingleShard_FallsBackAcrossShards() {
+        when(shardTransactionalService.decreaseShard(eq(1), anyInt(), eq(5))).thenReturn(false);
+        when(shardTransactionalService.lockShards(1)).thenReturn(new TreeMap<>(Map.of(0, 2, 1, 0, 2, 4, 3, 1)));
+
+        boolean decreased = shardService.decrease(1, 4, 5);
+
+        assertThat(decreased).isTrue();
+        verify(shardTransactionalService, times(3)).decreaseShard(eq(1), anyInt(), eq(5));
+        verify(shardTransactionalService).updateShards(1, Map.of(0, 0, 2, 1));
+    }
+
+    @Test
+    @DisplayName("decrease - Retorna false si la suma de los fragmentos no alcanza")
+    void testDecrease_InsufficientTotal_ReturnsFalse() {
+        when(shardTransactionalService.lockShards(1)).thenReturn(new TreeMap<>(Map.of(0, 1, 1, 1)));
+
+        assertThat(shardService.decrease(1, 2, 3)).isFalse();
+        verify(shardTransactionalService, times(2)).decreaseShard(eq(1), anyInt(), eq(3));
+        verify(shardTransactionalService, never()).updateShards(any(), any());
+    }
+
+    @Test
+    @DisplayName("enable - Reparte el stock actual entre los fragmentos y deja stock.cantidad en 0")
+    void testEnable_SplitsStockEvenly() {
+        when(stockTransactionalService.lockStock(List.of(1))).thenReturn(Map.of(1, 10));
+        when(shardTransactionalService.lockShards(1)).thenReturn(new TreeMap<>());
+
+        shardService.enable(1, 4);
+
+        verify(shardTransactionalService).createShards(1, List.of(3, 3, 2, 2));
+        verify(stockTransactionalService).createOrUpdateStock(1, 0);
+    }
+
+    @Test
+    @DisplayName("enable - Número de fragmentos fuera de rango lanza StockException")
+    void testEnable_InvalidShardCount_ThrowsException() {
+        assertThatThrownBy(() -> shardService.enable(1, 1))
+                .isInstanceOf(StockException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_INVALID_STOCK_SHARD_COUNT);
+        verifyNoInteractions(shardTransactionalService, stockTransactionalService);
+    }
+
+    @Test
+    @DisplayName("enable - Producto sin registro de stock lanza StockException")
+    void testEnable_StockNotFound_ThrowsException() {
+        when(stockTransactionalService.lockStock(List.of(1))).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> shardService.enable(1, 4))
+                .isInstanceOf(StockException.class)
+                .extracting("errorCode")
+                .isEqualTo(CODE_STOCK_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("disable - Devuelve la suma de los fragmentos a stock.cantidad")
+    void testDisable_FoldsShardsBack() {
+        when(stockTransactionalService.lockStock(List.of(1))).thenReturn(Map.of(1, 0));
+        when(shardTransactionalService.lockShards(1)).thenReturn(new TreeMap<>(Map.of(0, 4, 1, 3)));
+
+        shardService.disable(1);
+
+        verify(shardTransactionalService).deleteShards(1);
+        verify(stockTransactionalService).createOrUpdateStock(1, 7);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.davivienda.service.stock.transactional.stock;
+
+import com.ecommerce.davivienda.repository.product.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StockStockTransactionalServiceImpl - Concurrencia en decremento de stock")
+class StockDecrementConcurrencyTest {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int INITIAL_STOCK = 50;
+    private static final int BUYERS = 200;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private StockStockTransactionalServiceImpl transactionalService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE stock (stock_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "producto_id INT NOT NULL UNIQUE, cantidad INT NOT NULL CHECK (cantidad >= 0))");
+        jdbcTemplate.update("INSERT INTO stock (producto_id, cantidad) VALUES (?, ?)", PRODUCT_ID, INITIAL_STOCK);
+
+        transactionalService = new StockStockTransactionalServiceImpl(
+                mock(StockRepository.class), mock(ApplicationEventPublisher.class), jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("decreaseStockBatch - Compras concurrentes nunca dejan stock negativo ni sobreventa")
+    void testDecreaseStockBatch_ConcurrentBuyers_NoOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < BUYERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> failed = transactionalService.decreaseStockBatch(Map.of(PRODUCT_ID, 1));
+                    (failed.isEmpty() ? succeeded : rejected).incrementAndGet();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT cantidad FROM stock WHERE producto_id = ?", Integer.class, PRODUCT_ID);
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(BUYERS - INITIAL_STOCK);
+        assertThat(remaining).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.davivienda.service.stock.transactional.stock;
+
+import com.ecommerce.davivienda.repository.product.StockRepository;
+import com.ecommerce.davivienda.service.product.catalog.ProductStockChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockStockTransactionalServiceImpl - Tests Unitarios")
+class StockStockTransactionalServiceImplTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StockStockTransactionalServiceImpl transactionalService;
+
+    @Test
+    @DisplayName("decreaseStockBatch - Envía un único batch ordenado por producto")
+    @SuppressWarnings("unchecked")
+    void testDecreaseStockBatch_OrderedSingleBatch() {
+        Map<Integer, Integer> quantities = new HashMap<>(Map.of(30, 1, 10, 2, 20, 3));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1, 1});
+
+        List<Integer> failed = transactionalService.decreaseStockBatch(quantities);
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).extracting(args -> args[1]).containsExactly(10, 20, 30);
+        assertThat(captor.getValue().get(0)).containsExactly(2, 10, 2);
+        assertThat(failed).isEmpty();
+        verify(eventPublisher, times(3)).publishEvent(any(ProductStockChangedEvent.class));
+        verifyNoInteractions(stockRepository);
+    }
+
+    @Test
+    @DisplayName("decreaseStockBatch - Exige cubrir también las unidades reservadas por otros carritos")
+    @SuppressWarnings("unchecked")
+    void testDecreaseStockBatch_WithReservations_RequiresReservedUnits() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        transactionalService.decreaseStockBatch(Map.of(10, 2, 20, 3), Map.of(20, 4));
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue().get(0)).containsExactly(2, 10, 2);
+        assertThat(captor.getValue().get(1)).containsExactly(3, 20, 7);
+    }
+
+    @Test
+    @DisplayName("lockStock - Lista vacía no consulta la base de datos")
+    void testLockStock_EmptyIds_NoQuery() {
+        assertThat(transactionalService.lockStock(List.of())).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("decreaseStockBatch - Reporta exactamente los productos sin stock suficiente")
+    void testDecreaseStockBatch_ReportsFailedProducts() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0, 1, 0});
+
+        List<Integer> failed = transactionalService.decreaseStockBatch(Map.of(4, 1, 1, 1, 3, 1, 2, 1));
+
+        assertThat(failed).containsExactly(2, 4);
+        verify(eventPublisher, times(2)).publishEvent(any(ProductStockChangedEvent.class));
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.service.user;
 
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.entity.user.*;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.mapper.user.UserMapper;
@@ -415,30 +417,62 @@ class UserServiceImplTest {
     }
 
     @Test
-    @DisplayName("getAllUsers - Obtener todos los usuarios exitosamente")
-    void testGetAllUsers_Success() {
+    @DisplayName("searchUsers - Lee una fila extra para saber si hay página siguiente")
+    void testSearchUsers_ExtraRow_HasNext() {
         // Arrange
-        List<User> users = Arrays.asList(mockUser, mockUser);
-        List<UserResponse> userResponses = Arrays.asList(
-                UserResponse.builder().email("test1@example.com").build(),
-                UserResponse.builder().email("test2@example.com").build()
+        UserFilterDto filter = UserFilterDto.builder().statusId(1).build();
+        List<UserResponse> users = Arrays.asList(
+                UserResponse.builder().usuarioId(5).email("test1@example.com").build(),
+                UserResponse.builder().usuarioId(8).email("test2@example.com").build(),
+                UserResponse.builder().usuarioId(9).email("test3@example.com").build()
         );
-
-        when(userTransactionalService.findAllUsers()).thenReturn(users);
-        when(userMapper.toResponseList(users)).thenReturn(userResponses);
+        when(userTransactionalService.findUsersPage(filter, 4, 3)).thenReturn(users);
 
         // Act
-        Response<List<UserResponse>> response = userService.getAllUsers();
+        Response<PagedUserResponseDto> response = userService.searchUsers(filter, 4, 2);
 
         // Assert
         assertThat(response).isNotNull();
         assertThat(response.getFailure()).isFalse();
         assertThat(response.getCode()).isEqualTo(200);
         assertThat(response.getMessage()).isEqualTo(SUCCESS_USERS_FOUND);
-        assertThat(response.getBody()).hasSize(2);
+        assertThat(response.getBody().getContent()).hasSize(2);
+        assertThat(response.getBody().getHasNext()).isTrue();
+        assertThat(response.getBody().getNextCursor()).isEqualTo(8);
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    @DisplayName("searchUsers - Última página sin cursor siguiente")
+    void testSearchUsers_LastPage_NoNextCursor() {
+        // Arrange
+        List<UserResponse> users = List.of(UserResponse.builder().usuarioId(5).build());
+        when(userTransactionalService.findUsersPage(null, null, USER_PAGE_DEFAULT_SIZE + 1)).thenReturn(users);
+
+        // Act
+        Response<PagedUserResponseDto> response = userService.searchUsers(null, null, USER_PAGE_DEFAULT_SIZE);
+
+        // Assert
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getHasNext()).isFalse();
+        assertThat(response.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("searchUsers - Tamaño fuera de rango se limita entre 1 y el máximo")
+    void testSearchUsers_SizeOutOfRange_Clamped() {
+        // Arrange
+        when(userTransactionalService.findUsersPage(any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        Response<PagedUserResponseDto> tooLarge = userService.searchUsers(null, null, 10_000);
+        Response<PagedUserResponseDto> tooSmall = userService.searchUsers(null, null, 0);
 
-        verify(userTransactionalService).findAllUsers();
-        verify(userMapper).toResponseList(users);
+        // Assert
+        assertThat(tooLarge.getBody().getPageSize()).isEqualTo(USER_PAGE_MAX_SIZE);
+        assertThat(tooSmall.getBody().getPageSize()).isEqualTo(1);
+        verify(userTransactionalService).findUsersPage(null, null, USER_PAGE_MAX_SIZE + 1);
+        verify(userTransactionalService).findUsersPage(null, null, 2);
     }
 
     @Test
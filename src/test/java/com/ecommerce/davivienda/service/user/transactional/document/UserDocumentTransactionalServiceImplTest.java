@@ -1,7 +1,7 @@
 package com.ecommerce.davivienda.service.user.transactional.document;
 
 import com.ecommerce.davivienda.entity.user.DocumentType;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.service.reference.ReferenceDataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +20,7 @@ import static org.mockito.Mockito.*;
 class UserDocumentTransactionalServiceImplTest {
 
     @Mock
-    private DocumentTypeRepository documentTypeRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @InjectMocks
     private UserDocumentTransactionalServiceImpl transactionalService;
@@ -38,64 +38,64 @@ class UserDocumentTransactionalServiceImplTest {
     @Test
     @DisplayName("findDocumentTypeById - DocumentType existe")
     void testFindDocumentTypeById_Exists() {
-        when(documentTypeRepository.findById(1)).thenReturn(Optional.of(mockDocumentType));
+        when(referenceDataRegistry.findDocumentTypeById(1)).thenReturn(Optional.of(mockDocumentType));
 
         Optional<DocumentType> result = transactionalService.findDocumentTypeById(1);
 
         assertThat(result).isPresent();
         assertThat(result.get().getDocumentoId()).isEqualTo(1);
-        verify(documentTypeRepository).findById(1);
+        verify(referenceDataRegistry).findDocumentTypeById(1);
     }
 
     @Test
     @DisplayName("findDocumentTypeById - DocumentType no existe")
     void testFindDocumentTypeById_NotExists() {
-        when(documentTypeRepository.findById(999)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findDocumentTypeById(999)).thenReturn(Optional.empty());
 
         Optional<DocumentType> result = transactionalService.findDocumentTypeById(999);
 
         assertThat(result).isEmpty();
-        verify(documentTypeRepository).findById(999);
+        verify(referenceDataRegistry).findDocumentTypeById(999);
     }
 
     @Test
     @DisplayName("findDocumentTypeByNameOrCode - Encontrado por código")
     void testFindDocumentTypeByNameOrCode_FoundByCode() {
-        when(documentTypeRepository.findByCodigo("CC")).thenReturn(Optional.of(mockDocumentType));
+        when(referenceDataRegistry.findDocumentTypeByCode("CC")).thenReturn(Optional.of(mockDocumentType));
 
         Optional<DocumentType> result = transactionalService.findDocumentTypeByNameOrCode("CC");
 
         assertThat(result).isPresent();
         assertThat(result.get().getCodigo()).isEqualTo("CC");
-        verify(documentTypeRepository).findByCodigo("CC");
-        verify(documentTypeRepository, never()).findByNombre(any());
+        verify(referenceDataRegistry).findDocumentTypeByCode("CC");
+        verify(referenceDataRegistry, never()).findDocumentTypeByName(any());
     }
 
     @Test
     @DisplayName("findDocumentTypeByNameOrCode - Encontrado por nombre")
     void testFindDocumentTypeByNameOrCode_FoundByName() {
-        when(documentTypeRepository.findByCodigo("Cédula de Ciudadanía")).thenReturn(Optional.empty());
-        when(documentTypeRepository.findByNombre("Cédula de Ciudadanía")).thenReturn(Optional.of(mockDocumentType));
+        when(referenceDataRegistry.findDocumentTypeByCode("Cédula de Ciudadanía")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findDocumentTypeByName("Cédula de Ciudadanía")).thenReturn(Optional.of(mockDocumentType));
 
         Optional<DocumentType> result = transactionalService.findDocumentTypeByNameOrCode("Cédula de Ciudadanía");
 
         assertThat(result).isPresent();
         assertThat(result.get().getNombre()).isEqualTo("Cédula de Ciudadanía");
-        verify(documentTypeRepository).findByCodigo("Cédula de Ciudadanía");
-        verify(documentTypeRepository).findByNombre("Cédula de Ciudadanía");
+        verify(referenceDataRegistry).findDocumentTypeByCode("Cédula de Ciudadanía");
+        verify(referenceDataRegistry).findDocumentTypeByName("Cédula de Ciudadanía");
     }
 
     @Test
     @DisplayName("findDocumentTypeByNameOrCode - No encontrado")
     void testFindDocumentTypeByNameOrCode_NotFound() {
-        when(documentTypeRepository.findByCodigo("XX")).thenReturn(Optional.empty());
-        when(documentTypeRepository.findByNombre("XX")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findDocumentTypeByCode("XX")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findDocumentTypeByName("XX")).thenReturn(Optional.empty());
 
         Optional<DocumentType> result = transactionalService.findDocumentTypeByNameOrCode("XX");
 
         assertThat(result).isEmpty();
-        verify(documentTypeRepository).findByCodigo("XX");
-        verify(documentTypeRepository).findByNombre("XX");
+        verify(referenceDataRegistry).findDocumentTypeByCode("XX");
+        verify(referenceDataRegistry).findDocumentTypeByName("XX");
     }
 }
 
@@ -1,17 +1,21 @@
 package com.ecommerce.davivienda.service.user.transactional.user;
 
+import com.ecommerce.davivienda.dto.user.UserFilterDto;
 import com.ecommerce.davivienda.entity.user.Credentials;
 import com.ecommerce.davivienda.entity.user.User;
+import com.ecommerce.davivienda.models.user.UserResponse;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -34,6 +39,9 @@ class UserUserTransactionalServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private UserUserTransactionalServiceImpl transactionalService;
 
@@ -83,7 +91,7 @@ class UserUserTransactionalServiceImplTest {
     @DisplayName("findUserById - Usuario encontrado")
     void testFindUserById_Found() {
         // Arrange
-        when(userRepository.findById(1)).thenReturn(Optional.of(mockUser));
+        when(userRepository.findProfileByUsuarioId(1)).thenReturn(Optional.of(mockUser));
 
         // Act
         Optional<User> result = transactionalService.findUserById(1);
@@ -93,21 +101,21 @@ class UserUserTransactionalServiceImplTest {
         assertThat(result.get().getUsuarioId()).isEqualTo(1);
         assertThat(result.get().getCorreo()).isEqualTo("test@example.com");
 
-        verify(userRepository).findById(1);
+        verify(userRepository).findProfileByUsuarioId(1);
     }
 
     @Test
     @DisplayName("findUserById - Usuario no encontrado")
     void testFindUserById_NotFound() {
         // Arrange
-        when(userRepository.findById(999)).thenReturn(Optional.empty());
+        when(userRepository.findProfileByUsuarioId(999)).thenReturn(Optional.empty());
 
         // Act
         Optional<User> result = transactionalService.findUserById(999);
 
         // Assert
         assertThat(result).isEmpty();
-        verify(userRepository).findById(999);
+        verify(userRepository).findProfileByUsuarioId(999);
     }
 
     @Test
@@ -146,7 +154,7 @@ class UserUserTransactionalServiceImplTest {
     @DisplayName("findUserByUserRoleId - Usuario encontrado")
     void testFindUserByUserRoleId_Found() {
         // Arrange
-        when(userRepository.findByUsuarioRolId(1)).thenReturn(Optional.of(mockUser));
+        when(userRepository.findProfileByUsuarioRolId(1)).thenReturn(Optional.of(mockUser));
 
         // Act
         Optional<User> result = transactionalService.findUserByUserRoleId(1);
@@ -155,7 +163,7 @@ class UserUserTransactionalServiceImplTest {
         assertThat(result).isPresent();
         assertThat(result.get().getUsuarioRolId()).isEqualTo(1);
 
-        verify(userRepository).findByUsuarioRolId(1);
+        verify(userRepository).findProfileByUsuarioRolId(1);
     }
 
     @Test
@@ -191,29 +199,49 @@ class UserUserTransactionalServiceImplTest {
     }
 
     @Test
-    @DisplayName("findAllUsers - Retorna lista de usuarios")
-    void testFindAllUsers_ReturnsUserList() {
+    @DisplayName("findUsersPage - Sin filtros ni cursor, solo ordena y limita")
+    void testFindUsersPage_NoFilters_OnlyLimit() {
+        // Act
+        List<UserResponse> result = transactionalService.findUsersPage(null, null, 21);
+
+        // Assert
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertThat(result).isEmpty();
+        assertThat(sql.getValue()).endsWith("WHERE TRUE ORDER BY u.usuario_id LIMIT ?");
+        assertThat(args.getValue()).containsExactly(21);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("findUsersPage - Con cursor y filtros, agrega condiciones y escapa el prefijo de correo")
+    void testFindUsersPage_WithFilters_AppendsConditions() {
         // Arrange
-        User user2 = new User();
-        user2.setUsuarioId(2);
-        Credentials user2Credentials = Credentials.builder()
-                .correo("user2@example.com")
+        UserFilterDto filter = UserFilterDto.builder()
+                .statusId(1)
+                .roleId(2)
+                .documentTypeId(3)
+                .documentNumber(" 123456789 ")
+                .emailPrefix("ana_%")
                 .build();
-        user2.setCredenciales(user2Credentials);
-
-        List<User> users = Arrays.asList(mockUser, user2);
-        when(userRepository.findAll()).thenReturn(users);
 
         // Act
-        List<User> result = transactionalService.findAllUsers();
+        transactionalService.findUsersPage(filter, 40, 11);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getCorreo()).isEqualTo("test@example.com");
-        assertThat(result.get(1).getCorreo()).isEqualTo("user2@example.com");
-
-        verify(userRepository).findAll();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertThat(sql.getValue())
+                .contains("u.usuario_id > ?")
+                .contains("u.estado_usuario_id = ?")
+                .contains("fr.rol_id = ?")
+                .contains("u.documento_id = ?")
+                .contains("u.numero_de_doc = ?")
+                .contains("c.correo LIKE ? ESCAPE")
+                .endsWith("ORDER BY u.usuario_id LIMIT ?");
+        assertThat(args.getValue()).containsExactly(40, 1, 2, 3, "123456789", "ana\\_\\%%", 11);
     }
 
     @Test
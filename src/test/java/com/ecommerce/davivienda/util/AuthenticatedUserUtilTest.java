@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.util;
 
+import com.ecommerce.davivienda.security.principal.AuthenticatedUserPrincipal;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -224,5 +226,39 @@ class AuthenticatedUserUtilTest {
         // Assert
         assertThat(isAuthenticated).isFalse();
     }
-}
 
+    @Test
+    @DisplayName("getCurrentPrincipal - Obtener principal tipado desde el token")
+    void testGetCurrentPrincipal_TypedPrincipal_Success() {
+        // Arrange
+        AuthenticatedUserPrincipal principal = AuthenticatedUserPrincipal.builder()
+                .email("test@example.com")
+                .userId(1)
+                .userRoleId(3)
+                .roles(List.of("Cliente"))
+                .build();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, Collections.singletonList(new SimpleGrantedAuthority("Cliente"))
+        );
+
+        when(mockSecurityContext.getAuthentication()).thenReturn(authentication);
+
+        // Act & Assert
+        assertThat(authenticatedUserUtil.getCurrentPrincipal()).contains(principal);
+        assertThat(authenticatedUserUtil.getCurrentUsername()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("getCurrentPrincipal - Vacío cuando el principal es solo el username")
+    void testGetCurrentPrincipal_StringPrincipal_Empty() {
+        // Arrange
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "test@example.com", null, Collections.singletonList(new SimpleGrantedAuthority("Cliente"))
+        );
+
+        when(mockSecurityContext.getAuthentication()).thenReturn(authentication);
+
+        // Act & Assert
+        assertThat(authenticatedUserUtil.getCurrentPrincipal()).isEmpty();
+    }
+}
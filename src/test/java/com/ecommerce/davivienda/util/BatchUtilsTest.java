@@ -0,0 +1,57 @@
+package com.ecommerce.davivienda.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchUtils - Tests Unitarios")
+class BatchUtilsTest {
+
+    @Test
+    @DisplayName("drain - Ejecuta lotes hasta el primero incompleto y suma el total")
+    void testDrain_FullBatchesThenPartial_StopsAfterPartial() {
+        Deque<Integer> results = new ArrayDeque<>(List.of(3, 3, 1, 3));
+
+        int total = BatchUtils.drain(3, batchSize -> results.removeFirst());
+
+        assertThat(total).isEqualTo(7);
+        assertThat(results).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("drain - Sin trabajo ejecuta un único lote")
+    void testDrain_EmptyFirstBatch_RunsOnce() {
+        Deque<Integer> results = new ArrayDeque<>(List.of(0, 3));
+
+        int total = BatchUtils.drain(3, batchSize -> results.removeFirst());
+
+        assertThat(total).isZero();
+        assertThat(results).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("partition - Divide en bloques del tamaño máximo conservando el orden")
+    void testPartition_LargerThanSize_SplitsInOrder() {
+        List<Collection<Integer>> chunks = BatchUtils.partition(List.of(1, 2, 3, 4, 5), 2);
+
+        assertThat(chunks).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+
+    @Test
+    @DisplayName("partition - Colección que cabe en un bloque se retorna sin copiar")
+    void testPartition_FitsInOneChunk_ReturnsSameCollection() {
+        Set<Integer> items = Set.of(1, 2);
+
+        List<Collection<Integer>> chunks = BatchUtils.partition(items, 2);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).isSameAs(items);
+    }
+}
@@ -0,0 +1,180 @@
+package com.ecommerce.davivienda.util;
+
+import com.ecommerce.davivienda.dto.cart.item.CartItemCalculationDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.cart.CartItemMapper;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PricingUtils - Tests Unitarios")
+class PricingUtilsTest {
+
+    private static final int SAMPLES = 20_000;
+    private static final long SEED = 20240101L;
+
+    /**
+     * Máximos de las columnas: valor_unitario DECIMAL(10,2) e iva DECIMAL(5,2) con CHECK iva <= 100.
+     */
+    private static final long MAX_UNIT_CENTS = 99_999_999_99L;
+    private static final long MAX_IVA_BASIS_POINTS = 100_00L;
+    private static final int MAX_QUANTITY = 10_000;
+
+    private final CartItemMapper cartItemMapper = Mappers.getMapper(CartItemMapper.class);
+
+    @Test
+    @DisplayName("Propiedad - Subtotal, IVA, total y precio con IVA coinciden con el cálculo en BigDecimal")
+    void testEquivalence_RandomSamples_MatchBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (Sample sample : samples(random)) {
+            Product product = sample.product();
+            CartItem item = CartItem.builder().product(product).cantidad(sample.quantity).build();
+
+            assertSameAmount(sample, "subtotal", item.calculateSubtotal(), legacySubtotal(sample));
+            assertSameAmount(sample, "iva", item.calculateIvaAmount(), legacyIvaAmount(sample));
+            assertSameAmount(sample, "total", item.calculateTotal(), legacySubtotal(sample).add(legacyIvaAmount(sample)));
+            assertSameAmount(sample, "precioConIva", product.getPrecioConIva(), legacyPriceWithIva(sample));
+            assertSameAmount(sample, "ivaUnitario",
+                    ProductResponse.builder().unitValue(sample.unitValue).iva(sample.iva).build().getIvaAmount(),
+                    legacyIvaPerUnit(sample));
+
+            CartItemCalculationDto calculation = cartItemMapper.buildCalculationDto(product, sample.quantity);
+            assertSameAmount(sample, "dto.subtotal", calculation.getSubtotal(), legacySubtotal(sample));
+            assertSameAmount(sample, "dto.iva", calculation.getIvaAmount(), legacyIvaAmount(sample));
+            assertSameAmount(sample, "dto.total", calculation.getTotalPrice(),
+                    legacySubtotal(sample).add(legacyIvaAmount(sample)));
+        }
+    }
+
+    @Test
+    @DisplayName("Propiedad - Resultados con 2 decimales tienen la misma escala que el cálculo en BigDecimal")
+    void testEquivalence_ScaleTwoInputs_SameScale() {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        for (Sample sample : samples(random)) {
+            CartItem item = CartItem.builder().product(sample.product()).cantidad(sample.quantity).build();
+
+            assertThat(item.calculateSubtotal()).as(sample.toString()).isEqualTo(legacySubtotal(sample));
+            assertThat(item.calculateIvaAmount()).as(sample.toString()).isEqualTo(legacyIvaAmount(sample));
+            assertThat(sample.product().getPrecioConIva()).as(sample.toString()).isEqualTo(legacyPriceWithIva(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("ivaPerUnitCents - Redondea HALF_UP exactamente en la mitad")
+    void testIvaPerUnitCents_HalfUp() {
+        // 0.50 * 1% = 0.005 -> 0.01; 0.49 * 1% = 0.0049 -> 0.00
+        assertThat(PricingUtils.ivaPerUnitCents(50, 100)).isEqualTo(1);
+        assertThat(PricingUtils.ivaPerUnitCents(49, 100)).isZero();
+        assertThat(PricingUtils.ivaPerUnitCents(-50, 100)).isEqualTo(-1);
+        assertThat(PricingUtils.ivaPerUnitCents(1_000_00, 19_00)).isEqualTo(190_00);
+    }
+
+    @Test
+    @DisplayName("toCents - Acepta escalas menores o ceros de sobra y rechaza centavos fraccionarios")
+    void testToCents_Scales() {
+        assertThat(PricingUtils.toCents(new BigDecimal("1000"))).isEqualTo(100_000);
+        assertThat(PricingUtils.toCents(new BigDecimal("10.5"))).isEqualTo(1_050);
+        assertThat(PricingUtils.toCents(new BigDecimal("10.500"))).isEqualTo(1_050);
+        assertThat(PricingUtils.toCents(null)).isZero();
+        assertThat(PricingUtils.toAmount(1_050)).isEqualTo(new BigDecimal("10.50"));
+        assertThatThrownBy(() -> PricingUtils.toCents(new BigDecimal("10.505")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("subtotalCents - Desbordamiento lanza ArithmeticException")
+    void testSubtotalCents_Overflow_Throws() {
+        assertThatThrownBy(() -> PricingUtils.subtotalCents(Long.MAX_VALUE / 2, 3))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    private List<Sample> samples(SplittableRandom random) {
+        List<Sample> samples = new ArrayList<>(SAMPLES);
+        // Bordes: sin IVA, IVA 100%, valor mínimo y máximo, cantidad 1
+        samples.add(new Sample(BigDecimal.valueOf(1, 2), BigDecimal.ZERO.setScale(2), 1));
+        samples.add(new Sample(BigDecimal.valueOf(MAX_UNIT_CENTS, 2), BigDecimal.valueOf(MAX_IVA_BASIS_POINTS, 2), 1));
+        samples.add(new Sample(BigDecimal.valueOf(MAX_UNIT_CENTS, 2), BigDecimal.valueOf(19_00, 2), MAX_QUANTITY));
+        samples.add(new Sample(BigDecimal.valueOf(50, 2), BigDecimal.valueOf(1_00, 2), 3));
+        while (samples.size() < SAMPLES) {
+            long unitCents = random.nextBoolean()
+                    ? random.nextLong(1, 1_000_000)
+                    : random.nextLong(1, MAX_UNIT_CENTS + 1);
+            long ivaBasisPoints = switch (random.nextInt(4)) {
+                case 0 -> 0;
+                case 1 -> 19_00;
+                case 2 -> random.nextLong(0, 100) * 100;
+                default -> random.nextLong(0, MAX_IVA_BASIS_POINTS + 1);
+            };
+            samples.add(new Sample(BigDecimal.valueOf(unitCents, 2), BigDecimal.valueOf(ivaBasisPoints, 2),
+                    random.nextInt(1, MAX_QUANTITY + 1)));
+        }
+        return samples;
+    }
+
+    private void assertSameAmount(Sample sample, String field, BigDecimal actual, BigDecimal expected) {
+        assertThat(actual).as("%s de %s", field, sample).isEqualByComparingTo(expected);
+    }
+
+    // Cálculos originales en BigDecimal, usados como referencia
+
+    private BigDecimal legacyIvaPerUnit(Sample sample) {
+        if (sample.iva.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return sample.unitValue.multiply(sample.iva).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal legacySubtotal(Sample sample) {
+        return sample.unitValue.multiply(BigDecimal.valueOf(sample.quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal legacyIvaAmount(Sample sample) {
+        if (sample.iva.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return legacyIvaPerUnit(sample).multiply(BigDecimal.valueOf(sample.quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal legacyPriceWithIva(Sample sample) {
+        if (sample.iva.compareTo(BigDecimal.ZERO) == 0) {
+            return sample.unitValue;
+        }
+        return sample.unitValue.add(legacyIvaPerUnit(sample));
+    }
+
+    private static final class Sample {
+
+        private final BigDecimal unitValue;
+        private final BigDecimal iva;
+        private final int quantity;
+
+        private Sample(BigDecimal unitValue, BigDecimal iva, int quantity) {
+            this.unitValue = unitValue;
+            this.iva = iva;
+            this.quantity = quantity;
+        }
+
+        private Product product() {
+            Product product = new Product();
+            product.setValorUnitario(unitValue);
+            product.setIva(iva);
+            return product;
+        }
+
+        @Override
+        public String toString() {
+            return "valor=" + unitValue + ", iva=" + iva + ", cantidad=" + quantity;
+        }
+    }
+}